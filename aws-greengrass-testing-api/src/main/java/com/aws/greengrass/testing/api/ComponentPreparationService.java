@@ -7,8 +7,21 @@ package com.aws.greengrass.testing.api;
 
 import com.aws.greengrass.testing.api.model.ComponentOverrideNameVersion;
 
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ComponentPreparationService {
     Optional<ComponentOverrideNameVersion> prepare(ComponentOverrideNameVersion version);
+
+    /**
+     * Names of the components this one depends on, which have to be prepared before it when they are prepared
+     * together.
+     *
+     * @param version the component to prepare
+     * @return names of the component dependencies, empty by default
+     */
+    default Set<String> dependencies(ComponentOverrideNameVersion version) {
+        return Collections.emptySet();
+    }
 }
@@ -5,10 +5,21 @@
 
 package com.aws.greengrass.testing.api;
 
+import java.util.OptionalInt;
+
 public interface Greengrass {
     void install();
 
     void start();
 
     void stop();
+
+    /**
+     * The process ID of the running nucleus, when it was started by this run.
+     *
+     * @return the process ID, or empty when Greengrass is not running or was started by another process
+     */
+    default OptionalInt processId() {
+        return OptionalInt.empty();
+    }
 }
@@ -7,9 +7,9 @@ package com.aws.greengrass.testing.api;
 
 import com.aws.greengrass.testing.api.model.TestRun;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class ScenarioTestRuns implements TestRuns {
     private static final TestRuns INSTANCE = new ScenarioTestRuns();
@@ -20,7 +20,8 @@ public class ScenarioTestRuns implements TestRuns {
     }
 
     private ScenarioTestRuns() {
-        scenarios = new ArrayList<>();
+        // Scenarios finish on their own threads when running in parallel, and are read once at the end
+        scenarios = new CopyOnWriteArrayList<>();
     }
 
     @Override
@@ -29,7 +30,7 @@ public class ScenarioTestRuns implements TestRuns {
     }
 
     @Override
-    public synchronized void track(TestRun run) {
+    public void track(TestRun run) {
         scenarios.add(run);
     }
 }
@@ -10,10 +10,13 @@ import com.aws.greengrass.testing.api.device.exception.CommandExecutionException
 import com.aws.greengrass.testing.api.device.exception.CopyException;
 import com.aws.greengrass.testing.api.device.model.CommandInput;
 import com.aws.greengrass.testing.api.device.model.PlatformOS;
+import com.aws.greengrass.testing.api.device.session.DeviceSession;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 
 public interface Device extends Closeable {
     String id();
@@ -24,10 +27,36 @@ public interface Device extends Closeable {
 
     byte[] execute(CommandInput input) throws CommandExecutionException;
 
+    /**
+     * Runs a command, handing its output to the consumer in chunks instead of materializing it all at once.
+     * Implementations that cannot stream are not required to override this method.
+     *
+     * @param input the command to run
+     * @param output {@link Consumer} of output chunks, which may be reused after it returns
+     * @throws CommandExecutionException if the command failed or returned a non-zero exit code
+     */
+    default void executeStreaming(CommandInput input, Consumer<ByteBuffer> output)
+            throws CommandExecutionException {
+        output.accept(ByteBuffer.wrap(execute(input)));
+    }
+
     default String executeToString(CommandInput input) throws CommandExecutionException {
         return new String(execute(input), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Starts a long running command whose standard input and output stay open, ie: a pillbox in serve mode.
+     * Implementations that cannot keep a process open are not required to override this method.
+     *
+     * @param input the command to start
+     * @return an open {@link DeviceSession} to the running command
+     * @throws CommandExecutionException if the command could not be started
+     * @throws UnsupportedOperationException if the {@link Device} does not support sessions
+     */
+    default DeviceSession openSession(CommandInput input) throws CommandExecutionException {
+        throw new UnsupportedOperationException("Device " + type() + " does not support sessions");
+    }
+
     boolean exists(String path);
 
     void copyTo(String source, String destination) throws CopyException;
@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device;
+
+import com.aws.greengrass.testing.api.device.exception.DeviceLeaseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A fixed set of devices handed out to one scenario at a time. A leased device is not given to anyone else until
+ * its {@link DeviceLease} is closed. Before a device is first leased it is prepared, which usually places the
+ * pillbox binary, and every lease checks the device is healthy. A device failing either is taken out of the pool
+ * for the rest of the run.
+ */
+public class DevicePool {
+    private static final Logger LOGGER = LogManager.getLogger(DevicePool.class);
+    public static final String DEVICES = "devicePool";
+    public static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final List<Device> devices;
+    private final BlockingQueue<Device> idle;
+    private final Set<String> prepared = ConcurrentHashMap.newKeySet();
+    private final Set<String> unhealthy = ConcurrentHashMap.newKeySet();
+    private final Consumer<Device> preparation;
+    private final Predicate<Device> healthCheck;
+    private final Duration leaseTimeout;
+
+    /**
+     * Create a pool of devices.
+     *
+     * @param devices the devices to lease, at least one
+     * @param preparation run once for each device, before it is first leased
+     * @param healthCheck run on every lease, a device failing it is removed from the pool
+     * @param leaseTimeout how long {@link #lease()} waits for a device to be returned
+     * @throws IllegalArgumentException if there are no devices
+     */
+    public DevicePool(Collection<Device> devices, Consumer<Device> preparation, Predicate<Device> healthCheck,
+            Duration leaseTimeout) {
+        if (devices.isEmpty()) {
+            throw new IllegalArgumentException("A device pool needs at least one device");
+        }
+        this.devices = Collections.unmodifiableList(new ArrayList<>(devices));
+        this.idle = new LinkedBlockingQueue<>(devices);
+        this.preparation = preparation;
+        this.healthCheck = healthCheck;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    public DevicePool(Collection<Device> devices) {
+        this(devices, device -> { }, device -> true, DEFAULT_LEASE_TIMEOUT);
+    }
+
+    public List<Device> devices() {
+        return devices;
+    }
+
+    public int available() {
+        return idle.size();
+    }
+
+    /**
+     * Lease a device for exclusive use, waiting for one to be returned when all of them are leased.
+     *
+     * @return the {@link DeviceLease}, which must be closed to return the device
+     * @throws DeviceLeaseException if no device became available in time, or none of them are healthy
+     */
+    public DeviceLease lease() {
+        final long deadline = System.nanoTime() + leaseTimeout.toNanos();
+        while (true) {
+            if (unhealthy.size() == devices.size()) {
+                throw new DeviceLeaseException("None of the " + devices.size() + " devices in the pool are healthy");
+            }
+            final Device device;
+            try {
+                device = idle.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new DeviceLeaseException("Interrupted waiting for a device", ie);
+            }
+            if (Objects.isNull(device)) {
+                throw new DeviceLeaseException("No device was returned to the pool within " + leaseTimeout);
+            }
+            if (ready(device)) {
+                LOGGER.debug("Leased device {}, {} left in the pool", device.id(), idle.size());
+                return new DeviceLease(device);
+            }
+            unhealthy.add(device.id());
+        }
+    }
+
+    private boolean ready(Device device) {
+        try {
+            // The device is leased, nobody else can be preparing it
+            if (!prepared.contains(device.id())) {
+                preparation.accept(device);
+                prepared.add(device.id());
+            }
+            if (healthCheck.test(device)) {
+                return true;
+            }
+            LOGGER.warn("Device {} failed its health check, removing it from the pool", device.id());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to prepare device {}, removing it from the pool", device.id(), e);
+        }
+        return false;
+    }
+
+    /**
+     * Exclusive use of one device of a {@link DevicePool}. Closing the lease returns the device, and closing it
+     * more than once has no effect.
+     */
+    public final class DeviceLease implements Closeable {
+        private final Device device;
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        private DeviceLease(Device device) {
+            this.device = device;
+        }
+
+        public Device device() {
+            return device;
+        }
+
+        @Override
+        public void close() {
+            if (returned.compareAndSet(false, true)) {
+                idle.add(device);
+                LOGGER.debug("Returned device {} to the pool", device.id());
+            }
+        }
+    }
+}
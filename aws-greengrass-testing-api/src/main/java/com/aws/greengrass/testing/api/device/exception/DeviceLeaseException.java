@@ -0,0 +1,18 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.exception;
+
+public class DeviceLeaseException extends RuntimeException {
+    private static final long serialVersionUID = 4406721905893165247L;
+
+    public DeviceLeaseException(String message) {
+        super(message);
+    }
+
+    public DeviceLeaseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -11,31 +11,48 @@ import com.aws.greengrass.testing.api.device.exception.CommandExecutionException
 import com.aws.greengrass.testing.api.device.exception.CopyException;
 import com.aws.greengrass.testing.api.device.model.CommandInput;
 import com.aws.greengrass.testing.api.device.model.PlatformOS;
+import com.aws.greengrass.testing.api.device.session.DeviceSession;
 import com.aws.greengrass.testing.api.model.TimeoutMultiplier;
+import com.aws.greengrass.testing.api.util.ProcessHandles;
 import com.google.auto.service.AutoService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 @AutoService(Device.class)
 public class LocalDevice implements Device {
     private static final Logger LOGGER = LogManager.getLogger(LocalDevice.class);
     public static final String TYPE = "LOCAL";
-    private static final int BUFFER = 100_000;
+    private static final int BUFFER = 64 * 1024;
+    private static final int ERROR_LIMIT = 1024 * 1024;
+    private static final long ERROR_GRACE_SECONDS = 5;
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER]);
+    private static final ThreadLocal<byte[]> ERROR_RINGS = ThreadLocal.withInitial(() -> new byte[ERROR_LIMIT]);
+    // Pumps block for as long as the process runs, so they must never queue behind each other
+    private static final ExecutorService PUMPS = Executors.newCachedThreadPool(daemonThreads("local-device-pump"));
 
     private static final String WINDOWS_CMD = "cmd.exe";
 
@@ -62,8 +79,7 @@ public class LocalDevice implements Device {
         return TYPE;
     }
 
-    @Override
-    public byte[] execute(CommandInput input) throws CommandExecutionException {
+    private ProcessBuilder processBuilder(CommandInput input) {
         // Temporary fix for running UATs on Windows locally
         String windowsExecuteCommand = String.format("%s %s", WINDOWS_CMD, WINDOWS_CMD_SLASH_C);
         final ProcessBuilder builder = new ProcessBuilder(input.line());
@@ -75,48 +91,197 @@ public class LocalDevice implements Device {
             args.forEach(builder.command()::add);
         });
         Optional.ofNullable(input.workingDirectory()).map(Path::toFile).ifPresent(builder::directory);
+        return builder;
+    }
+
+    @Override
+    public byte[] execute(CommandInput input) throws CommandExecutionException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        executeStreaming(input, chunk -> baos.write(chunk.array(), chunk.arrayOffset() + chunk.position(),
+                chunk.remaining()));
+        return baos.toByteArray();
+    }
+
+    /**
+     * Runs the command, handing stdout to the consumer as it is read and draining stderr concurrently so
+     * neither pipe can fill up and stall the process. The consumer is called from a single pump thread, and
+     * the {@link ByteBuffer} it receives is reused once it returns. If the timeout passes, the process and
+     * anything it spawned are killed.
+     *
+     * @param input the command to run
+     * @param output {@link Consumer} of stdout chunks
+     * @throws CommandExecutionException if the command failed, timed out, or returned a non-zero exit code
+     */
+    @Override
+    public void executeStreaming(CommandInput input, Consumer<ByteBuffer> output)
+            throws CommandExecutionException {
+        final ProcessBuilder builder = processBuilder(input);
+        Process process = null;
+        Future<?> stdout = null;
         try {
             LOGGER.debug("Running process: {}", builder.command());
-            final Process process = builder.start();
+            process = builder.start();
+            final Process started = process;
+            final Future<String> error = PUMPS.submit(() -> drainBounded(started.getErrorStream()));
+            stdout = PUMPS.submit(() -> {
+                pump(started.getInputStream(), output);
+                return null;
+            });
+            PUMPS.execute(() -> feed(started.getOutputStream(), input.input()));
             if (Objects.isNull(input.timeout())) {
+                stdout.get();
                 process.waitFor();
             } else {
-                process.waitFor(multiplier.multiply(input.timeout()), TimeUnit.SECONDS);
+                final long timeout = multiplier.multiply(input.timeout());
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+                try {
+                    stdout.get(timeout, TimeUnit.SECONDS);
+                } catch (TimeoutException te) {
+                    destroyTree(process);
+                    throw new CommandExecutionException("Command timed out after " + timeout + " seconds",
+                            -1, input);
+                }
+                // A process can close stdout and keep running
+                if (!process.waitFor(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    destroyTree(process);
+                    throw new CommandExecutionException("Command timed out after " + timeout + " seconds",
+                            -1, input);
+                }
             }
             final int exitCode = process.exitValue();
             if (exitCode != 0) {
-                String error = flushStream(process.getErrorStream());
-                throw new CommandExecutionException(error, exitCode, input);
+                throw new CommandExecutionException(errorOutput(error), exitCode, input);
+            }
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ee.getCause();
             }
-            return pump(process.getInputStream());
+            throw new CommandExecutionException(ee.getCause(), input);
         } catch (IOException | InterruptedException ie) {
             throw new CommandExecutionException(ie, input);
+        } finally {
+            if (Objects.nonNull(process) && process.isAlive()) {
+                destroyTree(process);
+            }
+            if (Objects.nonNull(stdout)) {
+                // Only blocked if something that outlived the process still holds the pipe open
+                stdout.cancel(true);
+            }
         }
     }
 
-    private byte[] pump(InputStream input) throws IOException {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        byte[] buffer = new byte[BUFFER];
-        int read;
-        do {
+    private String errorOutput(Future<String> error) throws InterruptedException, ExecutionException {
+        try {
+            return error.get(ERROR_GRACE_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException te) {
+            // A background child inherited stderr and is still running
+            return "";
+        }
+    }
+
+    @Override
+    public DeviceSession openSession(CommandInput input) throws CommandExecutionException {
+        final ProcessBuilder builder = processBuilder(input).redirectError(ProcessBuilder.Redirect.INHERIT);
+        try {
+            LOGGER.debug("Opening session: {}", builder.command());
+            final Process process = builder.start();
+            return new DeviceSession() {
+                @Override
+                public OutputStream input() {
+                    return process.getOutputStream();
+                }
+
+                @Override
+                public InputStream output() {
+                    return process.getInputStream();
+                }
+
+                @Override
+                public boolean isAlive() {
+                    return process.isAlive();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    process.getOutputStream().close();
+                    process.destroy();
+                }
+            };
+        } catch (IOException ie) {
+            throw new CommandExecutionException(ie, input);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(final String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + "-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private void feed(final OutputStream stdin, final byte[] bytes) {
+        try (OutputStream stream = stdin) {
+            if (Objects.nonNull(bytes)) {
+                stream.write(bytes);
+            }
+        } catch (IOException ie) {
+            // The process exited without reading all of its input
+            LOGGER.debug("Failed to write process input", ie);
+        }
+    }
+
+    private void pump(InputStream input, Consumer<ByteBuffer> output) throws IOException {
+        final byte[] buffer = BUFFERS.get();
+        int read = input.read(buffer);
+        while (read >= 0) {
+            if (read > 0) {
+                output.accept(ByteBuffer.wrap(buffer, 0, read));
+            }
             read = input.read(buffer);
-            if (read >= 0) {
-                baos.write(buffer, 0, read);
+        }
+    }
+
+    /**
+     * Reads the stream to the end, keeping at most {@link #ERROR_LIMIT} of the most recent bytes. The stream is
+     * read straight into a ring reused by the pump thread, only output that wrapped around is copied once.
+     */
+    private String drainBounded(final InputStream input) throws IOException {
+        final byte[] ring = ERROR_RINGS.get();
+        long total = 0;
+        try (InputStream stream = input) {
+            int offset = 0;
+            int read = stream.read(ring, offset, ERROR_LIMIT - offset);
+            while (read >= 0) {
+                total += read;
+                offset = (int) (total % ERROR_LIMIT);
+                read = stream.read(ring, offset, ERROR_LIMIT - offset);
             }
-        } while (read > 0);
-        return baos.toByteArray();
+        }
+        if (total <= ERROR_LIMIT) {
+            return new String(ring, 0, (int) total, StandardCharsets.UTF_8);
+        }
+        final int start = (int) (total % ERROR_LIMIT);
+        final byte[] ordered = new byte[ERROR_LIMIT];
+        System.arraycopy(ring, start, ordered, 0, ERROR_LIMIT - start);
+        System.arraycopy(ring, 0, ordered, ERROR_LIMIT - start, start);
+        return new String(ordered, StandardCharsets.UTF_8);
     }
 
-    private String flushStream(final InputStream input) throws IOException {
-        final StringBuilder builder = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
-            String line = reader.readLine();
-            while (Objects.nonNull(line)) {
-                builder.append(line).append("\n");
-                line = reader.readLine();
+    /**
+     * Kills the process and, when the running JVM can list them, every process it spawned. A shell wrapper
+     * would otherwise leave its children running, still holding the pipes open.
+     */
+    private static void destroyTree(final Process process) {
+        if (ProcessHandles.supported()) {
+            try {
+                ProcessHandles.destroyDescendants(process);
+            } catch (ReflectiveOperationException e) {
+                LOGGER.debug("Failed to list descendants of {}", process, e);
             }
         }
-        return builder.toString();
+        process.destroyForcibly();
     }
 
     @Override
@@ -129,25 +294,42 @@ public class LocalDevice implements Device {
         return Files.exists(Paths.get(path));
     }
 
+    /**
+     * Copies a file or directory, replacing the files that already exist in the destination so a directory
+     * can be copied over an earlier copy of itself.
+     *
+     * @param source the file or directory to copy
+     * @param destination where the copy is placed
+     * @throws CopyException failure to copy any of the files
+     */
     @Override
     public void copyTo(String source, String destination) throws CopyException {
         final Path sourcePath = Paths.get(source);
         final Path destinationPath = Paths.get(destination);
         try {
-            Files.copy(sourcePath, destinationPath);
-            if (Files.isDirectory(sourcePath)) {
-                try (Stream<Path> files = Files.walk(sourcePath)) {
-                    files.forEach(file -> {
-                        Path relativePath = sourcePath.relativize(file);
-                        if (!relativePath.getFileName().toString().isEmpty()) {
-                            try {
-                                Files.copy(file, destinationPath.resolve(relativePath));
-                            } catch (IOException e) {
-                                throw new CopyException(e, file, destinationPath.resolve(relativePath));
+            if (!Files.isDirectory(sourcePath)) {
+                Files.copy(sourcePath, destinationPath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.COPY_ATTRIBUTES);
+                return;
+            }
+            Files.createDirectories(destinationPath);
+            try (Stream<Path> files = Files.walk(sourcePath)) {
+                files.forEach(file -> {
+                    Path relativePath = sourcePath.relativize(file);
+                    if (!relativePath.getFileName().toString().isEmpty()) {
+                        Path target = destinationPath.resolve(relativePath.toString());
+                        try {
+                            if (Files.isDirectory(file)) {
+                                Files.createDirectories(target);
+                            } else {
+                                Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING,
+                                        StandardCopyOption.COPY_ATTRIBUTES);
                             }
+                        } catch (IOException e) {
+                            throw new CopyException(e, file, target);
                         }
-                    });
-                }
+                    }
+                });
             }
         } catch (IOException e) {
             throw new CopyException(e, sourcePath, destinationPath);
@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.metrics;
+
+import com.aws.greengrass.testing.api.model.TestingModel;
+import org.immutables.value.Value;
+
+/**
+ * Resource usage of a device at one point in time. Disk and network figures are counters since boot, so rates come
+ * from the difference between two samples.
+ */
+@TestingModel
+@Value.Immutable
+interface MetricSampleModel {
+    @Value.Default
+    default long sequence() {
+        return 0;
+    }
+
+    long timestampMillis();
+
+    double cpuPercent();
+
+    double load();
+
+    long memoryUsedBytes();
+
+    long diskReadBytes();
+
+    long diskWrittenBytes();
+
+    long networkReceivedBytes();
+
+    long networkSentBytes();
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed size file of {@link MetricSample} records, written by the pillbox sampling a device and read by the host
+ * while it runs. Records are fixed length and slotted by sequence, so the oldest are overwritten once the ring is
+ * full, and a reader only asks for the records after the last sequence it has seen.
+ */
+public final class MetricsRing implements Closeable {
+    static final int MAGIC = 0x50424d53;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int COUNT_OFFSET = 16;
+    public static final int RECORD_BYTES = 64;
+
+    private final FileChannel channel;
+    private final int capacity;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    private final ByteBuffer count = ByteBuffer.allocate(Long.BYTES);
+    private long written;
+
+    private MetricsRing(FileChannel channel, int capacity) {
+        this.channel = channel;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Create or truncate a ring file.
+     *
+     * @param file location of the ring
+     * @param capacity number of records kept
+     * @param intervalMillis sampling interval, recorded for readers
+     * @return the {@link MetricsRing} to append to
+     * @throws IOException failure to write the file
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public static MetricsRing create(Path file, int capacity, int intervalMillis) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of a metrics ring must be positive");
+        }
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.READ, StandardOpenOption.TRUNCATE_EXISTING);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putInt(intervalMillis).putInt(capacity).putLong(0L);
+        // The whole header is written, the bytes after the count are reserved
+        header.rewind();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        return new MetricsRing(channel, capacity);
+    }
+
+    /**
+     * Append a sample, numbered after the previous one.
+     *
+     * @param sample the {@link MetricSample}, its sequence is ignored
+     * @return the sample as stored, with its sequence
+     * @throws IOException failure to write the file
+     */
+    public synchronized MetricSample append(MetricSample sample) throws IOException {
+        final MetricSample stored = sample.withSequence(written);
+        record.clear();
+        encode(stored, record);
+        record.flip();
+        final long position = HEADER_BYTES + (written % capacity) * RECORD_BYTES;
+        while (record.hasRemaining()) {
+            channel.write(record, position + record.position());
+        }
+        // The count moves only once the record is complete, so readers never see a partial one
+        written++;
+        count.clear();
+        count.putLong(written).flip();
+        while (count.hasRemaining()) {
+            channel.write(count, COUNT_OFFSET + count.position());
+        }
+        return stored;
+    }
+
+    /**
+     * Read the records of a ring from a sequence on, oldest first. Records already overwritten are skipped.
+     *
+     * @param file location of the ring
+     * @param sequence first sequence to read
+     * @return the encoded records, see {@link #decode(byte[])}
+     * @throws IOException failure to read the file, or it is not a metrics ring
+     */
+    public static byte[] readSince(Path file, long sequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header, 0);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException(file + " is not a metrics ring");
+            }
+            final int capacity = header.getInt(12);
+            final long total = header.getLong(COUNT_OFFSET);
+            final long from = Math.max(Math.max(sequence, 0), total - capacity);
+            final ByteBuffer records = ByteBuffer.allocate((int) Math.max(0, total - from) * RECORD_BYTES);
+            final ByteBuffer single = ByteBuffer.allocate(RECORD_BYTES);
+            for (long next = from; next < total; next++) {
+                single.clear();
+                readFully(channel, single, HEADER_BYTES + (next % capacity) * RECORD_BYTES);
+                // Overwritten by the writer wrapping around while reading
+                if (single.getLong(0) == next) {
+                    records.put(single.array());
+                }
+            }
+            final byte[] output = new byte[records.position()];
+            records.flip();
+            records.get(output);
+            return output;
+        }
+    }
+
+    /**
+     * Decode records read with {@link #readSince(Path, long)}.
+     *
+     * @param records encoded records
+     * @return the samples, in the order they were encoded
+     */
+    public static List<MetricSample> decode(byte[] records) {
+        final ByteBuffer buffer = ByteBuffer.wrap(records);
+        final List<MetricSample> samples = new ArrayList<>(records.length / RECORD_BYTES);
+        while (buffer.remaining() >= RECORD_BYTES) {
+            samples.add(MetricSample.builder()
+                    .sequence(buffer.getLong())
+                    .timestampMillis(buffer.getLong())
+                    .cpuPercent(buffer.getFloat())
+                    .load(buffer.getFloat())
+                    .memoryUsedBytes(buffer.getLong())
+                    .diskReadBytes(buffer.getLong())
+                    .diskWrittenBytes(buffer.getLong())
+                    .networkReceivedBytes(buffer.getLong())
+                    .networkSentBytes(buffer.getLong())
+                    .build());
+        }
+        return samples;
+    }
+
+    private static void encode(MetricSample sample, ByteBuffer buffer) {
+        buffer.putLong(sample.sequence())
+                .putLong(sample.timestampMillis())
+                .putFloat((float) sample.cpuPercent())
+                .putFloat((float) sample.load())
+                .putLong(sample.memoryUsedBytes())
+                .putLong(sample.diskReadBytes())
+                .putLong(sample.diskWrittenBytes())
+                .putLong(sample.networkReceivedBytes())
+                .putLong(sample.networkSentBytes());
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Metrics ring ended early");
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
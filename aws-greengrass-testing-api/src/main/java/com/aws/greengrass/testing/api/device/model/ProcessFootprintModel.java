@@ -0,0 +1,34 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.model;
+
+import com.aws.greengrass.testing.api.model.TestingModel;
+import org.immutables.value.Value;
+
+import javax.annotation.Nullable;
+
+@TestingModel
+@Value.Immutable
+interface ProcessFootprintModel {
+    int pid();
+
+    int parentPid();
+
+    long residentBytes();
+
+    long proportionalBytes();
+
+    long cpuMillis();
+
+    int threads();
+
+    int fileDescriptors();
+
+    @Nullable
+    String workingDirectory();
+
+    String commandLine();
+}
@@ -8,11 +8,13 @@ package com.aws.greengrass.testing.api.device.remote;
 import com.aws.greengrass.testing.api.device.Device;
 import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
 import com.aws.greengrass.testing.api.device.model.CommandInput;
+import com.aws.greengrass.testing.api.device.session.PillboxSession;
 import com.aws.greengrass.testing.api.model.PillboxContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 public abstract class AbstractRemoteDevice implements Device {
     private static final Logger LOGGER = LogManager.getLogger(AbstractRemoteDevice.class);
@@ -22,15 +24,20 @@ public abstract class AbstractRemoteDevice implements Device {
         this.pillboxContext = pillboxContext;
     }
 
+    /**
+     * The shared {@link PillboxSession} for this device, reused across every pillbox operation.
+     *
+     * @return the {@link PillboxSession} for the pillbox binary on this device
+     */
+    protected PillboxSession pillbox() {
+        return PillboxSession.of(this, pillboxContext.onDevice().toString());
+    }
+
     @Override
     public boolean exists(final String path) {
         boolean existFlag = false;
         try {
-            String output = executeToString(CommandInput.builder()
-                    .line("java")
-                    .addArgs("-jar", pillboxContext.onDevice().toString(),
-                            "files", "exists", path)
-                    .build());
+            String output = new String(pillbox().execute("files", "exists", path), StandardCharsets.UTF_8);
             if (output.trim().equals("false")) {
                 LOGGER.info("File {} does not exists", path);
             } else if (output.trim().equals("true")) {
@@ -49,17 +56,19 @@ public abstract class AbstractRemoteDevice implements Device {
         // Eject the binary on the device upon closure
         // Window OS doesn't support deleting file using itself. Thus window command "del" is used for cleanup.
         if (platform().isWindows()) {
+            // A running pillbox session holds the binary open, and Windows refuses to delete open files
+            PillboxSession.closeAll(this);
             execute(CommandInput.builder()
                     .line("cmd.exe /c")
                     .addArgs("del " +  pillboxContext.onDevice().toString())
                     .build());
         } else {
-            if (exists(pillboxContext.onDevice().toString())) {
-                execute(CommandInput.builder()
-                        .line("java")
-                        .addArgs("-jar", pillboxContext.onDevice().toString(),
-                                "files", "rm", pillboxContext.onDevice().toString())
-                        .build());
+            try {
+                if (exists(pillboxContext.onDevice().toString())) {
+                    pillbox().execute("files", "rm", pillboxContext.onDevice().toString());
+                }
+            } finally {
+                PillboxSession.closeAll(this);
             }
         }
     }
@@ -0,0 +1,23 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.session;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A long running process on a {@link com.aws.greengrass.testing.api.device.Device} whose standard input
+ * and output remain open for the life of the session. Closing the session, from any thread, must end a read
+ * blocked on its output.
+ */
+public interface DeviceSession extends Closeable {
+    OutputStream input();
+
+    InputStream output();
+
+    boolean isAlive();
+}
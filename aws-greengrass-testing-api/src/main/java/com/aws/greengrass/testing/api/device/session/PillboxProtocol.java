@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.session;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Framing used between a host and a pillbox running in serve mode. Every frame is length prefixed:
+ * a request is the argument count followed by each argument, and a response is the exit code
+ * followed by the captured stdout and stderr.
+ */
+public final class PillboxProtocol {
+    public static final String SERVE_COMMAND = "serve";
+    static final int HANDSHAKE = 0x50425831;
+
+    private PillboxProtocol() {
+    }
+
+    /**
+     * Writes the handshake a server sends once it is ready to accept requests.
+     *
+     * @param output the server side output
+     * @throws IOException failure to write to the underlying stream
+     */
+    public static void writeHandshake(OutputStream output) throws IOException {
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(HANDSHAKE);
+        data.flush();
+    }
+
+    /**
+     * Reads and verifies the server handshake.
+     *
+     * @param input the client side input
+     * @throws IOException if the stream ended or the handshake did not match
+     */
+    public static void readHandshake(InputStream input) throws IOException {
+        int handshake = new DataInputStream(input).readInt();
+        if (handshake != HANDSHAKE) {
+            throw new IOException("Unexpected pillbox handshake " + Integer.toHexString(handshake));
+        }
+    }
+
+    /**
+     * Writes a single request frame.
+     *
+     * @param output the client side output
+     * @param args the pillbox arguments, ie: files cat /some/path
+     * @throws IOException failure to write to the underlying stream
+     */
+    public static void writeRequest(OutputStream output, String... args) throws IOException {
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(args.length);
+        for (String arg : args) {
+            writeBytes(data, arg.getBytes(StandardCharsets.UTF_8));
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a single request frame.
+     *
+     * @param input the server side input
+     * @return the pillbox arguments
+     * @throws IOException failure to read, or {@link java.io.EOFException} when the client hung up
+     */
+    public static String[] readRequest(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(input);
+        String[] args = new String[data.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = new String(readBytes(data), StandardCharsets.UTF_8);
+        }
+        return args;
+    }
+
+    /**
+     * Writes a single response frame.
+     *
+     * @param output the server side output
+     * @param response the result of the pillbox command
+     * @throws IOException failure to write to the underlying stream
+     */
+    public static void writeResponse(OutputStream output, PillboxResponse response) throws IOException {
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(response.exitCode());
+        writeBytes(data, response.output());
+        writeBytes(data, response.error());
+        data.flush();
+    }
+
+    /**
+     * Reads a single response frame.
+     *
+     * @param input the client side input
+     * @return the result of the pillbox command
+     * @throws IOException failure to read from the underlying stream
+     */
+    public static PillboxResponse readResponse(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(input);
+        return PillboxResponse.builder()
+                .exitCode(data.readInt())
+                .output(readBytes(data))
+                .error(readBytes(data))
+                .build();
+    }
+
+    private static void writeBytes(DataOutputStream data, byte[] bytes) throws IOException {
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream data) throws IOException {
+        int length = data.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid pillbox frame length " + length);
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.session;
+
+import com.aws.greengrass.testing.api.model.TestingModel;
+import org.immutables.value.Value;
+
+@TestingModel
+@Value.Immutable
+interface PillboxResponseModel {
+    int exitCode();
+
+    byte[] output();
+
+    byte[] error();
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.session;
+
+import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
+import com.aws.greengrass.testing.api.device.model.CommandInput;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Client to a pillbox running in serve mode on a {@link Device}. A single session is shared for every
+ * caller on the same device, so a file or process operation does not pay for a JVM launch each time.
+ * Devices that do not support {@link Device#openSession(CommandInput)} transparently fall back to
+ * running <code>java -jar pillbox.jar</code> per operation. A session that does not answer in time is closed, and
+ * the operation falls back to a single invocation, so one hung command does not hold up every caller.
+ */
+public class PillboxSession implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(PillboxSession.class);
+    private static final Map<String, PillboxSession> SESSIONS = new ConcurrentHashMap<>();
+    private static final long RESPONSE_TIMEOUT_SECONDS = 300;
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "pillbox-session-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Device device;
+    private final String pillboxPath;
+    private final long responseTimeoutMillis;
+    private DeviceSession session;
+    private InputStream output;
+    private OutputStream input;
+    private boolean supported = true;
+
+    PillboxSession(final Device device, final String pillboxPath) {
+        this(device, pillboxPath, TimeUnit.SECONDS.toMillis(RESPONSE_TIMEOUT_SECONDS));
+    }
+
+    PillboxSession(final Device device, final String pillboxPath, final long responseTimeoutMillis) {
+        this.device = device;
+        this.pillboxPath = pillboxPath;
+        this.responseTimeoutMillis = responseTimeoutMillis;
+    }
+
+    /**
+     * Obtain the shared {@link PillboxSession} for a {@link Device} and binary location.
+     *
+     * @param device the {@link Device} running the pillbox
+     * @param pillboxPath the location of the pillbox binary on the device
+     * @return the shared {@link PillboxSession}
+     */
+    public static PillboxSession of(final Device device, final String pillboxPath) {
+        return SESSIONS.computeIfAbsent(key(device, pillboxPath), key -> new PillboxSession(device, pillboxPath));
+    }
+
+    /**
+     * Close every shared session belonging to a {@link Device}.
+     *
+     * @param device the {@link Device} being released
+     */
+    public static void closeAll(final Device device) {
+        SESSIONS.values().stream()
+                .filter(pillbox -> pillbox.device.id().equals(device.id()))
+                .forEach(PillboxSession::close);
+    }
+
+    private static String key(final Device device, final String pillboxPath) {
+        return device.id() + ":" + pillboxPath;
+    }
+
+    private CommandInput commandInput(String... args) {
+        return CommandInput.builder()
+                .line("java")
+                .addArgs("-jar", pillboxPath)
+                .addArgs(args)
+                .build();
+    }
+
+    /**
+     * Run a single pillbox command, ie: <code>files cat /some/path</code>.
+     *
+     * @param args the pillbox arguments
+     * @return the stdout of the command
+     * @throws CommandExecutionException if the command returned a non-zero exit code
+     */
+    public byte[] execute(String... args) throws CommandExecutionException {
+        final CommandInput oneShot = commandInput(args);
+        final PillboxResponse response = request(args);
+        if (Objects.isNull(response)) {
+            // Outside of the session lock, a slow single invocation only holds up its own caller
+            return device.execute(oneShot);
+        }
+        if (response.exitCode() != 0) {
+            throw new CommandExecutionException(
+                    new String(response.error(), StandardCharsets.UTF_8), response.exitCode(), oneShot);
+        }
+        return response.output();
+    }
+
+    /**
+     * Run a single pillbox command whose output is too large to buffer, ie: <code>files archive /some/dir</code>.
+     * The output is streamed through a dedicated invocation instead of the shared session, so other callers
+     * are not held up while it runs.
+     *
+     * @param output {@link Consumer} of stdout chunks, which may be reused after it returns
+     * @param args the pillbox arguments
+     * @throws CommandExecutionException if the command returned a non-zero exit code
+     */
+    public void executeStreaming(Consumer<ByteBuffer> output, String... args) throws CommandExecutionException {
+        device.executeStreaming(commandInput(args), output);
+    }
+
+    /**
+     * Send a request through the session, closing it when no response comes in time so the blocked read fails.
+     *
+     * @return the response, or null when the operation should fall back to a single invocation
+     */
+    private synchronized PillboxResponse request(String... args) {
+        if (!connect()) {
+            return null;
+        }
+        final DeviceSession current = session;
+        final ScheduledFuture<?> expiry = WATCHDOG.schedule(() -> expire(current),
+                responseTimeoutMillis, TimeUnit.MILLISECONDS);
+        try {
+            PillboxProtocol.writeRequest(input, args);
+            return PillboxProtocol.readResponse(output);
+        } catch (IOException ie) {
+            LOGGER.warn("Pillbox session on {} failed, falling back to a single invocation", device.id(), ie);
+            disconnect();
+            return null;
+        } finally {
+            expiry.cancel(false);
+        }
+    }
+
+    private void expire(DeviceSession expired) {
+        LOGGER.warn("Pillbox session on {} did not answer within {} ms, closing it", device.id(),
+                responseTimeoutMillis);
+        try {
+            expired.close();
+        } catch (IOException ie) {
+            LOGGER.debug("Failed to close pillbox session on {}", device.id(), ie);
+        }
+    }
+
+    private boolean connect() {
+        if (Objects.nonNull(session) && session.isAlive()) {
+            return true;
+        }
+        disconnect();
+        if (!supported) {
+            return false;
+        }
+        try {
+            session = device.openSession(commandInput(PillboxProtocol.SERVE_COMMAND));
+            input = new BufferedOutputStream(session.input());
+            output = new BufferedInputStream(session.output());
+            PillboxProtocol.readHandshake(output);
+            LOGGER.debug("Opened pillbox session on {}", device.id());
+            return true;
+        } catch (UnsupportedOperationException e) {
+            LOGGER.debug("Device {} does not support sessions, using single invocations", device.id());
+            supported = false;
+        } catch (IOException | CommandExecutionException e) {
+            LOGGER.warn("Could not open a pillbox session on {}, using a single invocation", device.id(), e);
+        }
+        disconnect();
+        return false;
+    }
+
+    private void disconnect() {
+        if (Objects.nonNull(session)) {
+            try {
+                session.close();
+            } catch (IOException ie) {
+                LOGGER.debug("Failed to close pillbox session on {}", device.id(), ie);
+            }
+        }
+        session = null;
+        input = null;
+        output = null;
+    }
+
+    @Override
+    public synchronized void close() {
+        disconnect();
+        SESSIONS.remove(key(device, pillboxPath), this);
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Size, modification time and SHA-256 of every regular file under a directory, keyed by their path relative to
+ * that directory with forward slashes. Two trees hold the same content wherever their entries are equal. Hashes
+ * of local files are only computed when a comparison needs them, and a parsed manifest can leave them out.
+ */
+public final class FileManifest {
+    private static final int BUFFER = 64 * 1024;
+    private static final String SEPARATOR = "\t";
+    private static final String UNHASHED = "-";
+
+    private final Map<String, Entry> entries;
+
+    public static final class Entry {
+        private final long size;
+        private final long lastModified;
+        private final Path file;
+        private String sha256;
+
+        Entry(long size, long lastModified, String sha256) {
+            this(size, lastModified, sha256, null);
+        }
+
+        private Entry(long size, long lastModified, String sha256, Path file) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.sha256 = sha256;
+            this.file = file;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        public long lastModified() {
+            return lastModified;
+        }
+
+        /**
+         * The SHA-256 of the file, hashing a local file on first use.
+         *
+         * @return the hex digest, null when the manifest left it out
+         * @throws UncheckedIOException failure to read a local file
+         */
+        public synchronized String sha256() {
+            if (Objects.isNull(sha256) && Objects.nonNull(file)) {
+                try {
+                    sha256 = FileManifest.sha256(file);
+                } catch (IOException ie) {
+                    throw new UncheckedIOException(ie);
+                }
+            }
+            return sha256;
+        }
+
+        /**
+         * Files are the same when their size and content match, a copy does not need to keep the modification
+         * time. Files of the same size and modification time are taken as the same without hashing them.
+         *
+         * @param other the {@link Entry} to compare to, can be null
+         * @return true if the other entry has the same content
+         */
+        public boolean sameContent(Entry other) {
+            if (Objects.isNull(other) || size != other.size) {
+                return false;
+            }
+            if (lastModified == other.lastModified) {
+                return true;
+            }
+            final String hash = sha256();
+            return Objects.nonNull(hash) && hash.equals(other.sha256());
+        }
+
+        boolean needsHashOf(Entry other) {
+            return Objects.nonNull(other) && size == other.size && lastModified != other.lastModified
+                    && Objects.isNull(other.sha256());
+        }
+    }
+
+    private FileManifest(Map<String, Entry> entries) {
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    public static FileManifest empty() {
+        return new FileManifest(new TreeMap<>());
+    }
+
+    /**
+     * Read the manifest of a directory on the file system it runs on. A missing directory has an empty manifest.
+     * Files are only hashed when their hash is first asked for.
+     *
+     * @param directory the directory to read
+     * @return the {@link FileManifest} of the directory
+     * @throws IOException failure to list the files
+     */
+    public static FileManifest of(Path directory) throws IOException {
+        return of(directory, null);
+    }
+
+    /**
+     * Read the manifest of some of the files of a directory on the file system it runs on.
+     *
+     * @param directory the directory to read
+     * @param files relative paths of the files to keep, or null for all of them
+     * @return the {@link FileManifest} of the files
+     * @throws IOException failure to list the files
+     */
+    public static FileManifest of(Path directory, Collection<String> files) throws IOException {
+        final Map<String, Entry> entries = new TreeMap<>();
+        if (!Files.isDirectory(directory)) {
+            return new FileManifest(entries);
+        }
+        final Set<String> kept = Objects.isNull(files) ? null : new HashSet<>(files);
+        final List<Path> regularFiles;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            regularFiles = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : regularFiles) {
+            final String relative = relativePath(directory.relativize(file));
+            if (Objects.nonNull(kept) && !kept.contains(relative)) {
+                continue;
+            }
+            final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            entries.put(relative, new Entry(attributes.size(), attributes.lastModifiedTime().toMillis(), null,
+                    file));
+        }
+        return new FileManifest(entries);
+    }
+
+    private static String relativePath(Path relative) {
+        final StringBuilder builder = new StringBuilder();
+        for (Path name : relative) {
+            if (builder.length() > 0) {
+                builder.append('/');
+            }
+            builder.append(name);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Parse a manifest written by {@link #toString()}.
+     *
+     * @param content the manifest, one line per file
+     * @return the {@link FileManifest}
+     * @throws IllegalArgumentException if a line is not a manifest entry
+     */
+    public static FileManifest parse(String content) {
+        final Map<String, Entry> entries = new TreeMap<>();
+        for (String line : content.split("\\r?\\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            final String[] fields = line.split(SEPARATOR, 4);
+            if (fields.length != 4) {
+                throw new IllegalArgumentException("Invalid manifest entry: " + line);
+            }
+            entries.put(unescape(fields[3]), new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                    UNHASHED.equals(fields[0]) ? null : fields[0]));
+        }
+        return new FileManifest(entries);
+    }
+
+    public Map<String, Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * The files of this manifest that are missing from, or differ in, another manifest.
+     *
+     * @param other the {@link FileManifest} to compare to
+     * @return relative paths of the files that differ
+     */
+    public List<String> changedFrom(FileManifest other) {
+        return entries.entrySet().stream()
+                .filter(entry -> !entry.getValue().sameContent(other.entries.get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Files of this manifest that only a hash can tell apart from the other manifest, because they have the same
+     * size but not the same modification time, and the other manifest left their hash out.
+     *
+     * @param other the {@link FileManifest} to compare to
+     * @return relative paths of the files whose hash the other manifest needs
+     */
+    public List<String> unhashedIn(FileManifest other) {
+        return entries.entrySet().stream()
+                .filter(entry -> entry.getValue().needsHashOf(other.entries.get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * This manifest with some of its entries replaced by those of another one.
+     *
+     * @param other the {@link FileManifest} whose entries win
+     * @return the merged {@link FileManifest}
+     */
+    public FileManifest merge(FileManifest other) {
+        final Map<String, Entry> merged = new TreeMap<>(entries);
+        merged.putAll(other.entries);
+        return new FileManifest(merged);
+    }
+
+    /**
+     * Escape a relative path so it fits on a single manifest line, and survives being a command argument.
+     *
+     * @param path the relative path
+     * @return the path with backslashes, tabs and line breaks escaped
+     */
+    public static String escape(String path) {
+        final StringBuilder builder = new StringBuilder(path.length());
+        for (int i = 0; i < path.length(); i++) {
+            final char c = path.charAt(i);
+            switch (c) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reverse {@link #escape(String)}.
+     *
+     * @param path the escaped relative path
+     * @return the relative path
+     * @throws IllegalArgumentException if the path holds an unknown escape
+     */
+    public static String unescape(String path) {
+        final StringBuilder builder = new StringBuilder(path.length());
+        for (int i = 0; i < path.length(); i++) {
+            final char c = path.charAt(i);
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            final char escaped = ++i < path.length() ? path.charAt(i) : ' ';
+            switch (escaped) {
+                case '\\':
+                    builder.append('\\');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid escape in manifest path: " + path);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String sha256(Path file) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+            final byte[] buffer = new byte[BUFFER];
+            while (input.read(buffer) >= 0) {
+                // Only read for the digest
+            }
+        }
+        final StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * One line per file with its hash, size, modification time and escaped relative path. Hashes that are not
+     * known yet are computed, use {@link #toString(boolean)} to leave them out.
+     */
+    @Override
+    public String toString() {
+        return toString(true);
+    }
+
+    /**
+     * Write the manifest, one line per file.
+     *
+     * @param hashed false to write - in place of every hash, so no file is hashed
+     * @return the manifest, as read by {@link #parse(String)}
+     */
+    public String toString(boolean hashed) {
+        final StringBuilder builder = new StringBuilder();
+        entries.forEach((path, entry) -> {
+            final String hash = hashed ? entry.sha256() : null;
+            builder.append(Objects.isNull(hash) ? UNHASHED : hash).append(SEPARATOR)
+                    .append(entry.size).append(SEPARATOR)
+                    .append(entry.lastModified).append(SEPARATOR)
+                    .append(escape(path)).append('\n');
+        });
+        return builder.toString();
+    }
+}
@@ -7,8 +7,14 @@ package com.aws.greengrass.testing.api.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.stream.Stream;
 
@@ -30,4 +36,59 @@ public final class FileUtils {
             }
         }
     }
+
+    /**
+     * Clone a directory tree, keeping any file that already exists in the destination. Files under one of the
+     * linked paths are hard linked rather than copied, falling back to a copy where the file system can't link
+     * them, so they must never be modified in place. Symbolic links pointing inside the source are pointed at the
+     * same place in the destination.
+     * <strong>Note</strong>: This strictly pertains to directories on the file system it runs on.
+     *
+     * @param source the directory to clone
+     * @param destination the directory receiving the clone
+     * @param linked paths, relative to the source, that are hard linked
+     * @param skipped paths, relative to the source, that are left out
+     * @throws IOException Propagated IOException from surrounding nio utility methods
+     */
+    public static void cloneTree(Path source, Path destination, Collection<Path> linked, Collection<Path> skipped)
+            throws IOException {
+        final Path root = source.toAbsolutePath().normalize();
+        final Path target = destination.toAbsolutePath().normalize();
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                final Path relative = root.relativize(dir);
+                if (skipped.contains(relative)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                Files.createDirectories(target.resolve(relative.toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                final Path relative = root.relativize(file);
+                final Path clone = target.resolve(relative.toString());
+                if (skipped.contains(relative) || Files.exists(clone, LinkOption.NOFOLLOW_LINKS)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                if (attrs.isSymbolicLink()) {
+                    Path link = Files.readSymbolicLink(file);
+                    if (link.isAbsolute() && link.normalize().startsWith(root)) {
+                        link = target.resolve(root.relativize(link.normalize()).toString());
+                    }
+                    Files.createSymbolicLink(clone, link);
+                } else if (linked.stream().anyMatch(relative::startsWith)) {
+                    try {
+                        Files.createLink(clone, file);
+                    } catch (IOException | UnsupportedOperationException e) {
+                        Files.copy(file, clone, StandardCopyOption.COPY_ATTRIBUTES);
+                    }
+                } else {
+                    Files.copy(file, clone, StandardCopyOption.COPY_ATTRIBUTES);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Process trees of the host through ProcessHandle, which only exists on Java 9 and above. The build targets Java 8,
+ * so every method is looked up once by reflection, and callers fall back to other means when it is not supported.
+ */
+public final class ProcessHandles {
+    private static final Logger LOGGER = LogManager.getLogger(ProcessHandles.class);
+    private static final String PROCESS_HANDLE = "java.lang.ProcessHandle";
+    private static final Method PROCESS_DESCENDANTS = method("java.lang.Process", "descendants");
+    private static final Method OF = method(PROCESS_HANDLE, "of", long.class);
+    private static final Method DESCENDANTS = method(PROCESS_HANDLE, "descendants");
+    private static final Method PID = method(PROCESS_HANDLE, "pid");
+    private static final Method DESTROY_FORCIBLY = method(PROCESS_HANDLE, "destroyForcibly");
+
+    private ProcessHandles() {
+    }
+
+    private static Method method(final String className, final String name, final Class<?>... parameterTypes) {
+        try {
+            return Class.forName(className).getMethod(name, parameterTypes);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether the running JVM can list and kill process trees.
+     *
+     * @return true on Java 9 and above
+     */
+    public static boolean supported() {
+        return Objects.nonNull(PROCESS_DESCENDANTS) && Objects.nonNull(OF) && Objects.nonNull(DESCENDANTS)
+                && Objects.nonNull(PID) && Objects.nonNull(DESTROY_FORCIBLY);
+    }
+
+    /**
+     * The process tree of a process on the host, without running anything. The process itself is always first,
+     * even when it is gone.
+     *
+     * @param pid the root of the tree
+     * @return the process and all of its descendants
+     * @throws ReflectiveOperationException when the JVM is not {@link #supported()} or the lookup failed
+     */
+    public static List<Integer> descendants(int pid) throws ReflectiveOperationException {
+        requireSupported();
+        final List<Integer> descendants = new ArrayList<>();
+        descendants.add(pid);
+        final Optional<?> handle = (Optional<?>) OF.invoke(null, (long) pid);
+        if (handle.isPresent()) {
+            final Iterator<?> children = ((Stream<?>) DESCENDANTS.invoke(handle.get())).iterator();
+            while (children.hasNext()) {
+                descendants.add(((Long) PID.invoke(children.next())).intValue());
+            }
+        }
+        return descendants;
+    }
+
+    /**
+     * Kill every process spawned by a process, leaving the process itself alone. A descendant that cannot be
+     * killed is logged and skipped.
+     *
+     * @param process the root of the tree
+     * @throws ReflectiveOperationException when the JVM is not {@link #supported()} or the tree cannot be listed
+     */
+    public static void destroyDescendants(Process process) throws ReflectiveOperationException {
+        requireSupported();
+        final Stream<?> descendants = (Stream<?>) PROCESS_DESCENDANTS.invoke(process);
+        descendants.forEach(handle -> {
+            try {
+                DESTROY_FORCIBLY.invoke(handle);
+            } catch (ReflectiveOperationException e) {
+                LOGGER.debug("Failed to kill descendant {}", handle, e);
+            }
+        });
+    }
+
+    private static void requireSupported() throws ReflectiveOperationException {
+        if (!supported()) {
+            throw new ReflectiveOperationException("ProcessHandle is not available before Java 9");
+        }
+    }
+}
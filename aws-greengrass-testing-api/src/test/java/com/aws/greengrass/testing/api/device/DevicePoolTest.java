@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device;
+
+import com.aws.greengrass.testing.api.device.exception.DeviceLeaseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class DevicePoolTest {
+    @Mock
+    Device first;
+
+    @Mock
+    Device second;
+
+    private void ids() {
+        lenient().when(first.id()).thenReturn("first");
+        lenient().when(second.id()).thenReturn("second");
+    }
+
+    @Test
+    void GIVEN_every_device_leased_WHEN_leasing_THEN_it_waits_for_one_to_be_returned() {
+        ids();
+        DevicePool pool = new DevicePool(Arrays.asList(first, second), device -> { }, device -> true,
+                Duration.ofMillis(50));
+
+        DevicePool.DeviceLease lease = pool.lease();
+        DevicePool.DeviceLease other = pool.lease();
+        assertNotSame(lease.device(), other.device());
+        assertThrows(DeviceLeaseException.class, pool::lease);
+
+        other.close();
+        other.close();
+        assertEquals(1, pool.available());
+        assertSame(other.device(), pool.lease().device());
+    }
+
+    @Test
+    void GIVEN_devices_WHEN_leased_again_THEN_they_are_only_prepared_once() {
+        ids();
+        Map<String, Integer> prepared = new HashMap<>();
+        DevicePool pool = new DevicePool(Collections.singletonList(first),
+                device -> prepared.merge(device.id(), 1, Integer::sum), device -> true, Duration.ofMillis(50));
+
+        pool.lease().close();
+        pool.lease().close();
+
+        assertEquals(Collections.singletonMap("first", 1), prepared);
+    }
+
+    @Test
+    void GIVEN_unhealthy_device_WHEN_leasing_THEN_it_is_removed_from_the_pool() {
+        ids();
+        DevicePool pool = new DevicePool(Arrays.asList(first, second), device -> { },
+                device -> device != first, Duration.ofMillis(50));
+
+        DevicePool.DeviceLease lease = pool.lease();
+        assertSame(second, lease.device());
+        lease.close();
+        assertSame(second, pool.lease().device());
+
+        DevicePool broken = new DevicePool(Collections.singletonList(first), device -> {
+            throw new IllegalStateException("unreachable");
+        }, device -> true, Duration.ofMillis(50));
+        assertThrows(DeviceLeaseException.class, broken::lease);
+        assertThrows(DeviceLeaseException.class, broken::lease);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.local;
+
+import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
+import com.aws.greengrass.testing.api.device.model.CommandInput;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.WINDOWS)
+public class LocalDeviceTest {
+    private final LocalDevice device = new LocalDevice();
+
+    private static CommandInput shell(String script) {
+        return CommandInput.builder()
+                .line("sh")
+                .addArgs("-c", script)
+                .build();
+    }
+
+    @Test
+    void GIVEN_output_larger_than_pipe_WHEN_executing_THEN_both_streams_are_drained() {
+        // 1MB on each of stdout and stderr would fill either pipe if they were read one after the other
+        CommandInput input = shell("head -c 1048576 /dev/zero; head -c 1048576 /dev/zero >&2");
+        byte[] output = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> device.execute(input));
+        assertEquals(1048576, output.length);
+    }
+
+    @Test
+    void GIVEN_output_WHEN_executing_streaming_THEN_every_chunk_is_consumed() {
+        AtomicLong total = new AtomicLong();
+        device.executeStreaming(shell("head -c 300000 /dev/zero"), chunk -> total.addAndGet(chunk.remaining()));
+        assertEquals(300000, total.get());
+    }
+
+    @Test
+    void GIVEN_command_input_WHEN_executing_THEN_it_is_written_to_stdin() {
+        CommandInput input = CommandInput.builder()
+                .line("cat")
+                .input("hello".getBytes(StandardCharsets.UTF_8))
+                .build();
+        assertEquals("hello", device.executeToString(input));
+    }
+
+    @Test
+    void GIVEN_failing_command_WHEN_executing_THEN_stderr_and_exit_code_are_reported() {
+        CommandExecutionException e = assertThrows(CommandExecutionException.class,
+                () -> device.execute(shell("echo boom >&2; exit 3")));
+        assertEquals(3, e.exitCode());
+        assertEquals("boom\n", e.getMessage());
+    }
+
+    @Test
+    void GIVEN_hanging_command_WHEN_timeout_passes_THEN_process_is_killed() {
+        CommandInput input = CommandInput.builder()
+                .from(shell("sleep 60"))
+                .timeout(1L)
+                .build();
+        CommandExecutionException e = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> assertThrows(CommandExecutionException.class, () -> device.execute(input)));
+        assertTrue(e.getMessage().contains("timed out"));
+    }
+
+    @Test
+    void GIVEN_command_closing_stdout_WHEN_it_keeps_running_THEN_timeout_still_applies() {
+        CommandInput input = CommandInput.builder()
+                .from(shell("exec >&-; sleep 60"))
+                .timeout(1L)
+                .build();
+        CommandExecutionException e = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> assertThrows(CommandExecutionException.class, () -> device.execute(input)));
+        assertTrue(e.getMessage().contains("timed out"));
+    }
+
+    @Test
+    void GIVEN_stderr_larger_than_limit_WHEN_command_fails_THEN_the_end_is_kept() {
+        CommandExecutionException e = assertThrows(CommandExecutionException.class,
+                () -> device.execute(shell("head -c 1500000 /dev/zero | tr '\\0' a >&2; echo end >&2; exit 1")));
+        assertEquals(1024 * 1024, e.getMessage().length());
+        assertTrue(e.getMessage().endsWith("aaaend\n"));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MetricsRingTest {
+    @TempDir
+    Path directory;
+
+    private static MetricSample sample(long timestamp) {
+        return MetricSample.builder()
+                .timestampMillis(timestamp)
+                .cpuPercent(12.5)
+                .load(0.75)
+                .memoryUsedBytes(1024L * 1024 * 512)
+                .diskReadBytes(10)
+                .diskWrittenBytes(20)
+                .networkReceivedBytes(30)
+                .networkSentBytes(40)
+                .build();
+    }
+
+    @Test
+    void GIVEN_ring_wrapped_around_WHEN_reading_since_a_sequence_THEN_only_the_kept_records_after_it_are_read()
+            throws IOException {
+        Path file = directory.resolve("metrics.ring");
+        try (MetricsRing ring = MetricsRing.create(file, 4, 1000)) {
+            for (long timestamp = 1; timestamp <= 6; timestamp++) {
+                assertEquals(timestamp - 1, ring.append(sample(timestamp)).sequence());
+            }
+        }
+        assertEquals(MetricsRing.HEADER_BYTES + 4 * MetricsRing.RECORD_BYTES, Files.size(file));
+
+        List<MetricSample> all = MetricsRing.decode(MetricsRing.readSince(file, 0));
+        assertArrayEquals(new Long[] {2L, 3L, 4L, 5L},
+                all.stream().map(MetricSample::sequence).collect(Collectors.toList()).toArray(new Long[0]));
+        assertEquals(sample(3).withSequence(2), all.get(0));
+
+        List<MetricSample> latest = MetricsRing.decode(MetricsRing.readSince(file, 5));
+        assertEquals(1, latest.size());
+        assertEquals(6, latest.get(0).timestampMillis());
+        assertEquals(0, MetricsRing.readSince(file, 6).length);
+    }
+
+    @Test
+    void GIVEN_file_that_is_not_a_ring_WHEN_reading_THEN_it_fails() throws IOException {
+        Path file = directory.resolve("other");
+        Files.write(file, new byte[MetricsRing.HEADER_BYTES]);
+
+        assertThrows(IOException.class, () -> MetricsRing.readSince(file, 0));
+    }
+}
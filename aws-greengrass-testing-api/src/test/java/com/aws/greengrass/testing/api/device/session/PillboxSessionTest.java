@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.device.session;
+
+import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
+import com.aws.greengrass.testing.api.device.model.CommandInput;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PillboxSessionTest {
+    @Mock
+    Device device;
+
+    private static DeviceSession session(byte[] frames, ByteArrayOutputStream requests) {
+        return new DeviceSession() {
+            private final InputStream output = new ByteArrayInputStream(frames);
+
+            @Override
+            public OutputStream input() {
+                return requests;
+            }
+
+            @Override
+            public InputStream output() {
+                return output;
+            }
+
+            @Override
+            public boolean isAlive() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static PillboxResponse response(int exitCode, String output, String error) {
+        return PillboxResponse.builder()
+                .exitCode(exitCode)
+                .output(output.getBytes(StandardCharsets.UTF_8))
+                .error(error.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    @Test
+    void GIVEN_device_with_sessions_WHEN_executing_twice_THEN_one_session_serves_both() throws IOException {
+        ByteArrayOutputStream frames = new ByteArrayOutputStream();
+        PillboxProtocol.writeHandshake(frames);
+        PillboxProtocol.writeResponse(frames, response(0, "true", ""));
+        PillboxProtocol.writeResponse(frames, response(1, "", "boom"));
+        ByteArrayOutputStream requests = new ByteArrayOutputStream();
+        when(device.openSession(any(CommandInput.class))).thenReturn(session(frames.toByteArray(), requests));
+
+        PillboxSession pillbox = new PillboxSession(device, "pillbox.jar");
+        assertArrayEquals("true".getBytes(StandardCharsets.UTF_8), pillbox.execute("files", "exists", "a"));
+        CommandExecutionException e = assertThrows(CommandExecutionException.class,
+                () -> pillbox.execute("files", "cat", "b"));
+        assertEquals(1, e.exitCode());
+        assertEquals("boom", e.getMessage());
+
+        verify(device, times(1)).openSession(any(CommandInput.class));
+        verify(device, never()).execute(any(CommandInput.class));
+        ByteArrayInputStream sent = new ByteArrayInputStream(requests.toByteArray());
+        assertArrayEquals(new String[] {"files", "exists", "a"}, PillboxProtocol.readRequest(sent));
+        assertArrayEquals(new String[] {"files", "cat", "b"}, PillboxProtocol.readRequest(sent));
+    }
+
+    @Test
+    void GIVEN_device_without_sessions_WHEN_executing_THEN_fallback_to_single_invocations() {
+        when(device.openSession(any(CommandInput.class))).thenThrow(new UnsupportedOperationException());
+        when(device.execute(any(CommandInput.class))).thenReturn(new byte[0]);
+
+        PillboxSession pillbox = new PillboxSession(device, "pillbox.jar");
+        pillbox.execute("files", "exists", "a");
+        pillbox.execute("files", "exists", "b");
+
+        verify(device, times(1)).openSession(any(CommandInput.class));
+        verify(device).execute(CommandInput.builder()
+                .line("java")
+                .addArgs("-jar", "pillbox.jar", "files", "exists", "b")
+                .build());
+    }
+
+    @Test
+    void GIVEN_hung_session_WHEN_executing_THEN_it_is_closed_and_a_single_invocation_answers() throws IOException {
+        PipedOutputStream frames = new PipedOutputStream();
+        PipedInputStream output = new PipedInputStream(frames);
+        PillboxProtocol.writeHandshake(frames);
+        when(device.openSession(any(CommandInput.class))).thenReturn(new DeviceSession() {
+            @Override
+            public OutputStream input() {
+                return new ByteArrayOutputStream();
+            }
+
+            @Override
+            public InputStream output() {
+                return output;
+            }
+
+            @Override
+            public boolean isAlive() {
+                return true;
+            }
+
+            @Override
+            public void close() throws IOException {
+                frames.close();
+            }
+        });
+        when(device.execute(any(CommandInput.class))).thenReturn("true".getBytes(StandardCharsets.UTF_8));
+
+        PillboxSession pillbox = new PillboxSession(device, "pillbox.jar", 100);
+        assertArrayEquals("true".getBytes(StandardCharsets.UTF_8), pillbox.execute("files", "cat", "a"));
+
+        verify(device).execute(CommandInput.builder()
+                .line("java")
+                .addArgs("-jar", "pillbox.jar", "files", "cat", "a")
+                .build());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileManifestTest {
+    private static final String HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @Test
+    void GIVEN_same_size_and_modification_time_WHEN_comparing_THEN_files_are_the_same_without_hashes() {
+        FileManifest.Entry entry = new FileManifest.Entry(4, 1000, null);
+
+        assertTrue(entry.sameContent(new FileManifest.Entry(4, 1000, null)));
+        assertFalse(entry.sameContent(new FileManifest.Entry(5, 1000, null)));
+        assertFalse(entry.sameContent(new FileManifest.Entry(4, 2000, null)));
+        assertTrue(new FileManifest.Entry(4, 1000, HASH).sameContent(new FileManifest.Entry(4, 2000, HASH)));
+    }
+
+    @Test
+    void GIVEN_unhashed_manifest_WHEN_comparing_THEN_only_files_of_the_same_size_need_hashes() {
+        FileManifest local = FileManifest.parse(HASH + "\t4\t1000\ta.txt\n"
+                + HASH + "\t4\t1000\tb.txt\n"
+                + HASH + "\t4\t1000\tc.txt\n");
+        FileManifest remote = FileManifest.parse("-\t4\t2000\ta.txt\n"
+                + "-\t4\t1000\tb.txt\n"
+                + "-\t5\t2000\tc.txt\n");
+
+        assertEquals(Collections.singletonList("a.txt"), local.unhashedIn(remote));
+        assertNull(remote.entries().get("a.txt").sha256());
+
+        FileManifest hashed = remote.merge(FileManifest.parse(HASH + "\t4\t2000\ta.txt\n"));
+        assertEquals(Collections.singletonList("c.txt"), local.changedFrom(hashed));
+    }
+
+    @Test
+    void GIVEN_names_with_tabs_and_line_breaks_WHEN_writing_THEN_they_parse_back() {
+        FileManifest manifest = FileManifest.parse(HASH + "\t4\t1000\t" + FileManifest.escape("a\tb\nc\\d") + "\n"
+                + "-\t4\t1000\tplain.txt\n");
+
+        assertEquals(Arrays.asList("a\tb\nc\\d", "plain.txt"), Arrays.asList(manifest.entries().keySet()
+                .toArray(new String[0])));
+        assertEquals(manifest.toString(false), FileManifest.parse(manifest.toString(false)).toString(false));
+        assertEquals(2, manifest.toString(false).split("\n").length);
+        assertThrows(IllegalArgumentException.class, () -> FileManifest.unescape("a\\x"));
+    }
+}
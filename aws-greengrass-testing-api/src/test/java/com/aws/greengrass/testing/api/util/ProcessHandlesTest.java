@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ProcessHandlesTest {
+    private static int currentPid() {
+        final String name = ManagementFactory.getRuntimeMXBean().getName();
+        return Integer.parseInt(name.substring(0, name.indexOf('@')));
+    }
+
+    @Test
+    void GIVEN_running_process_WHEN_listing_descendants_THEN_the_process_comes_first() throws Exception {
+        assumeTrue(ProcessHandles.supported());
+        List<Integer> descendants = ProcessHandles.descendants(currentPid());
+
+        assertEquals(currentPid(), descendants.get(0));
+    }
+
+    @Test
+    void GIVEN_gone_process_WHEN_listing_descendants_THEN_only_the_process_is_listed() throws Exception {
+        assumeTrue(ProcessHandles.supported());
+        assertEquals(1, ProcessHandles.descendants(Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    void GIVEN_jvm_without_process_handles_WHEN_listing_descendants_THEN_it_fails() {
+        assumeFalse(ProcessHandles.supported());
+        assertThrows(ReflectiveOperationException.class, () -> ProcessHandles.descendants(1));
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.ipc;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import software.amazon.awssdk.aws.greengrass.GreengrassCoreIPC;
+import software.amazon.awssdk.aws.greengrass.model.ComponentDetails;
+import software.amazon.awssdk.aws.greengrass.model.CreateLocalDeploymentRequest;
+import software.amazon.awssdk.aws.greengrass.model.GetLocalDeploymentStatusRequest;
+import software.amazon.awssdk.aws.greengrass.model.ListComponentsRequest;
+import software.amazon.awssdk.aws.greengrass.model.ReportedLifecycleState;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.inject.Inject;
+
+/**
+ * Long-lived helper running local deployments for the tests over a single IPC connection, instead of a
+ * greengrass-cli process per call. Requests are properties files dropped in the requests directory of its work path,
+ * answered in the responses directory. Clients copy a request under another name and rename it into place, so only
+ * complete requests are read. The status of its deployments and the state of every component are kept in
+ * a state file, rewritten whenever they change.
+ */
+public class LocalDeploymentAgent implements Consumer<String[]> {
+    public static final String REQUESTS_DIR = "requests";
+    public static final String RESPONSES_DIR = "responses";
+    public static final String STATE_FILE = "state.properties";
+    public static final String RECIPE_DIR = "recipeDir";
+    public static final String ARTIFACT_DIR = "artifactDir";
+    public static final String MERGE_PREFIX = "merge.";
+    public static final String CONFIGURATION_PREFIX = "configuration.";
+    public static final String DEPLOYMENT_ID = "deploymentId";
+    public static final String ERROR = "error";
+    public static final String DEPLOYMENT_PREFIX = "deployment.";
+    public static final String COMPONENT_PREFIX = "component.";
+    private static final String EXTENSION = ".properties";
+    private static final long REFRESH_MILLIS = 500;
+    private static final Type CONFIGURATION_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private final GreengrassCoreIPC ipc;
+    private final IPCUtils ipcUtils;
+    private final Gson gson = new Gson();
+    private final Map<String, String> deployments = new LinkedHashMap<>();
+    private Map<String, String> written = new HashMap<>();
+
+    @Inject
+    public LocalDeploymentAgent(GreengrassCoreIPC ipc) {
+        this.ipc = ipc;
+        this.ipcUtils = new IPCUtils(ipc);
+    }
+
+    @Override
+    public void accept(String[] args) {
+        try {
+            if (args.length < 1) {
+                System.err.println("Need more arguments. Arguments: <work directory>");
+                ipcUtils.reportState(ReportedLifecycleState.ERRORED);
+                return;
+            }
+            final Path work = Paths.get(args[0]);
+            final Path requests = Files.createDirectories(work.resolve(REQUESTS_DIR));
+            final Path responses = Files.createDirectories(work.resolve(RESPONSES_DIR));
+            try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+                requests.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                refresh(work);
+                ipcUtils.reportState(ReportedLifecycleState.RUNNING);
+                System.out.println("Serving local deployment requests from " + requests);
+                while (true) {
+                    final WatchKey key = watcher.poll(REFRESH_MILLIS, TimeUnit.MILLISECONDS);
+                    if (key != null) {
+                        key.pollEvents();
+                        key.reset();
+                    }
+                    handleRequests(requests, responses);
+                    refresh(work);
+                }
+            }
+        } catch (IOException | ExecutionException e) {
+            System.err.println("Local deployment agent errored: " + e);
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handleRequests(Path requests, Path responses) throws IOException, InterruptedException {
+        final List<Path> pending;
+        try (Stream<Path> files = Files.list(requests)) {
+            pending = files.filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path request : pending) {
+            final Properties properties = load(request);
+            final Properties response = new Properties();
+            try {
+                final String deploymentId = createLocalDeployment(properties);
+                deployments.put(deploymentId, "QUEUED");
+                response.setProperty(DEPLOYMENT_ID, deploymentId);
+                System.out.println("Created local deployment " + deploymentId + " for " + request.getFileName());
+            } catch (ExecutionException | RuntimeException e) {
+                response.setProperty(ERROR, String.valueOf(e.getCause() == null ? e : e.getCause()));
+                System.err.println("Failed local deployment for " + request.getFileName() + ": " + e);
+            }
+            store(responses.resolve(request.getFileName()), response);
+            Files.delete(request);
+        }
+    }
+
+    private String createLocalDeployment(Properties properties) throws ExecutionException, InterruptedException {
+        final Map<String, String> components = new HashMap<>();
+        final Map<String, Map<String, Object>> configurations = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(MERGE_PREFIX)) {
+                components.put(name.substring(MERGE_PREFIX.length()), properties.getProperty(name));
+            } else if (name.startsWith(CONFIGURATION_PREFIX)) {
+                configurations.put(name.substring(CONFIGURATION_PREFIX.length()),
+                        gson.fromJson(properties.getProperty(name), CONFIGURATION_TYPE));
+            }
+        }
+        final CreateLocalDeploymentRequest request = new CreateLocalDeploymentRequest();
+        request.setRecipeDirectoryPath(properties.getProperty(RECIPE_DIR));
+        request.setArtifactsDirectoryPath(properties.getProperty(ARTIFACT_DIR));
+        request.setRootComponentVersionsToAdd(components);
+        if (!configurations.isEmpty()) {
+            request.setComponentToConfiguration(configurations);
+        }
+        return ipc.createLocalDeployment(request, Optional.empty()).getResponse().get().getDeploymentId();
+    }
+
+    private void refresh(Path work) throws IOException, InterruptedException {
+        final Map<String, String> state = new TreeMap<>();
+        try {
+            for (Map.Entry<String, String> deployment : deployments.entrySet()) {
+                if (!isTerminal(deployment.getValue())) {
+                    final GetLocalDeploymentStatusRequest request = new GetLocalDeploymentStatusRequest();
+                    request.setDeploymentId(deployment.getKey());
+                    deployment.setValue(ipc.getLocalDeploymentStatus(request, Optional.empty())
+                            .getResponse().get().getDeployment().getStatusAsString());
+                }
+                state.put(DEPLOYMENT_PREFIX + deployment.getKey(), deployment.getValue());
+            }
+            for (ComponentDetails component : ipc.listComponents(new ListComponentsRequest(), Optional.empty())
+                    .getResponse().get().getComponents()) {
+                state.put(COMPONENT_PREFIX + component.getComponentName(), component.getStateAsString());
+            }
+        } catch (ExecutionException e) {
+            System.err.println("Could not refresh the local state: " + e);
+            return;
+        }
+        if (!state.equals(written)) {
+            final Properties properties = new Properties();
+            properties.putAll(state);
+            store(work.resolve(STATE_FILE), properties);
+            written = state;
+        }
+    }
+
+    private static boolean isTerminal(String status) {
+        return "SUCCEEDED".equals(status) || "FAILED".equals(status);
+    }
+
+    private static Properties load(Path file) throws IOException {
+        final Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            properties.load(input);
+        }
+        return properties;
+    }
+
+    private static void store(Path file, Properties properties) throws IOException {
+        // Readers on the host never see a partially written file
+        final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temporary)) {
+            properties.store(output, null);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
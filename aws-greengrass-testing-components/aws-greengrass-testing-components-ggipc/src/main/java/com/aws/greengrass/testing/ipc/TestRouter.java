@@ -8,6 +8,7 @@ package com.aws.greengrass.testing.ipc;
 public class TestRouter {
 
     public static final String MQTT_PUBSUB_OPERATION = "mqttPubsub";
+    public static final String LOCAL_DEPLOYMENT_OPERATION = "localDeployment";
     public static final String IPC_OPERATION_SYS_PROP = "ipc.operation";
 
     /**
@@ -22,6 +23,10 @@ public class TestRouter {
                 DaggerMqttComponents.create().getMqttPubsubComponents().accept(args);
                 break;
             }
+            case LOCAL_DEPLOYMENT_OPERATION: {
+                DaggerLocalDeploymentComponents.create().getLocalDeploymentAgent().accept(args);
+                break;
+            }
             default: {
                 System.err.println("Unsupported ipc operation");
                 break;
@@ -0,0 +1,216 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing;
+
+import com.aws.greengrass.testing.resources.ResourceAvailabilityOptions;
+import com.aws.greengrass.testing.resources.iot.IotCertificate;
+import com.aws.greengrass.testing.resources.iot.IotThingSpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.utils.IoUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+
+import static com.aws.greengrass.testing.util.EncryptionUtils.loadPrivateKeyPair;
+import static com.aws.greengrass.testing.util.EncryptionUtils.loadX509Certificates;
+
+/**
+ * Waits for the certificate of a thing to exchange its role alias for credentials at the AWS IoT credentials
+ * endpoint. The mTLS client of a certificate is built once and kept for later probes of the same certificate.
+ * Probes back off from a sub-second interval, and the time each certificate took to get credentials is recorded
+ * in a histogram per region.
+ */
+public class CredentialsEndpointProber implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(CredentialsEndpointProber.class);
+    private static final int MAX_CLIENTS = 32;
+    private static final long[] BUCKETS_MILLIS = {250, 500, 1000, 2000, 4000, 8000, 16000, 32000, 64000, 128000};
+    public static final ResourceAvailabilityOptions DEFAULT_OPTIONS = ResourceAvailabilityOptions.builder()
+            .interval(Duration.ofMillis(250))
+            .maxInterval(Duration.ofSeconds(5))
+            .timeout(Duration.ofMinutes(2))
+            .build();
+
+    private final ResourceAvailabilityOptions options;
+    private final String region;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Map<String, AtomicLongArray> histograms = new ConcurrentHashMap<>();
+    private final Map<String, SdkHttpClient> clients = new LinkedHashMap<String, SdkHttpClient>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SdkHttpClient> eldest) {
+            if (size() > MAX_CLIENTS) {
+                eldest.getValue().close();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Create a prober for the credentials endpoint of a region.
+     *
+     * @param options the backoff and timeout of the probes
+     * @param region the region of the endpoint, recorded with the timings
+     */
+    public CredentialsEndpointProber(ResourceAvailabilityOptions options, String region) {
+        this.options = options;
+        this.region = region;
+    }
+
+    /**
+     * Block until the role alias of the thing returns credentials.
+     *
+     * @param thingSpec the created {@link IotThingSpec}, with a certificate and role alias
+     * @param credentialsEndpoint the AWS IoT credentials endpoint
+     * @return how long the certificate took to get credentials
+     * @throws InterruptedException thread interrupted
+     * @throws IllegalStateException if no credentials were returned before the timeout
+     */
+    public Duration awaitCredentials(IotThingSpec thingSpec, String credentialsEndpoint)
+            throws InterruptedException {
+        final long start = System.nanoTime();
+        final long deadline = start + options.timeout().toNanos();
+        long delay = options.interval().toMillis();
+        IOException failure = null;
+        while (true) {
+            try {
+                if (probe(thingSpec, credentialsEndpoint)) {
+                    final Duration took = Duration.ofNanos(System.nanoTime() - start);
+                    record(took);
+                    LOGGER.info("IoT Role alias returned credentials for {} after {} ms", thingSpec.thingName(),
+                            took.toMillis());
+                    return took;
+                }
+            } catch (IOException ie) {
+                // A certificate that is not active yet can fail the handshake
+                LOGGER.debug("IoT Role alias not reachable for {} yet", thingSpec.thingName(), ie);
+                failure = ie;
+            }
+            final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw new IllegalStateException("Role alias never returned credentials for " + thingSpec.thingName()
+                        + " within " + options.timeout(), failure);
+            }
+            Thread.sleep(Math.min(delay, remaining));
+            delay = Math.min(options.maxInterval().toMillis(), (long) (delay * options.multiplier()));
+        }
+    }
+
+    boolean probe(IotThingSpec thingSpec, String credentialsEndpoint) throws IOException {
+        final String roleAlias = thingSpec.roleAliasSpec().resource().roleAlias();
+        final HttpExecuteResponse res = client(thingSpec.resource().certificate())
+                .prepareRequest(HttpExecuteRequest.builder().request(SdkHttpRequest.builder()
+                        .appendHeader("x-amzn-iot-thingname", thingSpec.thingName())
+                        .method(SdkHttpMethod.GET)
+                        .uri(URI.create(String.format("https://%s/role-aliases/%s/credentials",
+                                credentialsEndpoint, roleAlias)))
+                        .build()).build())
+                .call();
+        // The body is always consumed, so the connection goes back to the pool of the cached client
+        try (AbortableInputStream body = res.responseBody().orElse(null)) {
+            final String content = body == null ? null : IoUtils.toUtf8String(body);
+            if (res.httpResponse().statusCode() == 200) {
+                return true;
+            }
+            LOGGER.debug("IoT Role alias not ready yet, got {}: {}", res.httpResponse().statusCode(), content);
+            return false;
+        }
+    }
+
+    private SdkHttpClient client(IotCertificate certificate) {
+        synchronized (clients) {
+            return clients.computeIfAbsent(certificate.certificateId(), id -> ApacheHttpClient.builder()
+                    .tlsKeyManagersProvider(() -> keyManagers(certificate))
+                    .build());
+        }
+    }
+
+    private static KeyManager[] keyManagers(IotCertificate certificate) {
+        try {
+            final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null);
+            final List<X509Certificate> certificateChain = loadX509Certificates(certificate.certificatePem());
+            keyStore.setKeyEntry("private-key", loadPrivateKeyPair(certificate.keyPair().privateKey()).getPrivate(),
+                    null, certificateChain.toArray(new Certificate[0]));
+            final KeyManagerFactory keyManagerFactory =
+                    KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagerFactory.init(keyStore, null);
+            return keyManagerFactory.getKeyManagers();
+        } catch (Exception e) {
+            LOGGER.error("Failed to load key", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void record(Duration took) {
+        final AtomicLongArray histogram = histograms.computeIfAbsent(region,
+                key -> new AtomicLongArray(BUCKETS_MILLIS.length + 1));
+        int bucket = 0;
+        while (bucket < BUCKETS_MILLIS.length && took.toMillis() > BUCKETS_MILLIS[bucket]) {
+            bucket++;
+        }
+        histogram.incrementAndGet(bucket);
+    }
+
+    /**
+     * Number of certificates that got credentials within each bucket, by region. A bucket is keyed by its upper
+     * bound in milliseconds, the last one by {@link Long#MAX_VALUE}.
+     *
+     * @return a snapshot of the histograms
+     */
+    public Map<String, Map<Long, Long>> histograms() {
+        final Map<String, Map<Long, Long>> snapshot = new TreeMap<>();
+        histograms.forEach((name, histogram) -> {
+            final Map<Long, Long> buckets = new LinkedHashMap<>();
+            for (int i = 0; i < histogram.length(); i++) {
+                buckets.put(i < BUCKETS_MILLIS.length ? BUCKETS_MILLIS[i] : Long.MAX_VALUE, histogram.get(i));
+            }
+            snapshot.put(name, Collections.unmodifiableMap(buckets));
+        });
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        histograms().forEach((name, buckets) -> {
+            final List<String> counts = new ArrayList<>();
+            buckets.forEach((bound, count) -> counts.add((bound == Long.MAX_VALUE ? "more" : "<=" + bound + "ms")
+                    + ": " + count));
+            LOGGER.info("Time to IoT credentials in {}: {}", name, String.join(", ", counts));
+        });
+        synchronized (clients) {
+            clients.values().forEach(SdkHttpClient::close);
+            clients.clear();
+        }
+    }
+}
@@ -23,6 +23,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.TimeUnit;
 
 public class DefaultGreengrass implements Greengrass {
@@ -37,6 +39,8 @@ public class DefaultGreengrass implements Greengrass {
     private final TestContext testContext;
     private final WaitSteps waits;
     private FileSteps fileSteps;
+    private final NucleusTemplates templates;
+    private final String deviceId;
 
     /**
      * Creates a {@link Greengrass} software instance.
@@ -55,12 +59,39 @@ public class DefaultGreengrass implements Greengrass {
             TestContext testContext,
             WaitSteps waits,
             FileSteps fileSteps) {
+        this(platform, resourcesContext, greengrassContext, testContext, waits, fileSteps,
+                new NucleusTemplates(false, testContext.cleanupContext()), null);
+    }
+
+    /**
+     * Creates a {@link Greengrass} software instance, cloned from a template installation when enabled.
+     *
+     * @param platform Abstract {@link Platform}
+     * @param resourcesContext the global {@link AWSResourcesContext} for the test run
+     * @param greengrassContext the global {@link GreengrassContext} for the test suite
+     * @param testContext The underlying {@link TestContext}
+     * @param waits The underlying {@link WaitSteps}
+     * @param fileSteps The underlying {@link FileSteps}
+     * @param templates the {@link NucleusTemplates} of the test run
+     * @param deviceId id of the device Greengrass is installed on
+     */
+    public DefaultGreengrass(
+            final Platform platform,
+            AWSResourcesContext resourcesContext,
+            GreengrassContext greengrassContext,
+            TestContext testContext,
+            WaitSteps waits,
+            FileSteps fileSteps,
+            NucleusTemplates templates,
+            String deviceId) {
         this.platform = platform;
         this.resourcesContext = resourcesContext;
         this.greengrassContext = greengrassContext;
         this.testContext = testContext;
         this.waits = waits;
         this.fileSteps = fileSteps;
+        this.templates = templates;
+        this.deviceId = deviceId;
     }
 
     @VisibleForTesting
@@ -91,41 +122,74 @@ public class DefaultGreengrass implements Greengrass {
     @Override
     public void install() {
         if (!isRegistered()) {
-            platform.files().copyTo(
-                    greengrassContext.greengrassPath(),
-                    testContext.installRoot().resolve("greengrass"));
-
-            Map<String, String> systemProperties = new HashMap<>();
-            systemProperties.put("root", testContext.installRoot().toString());
-            systemProperties.put("log.store", "FILE");
-            systemProperties.put("log.level", testContext.logLevel());
-
-            Map<String, String> ggParameters = new HashMap<>();
-            ggParameters.put("--aws-region", getAWSRegion());
-            ggParameters.put("--env-stage", getEnvStage());
-            if (!testContext.currentUser().isEmpty()) {
-                ggParameters.put("--component-default-user", testContext.currentUser());
+            // The template lives next to the install roots, and is named after the run so it is never reused
+            final Path templateRoot = testContext.installRoot()
+                    .resolveSibling(greengrassContext.tempDirectory().getFileName() + "-template");
+            if (templates.cloneInto(deviceId, platform.files(), templateRoot, installSettings(),
+                    testContext.installRoot(), this::installNucleus)) {
+                LOGGER.info("Cloned Greengrass from {}", templateRoot);
+            } else {
+                installNucleus(testContext.installRoot());
             }
-            if (!testContext.trustedPluginsPaths().isEmpty()) {
-                for (String trustedPluginsPath : testContext.trustedPluginsPaths()) {
-                    Path hostPath = Paths.get(trustedPluginsPath);
-                    Path dutPath = testContext.installRoot().resolve(hostPath.getFileName());
-                    try {
-                        platform.files().copyTo(hostPath, dutPath);
-                    } catch (CopyException e) {
-                        LOGGER.error("Caught exception while copying file to DUT");
-                        throw new RuntimeException(e);
-                    }
-                    ggParameters.put("--trusted-plugin", dutPath.toString());
+        }
+    }
+
+    /**
+     * Everything {@link #installNucleus(Path)} takes from the scenario, so a template is only shared by scenarios
+     * installing Greengrass the same way.
+     */
+    private String installSettings() {
+        return String.join("\n", getAWSRegion(), getEnvStage(), testContext.logLevel(),
+                testContext.currentUser(), String.valueOf(greengrassContext.version()),
+                String.join(",", testContext.trustedPluginsPaths()));
+    }
+
+    /**
+     * Sync the extracted nucleus to a directory next to the install roots, named after its version rather than
+     * the scenario. It is synced once per device and run, and a DUT keeping it from an earlier run, when installed
+     * software is persisted, only receives the files that changed.
+     */
+    private Path stageNucleus(Path installRoot) {
+        final Path stagingRoot = installRoot.resolveSibling(Optional.ofNullable(greengrassContext.version())
+                .map(version -> "nucleus-" + version)
+                .orElse("nucleus"));
+        return templates.stage(deviceId, platform.files(), stagingRoot, () ->
+                platform.files().sync(greengrassContext.greengrassPath(), stagingRoot.resolve("greengrass")));
+    }
+
+    private void installNucleus(Path installRoot) {
+        final Path stagingRoot = stageNucleus(installRoot);
+
+        Map<String, String> systemProperties = new HashMap<>();
+        systemProperties.put("root", installRoot.toString());
+        systemProperties.put("log.store", "FILE");
+        systemProperties.put("log.level", testContext.logLevel());
+
+        Map<String, String> ggParameters = new HashMap<>();
+        ggParameters.put("--aws-region", getAWSRegion());
+        ggParameters.put("--env-stage", getEnvStage());
+        if (!testContext.currentUser().isEmpty()) {
+            ggParameters.put("--component-default-user", testContext.currentUser());
+        }
+        if (!testContext.trustedPluginsPaths().isEmpty()) {
+            for (String trustedPluginsPath : testContext.trustedPluginsPaths()) {
+                Path hostPath = Paths.get(trustedPluginsPath);
+                Path dutPath = installRoot.resolve(hostPath.getFileName());
+                try {
+                    platform.files().copyTo(hostPath, dutPath);
+                } catch (CopyException e) {
+                    LOGGER.error("Caught exception while copying file to DUT");
+                    throw new RuntimeException(e);
                 }
+                ggParameters.put("--trusted-plugin", dutPath.toString());
             }
-            NucleusInstallationParameters nucleusInstallationParameters = NucleusInstallationParameters.builder()
-                    .systemProperties(systemProperties)
-                    .greengrassParameters(ggParameters)
-                    .greengrassRootDirectoryPath(testContext.installRoot())
-                    .build();
-            platform.commands().installNucleus(nucleusInstallationParameters);
         }
+        NucleusInstallationParameters nucleusInstallationParameters = NucleusInstallationParameters.builder()
+                .systemProperties(systemProperties)
+                .greengrassParameters(ggParameters)
+                .greengrassRootDirectoryPath(stagingRoot)
+                .build();
+        platform.commands().installNucleus(nucleusInstallationParameters);
     }
 
     @Override
@@ -136,6 +200,12 @@ public class DefaultGreengrass implements Greengrass {
         }
     }
 
+    @Override
+    public OptionalInt processId() {
+        final int pid = greengrassProcess;
+        return pid > 0 ? OptionalInt.of(pid) : OptionalInt.empty();
+    }
+
     @Override
     public synchronized void stop() {
         try {
@@ -145,8 +215,8 @@ public class DefaultGreengrass implements Greengrass {
             }
             if (greengrassProcess > 0) {
                 platform.commands().sigtermAll(greengrassProcess);
-                if (!waits.untilTrue(() -> platform.commands().findDescendants(greengrassProcess).size() == 1,
-                        120, TimeUnit.SECONDS)) {
+                if (!platform.commands().waitForDescendants(greengrassProcess, 0, waits.timeout(120),
+                        TimeUnit.SECONDS)) {
                     LOGGER.warn("Greengrass did not shutdown all child processes in response to SIGTERM within 120 "
                             + "seconds");
                     platform.commands().killAll(greengrassProcess);
@@ -0,0 +1,241 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing;
+
+import com.aws.greengrass.testing.resources.iot.IotThingSpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * IoT identities (thing, certificate and role alias) provisioned ahead of the scenarios that use them, so a
+ * scenario does not pay for creating them and for waiting on their credentials to propagate. Identities are
+ * provisioned in the background as soon as the pool is created, leased to one scenario at a time, and reset
+ * before they are handed to the next one.
+ */
+public class IdentityPool implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(IdentityPool.class);
+    private static final int MAX_PROVISIONING_THREADS = 4;
+    private static final long POLL_MILLIS = 1000;
+    public static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofMinutes(15);
+
+    private final Provisioner provisioner;
+    private final int size;
+    private final Duration leaseTimeout;
+    private final BlockingQueue<IotThingSpec> idle = new LinkedBlockingQueue<>();
+    private final List<IotThingSpec> identities = new CopyOnWriteArrayList<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final ExecutorService executor;
+
+    /**
+     * Creates, resets and removes the identities of an {@link IdentityPool}.
+     */
+    public interface Provisioner {
+        /**
+         * Identities kept from an earlier run, which are reused before any new one is provisioned.
+         *
+         * @return the identities that can still be used
+         */
+        List<IotThingSpec> recycle();
+
+        /**
+         * Create an identity, only returning once its credentials can be used.
+         *
+         * @return the created {@link IotThingSpec}
+         */
+        IotThingSpec provision();
+
+        /**
+         * Undo what a scenario did to an identity, ie: thing group memberships and pending deployments.
+         *
+         * @param identity the returned identity
+         */
+        void reset(IotThingSpec identity);
+
+        /**
+         * Remove or keep the identities at the end of the run.
+         *
+         * @param identities every identity of the pool
+         * @throws IOException failure to remove or keep the identities
+         */
+        void retire(List<IotThingSpec> identities) throws IOException;
+    }
+
+    /**
+     * Create a pool and start provisioning its identities.
+     *
+     * @param provisioner the {@link Provisioner} of the identities
+     * @param size number of identities in the pool
+     * @param leaseTimeout how long {@link #lease()} waits for an identity
+     */
+    public IdentityPool(Provisioner provisioner, int size, Duration leaseTimeout) {
+        this.provisioner = provisioner;
+        this.size = size;
+        this.leaseTimeout = leaseTimeout;
+        if (size <= 0) {
+            this.executor = null;
+            return;
+        }
+        final AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.min(size, MAX_PROVISIONING_THREADS), runnable -> {
+            final Thread thread = new Thread(runnable, "identity-pool-" + threads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pending.addAndGet(size);
+        executor.execute(() -> {
+            final List<IotThingSpec> recycled = recycle();
+            recycled.forEach(this::add);
+            pending.addAndGet(-recycled.size());
+            for (int i = recycled.size(); i < size; i++) {
+                executor.execute(this::provision);
+            }
+        });
+    }
+
+    public static IdentityPool disabled() {
+        return new IdentityPool(null, 0, DEFAULT_LEASE_TIMEOUT);
+    }
+
+    public boolean enabled() {
+        return size > 0;
+    }
+
+    public List<IotThingSpec> identities() {
+        return new ArrayList<>(identities);
+    }
+
+    public int available() {
+        return idle.size();
+    }
+
+    private List<IotThingSpec> recycle() {
+        try {
+            final List<IotThingSpec> recycled = provisioner.recycle();
+            LOGGER.info("Reusing {} identities from an earlier run", recycled.size());
+            return recycled.subList(0, Math.min(size, recycled.size()));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to reuse identities from an earlier run", e);
+            return new ArrayList<>();
+        }
+    }
+
+    private void add(IotThingSpec identity) {
+        identities.add(identity);
+        idle.add(identity);
+    }
+
+    private void provision() {
+        try {
+            if (!closed.get()) {
+                final IotThingSpec identity = provisioner.provision();
+                add(identity);
+                LOGGER.info("Provisioned identity {}, {} ready", identity.thingName(), idle.size());
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to provision an identity", e);
+            failure.set(e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Lease an identity for exclusive use, waiting for one to be provisioned or returned.
+     *
+     * @return the {@link IdentityLease}, which must be closed to return the identity
+     * @throws IllegalStateException if the pool is disabled, no identity became available in time, or none of
+     *     them could be provisioned
+     */
+    public IdentityLease lease() {
+        if (!enabled()) {
+            throw new IllegalStateException("The identity pool is disabled");
+        }
+        final long deadline = System.nanoTime() + leaseTimeout.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                final IotThingSpec identity = idle.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (Objects.nonNull(identity)) {
+                    leased.incrementAndGet();
+                    LOGGER.debug("Leased identity {}, {} left in the pool", identity.thingName(), idle.size());
+                    return new IdentityLease(identity);
+                }
+                if (pending.get() == 0 && leased.get() == 0 && idle.isEmpty()) {
+                    throw new IllegalStateException("None of the identities of the pool could be provisioned",
+                            failure.get());
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for an identity", ie);
+        }
+        throw new IllegalStateException("No identity became available within " + leaseTimeout, failure.get());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true) || !enabled()) {
+            return;
+        }
+        executor.shutdownNow();
+        provisioner.retire(identities());
+    }
+
+    /**
+     * Exclusive use of one identity of an {@link IdentityPool}. Closing the lease resets the identity and returns
+     * it to the pool. An identity that fails to reset is replaced, and closing more than once has no effect.
+     */
+    public final class IdentityLease implements Closeable {
+        private final IotThingSpec identity;
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        private IdentityLease(IotThingSpec identity) {
+            this.identity = identity;
+        }
+
+        public IotThingSpec identity() {
+            return identity;
+        }
+
+        @Override
+        public void close() {
+            if (!returned.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                provisioner.reset(identity);
+                idle.add(identity);
+                LOGGER.debug("Returned identity {} to the pool", identity.thingName());
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to reset identity {}, replacing it", identity.thingName(), e);
+                if (!closed.get()) {
+                    pending.incrementAndGet();
+                    executor.execute(IdentityPool.this::provision);
+                }
+            } finally {
+                leased.decrementAndGet();
+            }
+        }
+    }
+}
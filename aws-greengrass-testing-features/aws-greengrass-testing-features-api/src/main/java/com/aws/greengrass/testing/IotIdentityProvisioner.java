@@ -0,0 +1,283 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing;
+
+import com.aws.greengrass.testing.api.model.TestId;
+import com.aws.greengrass.testing.features.IamSteps;
+import com.aws.greengrass.testing.features.IotSteps;
+import com.aws.greengrass.testing.resources.AWSResources;
+import com.aws.greengrass.testing.resources.iam.IamRole;
+import com.aws.greengrass.testing.resources.iot.IotCertificate;
+import com.aws.greengrass.testing.resources.iot.IotCertificateSpec;
+import com.aws.greengrass.testing.resources.iot.IotLifecycle;
+import com.aws.greengrass.testing.resources.iot.IotRoleAlias;
+import com.aws.greengrass.testing.resources.iot.IotRoleAliasSpec;
+import com.aws.greengrass.testing.resources.iot.IotThing;
+import com.aws.greengrass.testing.resources.iot.IotThingSpec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import software.amazon.awssdk.services.greengrassv2.GreengrassV2Client;
+import software.amazon.awssdk.services.greengrassv2.model.CancelDeploymentRequest;
+import software.amazon.awssdk.services.greengrassv2.model.Deployment;
+import software.amazon.awssdk.services.greengrassv2.model.DeploymentHistoryFilter;
+import software.amazon.awssdk.services.greengrassv2.model.DeploymentStatus;
+import software.amazon.awssdk.services.greengrassv2.model.ListDeploymentsRequest;
+import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.CancelJobExecutionRequest;
+import software.amazon.awssdk.services.iot.model.DescribeThingRequest;
+import software.amazon.awssdk.services.iot.model.GroupNameAndArn;
+import software.amazon.awssdk.services.iot.model.JobExecutionStatus;
+import software.amazon.awssdk.services.iot.model.JobExecutionSummaryForThing;
+import software.amazon.awssdk.services.iot.model.KeyPair;
+import software.amazon.awssdk.services.iot.model.ListJobExecutionsForThingRequest;
+import software.amazon.awssdk.services.iot.model.ListThingGroupsForThingRequest;
+import software.amazon.awssdk.services.iot.model.RemoveThingFromThingGroupRequest;
+import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provisions the identities of an {@link IdentityPool} in AWS IoT. Every identity has its own thing, certificate
+ * and IoT policy, and they share one IAM role and role alias. The resources are tracked by a run wide
+ * {@link AWSResources}, so they outlive the scenarios using them. When a store is given, the identities are kept
+ * at the end of the run and written to it, private keys included, for the next run to reuse. Only the owner can
+ * read the store.
+ */
+public class IotIdentityProvisioner implements IdentityPool.Provisioner {
+    private static final Logger LOGGER = LogManager.getLogger(IotIdentityProvisioner.class);
+
+    private final IotClient client;
+    private final GreengrassV2Client greengrassClient;
+    private final AWSResources resources;
+    private final IotSteps iotSteps;
+    private final IamSteps iamSteps;
+    private final CredentialsEndpointProber prober;
+    private final TestId runId;
+    private final Path store;
+    private final ObjectMapper mapper;
+    private final AtomicInteger count = new AtomicInteger();
+    private IotRoleAliasSpec roleAlias;
+    private String credentialsEndpoint;
+
+    /**
+     * Create a provisioner for an {@link IdentityPool}.
+     *
+     * @param client {@link IotClient} used to reset identities
+     * @param greengrassClient {@link GreengrassV2Client} cancelling the deployments targeting identities
+     * @param resources run wide {@link AWSResources} tracking the identities
+     * @param iotSteps {@link IotSteps} creating IoT policies with the run wide resources
+     * @param iamSteps {@link IamSteps} creating the IAM role with the run wide resources
+     * @param prober {@link CredentialsEndpointProber} waiting on the credentials of new identities
+     * @param runId {@link TestId} of the run, naming the identities
+     * @param store file identities are kept in between runs, or null to remove them at the end of the run
+     * @param mapper JSON {@link ObjectMapper} for the store
+     */
+    public IotIdentityProvisioner(IotClient client, GreengrassV2Client greengrassClient, AWSResources resources,
+            IotSteps iotSteps, IamSteps iamSteps, CredentialsEndpointProber prober, TestId runId, Path store,
+            ObjectMapper mapper) {
+        this.client = client;
+        this.greengrassClient = greengrassClient;
+        this.resources = resources;
+        this.iotSteps = iotSteps;
+        this.iamSteps = iamSteps;
+        this.prober = prober;
+        this.runId = runId;
+        this.store = store;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public List<IotThingSpec> recycle() {
+        final List<IotThingSpec> recycled = new ArrayList<>();
+        if (Objects.isNull(store) || !Files.exists(store)) {
+            return recycled;
+        }
+        try {
+            for (JsonNode node : mapper.readTree(store.toFile())) {
+                final IotThingSpec identity = fromJson(node);
+                try {
+                    client.describeThing(DescribeThingRequest.builder().thingName(identity.thingName()).build());
+                    recycled.add(identity);
+                } catch (ResourceNotFoundException e) {
+                    LOGGER.warn("Identity {} no longer exists, dropping it", identity.thingName());
+                }
+            }
+        } catch (IOException ie) {
+            throw new UncheckedIOException(ie);
+        }
+        return recycled;
+    }
+
+    @Override
+    public IotThingSpec provision() {
+        final IotRoleAliasSpec sharedRoleAlias = roleAlias();
+        final int index = count.incrementAndGet();
+        final String thingName = runId.idFor("ggc-thing-" + index);
+        final IotThingSpec identity = resources.create(IotThingSpec.builder()
+                .thingName(thingName)
+                .policySpec(iotSteps.createDefaultPolicy("ggc-iot-policy-" + index))
+                .roleAliasSpec(sharedRoleAlias)
+                .certificateSpec(IotCertificateSpec.builder()
+                        .thingName(thingName)
+                        .build())
+                .build());
+        try {
+            prober.awaitCredentials(identity, credentialsEndpoint);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting on the credentials of " + thingName, ie);
+        }
+        return identity;
+    }
+
+    private synchronized IotRoleAliasSpec roleAlias() {
+        if (Objects.isNull(roleAlias)) {
+            credentialsEndpoint = resources.lifecycle(IotLifecycle.class).credentialsEndpoint();
+            roleAlias = resources.create(IotRoleAliasSpec.builder()
+                    .name(runId.idFor("ggc-role-alias"))
+                    .iamRole(iamSteps.createDefaultIamRole().resource())
+                    .build());
+        }
+        return roleAlias;
+    }
+
+    /**
+     * Deployments targeting the thing itself would be applied again to the next scenario registering it, they are
+     * cancelled along with their job executions.
+     */
+    @Override
+    public void reset(IotThingSpec identity) {
+        for (Deployment deployment : greengrassClient.listDeploymentsPaginator(ListDeploymentsRequest.builder()
+                .targetArn(identity.resource().thingArn())
+                .historyFilter(DeploymentHistoryFilter.LATEST_ONLY)
+                .build())
+                .deployments()) {
+            if (deployment.deploymentStatus() == DeploymentStatus.ACTIVE) {
+                greengrassClient.cancelDeployment(CancelDeploymentRequest.builder()
+                        .deploymentId(deployment.deploymentId())
+                        .build());
+            }
+        }
+        for (GroupNameAndArn group : client.listThingGroupsForThingPaginator(ListThingGroupsForThingRequest.builder()
+                .thingName(identity.thingName())
+                .build())
+                .thingGroups()) {
+            client.removeThingFromThingGroup(RemoveThingFromThingGroupRequest.builder()
+                    .thingName(identity.thingName())
+                    .thingGroupName(group.groupName())
+                    .build());
+        }
+        for (JobExecutionStatus status : Arrays.asList(JobExecutionStatus.QUEUED, JobExecutionStatus.IN_PROGRESS)) {
+            for (JobExecutionSummaryForThing execution : client.listJobExecutionsForThingPaginator(
+                    ListJobExecutionsForThingRequest.builder()
+                            .thingName(identity.thingName())
+                            .status(status)
+                            .build())
+                    .executionSummaries()) {
+                client.cancelJobExecution(CancelJobExecutionRequest.builder()
+                        .jobId(execution.jobId())
+                        .thingName(identity.thingName())
+                        .force(true)
+                        .build());
+            }
+        }
+    }
+
+    @Override
+    public void retire(List<IotThingSpec> identities) throws IOException {
+        if (Objects.nonNull(store)) {
+            final ArrayNode nodes = mapper.createArrayNode();
+            identities.forEach(identity -> nodes.add(toJson(identity)));
+            final Path directory = store.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            // The store holds private keys, it is written owner only and moved over any earlier one
+            final FileAttribute<?>[] ownerOnly = FileSystems.getDefault().supportedFileAttributeViews()
+                    .contains("posix")
+                    ? new FileAttribute<?>[] {PosixFilePermissions.asFileAttribute(
+                            PosixFilePermissions.fromString("rw-------"))}
+                    : new FileAttribute<?>[0];
+            final Path written = Files.createTempFile(directory, store.getFileName().toString(), ".tmp", ownerOnly);
+            try {
+                mapper.writerWithDefaultPrettyPrinter().writeValue(written.toFile(), nodes);
+                Files.move(written, store, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(written);
+            }
+            LOGGER.info("Kept {} identities in {}", identities.size(), store);
+        }
+        // Removes the identities created by this run, unless they are persisted
+        resources.close();
+    }
+
+    private ObjectNode toJson(IotThingSpec identity) {
+        final IotThing thing = identity.resource();
+        final IotCertificate certificate = thing.certificate();
+        final IotRoleAliasSpec alias = identity.roleAliasSpec();
+        final ObjectNode node = mapper.createObjectNode()
+                .put("thingName", thing.thingName())
+                .put("thingArn", thing.thingArn())
+                .put("thingId", thing.thingId())
+                .put("certificateArn", certificate.certificateArn())
+                .put("certificateId", certificate.certificateId())
+                .put("certificatePem", certificate.certificatePem())
+                .put("privateKey", certificate.keyPair().privateKey())
+                .put("publicKey", certificate.keyPair().publicKey());
+        return node.put("roleAlias", alias.resource().roleAlias())
+                .put("roleAliasArn", alias.resource().roleAliasArn())
+                .put("roleName", alias.iamRole().roleName())
+                .put("roleArn", alias.iamRole().roleArn());
+    }
+
+    private IotThingSpec fromJson(JsonNode node) {
+        final String thingName = node.get("thingName").asText();
+        return IotThingSpec.builder()
+                .thingName(thingName)
+                .created(true)
+                .roleAliasSpec(IotRoleAliasSpec.builder()
+                        .name(node.get("roleAlias").asText())
+                        .iamRole(IamRole.builder()
+                                .roleName(node.get("roleName").asText())
+                                .roleArn(node.get("roleArn").asText())
+                                .build())
+                        .created(true)
+                        .resource(IotRoleAlias.builder()
+                                .roleAlias(node.get("roleAlias").asText())
+                                .roleAliasArn(node.get("roleAliasArn").asText())
+                                .build())
+                        .build())
+                .resource(IotThing.builder()
+                        .thingName(thingName)
+                        .thingArn(node.get("thingArn").asText())
+                        .thingId(node.get("thingId").asText())
+                        .certificate(IotCertificate.builder()
+                                .certificateArn(node.get("certificateArn").asText())
+                                .certificateId(node.get("certificateId").asText())
+                                .certificatePem(node.get("certificatePem").asText())
+                                .keyPair(KeyPair.builder()
+                                        .privateKey(node.get("privateKey").asText())
+                                        .publicKey(node.get("publicKey").asText())
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+    }
+}
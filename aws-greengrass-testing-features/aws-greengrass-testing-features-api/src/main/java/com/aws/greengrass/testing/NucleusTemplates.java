@@ -0,0 +1,174 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing;
+
+import com.aws.greengrass.testing.api.model.CleanupContext;
+import com.aws.greengrass.testing.platform.PlatformFiles;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Greengrass installations bootstrapped once per device, run and install settings, which scenarios clone instead
+ * of installing Greengrass from scratch. Only the nucleus distribution is hard linked into the clone, the nucleus
+ * never writes to it. Everything else, like the packages whose recipes and permissions the nucleus rewrites, is
+ * copied so a scenario can't change the template under the scenarios cloning it later. The template configuration
+ * is left out, so every clone starts from the config.yaml, certificates and root CA written by its own scenario.
+ * The extracted nucleus every installation starts from is staged once per device, and removed with the templates.
+ */
+public class NucleusTemplates implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(NucleusTemplates.class);
+    static final List<Path> LINKED = Collections.singletonList(Paths.get("alts", "init", "distro"));
+    static final List<Path> SKIPPED = Collections.singletonList(Paths.get("config"));
+
+    private final boolean enabled;
+    private final CleanupContext cleanupContext;
+    // A device has one template per install settings
+    private final Map<String, Template> templateRoots = new ConcurrentHashMap<>();
+    private final Map<String, Template> stagingRoots = new ConcurrentHashMap<>();
+
+    private static final class Template {
+        final PlatformFiles files;
+        final Path root;
+        final CompletableFuture<Boolean> installed = new CompletableFuture<>();
+
+        Template(PlatformFiles files, Path root) {
+            this.files = files;
+            this.root = root;
+        }
+    }
+
+    public NucleusTemplates(boolean enabled, CleanupContext cleanupContext) {
+        this.enabled = enabled;
+        this.cleanupContext = cleanupContext;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Clone the template of a device into the install root of a scenario. The first scenario on the device
+     * installs the template, the scenarios running alongside it wait for that install to finish. Scenarios only
+     * share a template when they install Greengrass with the same settings.
+     *
+     * @param deviceId id of the device the template is on
+     * @param files the {@link PlatformFiles} of the device
+     * @param root where templates are installed on the device, suffixed by the settings of each template
+     * @param settings everything the install depends on, like the user, log level and trusted plugins
+     * @param installRoot the install root of the scenario
+     * @param install installs Greengrass into the root it is given
+     * @return false if templates are disabled or can't be used on the device, and Greengrass needs to be installed
+     */
+    public boolean cloneInto(String deviceId, PlatformFiles files, Path root, String settings, Path installRoot,
+            Consumer<Path> install) {
+        if (!enabled) {
+            return false;
+        }
+        final Path templateRoot = root(root, settings);
+        final Template template = new Template(files, templateRoot);
+        final Template existing = templateRoots.putIfAbsent(deviceId + ":" + templateRoot, template);
+        if (Objects.nonNull(existing)) {
+            return existing.installed.join() && files.cloneTree(existing.root, installRoot, LINKED, SKIPPED);
+        }
+        return install(deviceId, template, installRoot, install);
+    }
+
+    /**
+     * Stage the nucleus in a directory of a device once per run. The scenarios running alongside the first one
+     * wait for it to be staged, a failure lets the next scenario try again.
+     *
+     * @param deviceId id of the device the nucleus is staged on
+     * @param files the {@link PlatformFiles} of the device
+     * @param stagingRoot where the nucleus is staged
+     * @param stage stages the nucleus, returning the transferred files
+     * @return the staging root
+     */
+    public Path stage(String deviceId, PlatformFiles files, Path stagingRoot, Supplier<List<Path>> stage) {
+        final Template staged = new Template(files, stagingRoot);
+        final Template existing = stagingRoots.putIfAbsent(deviceId + ":" + stagingRoot, staged);
+        if (Objects.nonNull(existing)) {
+            existing.installed.join();
+            return stagingRoot;
+        }
+        try {
+            final List<Path> transferred = stage.get();
+            LOGGER.info("Synced {} changed nucleus files to {}", transferred.size(), stagingRoot);
+            staged.installed.complete(true);
+            return stagingRoot;
+        } catch (RuntimeException e) {
+            stagingRoots.remove(deviceId + ":" + stagingRoot, staged);
+            staged.installed.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    static Path root(Path root, String settings) {
+        final String suffix = UUID.nameUUIDFromBytes(settings.getBytes(StandardCharsets.UTF_8)).toString();
+        return root.resolveSibling(root.getFileName() + "-" + suffix.substring(0, 8));
+    }
+
+    private boolean install(String deviceId, Template template, Path installRoot, Consumer<Path> install) {
+        final PlatformFiles files = template.files;
+        final Path root = template.root;
+        try {
+            files.makeDirectories(root);
+            install.accept(root);
+            LOGGER.info("Installed Greengrass template in {}", root);
+            final boolean cloned = files.cloneTree(root, installRoot, LINKED, SKIPPED);
+            if (!cloned) {
+                LOGGER.warn("Device {} can't clone directories, installing every scenario from scratch", deviceId);
+            }
+            template.installed.complete(cloned);
+            return cloned;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to install the Greengrass template in {}, installing every scenario from scratch",
+                    root, e);
+            template.installed.complete(false);
+            return false;
+        }
+    }
+
+    /**
+     * Remove the templates and the staged nucleus of every device, unless installed software is kept. Clones link
+     * to the staged nucleus, so it only goes once the run is over.
+     */
+    @Override
+    public void close() {
+        if (cleanupContext.persistInstalledSoftware()) {
+            return;
+        }
+        remove(templateRoots, "Greengrass template");
+        remove(stagingRoots, "staged nucleus");
+    }
+
+    private static void remove(Map<String, Template> roots, String description) {
+        final Iterator<Template> templates = roots.values().iterator();
+        while (templates.hasNext()) {
+            final Template template = templates.next();
+            templates.remove();
+            try {
+                template.files.delete(template.root);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to remove the {} in {}", description, template.root, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.component;
+
+import com.aws.greengrass.testing.api.model.CleanupContext;
+import com.aws.greengrass.testing.resources.AWSResources;
+import com.aws.greengrass.testing.resources.s3.S3Bucket;
+import com.aws.greengrass.testing.resources.s3.S3BucketSpec;
+import com.aws.greengrass.testing.resources.s3.S3Lifecycle;
+import com.aws.greengrass.testing.resources.s3.S3ObjectSpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Run wide cache of component artifacts uploaded to S3, keyed by the SHA-256 of their content. The same bytes
+ * are only uploaded once per bucket no matter how many scenarios reference them, and artifacts left in a bucket
+ * by an earlier run are reused as is. Artifacts uploaded by the cache, and the run wide bucket it creates, are
+ * removed when the run ends unless AWS resources are persisted.
+ */
+public class ArtifactCache implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(ArtifactCache.class);
+    private static final String KEY_PREFIX = "artifacts/sha256/";
+    private static final int BUFFER = 64 * 1024;
+
+    private final S3Client client;
+    private final CleanupContext cleanupContext;
+    private final String runBucketName;
+    private final Map<String, Digest> digests = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<String>> uploads = new ConcurrentHashMap<>();
+    private final Set<String> owned = ConcurrentHashMap.newKeySet();
+    private volatile S3Bucket runBucket;
+
+    private static final class Digest {
+        final long size;
+        final long lastModified;
+        final String value;
+
+        Digest(long size, long lastModified, String value) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Create an empty cache.
+     *
+     * @param client {@link S3Client} used for uploads that outlive a single scenario
+     * @param cleanupContext {@link CleanupContext} deciding if cached artifacts are removed at the end of the run
+     * @param runBucketName name of the bucket created when a scenario has no bucket of its own
+     */
+    public ArtifactCache(S3Client client, CleanupContext cleanupContext, String runBucketName) {
+        this.client = client;
+        this.cleanupContext = cleanupContext;
+        this.runBucketName = runBucketName;
+    }
+
+    /**
+     * Get the run wide bucket, creating it the first time it is needed.
+     *
+     * @param resources the scenario {@link AWSResources}, used for tagging
+     * @return name of the run wide bucket
+     */
+    public synchronized String runBucket(AWSResources resources) {
+        if (Objects.isNull(runBucket)) {
+            // Created outside of the scenario tracking, so the bucket survives into the next scenario
+            runBucket = S3BucketSpec.of(runBucketName).create(client, resources).resource();
+            LOGGER.info("Created artifact cache bucket {}", runBucketName);
+        }
+        return runBucket.bucketName();
+    }
+
+    /**
+     * Upload an artifact to a content addressed key, unless the same content is already in the bucket.
+     *
+     * @param artifact local {@link Path} of the artifact
+     * @param bucketName the bucket that will hold the artifact
+     * @param resources the scenario {@link AWSResources}
+     * @return the S3 URI of the artifact
+     * @throws IOException failure to read the artifact
+     */
+    public String upload(Path artifact, String bucketName, AWSResources resources) throws IOException {
+        final String key = KEY_PREFIX + digest(artifact) + "/" + artifact.getFileName();
+        final String uri = "s3://" + bucketName + "/" + key;
+        final CompletableFuture<String> upload = new CompletableFuture<>();
+        final CompletableFuture<String> existing = uploads.putIfAbsent(uri, upload);
+        if (Objects.nonNull(existing)) {
+            LOGGER.debug("{} is already cached as {}", artifact, uri);
+            return join(existing);
+        }
+        try {
+            if (resources.lifecycle(S3Lifecycle.class).objectExists(bucketName, key)) {
+                LOGGER.debug("{} already exist in {}", key, bucketName);
+            } else {
+                // Not tracked by the scenario, so a later scenario can still find the object
+                S3ObjectSpec.of(key, bucketName, artifact).create(client, resources);
+                owned.add(uri);
+                LOGGER.info("Uploaded {} to {}", artifact, uri);
+            }
+            upload.complete(uri);
+            return uri;
+        } catch (RuntimeException e) {
+            uploads.remove(uri, upload);
+            upload.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static String join(CompletableFuture<String> upload) throws IOException {
+        try {
+            return upload.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    String digest(Path artifact) throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(artifact, BasicFileAttributes.class);
+        final String path = artifact.toAbsolutePath().normalize().toString();
+        final Digest cached = digests.get(path);
+        if (Objects.nonNull(cached) && cached.size == attributes.size()
+                && cached.lastModified == attributes.lastModifiedTime().toMillis()) {
+            return cached.value;
+        }
+        final MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream input = new DigestInputStream(Files.newInputStream(artifact), sha256)) {
+            final byte[] buffer = new byte[BUFFER];
+            while (input.read(buffer) >= 0) {
+                // Only read for the digest
+            }
+        }
+        final StringBuilder hex = new StringBuilder();
+        for (byte b : sha256.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        digests.put(path, new Digest(attributes.size(), attributes.lastModifiedTime().toMillis(), hex.toString()));
+        return hex.toString();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (cleanupContext.persistAWSResources()) {
+            return;
+        }
+        for (String uri : owned) {
+            final String[] bucketAndKey = uri.substring("s3://".length()).split("/", 2);
+            try {
+                client.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(bucketAndKey[0])
+                        .key(bucketAndKey[1])
+                        .build());
+            } catch (SdkException e) {
+                // The bucket may have belonged to a scenario and already be gone
+                LOGGER.debug("Failed to remove cached artifact {}", uri, e);
+            }
+        }
+        owned.clear();
+        uploads.clear();
+        if (Objects.nonNull(runBucket)) {
+            try {
+                runBucket.remove(client);
+                LOGGER.info("Removed artifact cache bucket {}", runBucket.bucketName());
+            } catch (SdkException e) {
+                throw new IOException("Failed to remove " + runBucket.bucketName(), e);
+            }
+            runBucket = null;
+        }
+    }
+}
@@ -22,8 +22,9 @@ public class ClasspathComponentPreparationService extends RecipeComponentPrepara
             @Named(JacksonModule.YAML) ObjectMapper mapper,
             TestContext testContext,
             GreengrassContext greengrassContext,
-            ComponentOverrides overrides) {
+            ComponentOverrides overrides,
+            ArtifactCache artifactCache) {
         super(ClasspathComponentPreparationService.class::getResourceAsStream,
-                resources, mapper, testContext, greengrassContext, overrides);
+                resources, mapper, testContext, greengrassContext, overrides, artifactCache);
     }
 }
@@ -14,14 +14,11 @@ import com.aws.greengrass.testing.model.TestContext;
 import com.aws.greengrass.testing.modules.FeatureParameters;
 import com.aws.greengrass.testing.resources.greengrass.GreengrassV2Lifecycle;
 import com.google.common.annotations.VisibleForTesting;
-import com.vdurmont.semver4j.Requirement;
 import com.vdurmont.semver4j.Semver;
 import software.amazon.awssdk.arns.Arn;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.greengrassv2.model.Component;
 import software.amazon.awssdk.services.greengrassv2.model.ComponentLatestVersion;
-import software.amazon.awssdk.services.greengrassv2.model.ComponentVersionListItem;
-import software.amazon.awssdk.services.greengrassv2.model.ComponentVisibilityScope;
 
 import java.util.Optional;
 import javax.inject.Inject;
@@ -31,6 +28,7 @@ public class CloudComponentPreparationService implements ComponentPreparationSer
     private static final String NUCLEUS_VERSION = "NUCLEUS_VERSION";
     private static final String GG_CLI_VERSION = "GG_CLI_VERSION";
     private final GreengrassV2Lifecycle ggv2;
+    private final ComponentCatalog catalog;
     private final Region currentRegion;
     private final GreengrassContext ggContext;
     private final ParameterValues parameterValues;
@@ -39,17 +37,20 @@ public class CloudComponentPreparationService implements ComponentPreparationSer
     /**
      * Constructor.
      * @param ggv2 {@link GreengrassV2Lifecycle}
+     * @param catalog run wide {@link ComponentCatalog}
      * @param currentRegion {@link Region}
      * @param ggContext Greengrass context
      * @param parameterValues ParameterValues
      * @param testContext TestContext
      */
     @Inject
-    public CloudComponentPreparationService(final GreengrassV2Lifecycle ggv2, final Region currentRegion,
+    public CloudComponentPreparationService(final GreengrassV2Lifecycle ggv2, final ComponentCatalog catalog,
+                                            final Region currentRegion,
                                             final GreengrassContext ggContext, final ParameterValues parameterValues,
                                             final TestContext testContext) {
         this.currentRegion = currentRegion;
         this.ggv2 = ggv2;
+        this.catalog = catalog;
         this.ggContext = ggContext;
         this.parameterValues = parameterValues;
         this.testContext = testContext;
@@ -58,11 +59,7 @@ public class CloudComponentPreparationService implements ComponentPreparationSer
     @VisibleForTesting
     Optional<Component> pinpointComponent(ComponentOverrideNameVersion nameVersion) {
         // We'll scan through private component override
-        final Optional<Component> privateComponent = ggv2.listComponents(ComponentVisibilityScope.PRIVATE)
-                .components()
-                .stream()
-                .filter(component -> component.componentName().equals(nameVersion.name()))
-                .findFirst();
+        final Optional<Component> privateComponent = catalog.privateComponent(nameVersion.name());
         if (privateComponent.isPresent()) {
             return privateComponent;
         }
@@ -97,19 +94,9 @@ public class CloudComponentPreparationService implements ComponentPreparationSer
     }
 
     private String pinpointViableVersion(ComponentOverrideNameVersion nameVersion, Component component) {
-        Requirement requirement = Requirement.buildNPM(nameVersion.version().value());
-        Semver targetVersion = null;
-        for (ComponentVersionListItem item : ggv2.listComponentVersions(component.arn()).componentVersions()) {
-            Semver currentVersion = new Semver(item.componentVersion(), Semver.SemverType.NPM);
-            if (currentVersion.satisfies(requirement)
-                    && (targetVersion == null || currentVersion.isGreaterThanOrEqualTo(targetVersion))) {
-                targetVersion = currentVersion;
-            }
-        }
-        if (targetVersion == null) {
-            targetVersion = new Semver(component.latestVersion().componentVersion(), Semver.SemverType.NPM);
-        }
-        return targetVersion.toString();
+        return catalog.resolve(component.arn(), nameVersion.version().value())
+                .orElseGet(() -> new Semver(component.latestVersion().componentVersion(), Semver.SemverType.NPM))
+                .toString();
     }
 
     @Override
@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.component;
+
+import com.aws.greengrass.testing.resources.greengrass.GreengrassV2Lifecycle;
+import com.vdurmont.semver4j.Requirement;
+import com.vdurmont.semver4j.Semver;
+import com.vdurmont.semver4j.SemverException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import software.amazon.awssdk.services.greengrassv2.model.Component;
+import software.amazon.awssdk.services.greengrassv2.model.ComponentVersionListItem;
+import software.amazon.awssdk.services.greengrassv2.model.ComponentVisibilityScope;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Run wide index of the private components of the account, and of the versions of every component looked up. The
+ * private components are indexed by name, and the versions of a component are parsed once and kept sorted, so
+ * resolving a component is a map lookup and an exact version a binary search. Listings come from the
+ * {@link GreengrassV2Lifecycle}, whose metadata cache is invalidated when the run creates a component. An index is
+ * only rebuilt when a lookup misses and the listing it was built from changed.
+ */
+public class ComponentCatalog {
+    private static final Logger LOGGER = LogManager.getLogger(ComponentCatalog.class);
+
+    private final GreengrassV2Lifecycle ggv2;
+    private final Map<String, Versions> versions = new ConcurrentHashMap<>();
+    private volatile Components components;
+
+    private static final class Components {
+        final List<Component> listing;
+        final Map<String, Component> byName;
+
+        Components(List<Component> listing) {
+            this.listing = listing;
+            this.byName = new HashMap<>();
+            // Keeps the first component of a name, like the scan of the listing did
+            listing.forEach(component -> byName.putIfAbsent(component.componentName(), component));
+        }
+    }
+
+    private static final class Versions {
+        final List<ComponentVersionListItem> listing;
+        // Ascending, so exact versions can be binary searched
+        final List<Semver> sorted;
+
+        Versions(List<ComponentVersionListItem> listing) {
+            this.listing = listing;
+            this.sorted = new ArrayList<>(listing.size());
+            for (ComponentVersionListItem item : listing) {
+                try {
+                    sorted.add(new Semver(item.componentVersion(), Semver.SemverType.NPM));
+                } catch (SemverException e) {
+                    LOGGER.warn("Ignoring component version {} of {}", item.componentVersion(), item.arn());
+                }
+            }
+            sorted.sort(Comparator.naturalOrder());
+        }
+    }
+
+    public ComponentCatalog(GreengrassV2Lifecycle ggv2) {
+        this.ggv2 = ggv2;
+    }
+
+    /**
+     * Find a private component by name.
+     *
+     * @param name name of the component
+     * @return the private {@link Component}, or empty when the account has none by that name
+     */
+    public Optional<Component> privateComponent(String name) {
+        Components current = components;
+        if (current != null && current.byName.containsKey(name)) {
+            return Optional.of(current.byName.get(name));
+        }
+        current = refreshComponents(current);
+        return Optional.ofNullable(current.byName.get(name));
+    }
+
+    private synchronized Components refreshComponents(Components seen) {
+        if (components != seen) {
+            return components;
+        }
+        final List<Component> listing = ggv2.components(ComponentVisibilityScope.PRIVATE);
+        if (seen == null || seen.listing != listing) {
+            components = new Components(listing);
+            LOGGER.debug("Indexed {} private components", components.byName.size());
+        }
+        return components;
+    }
+
+    /**
+     * Resolve the greatest version of a component satisfying an NPM range.
+     *
+     * @param arn ARN of the component
+     * @param range NPM range, ie: ^2.0.0, or an exact version
+     * @return the greatest version satisfying the range, or empty when there is none
+     */
+    public Optional<Semver> resolve(String arn, String range) {
+        Versions current = versions.get(arn);
+        Optional<Semver> resolved = current == null ? Optional.empty() : resolve(current, range);
+        if (resolved.isPresent()) {
+            return resolved;
+        }
+        final List<ComponentVersionListItem> listing = ggv2.componentVersions(arn);
+        if (current == null || current.listing != listing) {
+            current = new Versions(listing);
+            versions.put(arn, current);
+            resolved = resolve(current, range);
+        }
+        return resolved;
+    }
+
+    private static Optional<Semver> resolve(Versions versions, String range) {
+        final List<Semver> sorted = versions.sorted;
+        final Semver exact = exactVersion(range);
+        if (exact != null) {
+            final int index = Collections.binarySearch(sorted, exact);
+            return index >= 0 ? Optional.of(sorted.get(index)) : Optional.empty();
+        }
+        // Ranges can be unions, so the versions satisfying one are not contiguous; the first match from the top
+        // is the greatest one
+        final Requirement requirement = Requirement.buildNPM(range);
+        for (int i = sorted.size() - 1; i >= 0; i--) {
+            if (sorted.get(i).satisfies(requirement)) {
+                return Optional.of(sorted.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Semver exactVersion(String range) {
+        try {
+            final Semver version = new Semver(range.trim(), Semver.SemverType.STRICT);
+            return new Semver(version.getValue(), Semver.SemverType.NPM);
+        } catch (SemverException e) {
+            return null;
+        }
+    }
+}
@@ -10,8 +10,10 @@ import com.aws.greengrass.testing.api.model.ComponentOverrideNameVersion;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.inject.Inject;
 
 public class CompositeComponentPreparationService implements ComponentPreparationService {
@@ -32,4 +34,11 @@ public class CompositeComponentPreparationService implements ComponentPreparatio
                 })
                 .orElseThrow(() -> new IllegalArgumentException("Could not find service for " + name.version().type()));
     }
+
+    @Override
+    public Set<String> dependencies(final ComponentOverrideNameVersion name) {
+        return Optional.ofNullable(services.get(name.version().type()))
+                .map(service -> service.dependencies(name))
+                .orElseGet(Collections::emptySet);
+    }
 }
@@ -24,8 +24,9 @@ public class FileComponentPreparationService extends RecipeComponentPreparationS
             @Named(JacksonModule.YAML) ObjectMapper mapper,
             TestContext testContext,
             GreengrassContext greengrassContext,
-            ComponentOverrides overrides) {
+            ComponentOverrides overrides,
+            ArtifactCache artifactCache) {
         super(value -> Files.newInputStream(Paths.get(value)),
-                resources, mapper, testContext, greengrassContext, overrides);
+                resources, mapper, testContext, greengrassContext, overrides, artifactCache);
     }
 }
@@ -17,7 +17,6 @@ import com.aws.greengrass.testing.resources.greengrass.GreengrassComponentSpec;
 import com.aws.greengrass.testing.resources.greengrass.GreengrassV2Lifecycle;
 import com.aws.greengrass.testing.resources.s3.S3BucketSpec;
 import com.aws.greengrass.testing.resources.s3.S3Lifecycle;
-import com.aws.greengrass.testing.resources.s3.S3ObjectSpec;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
@@ -33,10 +32,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RecipeComponentPreparationService extends PreparationServiceUtils implements ComponentPreparationService {
     private static final Logger LOGGER = LogManager.getLogger(RecipeComponentPreparationService.class);
@@ -53,6 +56,10 @@ public class RecipeComponentPreparationService extends PreparationServiceUtils i
     private final GreengrassContext greengrassContext;
     private final ComponentOverrides overrides;
     private final AWSResources resources;
+    private final ArtifactCache artifactCache;
+    // Recipes read for their dependencies, taken by the preparation of the same version instead of reading again
+    private final Map<String, Map<String, Object>> parsedRecipes = new ConcurrentHashMap<>();
+    private String bucketName;
 
     @FunctionalInterface
     public interface ContentLoader {
@@ -65,13 +72,15 @@ public class RecipeComponentPreparationService extends PreparationServiceUtils i
             ObjectMapper mapper,
             TestContext testContext,
             GreengrassContext greengrassContext,
-            ComponentOverrides overrides) {
+            ComponentOverrides overrides,
+            ArtifactCache artifactCache) {
         this.loader = loader;
         this.resources = resources;
         this.mapper = mapper;
         this.testContext = testContext;
         this.greengrassContext = greengrassContext;
         this.overrides = overrides;
+        this.artifactCache = artifactCache;
     }
 
     @VisibleForTesting
@@ -103,48 +112,61 @@ public class RecipeComponentPreparationService extends PreparationServiceUtils i
                 // Do nothing
                 return uri;
         }
-        String s3Key = parts[1];
-        if (parts[1].indexOf('/') == 0) {
-            s3Key = parts[1].substring(1);
-        }
-
-        String s3Path = "s3://" + (bucketName + "/" + s3Key);
-        S3Lifecycle s3 = resources.lifecycle(S3Lifecycle.class);
-        if (s3.objectExists(bucketName, s3Key)) {
-            LOGGER.debug("{} already exist in {}", s3Key, bucketName);
-            return s3Path;
-        }
-
-        resources.create(S3ObjectSpec.of(s3Key, bucketName, componentArtifact));
-        LOGGER.info("Uploaded {} to {}", componentArtifact, s3Path);
-        return s3Path;
+        return artifactCache.upload(componentArtifact, bucketName, resources);
     }
 
-
     @VisibleForTesting
-    String getOrCreateBucket() {
+    synchronized String getOrCreateBucket() {
+        if (Objects.nonNull(bucketName)) {
+            return bucketName;
+        }
         S3Lifecycle s3 = resources.lifecycle(S3Lifecycle.class);
-        return Optional.ofNullable(overrides.bucketName())
+        bucketName = Optional.ofNullable(overrides.bucketName())
                 .orElseGet(() -> {
-                    final String bucketName = testContext.testId().idFor("gg-component-store");
-                    if (s3.bucketExists(bucketName)) {
-                        return bucketName;
+                    // Prefer a bucket the scenario created for itself, otherwise share one across the run
+                    final String scenarioBucket = testContext.testId().idFor("gg-component-store");
+                    if (s3.bucketExists(scenarioBucket)) {
+                        return scenarioBucket;
                     }
                     return resources.trackingSpecs(S3BucketSpec.class)
-                            .filter(bucket -> bucket.bucketName().equals(bucketName))
+                            .filter(bucket -> bucket.bucketName().equals(scenarioBucket))
                             .map(S3BucketSpec::bucketName)
                             .findFirst()
-                            .orElseGet(resources.create(S3BucketSpec.of(bucketName))::bucketName);
+                            .orElseGet(() -> artifactCache.runBucket(resources));
                 });
+        return bucketName;
     }
 
     @SuppressWarnings("unchecked")
     @Override
-    public Optional<ComponentOverrideNameVersion> prepare(ComponentOverrideNameVersion overrideNameVersion) {
+    public Set<String> dependencies(ComponentOverrideNameVersion overrideNameVersion) {
         try {
+            final Map<String, Object> recipe = readRecipe(overrideNameVersion.version().value());
+            parsedRecipes.put(overrideNameVersion.version().value(), recipe);
+            Map<String, Object> dependencies = (Map<String, Object>) recipe.get(COMPONENT_DEPENDENCIES);
+            return dependencies == null ? Collections.emptySet() : new HashSet<>(dependencies.keySet());
+        } catch (IOException | RuntimeException e) {
+            // The recipe is loaded again by prepare, which reports the failure
+            LOGGER.debug("Failed to read the dependencies of {}", overrideNameVersion, e);
+            return Collections.emptySet();
+        }
+    }
 
-            Map<String, Object> recipe = mapper.readValue(loader.load(overrideNameVersion.version().value()),
-                    new TypeReference<Map<String, Object>>() {});
+    private Map<String, Object> readRecipe(String version) throws IOException {
+        try (InputStream content = loader.load(version)) {
+            return mapper.readValue(content, new TypeReference<Map<String, Object>>() {});
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<ComponentOverrideNameVersion> prepare(ComponentOverrideNameVersion overrideNameVersion) {
+        try {
+            // The recipe is modified below, a parsed one is only used once
+            Map<String, Object> recipe = parsedRecipes.remove(overrideNameVersion.version().value());
+            if (Objects.isNull(recipe)) {
+                recipe = readRecipe(overrideNameVersion.version().value());
+            }
             recipe.compute(COMPONENT_VERSION, (key, originalValue) -> {
                 return originalValue + "-" + testContext.testId().id();
             });
@@ -0,0 +1,26 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Source of IoT job execution events, so waiting on a cloud deployment does not have to poll for its status.
+ * Features contribute implementations to a Guice set binding; without any, deployments are only polled.
+ */
+public interface DeploymentEvents {
+    /**
+     * Listen for the IoT job execution of a deployment on a core device reaching a terminal status. Cancelling the
+     * returned future stops listening.
+     *
+     * @param thingName name of the core device
+     * @param jobId ID of the IoT job of the deployment
+     * @return a future completed with the terminal job execution status, ie: SUCCEEDED, or empty when this source
+     *     is not enabled
+     */
+    Optional<CompletableFuture<String>> track(String thingName, String jobId);
+}
@@ -29,6 +29,7 @@ import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.services.greengrassv2.model.ComponentConfigurationUpdate;
 import software.amazon.awssdk.services.greengrassv2.model.ComponentDeploymentSpecification;
@@ -41,15 +42,24 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Inject;
 
 import static com.aws.greengrass.testing.component.LocalComponentPreparationService.ARTIFACTS_DIR;
@@ -63,6 +73,8 @@ public class DeploymentSteps {
     private static final String CURRENT = "CURRENT";
     private static final String IOT_JOB_EXECUTION_STATUS_SUCCEEDED = "SUCCEEDED";
     private static final String LOCAL_STORE_RECIPES = "local:/local-store/recipes/";
+    private static final int PREPARATION_THREADS = 4;
+    private static final Duration TRACKED_POLL_INTERVAL = Duration.ofSeconds(5);
     private final AWSResources resources;
     private final ComponentPreparationService componentPreparation;
     private final ComponentOverrides overrides;
@@ -70,6 +82,8 @@ public class DeploymentSteps {
     private final WaitSteps waits;
     private final ObjectMapper mapper;
     private final ScenarioContext scenarioContext;
+    private final Set<DeploymentEvents> deploymentEvents;
+    private final LocalDeploymentAgentClient agent;
     private final Path configFilePath;
     private final Map<String, String> localComponentVersions = new HashMap<>();
 
@@ -91,7 +105,9 @@ public class DeploymentSteps {
             final ScenarioContext scenarioContext,
             final WaitSteps waits,
             final ObjectMapper mapper,
-            final Platform platform) {
+            final Platform platform,
+            final Set<DeploymentEvents> deploymentEvents,
+            final LocalDeploymentAgentClient agent) {
         this.resources = resources;
         this.overrides = overrides;
         this.testContext = testContext;
@@ -100,6 +116,8 @@ public class DeploymentSteps {
         this.waits = waits;
         this.mapper = mapper;
         this.platform = platform;
+        this.deploymentEvents = deploymentEvents;
+        this.agent = agent;
         this.artifactPath = testContext.installRoot().resolve(LOCAL_STORE).resolve(ARTIFACTS_DIR);
         this.recipePath = testContext.installRoot().resolve(LOCAL_STORE).resolve(RECIPE_DIR);
         this.configFilePath = Paths.get(testContext.testDirectory().toString(), "update_config.json");
@@ -180,6 +198,10 @@ public class DeploymentSteps {
             throw new IllegalStateException("Couldn't get version of component " + componentName);
         }
         LOGGER.info("Updating configuration of component {}:{}", componentName, componentVersion);
+        if (deployWithAgent(Collections.singletonMap(componentName, componentVersion),
+                configurationsOf(componentName, configurations))) {
+            return;
+        }
         CommandInput command = getCliDeploymentCommand(componentName, componentVersion, configurations);
         createLocalDeploymentWithConfigs(0, command);
     }
@@ -198,12 +220,48 @@ public class DeploymentSteps {
             String componentName = localComponentSpec.getKey();
             String componentVersion = localComponentSpec.getValue().componentVersion();
             Map<String, Object> configurations = readConfiguration(configurationTable);
-            CommandInput command = getCliDeploymentCommand(componentName, componentVersion, configurations);
             localComponentVersions.put(componentName, componentVersion);
+            if (deployWithAgent(Collections.singletonMap(componentName, componentVersion),
+                    configurationsOf(componentName, configurations))) {
+                continue;
+            }
+            CommandInput command = getCliDeploymentCommand(componentName, componentVersion, configurations);
             createLocalDeploymentWithConfigs(0, command);
         }
     }
 
+    private static Map<String, Map<String, Object>> configurationsOf(String componentName,
+                                                                     Map<String, Object> configuration) {
+        return configuration.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.singletonMap(componentName, configuration);
+    }
+
+    /**
+     * Create a local deployment through the local deployment agent when it runs on the device.
+     *
+     * @param components root component names to their versions
+     * @param configurations configuration updates by component name
+     * @return false when the agent is not deployed, and greengrass-cli has to be used
+     * @throws IOException the local store or the request could not be written
+     * @throws InterruptedException thread interrupted while waiting on the agent
+     */
+    private boolean deployWithAgent(Map<String, String> components,
+                                    Map<String, Map<String, Object>> configurations)
+            throws IOException, InterruptedException {
+        // An earlier deployment may have deployed the agent since it was last looked for
+        agent.recheck();
+        if (!agent.available()) {
+            return false;
+        }
+        Files.createDirectories(artifactPath);
+        Files.createDirectories(recipePath);
+        String deploymentId = agent.createLocalDeployment(recipePath, artifactPath, components, configurations);
+        LOGGER.info("The local deployment response is " + deploymentId);
+        scenarioContext.put(LOCAL_DEPLOYMENT_ID, deploymentId);
+        return true;
+    }
+
     private CommandInput getCliDeploymentCommand(String componentName, String componentVersion,
                                                  Map<String, Object> configuration) throws IOException {
         List<String> commandArgs = new ArrayList<>(Arrays.asList(
@@ -285,6 +343,11 @@ public class DeploymentSteps {
             throws InterruptedException, IOException {
         // find the component artifacts and copy into a local store
         final Map<String, ComponentDeploymentSpecification> components = parseComponentNamesAndPrepare(componentNames);
+        final Map<String, String> rootComponents = new HashMap<>();
+        components.forEach((name, specification) -> rootComponents.put(name, specification.componentVersion()));
+        if (deployWithAgent(rootComponents, Collections.emptyMap())) {
+            return;
+        }
 
         // execute the command
         List<String> commandArgs = new ArrayList<>();
@@ -328,10 +391,18 @@ public class DeploymentSteps {
         return testContext.installRoot().resolve("bin").resolve("greengrass-cli").toString();
     }
 
+    /**
+     * Prepare the components of a table concurrently. A component waits for the components of the same table it
+     * depends on, so their versions created by the scenario are used in its recipe.
+     *
+     * @param componentNames collection of component name and version tuples
+     * @return the deployment specification of every component, in table order
+     * @throws IllegalStateException when more than one component failed to prepare, with every failure suppressed
+     */
     @VisibleForTesting
     Map<String, ComponentDeploymentSpecification> parseComponentNamesAndPrepare(
             List<List<String>> componentNames) {
-        Map<String, ComponentDeploymentSpecification> components = new HashMap<>();
+        final Map<String, ComponentOverrideNameVersion> rows = new LinkedHashMap<>();
         componentNames.forEach(tuple -> {
             String name = tuple.get(0);
             String value = tuple.get(1);
@@ -344,26 +415,111 @@ public class DeploymentSteps {
                 overrideNameVersion.version(ComponentOverrideVersion.of("cloud", parts[0]));
             }
             overrides.component(name).ifPresent(overrideNameVersion::from);
-            ComponentDeploymentSpecification.Builder builder = ComponentDeploymentSpecification.builder();
+            // A later row of the same component replaces an earlier one
+            rows.remove(name);
+            rows.put(name, overrideNameVersion.build());
+        });
 
-            if (CURRENT.equals(value)) {
-                final String componentName = overrideNameVersion.build().name();
-                String componentVersion = getComponentVersionFromBackendDeployment(componentName);
-                if (componentVersion == null) {
-                    throw new IllegalStateException("Couldn't get version of component " + componentName);
-                }
-                LOGGER.debug("Assume component {} has current version {}", componentName, componentVersion);
-                builder.componentVersion(componentVersion);
-            } else {
-                componentPreparation.prepare(overrideNameVersion.build()).ifPresent(nameVersion -> {
-                    builder.componentVersion(nameVersion.version().value());
+        final AtomicInteger threads = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(rows.size(), PREPARATION_THREADS)), runnable -> {
+                    final Thread thread = new Thread(runnable, "component-preparation-" + threads.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
                 });
+        // Preparations log with the ThreadContext of the scenario
+        final Map<String, String> context = ThreadContext.getImmutableContext();
+        final Executor scenarioExecutor = task -> executor.execute(() -> {
+            ThreadContext.putAll(context);
+            try {
+                task.run();
+            } finally {
+                ThreadContext.clearMap();
+            }
+        });
+        try {
+            final Map<String, CompletableFuture<ComponentDeploymentSpecification>> prepared = new HashMap<>();
+            rows.keySet().forEach(name -> schedulePreparation(name, rows, prepared, new HashSet<>(),
+                    scenarioExecutor));
+            final Map<String, ComponentDeploymentSpecification> components = new LinkedHashMap<>();
+            final List<RuntimeException> failures = new ArrayList<>();
+            rows.keySet().forEach(name -> {
+                try {
+                    components.put(name, prepared.get(name).join());
+                } catch (CompletionException e) {
+                    // Components depending on a failed one fail with the same cause, report it once
+                    final RuntimeException cause = e.getCause() instanceof RuntimeException
+                            ? (RuntimeException) e.getCause()
+                            : new IllegalStateException(e.getCause());
+                    if (failures.stream().noneMatch(failure -> failure == cause)) {
+                        failures.add(cause);
+                    }
+                }
+            });
+            if (failures.size() == 1) {
+                throw failures.get(0);
             }
+            if (!failures.isEmpty()) {
+                final IllegalStateException failure = new IllegalStateException(
+                        "Failed to prepare " + failures.size() + " components");
+                failures.forEach(failure::addSuppressed);
+                throw failure;
+            }
+            return components;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-            components.put(name, builder.build());
+    private CompletableFuture<ComponentDeploymentSpecification> schedulePreparation(
+            String name,
+            Map<String, ComponentOverrideNameVersion> rows,
+            Map<String, CompletableFuture<ComponentDeploymentSpecification>> prepared,
+            Set<String> visiting,
+            Executor executor) {
+        if (prepared.containsKey(name)) {
+            return prepared.get(name);
+        }
+        final ComponentOverrideNameVersion row = rows.get(name);
+        final boolean current = CURRENT.equals(row.version().value());
+        final List<CompletableFuture<ComponentDeploymentSpecification>> dependencies = new ArrayList<>();
+        visiting.add(name);
+        if (!current) {
+            for (String dependency : componentPreparation.dependencies(row)) {
+                if (!rows.containsKey(dependency)) {
+                    continue;
+                }
+                if (visiting.contains(dependency)) {
+                    LOGGER.warn("Cyclic dependency between {} and {}, preparing them in any order", name, dependency);
+                    continue;
+                }
+                dependencies.add(schedulePreparation(dependency, rows, prepared, visiting, executor));
+            }
+        }
+        visiting.remove(name);
+        final CompletableFuture<ComponentDeploymentSpecification> future = CompletableFuture
+                .allOf(dependencies.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(ignored -> prepareComponent(row, current), executor);
+        prepared.put(name, future);
+        return future;
+    }
 
-        });
-        return components;
+    private ComponentDeploymentSpecification prepareComponent(ComponentOverrideNameVersion row, boolean current) {
+        ComponentDeploymentSpecification.Builder builder = ComponentDeploymentSpecification.builder();
+        if (current) {
+            final String componentName = row.name();
+            String componentVersion = getComponentVersionFromBackendDeployment(componentName);
+            if (componentVersion == null) {
+                throw new IllegalStateException("Couldn't get version of component " + componentName);
+            }
+            LOGGER.debug("Assume component {} has current version {}", componentName, componentVersion);
+            builder.componentVersion(componentVersion);
+        } else {
+            componentPreparation.prepare(row).ifPresent(nameVersion -> {
+                builder.componentVersion(nameVersion.version().value());
+            });
+        }
+        return builder.build();
     }
 
     /**
@@ -457,15 +613,49 @@ public class DeploymentSteps {
         }
 
         TimeUnit timeUnit = TimeUnit.valueOf(unit.toUpperCase());
-        if (!waits.untilTerminal(
-                () -> this.effectivelyDeploymentStatus().orElse(null),
-                effectiveStatus::equals,
-                terminalStatuses::contains, value, timeUnit)) {
-            throw new IllegalStateException("Deployment " + testContext.testId().idFor("gg-deployment")
-                    + " did not reach " + status);
+        final Optional<CompletableFuture<String>> tracked = trackDeployment();
+        // Pushed events complete the wait, polling is only the fallback for a notification that never arrives
+        final CompletableFuture<EffectiveDeploymentExecutionStatus> pushed = tracked
+                .map(future -> future.thenApply(DeploymentSteps::effectiveStatus))
+                .orElseGet(CompletableFuture::new);
+        try {
+            if (!waits.untilTerminal(
+                    pushed,
+                    tracked.isPresent() ? TRACKED_POLL_INTERVAL : Duration.ofMillis(WaitSteps.DEFAULT_INTERVAL),
+                    () -> this.effectivelyDeploymentStatus().orElse(null),
+                    effectiveStatus::equals,
+                    terminalStatuses::contains, value, timeUnit)) {
+                throw new IllegalStateException("Deployment " + testContext.testId().idFor("gg-deployment")
+                        + " did not reach " + status);
+            }
+        } finally {
+            tracked.ifPresent(future -> future.cancel(true));
         }
     }
 
+    private Optional<CompletableFuture<String>> trackDeployment() {
+        if (deploymentEvents.isEmpty() || deployment == null || deployment.resource() == null) {
+            return Optional.empty();
+        }
+        final String jobId = resources.lifecycle(GreengrassV2Lifecycle.class)
+                .deployment(deployment.resource().deploymentId()).iotJobId();
+        if (StringUtils.isBlank(jobId)) {
+            return Optional.empty();
+        }
+        return deploymentEvents.stream()
+                .map(events -> events.track(testContext.coreThingName(), jobId))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .findFirst();
+    }
+
+    private static EffectiveDeploymentExecutionStatus effectiveStatus(String jobExecutionStatus) {
+        // SUCCEEDED is not a valid EffectiveDeploymentExecutionStatus enum
+        return jobExecutionStatus.equals(IOT_JOB_EXECUTION_STATUS_SUCCEEDED)
+                ? EffectiveDeploymentExecutionStatus.COMPLETED
+                : EffectiveDeploymentExecutionStatus.fromValue(jobExecutionStatus);
+    }
+
     @VisibleForTesting
     Optional<EffectiveDeploymentExecutionStatus> effectivelyDeploymentStatus() {
         GreengrassV2Lifecycle ggv2 = resources.lifecycle(GreengrassV2Lifecycle.class);
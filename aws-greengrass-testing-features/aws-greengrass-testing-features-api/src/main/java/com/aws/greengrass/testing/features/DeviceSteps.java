@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features;
+
+import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.device.DevicePool;
+import com.google.inject.Inject;
+import io.cucumber.guice.ScenarioScoped;
+import io.cucumber.java.After;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.util.Objects;
+
+@ScenarioScoped
+public class DeviceSteps implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(DeviceSteps.class);
+    private final DevicePool devicePool;
+    private DevicePool.DeviceLease lease;
+
+    @Inject
+    public DeviceSteps(final DevicePool devicePool) {
+        this.devicePool = devicePool;
+    }
+
+    /**
+     * The device of this scenario, leased from the {@link DevicePool} the first time it is needed.
+     *
+     * @return the leased {@link Device}
+     */
+    public synchronized Device device() {
+        if (Objects.isNull(lease)) {
+            lease = devicePool.lease();
+            LOGGER.info("Running scenario on device {}", lease.device().id());
+        }
+        return lease.device();
+    }
+
+    /**
+     * Return the device once everything else in the scenario, including its cleanup, is done with it.
+     */
+    @After(order = 2)
+    @Override
+    public synchronized void close() {
+        if (Objects.nonNull(lease)) {
+            lease.close();
+            lease = null;
+        }
+    }
+}
@@ -6,8 +6,11 @@
 package com.aws.greengrass.testing.features;
 
 import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.device.exception.CopyException;
+import com.aws.greengrass.testing.model.LogCollection;
 import com.aws.greengrass.testing.model.ScenarioContext;
 import com.aws.greengrass.testing.model.TestContext;
+import com.aws.greengrass.testing.platform.FileTailMatcher;
 import com.aws.greengrass.testing.platform.Platform;
 import io.cucumber.guice.ScenarioScoped;
 import io.cucumber.java.After;
@@ -21,12 +24,19 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import javax.inject.Inject;
@@ -36,12 +46,16 @@ public class FileSteps {
     private static final Logger LOGGER = LogManager.getLogger(FileSteps.class);
     private static final int DEFAULT_TIMEOUT = 30;
     private static final String DUT_PATH_PREFIX = "dut:";
+    // The whole log stays in the results path, reports only embed its end
+    private static final int ATTACH_MAX_BYTES = 1024 * 1024;
     private final Platform platform;
     private final TestContext testContext;
     private final ScenarioContext scenarioContext;
     private final WaitSteps waits;
+    private final LogCollection logCollection;
     private final SecureRandom random;
     private ArrayList<Path> logFiles = new ArrayList<>();
+    private final Map<Path, Map<String, FileTailMatcher>> tails = new ConcurrentHashMap<>();
 
     private enum ByteNotation implements Function<Long, Long> {
         B(1),
@@ -67,15 +81,26 @@ public class FileSteps {
             Platform platform,
             TestContext testContext,
             ScenarioContext scenarioContext,
-            WaitSteps waits) {
+            WaitSteps waits,
+            LogCollection logCollection) {
         this.platform = platform;
         this.testContext = testContext;
         this.scenarioContext = scenarioContext;
         this.waits = waits;
+        this.logCollection = logCollection;
         this.random = new SecureRandom();
         random.setSeed(System.currentTimeMillis());
     }
 
+    @SuppressWarnings("MissingJavadocMethod")
+    public FileSteps(
+            Platform platform,
+            TestContext testContext,
+            ScenarioContext scenarioContext,
+            WaitSteps waits) {
+        this(platform, testContext, scenarioContext, waits, LogCollection.builder().build());
+    }
+
     /**
      * Checks that a file exists on the DUT.
      *
@@ -107,8 +132,8 @@ public class FileSteps {
     public void containsTimeout(String file, String contents, int value, String unit) throws InterruptedException {
         checkFileExists(file);
         TimeUnit timeUnit = TimeUnit.valueOf(unit.toUpperCase());
-        boolean found = waits.untilTrue(() -> platform.files()
-                .readString(testContext.installRoot().resolve(file)).contains(contents), value, timeUnit);
+        Path filePath = testContext.installRoot().resolve(file);
+        boolean found = waits.untilTrue(() -> matches(filePath, contents) > 0, value, timeUnit);
         if (!found) {
             throw new IllegalStateException("file " + file + " did not contain " + contents);
         }
@@ -129,9 +154,8 @@ public class FileSteps {
                     throws InterruptedException {
         checkFileExists(file);
         TimeUnit timeUnit = TimeUnit.valueOf(unit.toUpperCase());
-        boolean found = waits.untilTrue(() ->
-                hasNMatches(platform.files().readString(testContext.installRoot().resolve(file)), contents, times),
-            value, timeUnit);
+        Path filePath = testContext.installRoot().resolve(file);
+        boolean found = waits.untilTrue(() -> matches(filePath, contents) >= times, value, timeUnit);
 
         if (!found) {
             throw new IllegalStateException("file " + file + " did not contain " + contents);
@@ -182,8 +206,7 @@ public class FileSteps {
      */
     @Then("the {word} log on the device not contains the line {string}")
     public void logNotContains(String component, String line) {
-        if (platform.files().readString(testContext.installRoot().resolve("logs").resolve(component + ".log"))
-                .contains(line)) {
+        if (matches(testContext.installRoot().resolve("logs").resolve(component + ".log"), line) > 0) {
             throw new IllegalStateException(component + " log contains '" + line + "'");
         }
     }
@@ -240,6 +263,18 @@ public class FileSteps {
     }
 
 
+    static byte[] tail(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final ByteBuffer tail = ByteBuffer.allocate((int) Math.min(size, ATTACH_MAX_BYTES));
+            long position = size - tail.capacity();
+            while (tail.hasRemaining() && channel.read(tail, position) >= 0) {
+                position = size - tail.remaining();
+            }
+            return tail.array();
+        }
+    }
+
     /**
      * Copy logs for the {@link Scenario} from the {@link Device} to the host.
      *
@@ -257,22 +292,24 @@ public class FileSteps {
             Path testCaseResultDir = testContext.testResultsPath()
                     .resolve(testContext.testId().prefix() + "-" + testContext.testId().id());
             Files.createDirectories(testCaseResultDir);
-            platform.files().listContents(logFolder).forEach(logFile -> {
-                byte[] bytes = platform.files().readBytes(logFile);
-                scenario.attach(bytes, "text/plain", logFile.getFileName().toString());
-                try {
-                    Files.write(testCaseResultDir.resolve(logFile.getFileName()), bytes);
-                    if (testContext.initializationContext().persistInstalledSoftware()) {
-                        if (logFiles.contains(logFile)) {
-                            platform.files().delete(logFile);
-                        }
-                    }
-
-                } catch (IOException ie) {
-                    LOGGER.warn("Could not copy {} into the results path {}",
-                            logFile, testContext.testResultsPath(), ie);
+            // One streamed archive for the whole folder, rather than one read per log file
+            List<Path> copied = Collections.emptyList();
+            try {
+                copied = platform.files().copyFrom(logFolder, testCaseResultDir, logCollection.maxBytes());
+            } catch (CopyException ce) {
+                LOGGER.warn("Could not copy {} into the results path {}", logFolder, testCaseResultDir, ce);
+            }
+            final boolean attach = !logCollection.attachFailedOnly() || scenario.isFailed();
+            for (Path copiedFile : copied) {
+                if (attach) {
+                    scenario.attach(tail(copiedFile), "text/plain", copiedFile.getFileName().toString());
                 }
-            });
+                Path logFile = logFolder.resolve(testCaseResultDir.toAbsolutePath()
+                        .relativize(copiedFile.toAbsolutePath()).toString());
+                if (testContext.initializationContext().persistInstalledSoftware() && logFiles.contains(logFile)) {
+                    platform.files().delete(logFile);
+                }
+            }
             if (!testContext.cleanupContext().persistInstalledSoftware()) {
                 // Remove the rest
                 platform.files().delete(testContext.installRoot());
@@ -284,15 +321,13 @@ public class FileSteps {
         }
     }
 
-    private static boolean hasNMatches(final String haystack, final String needle, int minMatches) {
-        for (int startIndex = 0; minMatches > 0; minMatches--) {
-            int foundIndex = haystack.indexOf(needle, startIndex);
-            if (foundIndex < startIndex) {
-                return false;
-            }
-            startIndex = foundIndex + 1;
-        }
-
-        return true;
+    /**
+     * Counts the occurrences of contents in a file on the device. Each file and contents pair remembers how
+     * far it has read, so repeated polls only transfer what was appended since the previous poll.
+     */
+    private long matches(Path file, String contents) {
+        return tails.computeIfAbsent(file, f -> new ConcurrentHashMap<>())
+                .computeIfAbsent(contents, c -> new FileTailMatcher(file, c))
+                .poll(platform.files());
     }
 }
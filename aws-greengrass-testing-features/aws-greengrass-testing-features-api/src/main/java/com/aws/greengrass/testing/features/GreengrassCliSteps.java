@@ -35,6 +35,7 @@ public class GreengrassCliSteps {
     private final ScenarioContext scenarioContext;
     private final ComponentPreparationService componentPreparation;
     private final WaitSteps waitSteps;
+    private final LocalDeploymentAgentClient agent;
 
     private static final Logger LOGGER = LogManager.getLogger(GreengrassCliSteps.class);
 
@@ -42,12 +43,13 @@ public class GreengrassCliSteps {
     @SuppressWarnings("MissingJavadocMethod")
     public GreengrassCliSteps(Platform platform, TestContext testContext,
                        ComponentPreparationService componentPreparation,
-                       ScenarioContext scenarioContext, WaitSteps waitSteps) {
+                       ScenarioContext scenarioContext, WaitSteps waitSteps, LocalDeploymentAgentClient agent) {
         this.platform = platform;
         this.testContext = testContext;
         this.componentPreparation = componentPreparation;
         this.scenarioContext = scenarioContext;
         this.waitSteps = waitSteps;
+        this.agent = agent;
     }
 
     /**
@@ -119,8 +121,11 @@ public class GreengrassCliSteps {
 
     @VisibleForTesting
     String getLocalDeploymentStatus() {
+        String deploymentId = scenarioContext.get(LOCAL_DEPLOYMENT_ID);
+        if (agent.available()) {
+            return agent.deploymentStatus(deploymentId).orElse("");
+        }
         try {
-            String deploymentId = scenarioContext.get(LOCAL_DEPLOYMENT_ID);
             String response = platform.commands().executeToString(CommandInput.builder()
                     .line(testContext.installRoot().resolve("bin").resolve("greengrass-cli").toString())
                     .addAllArgs(Arrays.asList("deployment", "status", "--deploymentId", deploymentId))
@@ -136,6 +141,9 @@ public class GreengrassCliSteps {
     }
 
     private boolean isComponentInState(String componentName, String componentStatus) {
+        if (agent.available()) {
+            return agent.componentState(componentName).map(componentStatus::equals).orElse(false);
+        }
         String response = platform.commands().executeToString(CommandInput.builder()
                 .line(testContext.installRoot().resolve("bin").resolve("greengrass-cli").toString())
                 .addAllArgs(Arrays.asList("component", "details", "--name", componentName))
@@ -0,0 +1,59 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features;
+
+import com.aws.greengrass.testing.IdentityPool;
+import com.aws.greengrass.testing.resources.iot.IotThingSpec;
+import com.google.inject.Inject;
+import io.cucumber.guice.ScenarioScoped;
+import io.cucumber.java.After;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.Optional;
+
+@ScenarioScoped
+public class IdentitySteps implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(IdentitySteps.class);
+    private final IdentityPool identityPool;
+    private IdentityPool.IdentityLease lease;
+
+    @Inject
+    public IdentitySteps(final IdentityPool identityPool) {
+        this.identityPool = identityPool;
+    }
+
+    /**
+     * The identity of this scenario, leased from the {@link IdentityPool} the first time it is needed.
+     *
+     * @return the leased {@link IotThingSpec}, or empty when the pool is disabled
+     */
+    public synchronized Optional<IotThingSpec> identity() {
+        if (!identityPool.enabled()) {
+            return Optional.empty();
+        }
+        if (Objects.isNull(lease)) {
+            lease = identityPool.lease();
+            LOGGER.info("Running scenario as thing {}", lease.identity().thingName());
+        }
+        return Optional.of(lease.identity());
+    }
+
+    /**
+     * Return the identity once Greengrass is stopped and the scenario resources are removed, before the device
+     * is returned.
+     */
+    @After(order = 3)
+    @Override
+    public synchronized void close() {
+        if (Objects.nonNull(lease)) {
+            lease.close();
+            lease = null;
+        }
+    }
+}
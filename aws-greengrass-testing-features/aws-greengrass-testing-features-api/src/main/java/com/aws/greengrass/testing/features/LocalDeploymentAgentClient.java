@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features;
+
+import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
+import com.aws.greengrass.testing.model.TestContext;
+import com.aws.greengrass.testing.platform.Platform;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cucumber.guice.ScenarioScoped;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+
+/**
+ * Client of the local deployment agent of the ggipc component, which keeps one IPC connection on the device to
+ * create local deployments and report their status and the state of the components. The agent answers through
+ * files in its work directory, so a check is a single file read instead of a greengrass-cli JVM. Steps fall back to
+ * greengrass-cli while the agent is not deployed.
+ */
+@ScenarioScoped
+public class LocalDeploymentAgentClient {
+    private static final Logger LOGGER = LogManager.getLogger(LocalDeploymentAgentClient.class);
+    public static final String AGENT_COMPONENT = "aws.greengrass.testing.LocalDeploymentAgent";
+    private static final String REQUESTS_DIR = "requests";
+    private static final String RESPONSES_DIR = "responses";
+    private static final String STATE_FILE = "state.properties";
+    private static final int RESPONSE_TIMEOUT_SECONDS = 60;
+
+    private final Platform platform;
+    private final TestContext testContext;
+    private final WaitSteps waits;
+    private final ObjectMapper mapper;
+    private final Path workPath;
+    private Boolean available;
+
+    @Inject
+    @SuppressWarnings("MissingJavadocMethod")
+    public LocalDeploymentAgentClient(
+            final Platform platform,
+            final TestContext testContext,
+            final WaitSteps waits,
+            final ObjectMapper mapper) {
+        this.platform = platform;
+        this.testContext = testContext;
+        this.waits = waits;
+        this.mapper = mapper;
+        this.workPath = testContext.installRoot().resolve("work").resolve(AGENT_COMPONENT);
+    }
+
+    /**
+     * Whether the agent is running on the device. Checked once, a missing agent is only looked for again after
+     * {@link #recheck()}, so polling steps do not add a file check to every poll. Once found it stays for the
+     * scenario.
+     *
+     * @return true once the agent published its state
+     */
+    public synchronized boolean available() {
+        if (Objects.isNull(available)) {
+            available = platform.files().exists(workPath.resolve(STATE_FILE));
+            if (available) {
+                LOGGER.info("Using {} for local deployments", AGENT_COMPONENT);
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Look for a missing agent again on the next {@link #available()}, ie: before a new deployment, which may come
+     * after the one deploying the agent.
+     */
+    public synchronized void recheck() {
+        if (Boolean.FALSE.equals(available)) {
+            available = null;
+        }
+    }
+
+    /**
+     * Create a local deployment through the agent.
+     *
+     * @param recipeDir directory of the recipes of the components, on the device
+     * @param artifactDir directory of the artifacts of the components, on the device
+     * @param components root component names to their versions
+     * @param configurations configuration updates by component name, ie: a MERGE map
+     * @return the ID of the local deployment
+     * @throws IOException the request could not be written
+     * @throws InterruptedException thread interrupted while waiting for the response
+     * @throws IllegalStateException if the agent did not create the deployment
+     */
+    public String createLocalDeployment(
+            Path recipeDir,
+            Path artifactDir,
+            Map<String, String> components,
+            Map<String, Map<String, Object>> configurations) throws IOException, InterruptedException {
+        final Properties request = new Properties();
+        request.setProperty("recipeDir", recipeDir.toString());
+        request.setProperty("artifactDir", artifactDir.toString());
+        components.forEach((name, version) -> request.setProperty("merge." + name, version));
+        for (Map.Entry<String, Map<String, Object>> configuration : configurations.entrySet()) {
+            request.setProperty("configuration." + configuration.getKey(),
+                    mapper.writeValueAsString(configuration.getValue()));
+        }
+        final String fileName = UUID.randomUUID() + ".properties";
+        final Path local = Files.createTempFile(testContext.testDirectory(), "local-deployment", ".properties");
+        try {
+            try (OutputStream output = Files.newOutputStream(local)) {
+                request.store(output, null);
+            }
+            // The agent only reads .properties requests, so it never sees one that is still being copied
+            final Path requestPath = workPath.resolve(REQUESTS_DIR).resolve(fileName);
+            final Path copying = requestPath.resolveSibling(fileName + ".part");
+            platform.files().copyTo(local, copying);
+            platform.files().move(copying, requestPath);
+        } finally {
+            Files.deleteIfExists(local);
+        }
+
+        final Path responsePath = workPath.resolve(RESPONSES_DIR).resolve(fileName);
+        if (!waits.untilTrue(() -> platform.files().exists(responsePath), RESPONSE_TIMEOUT_SECONDS,
+                TimeUnit.SECONDS)) {
+            throw new IllegalStateException(AGENT_COMPONENT + " did not answer the local deployment request "
+                    + fileName);
+        }
+        final Properties response = read(responsePath);
+        platform.files().delete(responsePath);
+        final String deploymentId = response.getProperty("deploymentId");
+        if (deploymentId == null) {
+            throw new IllegalStateException("Local deployment failed: " + response.getProperty("error"));
+        }
+        return deploymentId;
+    }
+
+    /**
+     * Status of a local deployment created through the agent.
+     *
+     * @param deploymentId ID of the local deployment
+     * @return the status, ie: SUCCEEDED, or empty when the agent does not know the deployment yet
+     */
+    public Optional<String> deploymentStatus(String deploymentId) {
+        return state().map(state -> state.getProperty("deployment." + deploymentId));
+    }
+
+    /**
+     * Lifecycle state of a component.
+     *
+     * @param componentName name of the component
+     * @return the state, ie: RUNNING, or empty when the component is not on the device
+     */
+    public Optional<String> componentState(String componentName) {
+        return state().map(state -> state.getProperty("component." + componentName));
+    }
+
+    private Optional<Properties> state() {
+        try {
+            return Optional.of(read(workPath.resolve(STATE_FILE)));
+        } catch (CommandExecutionException | IOException e) {
+            LOGGER.debug("Could not read the state of {}", AGENT_COMPONENT, e);
+            return Optional.empty();
+        }
+    }
+
+    private Properties read(Path path) throws IOException {
+        final Properties properties = new Properties();
+        properties.load(new StringReader(platform.files().readString(path)));
+        return properties;
+    }
+}
@@ -44,6 +44,8 @@ public class LoggerSteps {
         if (matcher.find()) {
             feature = matcher.group(1);
         }
+        // Scenarios share runner threads when run in parallel, never carry over what a previous one left behind
+        ThreadContext.clearMap();
 
         // get otf version and bake it into log
         final String otfVersionContent = getOTFVersionLogContent();
@@ -139,17 +139,20 @@ public class NetworkUtilsSteps {
      */
     @After(order = Integer.MAX_VALUE)
     public void restoreDefaultSettings() throws IOException, InterruptedException {
-        // rollback firewall changes
-        boolean mqttChange = mqttConnectivity.compareAndSet(false, true);
+        // rollback firewall changes, marked as rolled back only once done so a failure is retried
+        boolean mqttChange = !mqttConnectivity.get();
         if (mqttChange) {
             LOGGER.info("Automatically unblocking blocked MQTT connections");
-            platform.networkUtils().recoverMqtt();
         }
 
-        boolean networkChange = networkConnectivity.compareAndSet(false, true);
+        boolean networkChange = !networkConnectivity.get();
         if (networkChange) {
             LOGGER.info("Automatically unblocking blocked Network connection");
-            platform.networkUtils().recoverNetwork();
+        }
+        if (mqttChange || networkChange) {
+            platform.networkUtils().restoreFirewall(mqttChange, networkChange);
+            mqttConnectivity.set(true);
+            networkConnectivity.set(true);
         }
 
         // rollback lo interface changes
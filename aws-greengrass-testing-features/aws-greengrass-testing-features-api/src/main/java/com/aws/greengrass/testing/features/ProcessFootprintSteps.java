@@ -0,0 +1,230 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features;
+
+import com.aws.greengrass.testing.api.Greengrass;
+import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
+import com.aws.greengrass.testing.api.device.model.ProcessFootprint;
+import com.aws.greengrass.testing.model.TestContext;
+import com.aws.greengrass.testing.platform.Platform;
+import io.cucumber.guice.ScenarioScoped;
+import io.cucumber.java.en.Then;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.inject.Inject;
+
+/**
+ * Steps tracking the footprint of the nucleus and of each component, rather than of the whole device. Every sample
+ * reads the process tree of the nucleus on the device, and attributes each process to a component by its working
+ * directory or command line. Processes that cannot be attributed, and their children, belong to the nucleus.
+ */
+@ScenarioScoped
+public class ProcessFootprintSteps {
+    private static final Logger LOGGER = LogManager.getLogger(ProcessFootprintSteps.class);
+    static final String NUCLEUS = "nucleus";
+    private static final Duration SAMPLE_INTERVAL = Duration.ofSeconds(10);
+    private static final Pattern ARTIFACT_PATTERN =
+            Pattern.compile("/packages/artifacts(?:-unarchived)?/([^/\\s]+)/");
+    private static final double MEGABYTE = 1024 * 1024;
+
+    private final Platform platform;
+    private final TestContext testContext;
+    private final Greengrass greengrass;
+
+    static final class Usage {
+        long residentBytes;
+        long cpuMillis;
+        int threads;
+        int processes;
+    }
+
+    static final class Sample {
+        final long timeMillis;
+        final Map<String, Usage> components;
+
+        Sample(long timeMillis, Map<String, Usage> components) {
+            this.timeMillis = timeMillis;
+            this.components = components;
+        }
+    }
+
+    @FunctionalInterface
+    interface SampleCheck {
+        void check(Sample previous, Sample current);
+    }
+
+    @Inject
+    @SuppressWarnings("MissingJavadocMethod")
+    public ProcessFootprintSteps(Platform platform, TestContext testContext, Greengrass greengrass) {
+        this.platform = platform;
+        this.testContext = testContext;
+        this.greengrass = greengrass;
+    }
+
+    /**
+     * Sample a component for a number of minutes, failing as soon as the RSS of its processes reaches the limit.
+     *
+     * @param component name of the component, or nucleus
+     * @param megabytes limit of the summed RSS of the processes of the component
+     * @param minutes how long to sample for
+     * @throws InterruptedException thread interrupted between samples
+     * @throws IllegalStateException when the component stops running or its RSS reaches the limit
+     */
+    @Then("the {word} component RSS stays below {int} MB over {int} minutes")
+    public void residentMemoryStaysBelow(String component, int megabytes, int minutes) throws InterruptedException {
+        track(component, minutes, (previous, current) -> {
+            final Usage usage = current.components.get(component);
+            if (usage.residentBytes >= megabytes * MEGABYTE) {
+                throw new IllegalStateException(String.format("%s RSS was %.2f MB, above %d MB",
+                        component, usage.residentBytes / MEGABYTE, megabytes));
+            }
+        });
+    }
+
+    /**
+     * Sample a component for a number of minutes, failing as soon as its CPU usage between two samples reaches the
+     * limit. The usage is a percentage of one core.
+     *
+     * @param component name of the component, or nucleus
+     * @param percent limit of the CPU usage of the processes of the component
+     * @param minutes how long to sample for
+     * @throws InterruptedException thread interrupted between samples
+     * @throws IllegalStateException when the component stops running or its CPU usage reaches the limit
+     */
+    @Then("the {word} component CPU stays below {int} percent over {int} minutes")
+    public void cpuStaysBelow(String component, int percent, int minutes) throws InterruptedException {
+        track(component, minutes, (previous, current) -> {
+            final double usage = cpuPercent(component, previous, current);
+            if (usage >= percent) {
+                throw new IllegalStateException(String.format("%s CPU was %.2f percent, above %d percent",
+                        component, usage, percent));
+            }
+        });
+    }
+
+    /**
+     * Sample the nucleus for a number of minutes, and fail when its thread count grew. Threads come and go, so the
+     * lowest count of the last samples is compared with the highest count of the first ones.
+     *
+     * @param minutes how long to sample for
+     * @throws InterruptedException thread interrupted between samples
+     * @throws IllegalStateException when the nucleus stops running or its thread count grew
+     */
+    @Then("the Greengrass nucleus thread count does not grow over {int} minutes")
+    public void nucleusThreadsDoNotGrow(int minutes) throws InterruptedException {
+        final List<Integer> threads = new ArrayList<>();
+        track(NUCLEUS, minutes, (previous, current) -> threads.add(current.components.get(NUCLEUS).threads));
+        if (threadsGrew(threads)) {
+            throw new IllegalStateException("Greengrass nucleus thread count grew over " + minutes
+                    + " minutes: " + threads);
+        }
+    }
+
+    static boolean threadsGrew(List<Integer> threads) {
+        final int edge = Math.max(1, Math.min(3, threads.size() / 2));
+        final int firstMax = threads.subList(0, edge).stream().mapToInt(Integer::intValue).max().orElse(0);
+        final int lastMin = threads.subList(threads.size() - edge, threads.size()).stream()
+                .mapToInt(Integer::intValue).min().orElse(0);
+        return lastMin > firstMax;
+    }
+
+    static double cpuPercent(String component, Sample previous, Sample current) {
+        final Usage before = previous.components.get(component);
+        final Usage after = current.components.get(component);
+        final long elapsed = current.timeMillis - previous.timeMillis;
+        if (Objects.isNull(before) || Objects.isNull(after) || elapsed <= 0) {
+            return 0;
+        }
+        // Processes exiting between the samples take their CPU time with them
+        return Math.max(0, after.cpuMillis - before.cpuMillis) * 100.0 / elapsed;
+    }
+
+    private void track(String component, int minutes, SampleCheck check) throws InterruptedException {
+        final int pid = greengrass.processId().orElseThrow(() ->
+                new IllegalStateException("Greengrass was not started by this run, cannot track its processes"));
+        final long end = System.nanoTime() + TimeUnit.MINUTES.toNanos(minutes);
+        Sample previous = sample(pid);
+        long peakResident = running(component, previous).residentBytes;
+        check.check(previous, previous);
+        while (System.nanoTime() - end < 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(SAMPLE_INTERVAL.toNanos(), end - System.nanoTime()));
+            final Sample current = sample(pid);
+            // A component that crashed has no process left to measure, it must not pass the checks
+            peakResident = Math.max(peakResident, running(component, current).residentBytes);
+            check.check(previous, current);
+            previous = current;
+        }
+        LOGGER.info("Tracked {} for {} minutes, peak RSS {} MB", component, minutes,
+                String.format("%.2f", peakResident / MEGABYTE));
+    }
+
+    static Usage running(String component, Sample sample) {
+        final Usage usage = sample.components.get(component);
+        if (Objects.isNull(usage)) {
+            throw new IllegalStateException("No process of " + component + " is running, found "
+                    + sample.components.keySet());
+        }
+        return usage;
+    }
+
+    private Sample sample(int pid) {
+        try {
+            final List<ProcessFootprint> footprints = platform.commands().processFootprints(pid);
+            return new Sample(System.currentTimeMillis(), usage(footprints, testContext.installRoot()));
+        } catch (CommandExecutionException e) {
+            throw new IllegalStateException("Failed to read the processes of Greengrass", e);
+        }
+    }
+
+    static Map<String, Usage> usage(List<ProcessFootprint> footprints, Path installRoot) {
+        final Map<Integer, String> owners = components(footprints, installRoot);
+        final Map<String, Usage> usage = new HashMap<>();
+        for (ProcessFootprint footprint : footprints) {
+            final Usage component = usage.computeIfAbsent(owners.get(footprint.pid()), name -> new Usage());
+            component.residentBytes += footprint.residentBytes();
+            component.cpuMillis += footprint.cpuMillis();
+            component.threads += Math.max(0, footprint.threads());
+            component.processes++;
+        }
+        return usage;
+    }
+
+    /**
+     * Attribute each process to a component. The footprints list parents before their children, so a child
+     * that cannot be attributed by itself inherits the component of its parent.
+     */
+    static Map<Integer, String> components(List<ProcessFootprint> footprints, Path installRoot) {
+        final String work = installRoot.resolve("work").toString() + "/";
+        final Map<Integer, String> owners = new HashMap<>();
+        for (ProcessFootprint footprint : footprints) {
+            String owner = null;
+            final String cwd = footprint.workingDirectory();
+            if (Objects.nonNull(cwd) && cwd.startsWith(work)) {
+                owner = cwd.substring(work.length()).split("/")[0];
+            }
+            final Matcher matcher = ARTIFACT_PATTERN.matcher(footprint.commandLine());
+            if (Objects.isNull(owner) && matcher.find()) {
+                owner = matcher.group(1);
+            }
+            if (Objects.isNull(owner)) {
+                owner = owners.getOrDefault(footprint.parentPid(), NUCLEUS);
+            }
+            owners.put(footprint.pid(), owner);
+        }
+        return owners;
+    }
+}
@@ -5,6 +5,7 @@
 
 package com.aws.greengrass.testing.features;
 
+import com.aws.greengrass.testing.CredentialsEndpointProber;
 import com.aws.greengrass.testing.api.ParameterValues;
 import com.aws.greengrass.testing.api.model.ProxyConfig;
 import com.aws.greengrass.testing.model.RegistrationContext;
@@ -20,7 +21,6 @@ import com.aws.greengrass.testing.resources.greengrass.GreengrassCoreDeviceSpec;
 import com.aws.greengrass.testing.resources.iam.IamLifecycle;
 import com.aws.greengrass.testing.resources.iam.IamRole;
 import com.aws.greengrass.testing.resources.iam.IamRoleSpec;
-import com.aws.greengrass.testing.resources.iot.IotCertificate;
 import com.aws.greengrass.testing.resources.iot.IotCertificateSpec;
 import com.aws.greengrass.testing.resources.iot.IotLifecycle;
 import com.aws.greengrass.testing.resources.iot.IotPolicySpec;
@@ -35,36 +35,22 @@ import io.cucumber.guice.ScenarioScoped;
 import io.cucumber.java.en.Given;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import software.amazon.awssdk.http.HttpExecuteRequest;
-import software.amazon.awssdk.http.HttpExecuteResponse;
-import software.amazon.awssdk.http.SdkHttpClient;
-import software.amazon.awssdk.http.SdkHttpMethod;
-import software.amazon.awssdk.http.SdkHttpRequest;
-import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.utils.IoUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.KeyStore;
-import java.security.cert.Certificate;
-import java.security.cert.X509Certificate;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import javax.inject.Inject;
 import javax.inject.Named;
-import javax.net.ssl.KeyManagerFactory;
 
 import static com.aws.greengrass.testing.modules.HsmParameters.ROOT_CA_PATH;
-import static com.aws.greengrass.testing.util.EncryptionUtils.loadPrivateKeyPair;
-import static com.aws.greengrass.testing.util.EncryptionUtils.loadX509Certificates;
 
 @ScenarioScoped
 public class RegistrationSteps {
@@ -81,6 +67,8 @@ public class RegistrationSteps {
     private final IamLifecycle iamLifecycle;
     private final ParameterValues parameterValues;
     private final FileSteps fileSteps;
+    private final IdentitySteps identitySteps;
+    private final CredentialsEndpointProber credentialsProber;
     private final ObjectMapper mapper;
 
     @Inject
@@ -96,6 +84,8 @@ public class RegistrationSteps {
             IamLifecycle iamLifecycle,
             ParameterValues parameterValues,
             FileSteps fileSteps,
+            IdentitySteps identitySteps,
+            CredentialsEndpointProber credentialsProber,
             @Named(JacksonModule.YAML) ObjectMapper objectMapper) {
         this.platform = platform;
         this.resources = resources;
@@ -107,6 +97,8 @@ public class RegistrationSteps {
         this.iamLifecycle = iamLifecycle;
         this.parameterValues = parameterValues;
         this.fileSteps = fileSteps;
+        this.identitySteps = identitySteps;
+        this.credentialsProber = credentialsProber;
         this.mapper = objectMapper;
     }
 
@@ -146,6 +138,12 @@ public class RegistrationSteps {
     @VisibleForTesting
     void registerAsThing(String configName, String thingGroupName) throws IOException, InterruptedException {
         final String configFile = Optional.ofNullable(configName).orElse(getDefaultConfigName());
+        final Optional<IotThingSpec> pooled = identitySteps.identity();
+        if (pooled.isPresent()) {
+            registerPooledThing(pooled.get(), thingGroupName);
+            setupConfigWithConfigFile(configFile, pooled.get());
+            return;
+        }
         String tesRoleNameName = testContext.tesRoleName();
         Optional<IamRole> optionalIamRole = Optional.empty();
         if (!tesRoleNameName.isEmpty()) {
@@ -162,54 +160,24 @@ public class RegistrationSteps {
         setupConfigWithConfigFile(configFile, thingSpec);
     }
 
+    private void registerPooledThing(IotThingSpec identity, String thingGroupName) {
+        // The thing, certificate and role alias are ready, only the scenario specific resources are created
+        resources.create(GreengrassCoreDeviceSpec.builder().thingName(identity.thingName()).build());
+        resources.create(IotThingGroupSpec.of(thingGroupName));
+        resources.lifecycle(IotLifecycle.class).addThingToThingGroup(identity.thingName(), thingGroupName);
+    }
+
     private void waitForRoleAliasUsable(IotThingSpec thingSpec, String credentialEndpoint)
-            throws InterruptedException, IOException {
+            throws InterruptedException {
         if (thingSpec.roleAliasSpec() == null) {
             LOGGER.error("Cannot wait for role alias, spec was null");
             return;
         }
-        String ra = thingSpec.roleAliasSpec().resource().roleAlias();
-        IotCertificate certRes = thingSpec.resource().certificate();
-        if (certRes == null) {
+        if (thingSpec.resource().certificate() == null) {
             LOGGER.error("Cannot wait for role alias, certificate was null");
             return;
         }
-
-        try (SdkHttpClient client = ApacheHttpClient.builder().tlsKeyManagersProvider(() -> {
-            try {
-                KeyStore keyStore = KeyStore.getInstance("PKCS12");
-                keyStore.load(null);
-
-                List<X509Certificate> certificateChain = loadX509Certificates(certRes.certificatePem());
-                keyStore.setKeyEntry("private-key", loadPrivateKeyPair(certRes.keyPair().privateKey()).getPrivate(),
-                        null, certificateChain.toArray(new Certificate[0]));
-
-                KeyManagerFactory keyManagerFactory =
-                        KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
-                keyManagerFactory.init(keyStore, null);
-                return keyManagerFactory.getKeyManagers();
-            } catch (Exception e) {
-                LOGGER.error("Failed to load key", e);
-                throw new RuntimeException(e);
-            }
-        }).build()) {
-            for (int i = 0; i < 20; i++) {
-                HttpExecuteResponse res = client.prepareRequest(HttpExecuteRequest.builder().request(
-                        SdkHttpRequest.builder().appendHeader("x-amzn-iot-thingname", thingSpec.thingName())
-                                .method(SdkHttpMethod.GET).uri(URI.create(
-                                        String.format("https://%s/role-aliases/%s/credentials", credentialEndpoint, ra)))
-                                .build()).build()).call();
-                if (res.httpResponse().statusCode() == 200) {
-                    LOGGER.info("IoT Role alias returned 200, credentials should be good to go!");
-                    return;
-                } else {
-                    LOGGER.info("IoT Role alias not ready yet, got {}: {}", res.httpResponse().statusCode(),
-                            res.responseBody().isPresent() ? IoUtils.toUtf8String(res.responseBody().get()) : null);
-                }
-                Thread.sleep(6000);
-            }
-            throw new RuntimeException("Role alias never returned credentials, fail!");
-        }
+        credentialsProber.awaitCredentials(thingSpec, credentialEndpoint);
     }
 
     @VisibleForTesting
@@ -338,7 +306,7 @@ public class RegistrationSteps {
         Files.write(configFilePath.resolve("config.yaml"), config.getBytes(StandardCharsets.UTF_8));
         // Copy to where the nucleus will read it
         platform.files().makeDirectories(testContext.installRoot().getParent());
-        platform.files().copyTo(testContext.testDirectory(), testContext.installRoot());
+        platform.files().sync(testContext.testDirectory(), testContext.installRoot());
     }
 
 }
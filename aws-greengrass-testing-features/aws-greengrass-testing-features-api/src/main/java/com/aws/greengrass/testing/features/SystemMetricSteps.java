@@ -5,8 +5,15 @@
 
 package com.aws.greengrass.testing.features;
 
+import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
+import com.aws.greengrass.testing.api.device.metrics.MetricSample;
+import com.aws.greengrass.testing.api.device.metrics.MetricsRing;
 import com.aws.greengrass.testing.model.ScenarioContext;
+import com.aws.greengrass.testing.model.TestContext;
+import com.aws.greengrass.testing.platform.Commands;
+import com.aws.greengrass.testing.platform.Platform;
 import io.cucumber.guice.ScenarioScoped;
+import io.cucumber.java.After;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import org.apache.logging.log4j.LogManager;
@@ -16,7 +23,13 @@ import oshi.hardware.CentralProcessor;
 import oshi.hardware.GlobalMemory;
 import oshi.hardware.HardwareAbstractionLayer;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 
 
@@ -30,15 +43,28 @@ public class SystemMetricSteps {
     private CentralProcessor cpu;
     private GlobalMemory ram;
     private ScenarioContext scenarioContext;
+    private final Platform platform;
+    private final TestContext testContext;
+    private final WaitSteps waits;
+    private final List<MetricSample> samples = new ArrayList<>();
+    private Path ringFile;
+    private Integer samplerPid;
 
     @Inject
     @SuppressWarnings("MissingJavadocMethod")
-    public SystemMetricSteps(ScenarioContext scenarioContext) {
+    public SystemMetricSteps(
+            ScenarioContext scenarioContext,
+            Platform platform,
+            TestContext testContext,
+            WaitSteps waits) {
         this.si = new SystemInfo();
         this.hal = si.getHardware();
         this.cpu = hal.getProcessor();
         this.ram = hal.getMemory();
         this.scenarioContext = scenarioContext;
+        this.platform = platform;
+        this.testContext = testContext;
+        this.waits = waits;
     }
 
     /**
@@ -111,4 +137,170 @@ public class SystemMetricSteps {
                 throw new IllegalArgumentException("Please specify either CPU or RAM to check.");
         }
     }
+
+    /**
+     * Start sampling the resource usage of the device into a ring on the device, for the window steps. Unlike the
+     * record steps, the samples are taken on the device under test, not on the host running the tests.
+     *
+     * @param intervalMillis milliseconds between samples
+     * @throws CommandExecutionException failure to start the sampler on the device
+     */
+    @When("I start sampling the device's resource usage every {int} milliseconds")
+    public void startSampling(int intervalMillis) throws CommandExecutionException {
+        stopSampling();
+        ringFile = testContext.installRoot().resolve("metrics.ring");
+        // Keeps an hour of samples at the requested interval, the host pulls long before the ring wraps
+        final int capacity = (int) Math.max(60, TimeUnit.HOURS.toMillis(1) / Math.max(1, intervalMillis));
+        samplerPid = platform.commands().startMetricsStream(ringFile, intervalMillis, capacity);
+        LOGGER.info("Sampling resource usage of the device every {} ms with process {}", intervalMillis, samplerPid);
+    }
+
+    /**
+     * Assert a statistic of the samples taken on the device over the last seconds of the run.
+     *
+     * @param stat the resource to check: CPU, RAM, LOAD, DISK or NETWORK
+     * @param seconds length of the window, ending at the latest sample
+     * @param statistic mean, p95 or max
+     * @param threshold the value the statistic must be below
+     * @param units percent for CPU, MB for RAM, load for LOAD and KBps for DISK or NETWORK
+     * @throws InterruptedException thread interrupted waiting for the window to fill
+     * @throws IllegalStateException when sampling was not started, the samples never span the window or the
+     *     statistic is above the threshold
+     * @throws IllegalArgumentException when the stat, statistic or units are unknown
+     */
+    @Then("the device's {word} usage over the last {int} seconds has a {word} below {double} {word}")
+    public void checkWindow(String stat, int seconds, String statistic, double threshold, String units)
+            throws InterruptedException {
+        if (Objects.isNull(samplerPid)) {
+            throw new IllegalStateException("Start sampling the device's resource usage before checking it.");
+        }
+        final String expectedUnits = units(stat);
+        if (!expectedUnits.equals(units)) {
+            throw new IllegalArgumentException("Please use " + expectedUnits + " as the unit of " + stat + " usage.");
+        }
+        final long windowMillis = TimeUnit.SECONDS.toMillis(seconds);
+        if (!waits.untilTrue(() -> span(pull()) >= windowMillis, seconds + 60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException(String.format("Device samples only span %d of the last %d seconds, "
+                    + "check that sampling is still running", TimeUnit.MILLISECONDS.toSeconds(span(samples)),
+                    seconds));
+        }
+        final double value = statistic(window(samples, windowMillis), stat, statistic);
+        LOGGER.info("Device {} usage over the last {} seconds has a {} of {} {}",
+                stat, seconds, statistic, value, units);
+        if (value >= threshold) {
+            throw new IllegalStateException(String.format("Device %s usage over the last %d seconds has a %s of "
+                    + "%.2f %s, above %.2f %s", stat, seconds, statistic, value, units, threshold, units));
+        }
+    }
+
+    private List<MetricSample> pull() {
+        final long from = samples.isEmpty() ? 0 : samples.get(samples.size() - 1).sequence() + 1;
+        try {
+            samples.addAll(MetricsRing.decode(platform.commands().readMetrics(ringFile, from)));
+        } catch (CommandExecutionException e) {
+            LOGGER.debug("Could not read the metrics ring {} yet", ringFile, e);
+        }
+        return samples;
+    }
+
+    private static long span(List<MetricSample> samples) {
+        if (samples.size() < 2) {
+            return 0;
+        }
+        return samples.get(samples.size() - 1).timestampMillis() - samples.get(0).timestampMillis();
+    }
+
+    static List<MetricSample> window(List<MetricSample> samples, long windowMillis) {
+        if (samples.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // Device timestamps, so the window does not depend on how late the host pulled
+        final long start = samples.get(samples.size() - 1).timestampMillis() - windowMillis;
+        int first = samples.size() - 1;
+        while (first > 0 && samples.get(first - 1).timestampMillis() >= start) {
+            first--;
+        }
+        return samples.subList(first, samples.size());
+    }
+
+    static double statistic(List<MetricSample> window, String stat, String statistic) {
+        final double[] values = values(window, stat);
+        if (values.length == 0) {
+            throw new IllegalStateException("No " + stat + " samples were taken on the device in the window.");
+        }
+        switch (statistic) {
+            case "mean":
+                return Arrays.stream(values).average().getAsDouble();
+            case "p95":
+                Arrays.sort(values);
+                return values[Math.max(0, (int) Math.ceil(values.length * 0.95) - 1)];
+            case "max":
+                return Arrays.stream(values).max().getAsDouble();
+            default:
+                throw new IllegalArgumentException("Please specify mean, p95 or max as the statistic.");
+        }
+    }
+
+    private static double[] values(List<MetricSample> window, String stat) {
+        switch (stat) {
+            case "CPU":
+                return window.stream().mapToDouble(MetricSample::cpuPercent).toArray();
+            case "RAM":
+                return window.stream().mapToDouble(sample -> sample.memoryUsedBytes() / (1024.0 * 1024)).toArray();
+            case "LOAD":
+                return window.stream().mapToDouble(MetricSample::load).toArray();
+            case "DISK":
+            case "NETWORK":
+                // Counters are cumulative, the rates are between consecutive samples
+                final double[] rates = new double[Math.max(0, window.size() - 1)];
+                for (int i = 1; i < window.size(); i++) {
+                    final MetricSample previous = window.get(i - 1);
+                    final MetricSample current = window.get(i);
+                    final long bytes = stat.equals("DISK")
+                            ? (current.diskReadBytes() + current.diskWrittenBytes())
+                                - (previous.diskReadBytes() + previous.diskWrittenBytes())
+                            : (current.networkReceivedBytes() + current.networkSentBytes())
+                                - (previous.networkReceivedBytes() + previous.networkSentBytes());
+                    final long millis = Math.max(1, current.timestampMillis() - previous.timestampMillis());
+                    rates[i - 1] = Math.max(0, bytes) / 1024.0 / (millis / 1000.0);
+                }
+                return rates;
+            default:
+                throw new IllegalArgumentException("Please specify CPU, RAM, LOAD, DISK or NETWORK to check.");
+        }
+    }
+
+    private static String units(String stat) {
+        switch (stat) {
+            case "CPU":
+                return "percent";
+            case "RAM":
+                return "MB";
+            case "LOAD":
+                return "load";
+            case "DISK":
+            case "NETWORK":
+                return "KBps";
+            default:
+                throw new IllegalArgumentException("Please specify CPU, RAM, LOAD, DISK or NETWORK to check.");
+        }
+    }
+
+    /**
+     * Stop the sampler on the device and remove its ring, right after Greengrass is stopped.
+     */
+    @After(order = 99998)
+    public void stopSampling() {
+        if (Objects.nonNull(samplerPid)) {
+            try {
+                platform.commands().kill(Collections.singletonList(samplerPid));
+                platform.files().delete(ringFile);
+                platform.files().delete(Commands.metricsLog(ringFile));
+            } catch (CommandExecutionException e) {
+                LOGGER.warn("Could not stop the resource sampler {} on the device", samplerPid, e);
+            }
+            samplerPid = null;
+            samples.clear();
+        }
+    }
 }
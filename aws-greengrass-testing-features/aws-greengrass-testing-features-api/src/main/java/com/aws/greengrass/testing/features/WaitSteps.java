@@ -9,14 +9,24 @@ import com.aws.greengrass.testing.api.model.TimeoutMultiplier;
 import io.cucumber.guice.ScenarioScoped;
 import io.cucumber.java.en.When;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.inject.Inject;
 
 @ScenarioScoped
 public class WaitSteps {
-    private static final long DEFAULT_INTERVAL = 100L;
+    static final long DEFAULT_INTERVAL = 100L;
+    private static final long MAX_INTERVAL = 2_000L;
+    private static final double BACKOFF_FACTOR = 1.5;
+    private static final double JITTER = 0.2;
+
     private final TimeoutMultiplier multiplier;
 
     @Inject
@@ -24,6 +34,16 @@ public class WaitSteps {
         this.multiplier = multiplier;
     }
 
+    /**
+     * A timeout scaled by the timeout multiplier of the run, for waits that are not done through these steps.
+     *
+     * @param value the unscaled timeout
+     * @return the scaled timeout, in the same unit
+     */
+    public long timeout(long value) {
+        return multiplier.multiply(value);
+    }
+
     @When("I wait {int} {word}")
     public void until(int value, String unit) throws InterruptedException {
         Thread.sleep(TimeUnit.valueOf(unit.toUpperCase()).toMillis(multiplier.multiply(value)));
@@ -34,8 +54,57 @@ public class WaitSteps {
             Predicate<T> isValid,
             Predicate<T> isTerminal,
             int value, TimeUnit unit) throws InterruptedException {
-         boolean result = untilTrue(() -> isTerminal.test(obtain.get()), value, unit);
-         return result && isValid.test(obtain.get());
+        return untilTerminal(new CompletableFuture<>(), obtain, isValid, isTerminal, value, unit);
+    }
+
+    /**
+     * Wait until a value is terminal, then validate the value the terminal predicate saw. A terminal value can
+     * also be pushed through the pushed future, which completes the wait without waiting for the next poll.
+     *
+     * @param pushed a {@link CompletableFuture} an event source completes with a value
+     * @param obtain {@link Supplier} polled with backoff for the current value
+     * @param isValid {@link Predicate} applied to the terminal value
+     * @param isTerminal {@link Predicate} that ends the wait
+     * @param value integer for a duration
+     * @param unit {@link TimeUnit} duration
+     * @param <T> type of the value being waited on
+     * @return true if a terminal value was seen in time and it was valid
+     * @throws InterruptedException thread interrupted while waiting
+     */
+    public <T> boolean untilTerminal(
+            CompletableFuture<T> pushed,
+            Supplier<T> obtain,
+            Predicate<T> isValid,
+            Predicate<T> isTerminal,
+            int value, TimeUnit unit) throws InterruptedException {
+        return untilTerminal(pushed, Duration.ofMillis(DEFAULT_INTERVAL), obtain, isValid, isTerminal, value, unit);
+    }
+
+    /**
+     * Wait until a value is terminal, polling from a custom interval. A source pushing terminal values can poll
+     * slowly, only as a fallback for events that never arrive.
+     *
+     * @param pushed a {@link CompletableFuture} an event source completes with a value
+     * @param pollInterval first delay between polls, backing off up to eight times as long
+     * @param obtain {@link Supplier} polled with backoff for the current value
+     * @param isValid {@link Predicate} applied to the terminal value
+     * @param isTerminal {@link Predicate} that ends the wait
+     * @param value integer for a duration
+     * @param unit {@link TimeUnit} duration
+     * @param <T> type of the value being waited on
+     * @return true if a terminal value was seen in time and it was valid
+     * @throws InterruptedException thread interrupted while waiting
+     */
+    public <T> boolean untilTerminal(
+            CompletableFuture<T> pushed,
+            Duration pollInterval,
+            Supplier<T> obtain,
+            Predicate<T> isValid,
+            Predicate<T> isTerminal,
+            int value, TimeUnit unit) throws InterruptedException {
+        AtomicReference<T> terminal = await(pushed, pollInterval.toMillis(), obtain, isTerminal,
+                unit.toMillis(multiplier.multiply(value)));
+        return terminal != null && isValid.test(terminal.get());
     }
 
     /**
@@ -48,15 +117,61 @@ public class WaitSteps {
      * @throws InterruptedException thread interrupted while waiting
      */
     public boolean untilTrue(Supplier<Boolean> evaluate, int value, TimeUnit unit) throws InterruptedException {
-        boolean result = false;
-        long startTime = System.currentTimeMillis();
-        do {
-            result = evaluate.get();
-            if (result) {
-                break;
+        return await(new CompletableFuture<>(), DEFAULT_INTERVAL, evaluate, Boolean.TRUE::equals,
+                unit.toMillis(multiplier.multiply(value))) != null;
+    }
+
+    /**
+     * Polls on the waiting thread with jittered exponential backoff until a value is terminal or the timeout
+     * passes, whichever comes first. A blocking supplier only ever holds its own caller, so concurrent scenarios
+     * cannot starve each other's waits, and the supplier logs with the ThreadContext of the scenario. Between
+     * polls the thread waits on the pushed value, so an event ends the wait at once.
+     *
+     * @return the terminal value, or null if the timeout passed first
+     */
+    private <T> AtomicReference<T> await(
+            CompletableFuture<T> pushed,
+            long initialInterval,
+            Supplier<T> obtain,
+            Predicate<T> isTerminal,
+            long timeoutMillis) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        final CompletableFuture<AtomicReference<T>> done = new CompletableFuture<>();
+        pushed.thenAccept(value -> {
+            if (isTerminal.test(value)) {
+                done.complete(new AtomicReference<>(value));
+            }
+        });
+        final long maxInterval = Math.max(MAX_INTERVAL, initialInterval * 8);
+        long interval = initialInterval;
+        try {
+            while (!done.isDone()) {
+                final T value = obtain.get();
+                if (isTerminal.test(value)) {
+                    return new AtomicReference<>(value);
+                }
+                final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return null;
+                }
+                final double jitter = 1 + JITTER * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+                final long jittered = Math.round(interval * jitter);
+                interval = Math.min(maxInterval, Math.round(interval * BACKOFF_FACTOR));
+                try {
+                    return done.get(Math.min(jittered, remaining), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException te) {
+                    // Nothing was pushed before the next poll
+                }
+            }
+            return done.get();
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ee.getCause();
+            }
+            if (ee.getCause() instanceof Error) {
+                throw (Error) ee.getCause();
             }
-            Thread.sleep(DEFAULT_INTERVAL);
-        } while (System.currentTimeMillis() - startTime < unit.toMillis(multiplier.multiply(value)));
-        return result;
+            throw new IllegalStateException(ee.getCause());
+        }
     }
 }
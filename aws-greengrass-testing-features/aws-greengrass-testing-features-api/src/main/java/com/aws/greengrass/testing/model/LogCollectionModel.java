@@ -0,0 +1,25 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.model;
+
+import com.aws.greengrass.testing.api.model.TestingModel;
+import org.immutables.value.Value;
+
+@TestingModel
+@Value.Immutable
+interface LogCollectionModel {
+    long DEFAULT_MAX_BYTES = 1024L * 1024 * 100;
+
+    @Value.Default
+    default long maxBytes() {
+        return DEFAULT_MAX_BYTES;
+    }
+
+    @Value.Default
+    default boolean attachFailedOnly() {
+        return false;
+    }
+}
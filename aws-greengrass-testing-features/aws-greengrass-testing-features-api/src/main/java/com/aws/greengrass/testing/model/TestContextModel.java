@@ -16,6 +16,9 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 
 @TestingModel
 @Value.Immutable
@@ -36,7 +39,17 @@ interface TestContextModel extends Closeable {
 
     String currentUser();
 
-    String coreThingName();
+    /**
+     * Resolves the thing name of the core when none is set on the builder, ie: from a pooled identity.
+     */
+    @Nullable
+    @Value.Auxiliary
+    Supplier<String> coreThingNameSupplier();
+
+    @Value.Default
+    default String coreThingName() {
+        return Objects.requireNonNull(coreThingNameSupplier(), "coreThingName or coreThingNameSupplier").get();
+    }
 
     String coreVersion();
 
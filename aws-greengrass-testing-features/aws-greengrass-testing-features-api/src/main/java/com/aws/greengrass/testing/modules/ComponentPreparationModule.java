@@ -6,26 +6,64 @@
 package com.aws.greengrass.testing.modules;
 
 import com.aws.greengrass.testing.api.ComponentPreparationService;
+import com.aws.greengrass.testing.api.ParameterValues;
+import com.aws.greengrass.testing.api.model.CleanupContext;
+import com.aws.greengrass.testing.api.model.TestId;
+import com.aws.greengrass.testing.component.ArtifactCache;
 import com.aws.greengrass.testing.component.ClasspathComponentPreparationService;
 import com.aws.greengrass.testing.component.CloudComponentPreparationService;
+import com.aws.greengrass.testing.component.ComponentCatalog;
 import com.aws.greengrass.testing.component.CompositeComponentPreparationService;
 import com.aws.greengrass.testing.component.FileComponentPreparationService;
 import com.aws.greengrass.testing.component.LocalComponentPreparationService;
+import com.aws.greengrass.testing.resources.MetadataCache;
+import com.aws.greengrass.testing.resources.greengrass.GreengrassV2Lifecycle;
 import com.google.auto.service.AutoService;
 import com.google.inject.AbstractModule;
 import com.google.inject.Module;
+import com.google.inject.Provides;
 import com.google.inject.multibindings.ProvidesIntoMap;
 import com.google.inject.multibindings.StringMapKey;
 import io.cucumber.guice.ScenarioScoped;
+import software.amazon.awssdk.services.greengrassv2.GreengrassV2Client;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import javax.inject.Singleton;
 
 @AutoService(Module.class)
 public class ComponentPreparationModule extends AbstractModule {
-
     @Override
     protected void configure() {
         bind(ComponentPreparationService.class).to(CompositeComponentPreparationService.class).in(ScenarioScoped.class);
     }
 
+    @Provides
+    @Singleton
+    static ArtifactCache providesArtifactCache(
+            RunScope runScope,
+            S3Client client,
+            CleanupContext cleanupContext,
+            ParameterValues parameterValues) {
+        return runScope.get(ArtifactCache.class, () -> {
+            final TestId runId = TestId.builder()
+                    .prefix(parameterValues.getString(FeatureParameters.TEST_ID_PREFIX).orElse("gg"))
+                    .id(TestContextModule.randomString(20))
+                    .build();
+            return new ArtifactCache(client, cleanupContext, runId.idFor("gg-artifact-cache"));
+        });
+    }
+
+    @Provides
+    @Singleton
+    static ComponentCatalog providesComponentCatalog(
+            RunScope runScope,
+            GreengrassV2Client client,
+            MetadataCache metadataCache) {
+        // Lookups only, the resources of a scenario are still tracked by its own lifecycle
+        return runScope.get(ComponentCatalog.class,
+                () -> new ComponentCatalog(new GreengrassV2Lifecycle(client, metadataCache)));
+    }
+
     @ProvidesIntoMap
     @StringMapKey("cloud")
     @ScenarioScoped
@@ -7,9 +7,11 @@ package com.aws.greengrass.testing.modules;
 
 import com.aws.greengrass.testing.api.ParameterValues;
 import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.device.DevicePool;
 import com.aws.greengrass.testing.api.device.local.LocalDevice;
 import com.aws.greengrass.testing.api.model.PillboxContext;
 import com.aws.greengrass.testing.api.model.TimeoutMultiplier;
+import com.aws.greengrass.testing.features.DeviceSteps;
 import com.aws.greengrass.testing.model.GreengrassContext;
 import com.aws.greengrass.testing.modules.exception.ModuleProvisionException;
 import com.google.auto.service.AutoService;
@@ -17,8 +19,10 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Module;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
+import com.google.inject.multibindings.Multibinder;
 import com.google.inject.multibindings.ProvidesIntoMap;
 import com.google.inject.multibindings.StringMapKey;
+import com.google.inject.name.Names;
 import io.cucumber.guice.ScenarioScoped;
 import software.amazon.awssdk.utils.IoUtils;
 
@@ -28,44 +32,75 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
+import javax.inject.Named;
 
 @AutoService(Module.class)
 public class DeviceModule extends AbstractModule {
-    private static final Set<String> PILLBOX_PLACED = new ConcurrentSkipListSet<>();
     private static final String RESOURCE_PATH = "/greengrass/platform/artifacts/pillbox.jar";
 
+    @Override
+    protected void configure() {
+        // Modules driving several devices contribute each of them, otherwise the pool is the device.mode device
+        Multibinder.newSetBinder(binder(), Device.class, Names.named(DevicePool.DEVICES));
+    }
+
     // TODO: move this into a module that is optional, and can be included for remote DUTs
     @Provides
     @Singleton
-    static PillboxContext providesPillboxContext(final GreengrassContext greengrassContext) {
+    static PillboxContext providesPillboxContext(
+            final RunScope runScope,
+            final GreengrassContext greengrassContext) {
         final Path extractionPath = greengrassContext.tempDirectory().resolve("pillbox.jar");
-        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(extractionPath.toFile()));
-             InputStream input = DeviceModule.class.getResourceAsStream(RESOURCE_PATH)) {
-            IoUtils.copy(input, output);
-        } catch (IOException ie) {
-            throw new ModuleProvisionException(ie);
-        }
-        // Can provide a parameter to place in a specific place.
-        return PillboxContext.builder()
-                .onHost(extractionPath)
-                .build();
+        return runScope.get(extractionPath, PillboxContext.class, () -> {
+            try (OutputStream output = new BufferedOutputStream(new FileOutputStream(extractionPath.toFile()));
+                 InputStream input = DeviceModule.class.getResourceAsStream(RESOURCE_PATH)) {
+                IoUtils.copy(input, output);
+            } catch (IOException ie) {
+                throw new ModuleProvisionException(ie);
+            }
+            // Can provide a parameter to place in a specific place.
+            return PillboxContext.builder()
+                    .onHost(extractionPath)
+                    .build();
+        });
     }
 
     @Provides
-    @ScenarioScoped
-    static Device providesDevice(
-            final Map<String, Device> devicePool,
+    @Singleton
+    static DevicePool providesDevicePool(
+            final RunScope runScope,
+            final Map<String, Device> devices,
+            @Named(DevicePool.DEVICES) final Set<Device> pooledDevices,
             final ParameterValues parameterValues,
             final PillboxContext pillboxContext) {
-        final Device device = devicePool
-                .get(parameterValues.getString(FeatureParameters.DEVICE_MODE).orElse(LocalDevice.TYPE));
-        if (!device.type().equals(LocalDevice.TYPE) && PILLBOX_PLACED.add(device.id())) {
-            device.copyTo(pillboxContext.onHost().toAbsolutePath().toString(), pillboxContext.onDevice().toString());
-        }
-        return device;
+        return runScope.get(DevicePool.class, () -> {
+            final Duration leaseTimeout = parameterValues.getString(FeatureParameters.DEVICE_LEASE_TIMEOUT)
+                    .map(Duration::parse)
+                    .orElse(DevicePool.DEFAULT_LEASE_TIMEOUT);
+            return new DevicePool(pooledDevices.isEmpty()
+                    ? Collections.singleton(devices.get(parameterValues.getString(FeatureParameters.DEVICE_MODE)
+                            .orElse(LocalDevice.TYPE)))
+                    : pooledDevices,
+                    device -> {
+                        if (!device.type().equals(LocalDevice.TYPE)) {
+                            device.copyTo(pillboxContext.onHost().toAbsolutePath().toString(),
+                                    pillboxContext.onDevice().toString());
+                        }
+                    },
+                    device -> device.type().equals(LocalDevice.TYPE)
+                            || device.exists(pillboxContext.onDevice().toString()),
+                    leaseTimeout);
+        });
+    }
+
+    @Provides
+    @ScenarioScoped
+    static Device providesDevice(final DeviceSteps deviceSteps) {
+        return deviceSteps.device();
     }
 
     @Singleton
@@ -15,25 +15,34 @@ import java.util.List;
 @AutoService(Parameters.class)
 public class FeatureParameters implements Parameters {
     static final String DEVICE_MODE = "device.mode";
+    static final String DEVICE_LEASE_TIMEOUT = "device.lease.timeout";
     static final String NUCLEUS_VERSION = "ggc.version";
     static final String NUCLEUS_ARCHIVE_PATH = "ggc.archive";
     static final String NUCLEUS_LOG_LEVEL = "ggc.log.level";
     static final String NUCLEUS_INSTALL_ROOT = "ggc.install.root";
+    static final String NUCLEUS_INSTALL_TEMPLATE = "ggc.install.template";
     static final String NUCLEUS_USER = "ggc.user.name";
     static final String TIMEOUT_MULTIPLIER = "timeout.multiplier";
     static final String TEST_TEMP_PATH = "test.temp.path";
     static final String TEST_RESULTS_PATH = "test.log.path";
+    static final String TEST_RESULTS_MAX_BYTES = "test.log.max.bytes";
+    static final String TEST_RESULTS_ATTACH_FAILED_ONLY = "test.log.attach.failed.only";
     static final String TEST_ID_PREFIX = "test.id.prefix";
     static final String TES_ROLE_NAME = "ggc.tes.rolename";
     static final String TRUSTED_PLUGINS_PATHS = "ggc.trusted.plugins";
+    static final String IDENTITY_POOL_SIZE = "identity.pool.size";
+    static final String IDENTITY_POOL_PATH = "identity.pool.path";
     public static final String CSR_PATH = "csr.path";
     public static final String EXISTING_DEVICE_CERTIFICATE_ARN = "existing.device.cert.arn";
     public static final String GG_CLI_VERSION = "gg.cli.version";
+    public static final String DEPLOYMENT_EVENTS = "deployment.events";
 
     @Override
     public List<Parameter> available() {
         return Arrays.asList(
                 Parameter.of(DEVICE_MODE, "The target device under test. Defaults to local device."),
+                Parameter.of(DEVICE_LEASE_TIMEOUT, "How long a scenario waits for a device of the pool to be "
+                        + "free, as an ISO-8601 duration. Defaults to PT30M."),
                 Parameter.of(NUCLEUS_VERSION, "Overrides the version of the running Greengrass "
                         + "Nucleus component. Defaults to the value found in " + NUCLEUS_ARCHIVE_PATH),
                 Parameter.of(GG_CLI_VERSION, "Overrides the version of the greengrass cli. "
@@ -46,6 +55,9 @@ public class FeatureParameters implements Parameters {
                         + "Default is \"INFO\""),
                 Parameter.of(NUCLEUS_INSTALL_ROOT, "Directory to install the Greengrass Nucleus. "
                         + "Defaults to " + TEST_TEMP_PATH + " and test run folder"),
+                Parameter.of(NUCLEUS_INSTALL_TEMPLATE, "Install the Greengrass Nucleus once per device into a "
+                        + "template next to " + NUCLEUS_INSTALL_ROOT + ", and clone it for every scenario. "
+                        + "Defaults to false."),
                 Parameter.of(NUCLEUS_USER, "The user:group posixUser value for the Greengrass Nucleus. "
                         + "Defaults to " + System.getProperty("user.name")),
                 Parameter.of(TIMEOUT_MULTIPLIER, "Multiplier provided to all test timeouts. Default is 1.0"),
@@ -53,6 +65,10 @@ public class FeatureParameters implements Parameters {
                         + "Defaults to a random temp directory prefixed with gg-testing."),
                 Parameter.of(TEST_RESULTS_PATH, "Directory that will contain the results of the "
                         + "entire test run. Defaults to \"testResults\"."),
+                Parameter.of(TEST_RESULTS_MAX_BYTES, "Most bytes of device logs copied into the results of "
+                        + "a single scenario. Defaults to 100MB."),
+                Parameter.of(TEST_RESULTS_ATTACH_FAILED_ONLY, "Only attach device logs to the report of "
+                        + "failed scenarios. Logs are still copied to " + TEST_RESULTS_PATH + ". Defaults to false."),
                 Parameter.of(TEST_ID_PREFIX, "A common prefix applied to all test specific resources "
                         + "including AWS resource names and tags. Default is a \"gg\" prefix."),
                 Parameter.of(TES_ROLE_NAME, "The Iam Role that ggc will assume to access AWS services"
@@ -64,7 +80,16 @@ public class FeatureParameters implements Parameters {
                         + "the trusted plugins that need to added to greengrass. To provide the path on the DUT "
                         + "itself, prefix the path with 'dut:'"),
                 Parameter.of(EXISTING_DEVICE_CERTIFICATE_ARN, "The arn of an already created certificate that"
-                        + "you want to use as device certificate for greengrass.")
+                        + "you want to use as device certificate for greengrass."),
+                Parameter.of(IDENTITY_POOL_SIZE, "Number of IoT identities provisioned ahead of the scenarios, "
+                        + "which lease and reuse them instead of registering a new thing each. Not used with "
+                        + CSR_PATH + ", " + EXISTING_DEVICE_CERTIFICATE_ARN + ", " + TES_ROLE_NAME + " or HSM. "
+                        + "Defaults to 0, disabled."),
+                Parameter.of(DEPLOYMENT_EVENTS, "Wait for cloud deployments on IoT Jobs notifications sent over "
+                        + "the host MQTT connection, polling their status slowly as a fallback. Requires the MQTT "
+                        + "feature, and only applies to scenarios that connected. Defaults to false."),
+                Parameter.of(IDENTITY_POOL_PATH, "File the identities of the pool are kept in, private keys "
+                        + "included, so later runs reuse them. The identities are then left in the account.")
         );
     }
 }
@@ -84,10 +84,20 @@ public class GreengrassContextModule extends AbstractModule {
     @Provides
     @Singleton
     static GreengrassContext providesNucleusContext(
+            final RunScope runScope,
             final ParameterValues parameterValues,
             @Named(JacksonModule.YAML) ObjectMapper mapper,
             final InitializationContext initializationContext,
             final CleanupContext cleanupContext) throws IOException {
+        return runScope.get(GreengrassContext.class,
+                () -> createNucleusContext(parameterValues, mapper, initializationContext, cleanupContext));
+    }
+
+    private static GreengrassContext createNucleusContext(
+            final ParameterValues parameterValues,
+            final ObjectMapper mapper,
+            final InitializationContext initializationContext,
+            final CleanupContext cleanupContext) throws IOException {
         FileInputStream nucleusRecipeInStream = null;
         try {
             Path tempDirectory;
@@ -6,7 +6,12 @@
 package com.aws.greengrass.testing.modules;
 
 import com.aws.greengrass.testing.DefaultGreengrass;
+import com.aws.greengrass.testing.NucleusTemplates;
 import com.aws.greengrass.testing.api.Greengrass;
+import com.aws.greengrass.testing.api.ParameterValues;
+import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.model.CleanupContext;
+import com.aws.greengrass.testing.features.DeploymentEvents;
 import com.aws.greengrass.testing.features.FileSteps;
 import com.aws.greengrass.testing.features.WaitSteps;
 import com.aws.greengrass.testing.model.GreengrassContext;
@@ -17,10 +22,30 @@ import com.google.auto.service.AutoService;
 import com.google.inject.AbstractModule;
 import com.google.inject.Module;
 import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.multibindings.Multibinder;
 import io.cucumber.guice.ScenarioScoped;
 
 @AutoService(Module.class)
 public class GreengrassModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        // Features able to push deployment status contribute to it, otherwise deployments are polled
+        Multibinder.newSetBinder(binder(), DeploymentEvents.class);
+    }
+
+    @Provides
+    @Singleton
+    static NucleusTemplates providesNucleusTemplates(
+            final RunScope runScope,
+            final ParameterValues parameterValues,
+            final CleanupContext cleanupContext) {
+        return runScope.get(NucleusTemplates.class, () -> new NucleusTemplates(
+                parameterValues.getString(FeatureParameters.NUCLEUS_INSTALL_TEMPLATE)
+                        .map(Boolean::parseBoolean)
+                        .orElse(false), cleanupContext));
+    }
+
     @Provides
     @ScenarioScoped
     static Greengrass providesGreengrass(
@@ -29,10 +54,12 @@ public class GreengrassModule extends AbstractModule {
             final GreengrassContext greengrassContext,
             final AWSResourcesContext resourcesContext,
             final WaitSteps waits,
-            final FileSteps fileSteps) {
+            final FileSteps fileSteps,
+            final NucleusTemplates templates,
+            final Device device) {
         return new DefaultGreengrass(platform,
                 resourcesContext,
                 greengrassContext,
-                testContext, waits, fileSteps);
+                testContext, waits, fileSteps, templates, device.id());
     }
 }
@@ -5,13 +5,33 @@
 
 package com.aws.greengrass.testing.modules;
 
+import com.aws.greengrass.testing.CredentialsEndpointProber;
+import com.aws.greengrass.testing.IdentityPool;
+import com.aws.greengrass.testing.IotIdentityProvisioner;
+import com.aws.greengrass.testing.api.ParameterValues;
+import com.aws.greengrass.testing.api.model.CleanupContext;
+import com.aws.greengrass.testing.api.model.InitializationContext;
 import com.aws.greengrass.testing.api.model.ProxyConfig;
+import com.aws.greengrass.testing.api.model.TestId;
+import com.aws.greengrass.testing.features.IamSteps;
+import com.aws.greengrass.testing.features.IotSteps;
 import com.aws.greengrass.testing.model.RegistrationContext;
 import com.aws.greengrass.testing.modules.exception.ModuleProvisionException;
+import com.aws.greengrass.testing.modules.model.AWSResourcesContext;
+import com.aws.greengrass.testing.resources.AWSResourceLifecycle;
+import com.aws.greengrass.testing.resources.AWSResources;
+import com.aws.greengrass.testing.resources.MetadataCache;
+import com.aws.greengrass.testing.resources.ResourceAvailability;
+import com.aws.greengrass.testing.resources.iam.IamLifecycle;
+import com.aws.greengrass.testing.resources.iot.IotLifecycle;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auto.service.AutoService;
 import com.google.inject.AbstractModule;
 import com.google.inject.Module;
 import com.google.inject.Provides;
+import software.amazon.awssdk.services.greengrassv2.GreengrassV2Client;
+import software.amazon.awssdk.services.iam.IamClient;
+import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.awssdk.utils.IoUtils;
 
 import java.io.IOException;
@@ -20,7 +40,14 @@ import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 @AutoService(Module.class)
@@ -39,4 +66,66 @@ public class RegistrationContextModule extends AbstractModule {
             throw new ModuleProvisionException(ie);
         }
     }
+
+    @Provides
+    @Singleton
+    static CredentialsEndpointProber providesCredentialsEndpointProber(
+            final RunScope runScope,
+            final AWSResourcesContext resourcesContext) {
+        return runScope.get(CredentialsEndpointProber.class, () -> new CredentialsEndpointProber(
+                CredentialsEndpointProber.DEFAULT_OPTIONS, resourcesContext.region().id()));
+    }
+
+    @Provides
+    @Singleton
+    static IdentityPool providesIdentityPool(
+            final RunScope runScope,
+            final ParameterValues parameterValues,
+            final InitializationContext initializationContext,
+            final CleanupContext cleanupContext,
+            final AWSResourcesContext resourcesContext,
+            final ResourceAvailability availability,
+            final IotClient iotClient,
+            final GreengrassV2Client greengrassClient,
+            final IamClient iamClient,
+            final MetadataCache metadataCache,
+            final CredentialsEndpointProber prober,
+            final ObjectMapper jsonMapper,
+            @Named(JacksonModule.YAML) final ObjectMapper yamlMapper) {
+        return runScope.get(IdentityPool.class, () -> {
+            final int size = parameterValues.getString(FeatureParameters.IDENTITY_POOL_SIZE)
+                    .map(Integer::parseInt)
+                    .orElse(0);
+            // Scenarios bringing their own certificate, role or HSM still register a thing of their own
+            final boolean customIdentity = initializationContext.persistInstalledSoftware()
+                    || parameterValues.getString(FeatureParameters.CSR_PATH).isPresent()
+                    || parameterValues.getString(FeatureParameters.EXISTING_DEVICE_CERTIFICATE_ARN).isPresent()
+                    || parameterValues.getString(FeatureParameters.TES_ROLE_NAME).isPresent()
+                    || Boolean.parseBoolean(parameterValues.getString(HsmParameters.HSM_CONFIGURED).orElse("false"));
+            if (size <= 0 || customIdentity) {
+                return IdentityPool.disabled();
+            }
+            final Path store = parameterValues.getString(FeatureParameters.IDENTITY_POOL_PATH)
+                    .map(Paths::get)
+                    .orElse(null);
+            final TestId runId = TestId.builder()
+                    .prefix(parameterValues.getString(FeatureParameters.TEST_ID_PREFIX).orElse("gg"))
+                    .id(TestContextModule.randomString(20))
+                    .build();
+            final Set<AWSResourceLifecycle> lifecycles = new HashSet<>(Arrays.asList(
+                    new IotLifecycle(iotClient, metadataCache), new IamLifecycle(iamClient)));
+            final AWSResources resources = new AWSResources(lifecycles, Objects.isNull(store)
+                    ? cleanupContext
+                    : CleanupContext.builder()
+                            .persistAWSResources(true)
+                            .persistInstalledSoftware(cleanupContext.persistInstalledSoftware())
+                            .persistGeneratedFiles(cleanupContext.persistGeneratedFiles())
+                            .build(),
+                    runId, availability);
+            return new IdentityPool(new IotIdentityProvisioner(iotClient, greengrassClient, resources,
+                    new IotSteps(runId, resources, yamlMapper),
+                    new IamSteps(runId, yamlMapper, resourcesContext, resources),
+                    prober, runId, store, jsonMapper), size, IdentityPool.DEFAULT_LEASE_TIMEOUT);
+        });
+    }
 }
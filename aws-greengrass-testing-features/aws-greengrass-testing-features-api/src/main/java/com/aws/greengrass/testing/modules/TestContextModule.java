@@ -10,10 +10,13 @@ import com.aws.greengrass.testing.api.model.CleanupContext;
 import com.aws.greengrass.testing.api.model.InitializationContext;
 import com.aws.greengrass.testing.api.model.TestId;
 import com.aws.greengrass.testing.api.model.TimeoutMultiplier;
+import com.aws.greengrass.testing.features.IdentitySteps;
 import com.aws.greengrass.testing.model.GreengrassContext;
+import com.aws.greengrass.testing.model.LogCollection;
 import com.aws.greengrass.testing.model.TestContext;
 import com.aws.greengrass.testing.modules.exception.ModuleProvisionException;
 import com.aws.greengrass.testing.platform.Platform;
+import com.aws.greengrass.testing.resources.iot.IotThingSpec;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auto.service.AutoService;
@@ -31,6 +34,7 @@ import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
@@ -55,6 +59,17 @@ public class TestContextModule extends AbstractModule {
                 .build();
     }
 
+    @Provides
+    @Singleton
+    static LogCollection providesLogCollection(final ParameterValues parameterValues) {
+        final LogCollection.Builder builder = LogCollection.builder();
+        parameterValues.getString(FeatureParameters.TEST_RESULTS_MAX_BYTES).map(Long::parseLong)
+                .ifPresent(builder::maxBytes);
+        parameterValues.getString(FeatureParameters.TEST_RESULTS_ATTACH_FAILED_ONLY).map(Boolean::parseBoolean)
+                .ifPresent(builder::attachFailedOnly);
+        return builder.build();
+    }
+
     @Provides
     @ScenarioScoped
     static TestId providesTestId(ParameterValues parameterValues) {
@@ -73,7 +88,8 @@ public class TestContextModule extends AbstractModule {
             final InitializationContext initializationContext,
             final GreengrassContext greengrassContext,
             @Named(JacksonModule.YAML) final ObjectMapper mapper,
-            final Platform platform) {
+            final Platform platform,
+            final IdentitySteps identitySteps) {
         Path testDirectory = greengrassContext.tempDirectory().resolve(testId.prefixedId());
         Path testResultsPath = parameterValues.getString(FeatureParameters.TEST_RESULTS_PATH)
                 .map(Paths::get)
@@ -84,7 +100,7 @@ public class TestContextModule extends AbstractModule {
         } catch (IOException ie) {
             throw new ModuleProvisionException(ie);
         }
-        String coreThingName = testId.idFor("ggc-thing");
+        String coreThingName = null;
         String coreVersion = greengrassContext.version();
         Path installPath = parameterValues.getString(FeatureParameters.NUCLEUS_INSTALL_ROOT)
                 .map(s -> Paths.get(s, testDirectory.getFileName().toString()))
@@ -105,7 +121,7 @@ public class TestContextModule extends AbstractModule {
             trustedPluginsPaths = new ArrayList<>(Arrays.asList(
                             parameterValues.getString(FeatureParameters.TRUSTED_PLUGINS_PATHS).get().split(",")));
         }
-        return TestContext.builder()
+        final TestContext.Builder builder = TestContext.builder()
                 .logLevel(parameterValues.getString(FeatureParameters.NUCLEUS_LOG_LEVEL).orElse("INFO"))
                 .currentUser(parameterValues.getString(FeatureParameters.NUCLEUS_USER)
                         .orElseGet(() -> System.getProperty("user.name")))
@@ -114,13 +130,19 @@ public class TestContextModule extends AbstractModule {
                 .installRoot(installPath)
                 .testDirectory(testDirectory)
                 .cleanupContext(cleanupContext)
-                .coreThingName(coreThingName)
+                // Unless installed, a pooled identity is already registered and the scenario runs as its thing
+                .coreThingNameSupplier(() -> identitySteps.identity()
+                        .map(IotThingSpec::thingName)
+                        .orElseGet(() -> testId.idFor("ggc-thing")))
                 .coreVersion(coreVersion)
                 .initializationContext(initializationContext)
                 .tesRoleName(parameterValues.getString(FeatureParameters.TES_ROLE_NAME).orElse(""))
                 .hsmConfigured(Boolean.valueOf(parameterValues.getString(HsmParameters.HSM_CONFIGURED).orElse(
                         "false")))
-                .trustedPluginsPaths(trustedPluginsPaths)
-                .build();
+                .trustedPluginsPaths(trustedPluginsPaths);
+        if (Objects.nonNull(coreThingName)) {
+            builder.coreThingName(coreThingName);
+        }
+        return builder.build();
     }
 }
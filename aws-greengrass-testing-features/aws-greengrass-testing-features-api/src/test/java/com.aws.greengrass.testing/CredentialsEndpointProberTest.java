@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing;
+
+import com.aws.greengrass.testing.resources.ResourceAvailabilityOptions;
+import com.aws.greengrass.testing.resources.iot.IotThingSpec;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CredentialsEndpointProberTest {
+    private static final IotThingSpec THING = IotThingSpec.builder().thingName("thing").build();
+
+    private static class FakeProber extends CredentialsEndpointProber {
+        final AtomicInteger probes = new AtomicInteger();
+        final int readyAfter;
+
+        FakeProber(ResourceAvailabilityOptions options, int readyAfter) {
+            super(options, "us-west-2");
+            this.readyAfter = readyAfter;
+        }
+
+        @Override
+        boolean probe(IotThingSpec thingSpec, String credentialsEndpoint) throws IOException {
+            if (probes.incrementAndGet() == 1) {
+                throw new IOException("handshake failed");
+            }
+            return probes.get() > readyAfter;
+        }
+    }
+
+    @Test
+    void GIVEN_credentials_not_ready_WHEN_awaiting_THEN_probes_back_off_and_timing_is_recorded() throws Exception {
+        FakeProber prober = new FakeProber(ResourceAvailabilityOptions.builder()
+                .interval(Duration.ofMillis(10))
+                .maxInterval(Duration.ofMillis(40))
+                .multiplier(2.0)
+                .timeout(Duration.ofSeconds(10))
+                .build(), 2);
+
+        Duration took = prober.awaitCredentials(THING, "endpoint");
+
+        assertEquals(3, prober.probes.get());
+        // Slept 10ms then 20ms between the three probes
+        assertTrue(took.toMillis() >= 30);
+        Map<Long, Long> buckets = prober.histograms().get("us-west-2");
+        assertEquals(1L, buckets.values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(1L, buckets.get(250L));
+        prober.close();
+    }
+
+    @Test
+    void GIVEN_credentials_never_ready_WHEN_awaiting_THEN_it_fails_at_the_timeout() {
+        FakeProber prober = new FakeProber(ResourceAvailabilityOptions.builder()
+                .interval(Duration.ofMillis(10))
+                .maxInterval(Duration.ofMillis(20))
+                .timeout(Duration.ofMillis(100))
+                .build(), Integer.MAX_VALUE);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> prober.awaitCredentials(THING, "endpoint"));
+        assertEquals("handshake failed", e.getCause().getMessage());
+        assertTrue(prober.histograms().isEmpty());
+    }
+}
@@ -34,6 +34,8 @@ import software.amazon.awssdk.regions.GeneratedRegionMetadataProvider;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 public class DefaultGreengrassTest {
 
@@ -103,6 +105,25 @@ public class DefaultGreengrassTest {
         assertDoesNotThrow(() -> greengrass.install());
     }
 
+    @Test
+    void GIVEN_install_template_enabled_WHEN_two_scenarios_install_THEN_greengrass_is_installed_once_and_cloned() {
+        NucleusTemplates templates = new NucleusTemplates(true, CleanupContext.builder().build());
+        String deviceId = UUID.randomUUID().toString();
+        Mockito.doReturn(true).when(mockPlatformFiles).cloneTree(Mockito.any(), Mockito.any(), Mockito.any(),
+                Mockito.any());
+        for (int scenario = 0; scenario < 2; scenario++) {
+            DefaultGreengrass cloned = Mockito.spy(new DefaultGreengrass(platform, resourcesContext,
+                    greengrassContext, testContext, waits, fileSteps, templates, deviceId));
+            Mockito.doReturn(MOCK_AWS_REGION).when(cloned).getAWSRegion();
+            Mockito.doReturn(MOCK_ENV_STAGE).when(cloned).getEnvStage();
+            cloned.install();
+        }
+
+        Mockito.verify(mockCommands, Mockito.times(1)).installNucleus(Mockito.any());
+        Mockito.verify(mockPlatformFiles, Mockito.times(2)).cloneTree(Mockito.any(),
+                Mockito.eq(Paths.get(MOCK_GREENGRASS_INSTALL_ROOT_PATH)), Mockito.any(), Mockito.any());
+    }
+
     @Test
     void GIVEN_a_test_that_has_installed_greengrass_WHEN_start_method_is_called_THEN_greengrass_starts_with_a_process_id() {
         startGreengrass();
@@ -110,12 +131,14 @@ public class DefaultGreengrassTest {
     }
 
     @Test
-    void GIVEN_a_greengrass_is_running_with_a_pid_WHEN_stop_method_is_called_THEN_all_processes_started_by_greengrass_are_killed() {
+    void GIVEN_a_greengrass_is_running_with_a_pid_WHEN_stop_method_is_called_THEN_all_processes_started_by_greengrass_are_killed()
+            throws InterruptedException {
         startGreengrass();
 
         int runningGreengrassProcess = greengrass.greengrassProcess;
         Mockito.doNothing().when(mockCommands).killAll(runningGreengrassProcess);
-        Mockito.doReturn(new ArrayList<>(Arrays.asList(1))).when(mockCommands).findDescendants(runningGreengrassProcess);
+        Mockito.doReturn(true).when(mockCommands).waitForDescendants(runningGreengrassProcess, 0, 120,
+                TimeUnit.SECONDS);
 
         assertDoesNotThrow(() -> greengrass.stop());
         assertEquals(0, greengrass.greengrassProcess);
@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing;
+
+import com.aws.greengrass.testing.resources.iot.IotThingSpec;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IdentityPoolTest {
+    private static class FakeProvisioner implements IdentityPool.Provisioner {
+        final AtomicInteger provisioned = new AtomicInteger();
+        final Set<String> failingReset = ConcurrentHashMap.newKeySet();
+        final List<String> reset = Collections.synchronizedList(new ArrayList<>());
+        final List<IotThingSpec> recycled = new ArrayList<>();
+        List<IotThingSpec> retired;
+        boolean failing;
+
+        @Override
+        public List<IotThingSpec> recycle() {
+            return recycled;
+        }
+
+        @Override
+        public IotThingSpec provision() {
+            if (failing) {
+                throw new IllegalStateException("no credentials");
+            }
+            return IotThingSpec.builder().thingName("thing-" + provisioned.incrementAndGet()).build();
+        }
+
+        @Override
+        public void reset(IotThingSpec identity) {
+            if (failingReset.contains(identity.thingName())) {
+                throw new IllegalStateException("reset failed");
+            }
+            reset.add(identity.thingName());
+        }
+
+        @Override
+        public void retire(List<IotThingSpec> identities) throws IOException {
+            retired = identities;
+        }
+    }
+
+    @Test
+    void GIVEN_returned_identity_WHEN_leasing_again_THEN_it_is_reset_and_reused() throws IOException {
+        FakeProvisioner provisioner = new FakeProvisioner();
+        provisioner.recycled.add(IotThingSpec.builder().thingName("kept").build());
+        IdentityPool pool = new IdentityPool(provisioner, 1, Duration.ofSeconds(5));
+
+        IdentityPool.IdentityLease lease = pool.lease();
+        assertEquals("kept", lease.identity().thingName());
+        assertThrows(IllegalStateException.class, new IdentityPool(provisioner, 0, Duration.ofSeconds(5))::lease);
+
+        lease.close();
+        lease.close();
+        assertEquals(Collections.singletonList("kept"), provisioner.reset);
+        assertEquals("kept", pool.lease().identity().thingName());
+        assertEquals(0, provisioner.provisioned.get());
+
+        pool.close();
+        assertEquals(1, provisioner.retired.size());
+    }
+
+    @Test
+    void GIVEN_identity_failing_reset_WHEN_returned_THEN_it_is_replaced() throws IOException {
+        FakeProvisioner provisioner = new FakeProvisioner();
+        provisioner.failingReset.add("thing-1");
+        IdentityPool pool = new IdentityPool(provisioner, 1, Duration.ofSeconds(5));
+
+        IdentityPool.IdentityLease lease = pool.lease();
+        assertEquals("thing-1", lease.identity().thingName());
+        lease.close();
+
+        IotThingSpec replacement = pool.lease().identity();
+        assertNotEquals("thing-1", replacement.thingName());
+        pool.close();
+        // The identity that failed to reset is still removed at the end of the run
+        assertEquals(2, provisioner.retired.size());
+    }
+
+    @Test
+    void GIVEN_provisioning_failing_WHEN_leasing_THEN_it_fails_without_waiting_for_the_timeout() {
+        FakeProvisioner provisioner = new FakeProvisioner();
+        provisioner.failing = true;
+        IdentityPool pool = new IdentityPool(provisioner, 2, Duration.ofMinutes(10));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, pool::lease);
+        assertTrue(e.getMessage().contains("could be provisioned"));
+        assertEquals("no credentials", e.getCause().getMessage());
+        assertFalse(IdentityPool.disabled().enabled());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing;
+
+import com.aws.greengrass.testing.api.model.TestId;
+import com.aws.greengrass.testing.resources.AWSResources;
+import com.aws.greengrass.testing.resources.iam.IamRole;
+import com.aws.greengrass.testing.resources.iot.IotCertificate;
+import com.aws.greengrass.testing.resources.iot.IotRoleAlias;
+import com.aws.greengrass.testing.resources.iot.IotRoleAliasSpec;
+import com.aws.greengrass.testing.resources.iot.IotThing;
+import com.aws.greengrass.testing.resources.iot.IotThingSpec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.greengrassv2.GreengrassV2Client;
+import software.amazon.awssdk.services.greengrassv2.model.CancelDeploymentRequest;
+import software.amazon.awssdk.services.greengrassv2.model.Deployment;
+import software.amazon.awssdk.services.greengrassv2.model.DeploymentStatus;
+import software.amazon.awssdk.services.greengrassv2.model.ListDeploymentsRequest;
+import software.amazon.awssdk.services.greengrassv2.model.ListDeploymentsResponse;
+import software.amazon.awssdk.services.greengrassv2.paginators.ListDeploymentsIterable;
+import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.CancelJobExecutionRequest;
+import software.amazon.awssdk.services.iot.model.GroupNameAndArn;
+import software.amazon.awssdk.services.iot.model.JobExecutionStatus;
+import software.amazon.awssdk.services.iot.model.JobExecutionSummaryForThing;
+import software.amazon.awssdk.services.iot.model.KeyPair;
+import software.amazon.awssdk.services.iot.model.ListJobExecutionsForThingRequest;
+import software.amazon.awssdk.services.iot.model.ListJobExecutionsForThingResponse;
+import software.amazon.awssdk.services.iot.model.ListThingGroupsForThingRequest;
+import software.amazon.awssdk.services.iot.model.ListThingGroupsForThingResponse;
+import software.amazon.awssdk.services.iot.model.RemoveThingFromThingGroupRequest;
+import software.amazon.awssdk.services.iot.paginators.ListJobExecutionsForThingIterable;
+import software.amazon.awssdk.services.iot.paginators.ListThingGroupsForThingIterable;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@ExtendWith(MockitoExtension.class)
+public class IotIdentityProvisionerTest {
+    private static final String THING_ARN = "arn:aws:iot:us-west-2:123456789012:thing/ggc-thing-1";
+
+    @Mock
+    IotClient iotClient;
+
+    @Mock
+    GreengrassV2Client greengrassClient;
+
+    @Mock
+    AWSResources resources;
+
+    @TempDir
+    Path tempDir;
+
+    private IotIdentityProvisioner provisioner(Path store) {
+        return new IotIdentityProvisioner(iotClient, greengrassClient, resources, null, null, null,
+                TestId.builder().id("run").build(), store, new ObjectMapper());
+    }
+
+    private static IotThingSpec identity() {
+        return IotThingSpec.builder()
+                .thingName("ggc-thing-1")
+                .created(true)
+                .roleAliasSpec(IotRoleAliasSpec.builder()
+                        .name("ggc-role-alias")
+                        .iamRole(IamRole.builder().roleName("ggc-role").roleArn("arn:role").build())
+                        .created(true)
+                        .resource(IotRoleAlias.builder().roleAlias("ggc-role-alias").roleAliasArn("arn:alias").build())
+                        .build())
+                .resource(IotThing.builder()
+                        .thingName("ggc-thing-1")
+                        .thingArn(THING_ARN)
+                        .thingId("id")
+                        .certificate(IotCertificate.builder()
+                                .certificateArn("arn:cert")
+                                .certificateId("cert")
+                                .certificatePem("pem")
+                                .keyPair(KeyPair.builder().privateKey("private").publicKey("public").build())
+                                .build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    void GIVEN_identity_used_by_a_scenario_WHEN_reset_THEN_its_deployments_groups_and_jobs_are_undone() {
+        ListDeploymentsRequest deployments = ListDeploymentsRequest.builder()
+                .targetArn(THING_ARN)
+                .historyFilter("LATEST_ONLY")
+                .build();
+        Mockito.doReturn(new ListDeploymentsIterable(greengrassClient, deployments))
+                .when(greengrassClient).listDeploymentsPaginator(deployments);
+        Mockito.doReturn(ListDeploymentsResponse.builder().deployments(
+                Deployment.builder().deploymentId("active").deploymentStatus(DeploymentStatus.ACTIVE).build(),
+                Deployment.builder().deploymentId("done").deploymentStatus(DeploymentStatus.COMPLETED).build())
+                .build()).when(greengrassClient).listDeployments(Mockito.any(ListDeploymentsRequest.class));
+        Mockito.doAnswer(invocation -> new ListThingGroupsForThingIterable(iotClient, invocation.getArgument(0)))
+                .when(iotClient).listThingGroupsForThingPaginator(Mockito.any(ListThingGroupsForThingRequest.class));
+        Mockito.doReturn(ListThingGroupsForThingResponse.builder()
+                .thingGroups(GroupNameAndArn.builder().groupName("group").build())
+                .build()).when(iotClient).listThingGroupsForThing(Mockito.any(ListThingGroupsForThingRequest.class));
+        Mockito.doAnswer(invocation -> new ListJobExecutionsForThingIterable(iotClient, invocation.getArgument(0)))
+                .when(iotClient).listJobExecutionsForThingPaginator(
+                        Mockito.any(ListJobExecutionsForThingRequest.class));
+        Mockito.doAnswer(invocation -> {
+            ListJobExecutionsForThingRequest request = invocation.getArgument(0);
+            List<JobExecutionSummaryForThing> executions = request.status() == JobExecutionStatus.QUEUED
+                    ? Collections.singletonList(JobExecutionSummaryForThing.builder().jobId("queued").build())
+                    : Collections.emptyList();
+            return ListJobExecutionsForThingResponse.builder().executionSummaries(executions).build();
+        }).when(iotClient).listJobExecutionsForThing(Mockito.any(ListJobExecutionsForThingRequest.class));
+
+        provisioner(null).reset(identity());
+
+        Mockito.verify(greengrassClient).cancelDeployment(CancelDeploymentRequest.builder()
+                .deploymentId("active")
+                .build());
+        Mockito.verify(greengrassClient, Mockito.times(1)).cancelDeployment(
+                Mockito.any(CancelDeploymentRequest.class));
+        Mockito.verify(iotClient).removeThingFromThingGroup(RemoveThingFromThingGroupRequest.builder()
+                .thingName("ggc-thing-1")
+                .thingGroupName("group")
+                .build());
+        Mockito.verify(iotClient).cancelJobExecution(CancelJobExecutionRequest.builder()
+                .jobId("queued")
+                .thingName("ggc-thing-1")
+                .force(true)
+                .build());
+    }
+
+    @Test
+    void GIVEN_store_WHEN_retiring_THEN_identities_are_kept_readable_by_the_owner_only() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path store = tempDir.resolve("identities").resolve("pool.json");
+        Files.createDirectories(store.getParent());
+        Files.write(store, "[]".getBytes());
+        Files.setPosixFilePermissions(store, PosixFilePermissions.fromString("rw-r--r--"));
+
+        provisioner(store).retire(Collections.singletonList(identity()));
+
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(store)));
+        List<IotThingSpec> recycled = provisioner(store).recycle();
+        assertEquals(1, recycled.size());
+        assertEquals("private", recycled.get(0).resource().certificate().keyPair().privateKey());
+        assertEquals(1, Files.list(store.getParent()).count());
+        Mockito.verify(resources).close();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing;
+
+import com.aws.greengrass.testing.api.model.CleanupContext;
+import com.aws.greengrass.testing.platform.PlatformFiles;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+public class NucleusTemplatesTest {
+    private static final Path ROOT = Paths.get("/greengrass/run-template");
+
+    @Mock
+    PlatformFiles files;
+
+    @Test
+    void GIVEN_scenarios_with_different_settings_WHEN_cloning_THEN_each_settings_get_their_own_template() {
+        NucleusTemplates templates = new NucleusTemplates(true, CleanupContext.builder().build());
+        String deviceId = UUID.randomUUID().toString();
+        Mockito.doReturn(true).when(files).cloneTree(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        List<Path> installed = new ArrayList<>();
+
+        assertTrue(templates.cloneInto(deviceId, files, ROOT, "INFO\nggc_user", Paths.get("/greengrass/a"),
+                installed::add));
+        assertTrue(templates.cloneInto(deviceId, files, ROOT, "INFO\nggc_user", Paths.get("/greengrass/b"),
+                installed::add));
+        assertTrue(templates.cloneInto(deviceId, files, ROOT, "DEBUG\nggc_user", Paths.get("/greengrass/c"),
+                installed::add));
+
+        assertEquals(2, installed.size());
+        assertNotEquals(installed.get(0), installed.get(1));
+        assertEquals(NucleusTemplates.root(ROOT, "INFO\nggc_user"), installed.get(0));
+        assertEquals(NucleusTemplates.root(ROOT, "DEBUG\nggc_user"), installed.get(1));
+    }
+
+    @Test
+    void GIVEN_template_WHEN_cloning_THEN_only_the_nucleus_distribution_is_linked() {
+        NucleusTemplates templates = new NucleusTemplates(true, CleanupContext.builder().build());
+        Mockito.doReturn(true).when(files).cloneTree(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+
+        templates.cloneInto(UUID.randomUUID().toString(), files, ROOT, "INFO", Paths.get("/greengrass/a"),
+                root -> { });
+
+        // Packages are rewritten by the nucleus, linking them would let one scenario change the template
+        Mockito.verify(files).cloneTree(NucleusTemplates.root(ROOT, "INFO"), Paths.get("/greengrass/a"),
+                NucleusTemplates.LINKED, NucleusTemplates.SKIPPED);
+        assertEquals(1, NucleusTemplates.LINKED.size());
+        assertTrue(NucleusTemplates.LINKED.get(0).startsWith(Paths.get("alts")));
+    }
+
+    @Test
+    void GIVEN_staged_nucleus_WHEN_closing_THEN_it_is_staged_once_and_removed() {
+        NucleusTemplates templates = new NucleusTemplates(false, CleanupContext.builder().build());
+        String deviceId = UUID.randomUUID().toString();
+        Path stagingRoot = Paths.get("/greengrass/nucleus-2.5.0");
+        AtomicInteger staged = new AtomicInteger();
+
+        for (int scenario = 0; scenario < 2; scenario++) {
+            assertEquals(stagingRoot, templates.stage(deviceId, files, stagingRoot, () -> {
+                staged.incrementAndGet();
+                return Collections.emptyList();
+            }));
+        }
+        templates.close();
+
+        assertEquals(1, staged.get());
+        Mockito.verify(files).delete(stagingRoot);
+    }
+}
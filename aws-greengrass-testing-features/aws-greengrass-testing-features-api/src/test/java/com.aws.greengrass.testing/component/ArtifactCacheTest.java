@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.component;
+
+import com.aws.greengrass.testing.api.model.CleanupContext;
+import com.aws.greengrass.testing.resources.AWSResources;
+import com.aws.greengrass.testing.resources.s3.S3Lifecycle;
+import com.aws.greengrass.testing.resources.s3.S3UploadOptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ArtifactCacheTest {
+    private static final String BUCKET = "bucket";
+
+    @Mock
+    S3Client client;
+
+    @Mock
+    AWSResources resources;
+
+    @Mock
+    S3Lifecycle s3;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() {
+        when(resources.lifecycle(S3Lifecycle.class)).thenReturn(s3);
+        lenient().when(s3.uploadOptions()).thenReturn(S3UploadOptions.builder().build());
+        lenient().when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload").build());
+        lenient().when(client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("part").build());
+        lenient().when(client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompleteMultipartUploadResponse.builder().eTag("object").build());
+    }
+
+    private Path artifact(String directory, String content) throws IOException {
+        Path path = Files.createDirectories(tempDir.resolve(directory)).resolve("artifact.py");
+        return Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void GIVEN_same_content_in_two_files_WHEN_uploading_THEN_it_is_uploaded_once() throws IOException {
+        ArtifactCache cache = new ArtifactCache(client, CleanupContext.builder().build(), "run-bucket");
+
+        String first = cache.upload(artifact("scenario-a", "print('hello')"), BUCKET, resources);
+        String second = cache.upload(artifact("scenario-b", "print('hello')"), BUCKET, resources);
+        String changed = cache.upload(artifact("scenario-c", "print('bye')"), BUCKET, resources);
+
+        assertEquals(first, second);
+        assertNotEquals(first, changed);
+        assertTrue(first.startsWith("s3://" + BUCKET + "/artifacts/sha256/"));
+        assertTrue(first.endsWith("/artifact.py"));
+        verify(s3, times(2)).objectExists(eq(BUCKET), anyString());
+        verify(client, times(2)).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void GIVEN_content_already_in_bucket_WHEN_uploading_and_closing_THEN_it_is_neither_uploaded_nor_removed()
+            throws IOException {
+        when(s3.objectExists(eq(BUCKET), anyString())).thenReturn(true);
+        ArtifactCache cache = new ArtifactCache(client, CleanupContext.builder().build(), "run-bucket");
+
+        cache.upload(artifact("scenario-a", "print('hello')"), BUCKET, resources);
+        cache.close();
+
+        verify(client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        verify(client, never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    void GIVEN_uploaded_content_WHEN_closing_THEN_it_is_removed_unless_persisted() throws IOException {
+        ArtifactCache cache = new ArtifactCache(client, CleanupContext.builder().build(), "run-bucket");
+        ArtifactCache persisted = new ArtifactCache(client, CleanupContext.builder()
+                .persistAWSResources(true)
+                .build(), "run-bucket");
+
+        persisted.upload(artifact("scenario-a", "print('hello')"), BUCKET, resources);
+        persisted.close();
+        verify(client, never()).deleteObject(any(DeleteObjectRequest.class));
+
+        String uri = cache.upload(artifact("scenario-b", "print('hello')"), BUCKET, resources);
+        cache.close();
+        verify(client).deleteObject(DeleteObjectRequest.builder()
+                .bucket(BUCKET)
+                .key(uri.substring(("s3://" + BUCKET + "/").length()))
+                .build());
+    }
+}
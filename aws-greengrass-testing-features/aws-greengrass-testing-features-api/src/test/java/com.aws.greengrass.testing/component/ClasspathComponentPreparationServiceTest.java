@@ -33,9 +33,13 @@ public class ClasspathComponentPreparationServiceTest {
     @Mock
     ComponentOverrides overrides;
 
+    @Mock
+    ArtifactCache artifactCache;
+
     @InjectMocks
     ClasspathComponentPreparationService classpathComponentPreparationService = Mockito.spy(
-            new ClasspathComponentPreparationService(resources, mapper, testContext, greengrassContext, overrides));
+            new ClasspathComponentPreparationService(resources, mapper, testContext, greengrassContext, overrides,
+                    artifactCache));
 
 
     @Test
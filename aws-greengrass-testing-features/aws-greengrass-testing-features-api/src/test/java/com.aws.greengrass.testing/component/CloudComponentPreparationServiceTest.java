@@ -10,6 +10,7 @@ import com.aws.greengrass.testing.api.model.ComponentOverrideVersion;
 import com.aws.greengrass.testing.model.GreengrassContext;
 import com.aws.greengrass.testing.model.TestContext;
 import com.aws.greengrass.testing.api.ParameterValues;
+import com.aws.greengrass.testing.resources.MetadataCache;
 import com.aws.greengrass.testing.resources.greengrass.GreengrassV2Lifecycle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,7 +21,14 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.greengrassv2.GreengrassV2Client;
 import software.amazon.awssdk.services.greengrassv2.model.Component;
+import software.amazon.awssdk.services.greengrassv2.model.ComponentLatestVersion;
+import software.amazon.awssdk.services.greengrassv2.model.ComponentVersionListItem;
+import software.amazon.awssdk.services.greengrassv2.model.ListComponentVersionsRequest;
+import software.amazon.awssdk.services.greengrassv2.model.ListComponentVersionsResponse;
+import software.amazon.awssdk.services.greengrassv2.model.ListComponentsRequest;
+import software.amazon.awssdk.services.greengrassv2.model.ListComponentsResponse;
 import java.util.Optional;
 
 
@@ -31,6 +39,9 @@ public class CloudComponentPreparationServiceTest {
     @Mock
     GreengrassV2Lifecycle ggv2;
 
+    @Mock
+    ComponentCatalog catalog;
+
     @Mock
     GreengrassContext ggContext;
 
@@ -45,7 +56,7 @@ public class CloudComponentPreparationServiceTest {
 
     @BeforeEach
     public void setup() {
-        componentPreparation = Mockito.spy(new CloudComponentPreparationService(ggv2, currentRegion, ggContext, parameterValues, testContext));
+        componentPreparation = Mockito.spy(new CloudComponentPreparationService(ggv2, catalog, currentRegion, ggContext, parameterValues, testContext));
     }
 
     @Test
@@ -81,4 +92,33 @@ public class CloudComponentPreparationServiceTest {
         assertEquals("GG_CLI_VERSION", componentPreparation.prepare(overrideNameVersion).get().version().value());
     }
 
+    @Test
+    void GIVEN_metadata_cache_WHEN_preparing_components_again_THEN_listings_are_not_repeated() {
+        GreengrassV2Client client = Mockito.mock(GreengrassV2Client.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(ListComponentsResponse.builder()
+                .components(Component.builder()
+                        .componentName("com.example.Private")
+                        .arn("mock_private_arn")
+                        .latestVersion(ComponentLatestVersion.builder().componentVersion("2.0.0").build())
+                        .build())
+                .build()).when(client).listComponents(Mockito.any(ListComponentsRequest.class));
+        Mockito.doReturn(ListComponentVersionsResponse.builder()
+                .componentVersions(ComponentVersionListItem.builder().componentVersion("2.0.0").build(),
+                        ComponentVersionListItem.builder().componentVersion("1.1.0").build())
+                .build()).when(client).listComponentVersions(Mockito.any(ListComponentVersionsRequest.class));
+        GreengrassV2Lifecycle lifecycle = new GreengrassV2Lifecycle(client, new MetadataCache());
+        CloudComponentPreparationService cached = new CloudComponentPreparationService(lifecycle,
+                new ComponentCatalog(lifecycle), currentRegion, ggContext, parameterValues, testContext);
+
+        for (int i = 0; i < 3; i++) {
+            Optional<ComponentOverrideNameVersion> prepared = cached.prepare(ComponentOverrideNameVersion.builder()
+                    .name("com.example.Private")
+                    .version(ComponentOverrideVersion.of("cloud", "^1.0.0"))
+                    .build());
+            assertEquals("1.1.0", prepared.get().version().value());
+        }
+        Mockito.verify(client, Mockito.times(1)).listComponents(Mockito.any(ListComponentsRequest.class));
+        Mockito.verify(client, Mockito.times(1)).listComponentVersions(Mockito.any(ListComponentVersionsRequest.class));
+    }
+
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.component;
+
+import com.aws.greengrass.testing.resources.greengrass.GreengrassV2Lifecycle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.greengrassv2.model.Component;
+import software.amazon.awssdk.services.greengrassv2.model.ComponentVersionListItem;
+import software.amazon.awssdk.services.greengrassv2.model.ComponentVisibilityScope;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@ExtendWith(MockitoExtension.class)
+public class ComponentCatalogTest {
+    @Mock
+    GreengrassV2Lifecycle ggv2;
+
+    private static List<ComponentVersionListItem> versions(String... values) {
+        return Arrays.stream(values)
+                .map(value -> ComponentVersionListItem.builder().componentVersion(value).build())
+                .collect(Collectors.toList());
+    }
+
+    private static Component component(String name) {
+        return Component.builder().componentName(name).arn("arn:" + name).build();
+    }
+
+    @Test
+    void GIVEN_component_versions_WHEN_resolving_ranges_THEN_the_greatest_match_is_returned() {
+        Mockito.doReturn(versions("1.0.0", "2.1.0", "1.4.2", "not-a-version", "2.0.0", "3.0.0-rc.1"))
+                .when(ggv2).componentVersions("arn");
+        ComponentCatalog catalog = new ComponentCatalog(ggv2);
+
+        assertEquals("1.4.2", catalog.resolve("arn", "^1.0.0").get().getValue());
+        assertEquals("2.1.0", catalog.resolve("arn", "<2.0.0 || >=2.1.0 <3.0.0").get().getValue());
+        assertEquals("2.0.0", catalog.resolve("arn", "2.0.0").get().getValue());
+        assertEquals(Optional.empty(), catalog.resolve("arn", "^4.0.0"));
+        // Misses look at the listing again, which is the same so nothing is parsed again
+        Mockito.verify(ggv2, Mockito.times(2)).componentVersions("arn");
+    }
+
+    @Test
+    void GIVEN_component_created_after_indexing_WHEN_looking_it_up_THEN_the_index_is_refreshed() {
+        List<Component> first = Collections.singletonList(component("com.example.A"));
+        List<Component> second = Arrays.asList(component("com.example.A"), component("com.example.B"));
+        Mockito.doReturn(first, second, second).when(ggv2).components(ComponentVisibilityScope.PRIVATE);
+        ComponentCatalog catalog = new ComponentCatalog(ggv2);
+
+        assertEquals("arn:com.example.A", catalog.privateComponent("com.example.A").get().arn());
+        assertEquals("arn:com.example.A", catalog.privateComponent("com.example.A").get().arn());
+        assertEquals("arn:com.example.B", catalog.privateComponent("com.example.B").get().arn());
+        assertFalse(catalog.privateComponent("aws.greengrass.Cli").isPresent());
+        Mockito.verify(ggv2, Mockito.times(3)).components(ComponentVisibilityScope.PRIVATE);
+    }
+}
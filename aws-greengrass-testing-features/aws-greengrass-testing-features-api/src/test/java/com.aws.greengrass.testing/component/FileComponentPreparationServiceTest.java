@@ -34,9 +34,13 @@ public class FileComponentPreparationServiceTest {
     @Mock
     ComponentOverrides overrides;
 
+    @Mock
+    ArtifactCache artifactCache;
+
     @InjectMocks
     FileComponentPreparationService fileComponentPreparationService = Mockito.spy(
-            new FileComponentPreparationService(resources, mapper, testContext, greengrassContext, overrides));
+            new FileComponentPreparationService(resources, mapper, testContext, greengrassContext, overrides,
+                    artifactCache));
 
     @Test
     void GIVEN_a_FileComponentPreparationService_class_inherits_RecipeComponentPreparationService_class_WHEN_a_FileComponentPreparationService_instance_is_initialized_THEN_it_inherit_properly() {
@@ -16,6 +16,8 @@ import com.aws.greengrass.testing.resources.AWSResources;
 import com.aws.greengrass.testing.resources.greengrass.GreengrassComponent;
 import com.aws.greengrass.testing.resources.greengrass.GreengrassComponentSpec;
 import com.aws.greengrass.testing.resources.greengrass.GreengrassV2Lifecycle;
+import com.aws.greengrass.testing.resources.s3.S3BucketSpec;
+import com.aws.greengrass.testing.resources.s3.S3Lifecycle;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +33,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -69,6 +72,9 @@ public class RecipeComponentPreparationServiceTest {
     @Mock
     AWSResources resources;
 
+    @Mock
+    ArtifactCache artifactCache;
+
     @InjectMocks
     RecipeComponentPreparationService componentPreparation;
 
@@ -78,7 +84,7 @@ public class RecipeComponentPreparationServiceTest {
     public void setup() {
         resourceDirectory = Paths.get(System.getProperty("user.dir"),"src", "test", "resources");
         this.componentPreparation = Mockito.spy(new RecipeComponentPreparationService(loader,
-                resources, mapper, testContext, greengrassContext, overrides));
+                resources, mapper, testContext, greengrassContext, overrides, artifactCache));
     }
 
     @Test
@@ -118,4 +124,55 @@ public class RecipeComponentPreparationServiceTest {
         assertEquals(MOCK_COMPONENT_A_NAME, componentOverrideNameVersion.name());
 
     }
+
+    @Test
+    void GIVEN_dependencies_read_WHEN_preparing_the_same_recipe_THEN_it_is_not_loaded_again() throws IOException {
+        Path absolutePathForComponentA = resourceDirectory.resolve(COMPONENT_A_RECIPE_PATH);
+        ComponentOverrideNameVersion overrideNameVersion = ComponentOverrideNameVersion.builder()
+                .name(MOCK_COMPONENT_A_NAME)
+                .version(ComponentOverrideVersion.of(MOCK_COMPONENT_A_TYPE, COMPONENT_A_RECIPE_PATH))
+                .build();
+        Mockito.doAnswer(invocation -> new FileInputStream(absolutePathForComponentA.toString()))
+                .when(loader).load(COMPONENT_A_RECIPE_PATH);
+        Mockito.doReturn(MOCK_TEST_ID).when(testId).id();
+        Mockito.doReturn(testId).when(testContext).testId();
+        Mockito.doReturn(greengrassV2Lifecycle).when(resources).lifecycle(GreengrassV2Lifecycle.class);
+        Mockito.doReturn(true).when(componentPreparation).isArtifactExists(Mockito.any());
+        Mockito.doReturn(MOCK_BUCKET_NAME).when(componentPreparation).getOrCreateBucket();
+        Mockito.doReturn(MOCK_ARTIFACT_URI).when(componentPreparation)
+                .uploadArtifact(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doReturn(GreengrassComponentSpec.builder()
+                .resource(GreengrassComponent.builder()
+                        .componentArn(MOCK_COMPONENT_ARN)
+                        .componentVersion(MOCK_COMPONENT_A_VERSION)
+                        .componentName(MOCK_COMPONENT_A_NAME)
+                        .build())
+                .build())
+                .when(resources).create(Mockito.any());
+
+        componentPreparation.dependencies(overrideNameVersion);
+        assertTrue(componentPreparation.prepare(overrideNameVersion).isPresent());
+        Mockito.verify(loader, Mockito.times(1)).load(COMPONENT_A_RECIPE_PATH);
+
+        // The first preparation modified its recipe, a later one reads it again
+        assertTrue(componentPreparation.prepare(overrideNameVersion).isPresent());
+        Mockito.verify(loader, Mockito.times(2)).load(COMPONENT_A_RECIPE_PATH);
+    }
+
+    @Test
+    void GIVEN_resolved_bucket_WHEN_getting_bucket_again_THEN_s3_is_not_asked_again() {
+        S3Lifecycle s3 = Mockito.mock(S3Lifecycle.class);
+        Mockito.doReturn(s3).when(resources).lifecycle(S3Lifecycle.class);
+        Mockito.doReturn(testId).when(testContext).testId();
+        Mockito.doReturn("gg-component-store").when(testId).idFor("gg-component-store");
+        Mockito.doReturn(false).when(s3).bucketExists("gg-component-store");
+        Mockito.doReturn(Stream.empty()).when(resources).trackingSpecs(S3BucketSpec.class);
+        Mockito.doReturn(MOCK_BUCKET_NAME).when(artifactCache).runBucket(resources);
+
+        assertEquals(MOCK_BUCKET_NAME, componentPreparation.getOrCreateBucket());
+        assertEquals(MOCK_BUCKET_NAME, componentPreparation.getOrCreateBucket());
+
+        Mockito.verify(s3).bucketExists("gg-component-store");
+        Mockito.verify(artifactCache).runBucket(resources);
+    }
 }
@@ -20,6 +20,7 @@ import com.aws.greengrass.testing.resources.greengrass.GreengrassV2Lifecycle;
 import com.aws.greengrass.testing.resources.iot.IotThing;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.ThreadContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,8 +39,13 @@ import java.util.List;
 import java.util.Set;
 import java.util.HashMap;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.stream.Stream;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -96,9 +102,11 @@ public class DeploymentStepsTest {
     @InjectMocks
     ScenarioContext scenarioContext = Mockito.spy(new ScenarioContext(platform, testContext, resources));
 
+    LocalDeploymentAgentClient agent = Mockito.mock(LocalDeploymentAgentClient.class);
+
     @InjectMocks
     DeploymentSteps deploymentSteps= Mockito.spy(new DeploymentSteps(resources, overrides, testContext,
-            componentPreparation, scenarioContext, waits, mapper, platform));
+            componentPreparation, scenarioContext, waits, mapper, platform, Collections.emptySet(), agent));
 
     @Test
     void GIVEN_a_list_of_component_names_with_mixed_type_WHEN_create_deployment_with_this_list_and_then_update_the_configuration_of_one_component_THEN_a_deployment_is_made_first_and_the_deployment_get_updated_successfully() throws JsonProcessingException {
@@ -213,6 +221,70 @@ public class DeploymentStepsTest {
 
 
 
+    @Test
+    void GIVEN_components_depending_on_each_other_WHEN_preparing_THEN_independent_ones_run_concurrently_in_dependency_order() {
+        List<String> prepared = new CopyOnWriteArrayList<>();
+        CountDownLatch concurrent = new CountDownLatch(2);
+        Mockito.doReturn(Collections.singleton("A")).when(componentPreparation)
+                .dependencies(Mockito.argThat(row -> row != null && row.name().equals("B")));
+        Mockito.doAnswer(invocation -> {
+            ComponentOverrideNameVersion row = invocation.getArgument(0);
+            if (!row.name().equals("B")) {
+                // A and C only both get past this when they are prepared at the same time
+                concurrent.countDown();
+                assertTrue(concurrent.await(5, TimeUnit.SECONDS));
+            }
+            prepared.add(row.name());
+            return Optional.of(ComponentOverrideNameVersion.builder()
+                    .from(row)
+                    .version(ComponentOverrideVersion.of("cloud", row.name() + "-1.0.0"))
+                    .build());
+        }).when(componentPreparation).prepare(Mockito.any());
+
+        Map<String, ComponentDeploymentSpecification> components = preparingSteps().parseComponentNamesAndPrepare(
+                Arrays.asList(Arrays.asList("B", "file:b.yaml"), Arrays.asList("A", "file:a.yaml"),
+                        Arrays.asList("C", "^1.0.0")));
+
+        assertEquals(Arrays.asList("B", "A", "C"), new ArrayList<>(components.keySet()));
+        assertEquals("B-1.0.0", components.get("B").componentVersion());
+        assertTrue(prepared.indexOf("A") < prepared.indexOf("B"));
+    }
+
+    @Test
+    void GIVEN_several_components_failing_WHEN_preparing_THEN_every_failure_is_reported() {
+        Mockito.doAnswer(invocation -> {
+            ComponentOverrideNameVersion row = invocation.getArgument(0);
+            throw new IllegalArgumentException("bad recipe " + row.name());
+        }).when(componentPreparation).prepare(Mockito.any());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+                preparingSteps().parseComponentNamesAndPrepare(MOCK_COMPONENTS));
+        assertEquals(2, e.getSuppressed().length);
+    }
+
+    @Test
+    void GIVEN_scenario_thread_context_WHEN_preparing_THEN_preparations_log_with_it() {
+        List<String> testIds = new CopyOnWriteArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            testIds.add(ThreadContext.get("testId"));
+            return Optional.empty();
+        }).when(componentPreparation).prepare(Mockito.any());
+
+        ThreadContext.put("testId", "scenario-1");
+        try {
+            preparingSteps().parseComponentNamesAndPrepare(MOCK_COMPONENTS);
+        } finally {
+            ThreadContext.clearMap();
+        }
+
+        assertEquals(Arrays.asList("scenario-1", "scenario-1"), testIds);
+    }
+
+    private DeploymentSteps preparingSteps() {
+        return new DeploymentSteps(resources, overrides, testContext, componentPreparation, scenarioContext, waits,
+                mapper, platform, Collections.emptySet(), agent);
+    }
+
     private void createMockDeployment() {
         List<List<String>> componentNames = MOCK_COMPONENTS;
 
@@ -30,6 +30,7 @@ import org.mockito.Mockito;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Optional;
 
 public class GreengrassCliStepsTest {
     private static final String MOCK_NUCLEUS_VERSION_IN_TEST_CONTENT = "1.0.0";
@@ -65,9 +66,11 @@ public class GreengrassCliStepsTest {
     @InjectMocks
     ScenarioContext scenarioContext = Mockito.spy(new ScenarioContext(platform, testContext, resources));
 
+    LocalDeploymentAgentClient agent = Mockito.mock(LocalDeploymentAgentClient.class);
+
     @InjectMocks
     GreengrassCliSteps greengrassCliSteps = Mockito.spy(new GreengrassCliSteps(platform, testContext,
-            componentPreparationService, scenarioContext, waitSteps));
+            componentPreparationService, scenarioContext, waitSteps, agent));
 
 
     @Test
@@ -112,6 +115,18 @@ public class GreengrassCliStepsTest {
         assertEquals("SUCCEEDED", greengrassCliSteps.getLocalDeploymentStatus());
     }
 
+    @Test
+    void GIVEN_the_local_deployment_agent_is_running_WHEN_checking_local_state_THEN_greengrass_cli_is_not_run() {
+        Mockito.doReturn(MOCK_DEPLOYMENT_ID).when(scenarioContext).get(Mockito.any());
+        Mockito.doReturn(true).when(agent).available();
+        Mockito.doReturn(Optional.of("SUCCEEDED")).when(agent).deploymentStatus(MOCK_DEPLOYMENT_ID);
+        Mockito.doReturn(Optional.of("RUNNING")).when(agent).componentState("com.example.Component");
+
+        assertEquals("SUCCEEDED", greengrassCliSteps.getLocalDeploymentStatus());
+        assertDoesNotThrow(() -> greengrassCliSteps.verifyComponentIsRunning("com.example.Component", "RUNNING"));
+        Mockito.verify(platform, Mockito.never()).commands();
+    }
+
     private TestContext initializeMockTestContext() {
         // build with mock values, all these values are one time mocked value
         return TestContext.builder()
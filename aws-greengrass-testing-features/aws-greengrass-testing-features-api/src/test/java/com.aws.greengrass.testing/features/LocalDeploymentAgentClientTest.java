@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features;
+
+import com.aws.greengrass.testing.api.model.CleanupContext;
+import com.aws.greengrass.testing.api.model.InitializationContext;
+import com.aws.greengrass.testing.api.model.TestId;
+import com.aws.greengrass.testing.api.model.TimeoutMultiplier;
+import com.aws.greengrass.testing.model.TestContext;
+import com.aws.greengrass.testing.platform.Platform;
+import com.aws.greengrass.testing.platform.PlatformFiles;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalDeploymentAgentClientTest {
+    private static final Path WORK = Paths.get("/greengrass/work/" + LocalDeploymentAgentClient.AGENT_COMPONENT);
+
+    @TempDir
+    Path testDirectory;
+
+    Platform platform = Mockito.mock(Platform.class);
+    PlatformFiles files = Mockito.mock(PlatformFiles.class);
+
+    @Test
+    void GIVEN_agent_running_WHEN_creating_a_local_deployment_THEN_the_request_is_answered_through_its_work_path()
+            throws Exception {
+        LocalDeploymentAgentClient client = client();
+        Mockito.doReturn(true).when(files).exists(WORK.resolve("state.properties"));
+        AtomicReference<Properties> request = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            Properties properties = new Properties();
+            try (InputStream input = Files.newInputStream(invocation.getArgument(0))) {
+                properties.load(input);
+            }
+            request.set(properties);
+            return null;
+        }).when(files).copyTo(Mockito.any(), Mockito.any());
+        Mockito.doAnswer(invocation -> {
+            Path response = WORK.resolve("responses").resolve(((Path) invocation.getArgument(1)).getFileName());
+            Mockito.doReturn(true).when(files).exists(response);
+            Mockito.doReturn("deploymentId=deployment-1").when(files).readString(response);
+            return null;
+        }).when(files).move(Mockito.any(), Mockito.any());
+        Mockito.doReturn("deployment.deployment-1=SUCCEEDED\ncomponent.com.example.Component=RUNNING\n")
+                .when(files).readString(WORK.resolve("state.properties"));
+
+        assertTrue(client.available());
+        assertEquals("deployment-1", client.createLocalDeployment(Paths.get("recipes"), Paths.get("artifacts"),
+                Collections.singletonMap("com.example.Component", "1.0.0"),
+                Collections.singletonMap("com.example.Component",
+                        Collections.singletonMap("MERGE", Collections.singletonMap("key", "value")))));
+
+        assertEquals("1.0.0", request.get().getProperty("merge.com.example.Component"));
+        assertEquals("{\"MERGE\":{\"key\":\"value\"}}",
+                request.get().getProperty("configuration.com.example.Component"));
+        ArgumentCaptor<Path> copied = ArgumentCaptor.forClass(Path.class);
+        Mockito.verify(files).copyTo(Mockito.any(), copied.capture());
+        // The agent ignores the request until it is renamed to its .properties name
+        String copiedName = copied.getValue().getFileName().toString();
+        assertFalse(copiedName.endsWith(".properties"));
+        Mockito.verify(files).move(copied.getValue(),
+                copied.getValue().resolveSibling(copiedName.substring(0, copiedName.lastIndexOf('.'))));
+        assertEquals(Optional.of("SUCCEEDED"), client.deploymentStatus("deployment-1"));
+        assertEquals(Optional.of("RUNNING"), client.componentState("com.example.Component"));
+        assertEquals(Optional.empty(), client.componentState("com.example.Missing"));
+        try (Stream<Path> left = Files.list(testDirectory)) {
+            assertEquals(0, left.count());
+        }
+    }
+
+    @Test
+    void GIVEN_agent_failing_the_deployment_WHEN_creating_it_THEN_its_error_is_thrown() {
+        LocalDeploymentAgentClient client = client();
+        Mockito.doAnswer(invocation -> {
+            Path response = WORK.resolve("responses").resolve(((Path) invocation.getArgument(1)).getFileName());
+            Mockito.doReturn(true).when(files).exists(response);
+            Mockito.doReturn("error=recipe not found").when(files).readString(response);
+            return null;
+        }).when(files).move(Mockito.any(), Mockito.any());
+
+        assertFalse(client.available());
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> client.createLocalDeployment(
+                Paths.get("recipes"), Paths.get("artifacts"), Collections.singletonMap("com.example.Component",
+                        "1.0.0"), Collections.emptyMap()));
+        assertTrue(e.getMessage().contains("recipe not found"));
+    }
+
+    @Test
+    void GIVEN_agent_missing_WHEN_polling_THEN_it_is_only_looked_for_again_after_a_recheck() {
+        LocalDeploymentAgentClient client = client();
+        Path state = WORK.resolve("state.properties");
+
+        assertFalse(client.available());
+        assertFalse(client.available());
+        Mockito.verify(files, Mockito.times(1)).exists(state);
+
+        Mockito.doReturn(true).when(files).exists(state);
+        client.recheck();
+        assertTrue(client.available());
+        client.recheck();
+        assertTrue(client.available());
+        Mockito.verify(files, Mockito.times(2)).exists(state);
+    }
+
+    private LocalDeploymentAgentClient client() {
+        Mockito.doReturn(files).when(platform).files();
+        TestContext testContext = TestContext.builder()
+                .installRoot(Paths.get("/greengrass"))
+                .cleanupContext(CleanupContext.builder().build())
+                .coreThingName("mock_core_thing")
+                .testId(TestId.builder().id("mock_id").build())
+                .testDirectory(testDirectory)
+                .initializationContext(InitializationContext.builder().persistInstalledSoftware(true).build())
+                .logLevel("INFO")
+                .currentUser("mock_user")
+                .coreVersion("1.0.0")
+                .tesRoleName("mock_role_name")
+                .testResultsPath(Paths.get("mock_test_result_path"))
+                .hsmConfigured(false)
+                .build();
+        return new LocalDeploymentAgentClient(platform, testContext,
+                new WaitSteps(TimeoutMultiplier.builder().multiplier(1).build()), new ObjectMapper());
+    }
+}
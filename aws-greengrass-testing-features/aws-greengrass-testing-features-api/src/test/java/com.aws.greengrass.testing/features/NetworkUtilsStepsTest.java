@@ -0,0 +1,34 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features;
+
+import com.aws.greengrass.testing.platform.NetworkUtils;
+import com.aws.greengrass.testing.platform.Platform;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NetworkUtilsStepsTest {
+    Platform platform = Mockito.mock(Platform.class);
+    NetworkUtils networkUtils = Mockito.mock(NetworkUtils.class);
+
+    @Test
+    void GIVEN_failed_firewall_restore_WHEN_restoring_again_THEN_it_is_retried_until_it_succeeds() throws Exception {
+        Mockito.doReturn(networkUtils).when(platform).networkUtils();
+        NetworkUtilsSteps steps = new NetworkUtilsSteps(platform);
+        steps.setDeviceMqtt(false);
+        Mockito.doThrow(new IllegalStateException("iptables-restore failed")).doNothing()
+                .when(networkUtils).restoreFirewall(true, false);
+
+        assertThrows(IllegalStateException.class, steps::restoreDefaultSettings);
+        steps.restoreDefaultSettings();
+        steps.restoreDefaultSettings();
+
+        Mockito.verify(networkUtils).disconnectMqtt();
+        Mockito.verify(networkUtils, Mockito.times(2)).restoreFirewall(true, false);
+    }
+}
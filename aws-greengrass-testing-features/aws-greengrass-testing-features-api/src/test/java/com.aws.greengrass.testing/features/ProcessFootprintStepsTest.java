@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features;
+
+import com.aws.greengrass.testing.api.device.model.ProcessFootprint;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProcessFootprintStepsTest {
+    private static final Path ROOT = Paths.get("/greengrass/v2");
+
+    private static ProcessFootprint process(int pid, int ppid, String cwd, String cmdline, long cpuMillis) {
+        return ProcessFootprint.builder()
+                .pid(pid)
+                .parentPid(ppid)
+                .residentBytes(1024 * 1024)
+                .proportionalBytes(1024 * 1024)
+                .cpuMillis(cpuMillis)
+                .threads(pid)
+                .fileDescriptors(4)
+                .workingDirectory(cwd)
+                .commandLine(cmdline)
+                .build();
+    }
+
+    @Test
+    void GIVEN_process_tree_WHEN_attributing_THEN_processes_belong_to_their_component_or_the_nucleus() {
+        List<ProcessFootprint> footprints = Arrays.asList(
+                process(10, 1, "/greengrass/v2", "sh loader", 0),
+                process(11, 10, "/greengrass/v2", "java -jar Greengrass.jar", 1000),
+                process(12, 11, "/greengrass/v2/work/com.example.Hello", "sh -c python3 hello.py", 10),
+                process(13, 12, null, "python3 hello.py", 490),
+                process(14, 11, "/",
+                        "java -jar /greengrass/v2/packages/artifacts/com.example.Java/1.0.0/app.jar", 200));
+
+        Map<Integer, String> owners = ProcessFootprintSteps.components(footprints, ROOT);
+        assertEquals(ProcessFootprintSteps.NUCLEUS, owners.get(11));
+        assertEquals("com.example.Hello", owners.get(13));
+        assertEquals("com.example.Java", owners.get(14));
+
+        Map<String, ProcessFootprintSteps.Usage> usage = ProcessFootprintSteps.usage(footprints, ROOT);
+        assertEquals(2, usage.get("com.example.Hello").processes);
+        assertEquals(2 * 1024 * 1024, usage.get("com.example.Hello").residentBytes);
+        assertEquals(21, usage.get(ProcessFootprintSteps.NUCLEUS).threads);
+
+        ProcessFootprintSteps.Sample before = new ProcessFootprintSteps.Sample(0, usage);
+        ProcessFootprintSteps.Sample after = new ProcessFootprintSteps.Sample(1000,
+                ProcessFootprintSteps.usage(Arrays.asList(footprints.get(0), footprints.get(1),
+                        process(12, 11, "/greengrass/v2/work/com.example.Hello", "sh -c python3 hello.py", 250),
+                        process(13, 12, null, "python3 hello.py", 750)), ROOT));
+        assertEquals(50, ProcessFootprintSteps.cpuPercent("com.example.Hello", before, after), 0.001);
+        assertEquals(0, ProcessFootprintSteps.cpuPercent("com.example.Java", before, after), 0.001);
+        assertEquals(1, ProcessFootprintSteps.running("com.example.Java", before).processes);
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ProcessFootprintSteps.running("com.example.Java", after));
+        assertTrue(e.getMessage().contains("com.example.Java"));
+    }
+
+    @Test
+    void GIVEN_thread_counts_WHEN_checking_growth_THEN_only_a_sustained_increase_is_growth() {
+        assertFalse(ProcessFootprintSteps.threadsGrew(Arrays.asList(40, 42, 40, 55, 41, 40, 42)));
+        assertTrue(ProcessFootprintSteps.threadsGrew(Arrays.asList(40, 41, 40, 45, 48, 50, 52)));
+        assertFalse(ProcessFootprintSteps.threadsGrew(Collections.singletonList(40)));
+    }
+}
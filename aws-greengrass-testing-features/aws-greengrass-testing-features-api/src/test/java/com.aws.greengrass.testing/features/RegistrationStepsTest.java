@@ -5,6 +5,7 @@
 
 package com.aws.greengrass.testing.features;
 
+import com.aws.greengrass.testing.CredentialsEndpointProber;
 import com.aws.greengrass.testing.api.ParameterValues;
 import com.aws.greengrass.testing.api.model.CleanupContext;
 import com.aws.greengrass.testing.api.model.InitializationContext;
@@ -42,6 +43,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Optional;
 
@@ -114,12 +116,15 @@ public class RegistrationStepsTest {
 
     private AWSResources resources = Mockito.mock(AWSResources.class);
     private ParameterValues parameterValues =  Mockito.mock(ParameterValues.class);
+    private IdentitySteps identitySteps = Mockito.mock(IdentitySteps.class);
+    private CredentialsEndpointProber prober = Mockito.mock(CredentialsEndpointProber.class);
     private TestContext testContext = initializeMockTestContext();
     private ObjectMapper objectMapper = new ObjectMapper(new YAMLFactory());
 
     @InjectMocks
     RegistrationSteps registrationSteps = Mockito.spy(new RegistrationSteps(platform, resources, iamSteps, iotSteps,
-            testContext, registrationContext, resourcesContext, iamLifecycle, parameterValues, fileSteps, objectMapper));
+            testContext, registrationContext, resourcesContext, iamLifecycle, parameterValues, fileSteps, identitySteps,
+            prober, objectMapper));
 
     @Test
     void GIVEN_only_the_config_name_WHEN_register_as_thing_is_invocated_THEN_it_works_as_expected()
@@ -154,6 +159,22 @@ public class RegistrationStepsTest {
         Mockito.verify(registrationSteps, Mockito.times(1)).setupConfigWithConfigFile(Mockito.any(), Mockito.any());
     }
 
+    @Test
+    void GIVEN_pooled_identity_WHEN_register_as_thing_is_invocated_THEN_only_the_thing_group_is_created()
+            throws IOException, InterruptedException {
+        IotThingSpec identity = IotThingSpec.builder().thingName(MOCK_THING_NAME).build();
+        Mockito.doReturn(Optional.of(identity)).when(identitySteps).identity();
+        Mockito.doNothing().when(registrationSteps).setupConfigWithConfigFile(Mockito.any(), Mockito.any());
+        IotLifecycle mockIotLifecycle = Mockito.mock(IotLifecycle.class);
+        Mockito.doReturn(mockIotLifecycle).when(resources).lifecycle(IotLifecycle.class);
+
+        registrationSteps.registerAsThing(null, MOCK_THING_GROUP_NAME);
+
+        Mockito.verify(mockIotLifecycle).addThingToThingGroup(MOCK_THING_NAME, MOCK_THING_GROUP_NAME);
+        Mockito.verify(registrationSteps).setupConfigWithConfigFile(Mockito.any(), Mockito.eq(identity));
+        Mockito.verify(registrationSteps, Mockito.never()).getThingSpec(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
     @Test
     void GIVEN_config_files_WHEN_setup_config_method_is_called_THEN_the_expected_config_file_has_been_created_with_expected_value() throws IOException {
         Path basicConfigFilePath = Paths.get(System.getProperty("user.dir"),"src", "test", "resources",
@@ -189,7 +210,7 @@ public class RegistrationStepsTest {
         Mockito.doReturn(MOCK_IOT_DATA_ENDPOINT).when(mockIotLifecycle).dataEndpoint();
         Mockito.doReturn(MOCK_IOT_CRED_ENDPOINT).when(mockIotLifecycle).credentialsEndpoint();
         Mockito.doNothing().when(mockPlatformFiles).makeDirectories(Mockito.any());
-        Mockito.doNothing().when(mockPlatformFiles).copyTo(Mockito.any(), Mockito.any());
+        Mockito.doReturn(Collections.emptyList()).when(mockPlatformFiles).sync(Mockito.any(), Mockito.any());
 
         registrationSteps.setupConfig(iotThing, iotRoleAliasSpec, config, new HashMap<>());
 
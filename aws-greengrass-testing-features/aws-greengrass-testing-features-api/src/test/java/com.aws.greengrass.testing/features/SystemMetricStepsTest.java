@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features;
+
+import com.aws.greengrass.testing.api.device.metrics.MetricSample;
+import com.aws.greengrass.testing.model.ScenarioContext;
+import com.aws.greengrass.testing.model.TestContext;
+import com.aws.greengrass.testing.platform.Commands;
+import com.aws.greengrass.testing.platform.Platform;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SystemMetricStepsTest {
+    private static List<MetricSample> samples(int count) {
+        List<MetricSample> samples = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            samples.add(MetricSample.builder()
+                    .sequence(i)
+                    .timestampMillis(1000L * i)
+                    .cpuPercent(i + 1)
+                    .load(0.5)
+                    .memoryUsedBytes(1024L * 1024 * (i + 1))
+                    .diskReadBytes(2048L * i)
+                    .diskWrittenBytes(0)
+                    .networkReceivedBytes(0)
+                    .networkSentBytes(0)
+                    .build());
+        }
+        return samples;
+    }
+
+    @Test
+    void GIVEN_samples_WHEN_windowing_THEN_only_the_last_seconds_on_the_device_are_kept() {
+        List<MetricSample> window = SystemMetricSteps.window(samples(100), 19000);
+
+        assertEquals(20, window.size());
+        assertEquals(80, window.get(0).sequence());
+        assertEquals(5.5, SystemMetricSteps.statistic(samples(10), "CPU", "mean"), 0.001);
+        assertEquals(100, SystemMetricSteps.statistic(window, "CPU", "max"), 0.001);
+        assertEquals(99, SystemMetricSteps.statistic(window, "RAM", "p95"), 0.001);
+    }
+
+    @Test
+    void GIVEN_cumulative_counters_WHEN_checking_a_rate_THEN_it_is_computed_between_samples() {
+        assertEquals(2, SystemMetricSteps.statistic(samples(10), "DISK", "max"), 0.001);
+        assertEquals(0, SystemMetricSteps.statistic(samples(10), "NETWORK", "mean"), 0.001);
+        assertThrows(IllegalStateException.class, () -> SystemMetricSteps.statistic(samples(1), "DISK", "max"));
+        assertThrows(IllegalArgumentException.class, () -> SystemMetricSteps.statistic(samples(2), "CPU", "p50"));
+    }
+
+    @Test
+    void GIVEN_samples_not_spanning_the_window_WHEN_checking_it_THEN_the_check_fails() throws Exception {
+        Platform platform = Mockito.mock(Platform.class);
+        Commands commands = Mockito.mock(Commands.class);
+        TestContext testContext = Mockito.mock(TestContext.class);
+        WaitSteps waits = Mockito.mock(WaitSteps.class);
+        Mockito.doReturn(commands).when(platform).commands();
+        Mockito.doReturn(Paths.get("/greengrass")).when(testContext).installRoot();
+        Mockito.doReturn(42).when(commands).startMetricsStream(Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+        Mockito.doReturn(false).when(waits).untilTrue(Mockito.any(), Mockito.anyInt(), Mockito.eq(TimeUnit.SECONDS));
+        SystemMetricSteps steps = new SystemMetricSteps(Mockito.mock(ScenarioContext.class), platform, testContext,
+                waits);
+
+        steps.startSampling(1000);
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> steps.checkWindow("CPU", 60, "max", 50, "percent"));
+        assertTrue(e.getMessage().contains("only span"));
+    }
+}
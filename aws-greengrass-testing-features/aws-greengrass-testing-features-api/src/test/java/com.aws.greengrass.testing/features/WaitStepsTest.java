@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features;
+
+import com.aws.greengrass.testing.api.model.TimeoutMultiplier;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WaitStepsTest {
+    WaitSteps waits = new WaitSteps(TimeoutMultiplier.builder().multiplier(1).build());
+
+    @Test
+    void GIVEN_value_becomes_terminal_WHEN_waiting_until_terminal_THEN_terminal_value_is_not_obtained_twice()
+            throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        assertTrue(waits.untilTerminal(calls::incrementAndGet, i -> i == 3, i -> i >= 3, 5, TimeUnit.SECONDS));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void GIVEN_value_never_terminal_WHEN_waiting_until_true_THEN_false_after_timeout() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        assertFalse(waits.untilTrue(() -> calls.incrementAndGet() < 0, 1, TimeUnit.SECONDS));
+        assertTrue(calls.get() > 1);
+    }
+
+    @Test
+    void GIVEN_pushed_terminal_value_WHEN_waiting_until_terminal_THEN_wait_completes_before_timeout()
+            throws InterruptedException {
+        CompletableFuture<String> pushed = new CompletableFuture<>();
+        long start = System.currentTimeMillis();
+        new Thread(() -> pushed.complete("COMPLETED")).start();
+        assertTrue(waits.untilTerminal(pushed, () -> "IN_PROGRESS", "COMPLETED"::equals, "COMPLETED"::equals,
+                30, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(30));
+    }
+
+    @Test
+    void GIVEN_supplier_throws_WHEN_waiting_until_true_THEN_exception_is_rethrown() {
+        assertThrows(IllegalStateException.class, () -> waits.untilTrue(() -> {
+            throw new IllegalStateException("boom");
+        }, 1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void GIVEN_scenario_context_WHEN_waiting_THEN_supplier_runs_on_the_waiting_thread_with_the_context()
+            throws InterruptedException {
+        ThreadContext.put("testId", "scenario-1");
+        try {
+            Thread caller = Thread.currentThread();
+            assertTrue(waits.untilTrue(() -> Thread.currentThread() == caller
+                    && "scenario-1".equals(ThreadContext.get("testId")), 1, TimeUnit.SECONDS));
+        } finally {
+            ThreadContext.clearMap();
+        }
+    }
+
+    @Test
+    void GIVEN_many_blocking_suppliers_WHEN_waiting_concurrently_THEN_no_wait_is_starved() throws Exception {
+        int waiters = Runtime.getRuntime().availableProcessors() * 4;
+        CountDownLatch blocked = new CountDownLatch(waiters);
+        ExecutorService scenarios = Executors.newFixedThreadPool(waiters);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < waiters; i++) {
+                results.add(scenarios.submit(() -> waits.untilTrue(() -> {
+                    // Every supplier blocks until all of them are running at the same time
+                    blocked.countDown();
+                    try {
+                        return blocked.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }, 10, TimeUnit.SECONDS)));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            scenarios.shutdownNow();
+        }
+    }
+}
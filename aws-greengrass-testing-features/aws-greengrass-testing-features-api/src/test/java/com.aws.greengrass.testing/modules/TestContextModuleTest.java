@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.modules;
+
+import com.aws.greengrass.testing.api.ParameterValues;
+import com.aws.greengrass.testing.api.model.CleanupContext;
+import com.aws.greengrass.testing.api.model.InitializationContext;
+import com.aws.greengrass.testing.api.model.TestId;
+import com.aws.greengrass.testing.features.IdentitySteps;
+import com.aws.greengrass.testing.model.GreengrassContext;
+import com.aws.greengrass.testing.model.TestContext;
+import com.aws.greengrass.testing.platform.Platform;
+import com.aws.greengrass.testing.resources.iot.IotThingSpec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@ExtendWith(MockitoExtension.class)
+public class TestContextModuleTest {
+    @Mock
+    ParameterValues parameterValues;
+
+    @Mock
+    Platform platform;
+
+    @Mock
+    IdentitySteps identitySteps;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void GIVEN_identity_pool_WHEN_providing_test_context_THEN_scenario_runs_as_the_pooled_thing() {
+        Mockito.doReturn(Optional.of(IotThingSpec.builder().thingName("pooled-thing").build()))
+                .when(identitySteps).identity();
+
+        TestContext testContext = TestContextModule.providesTestContext(parameterValues,
+                TestId.builder().id("scenario").build(),
+                CleanupContext.builder().build(),
+                InitializationContext.builder().build(),
+                GreengrassContext.builder()
+                        .cleanupContext(CleanupContext.builder().build())
+                        .tempDirectory(tempDir)
+                        .version("2.5.0")
+                        .build(),
+                new ObjectMapper(), platform, identitySteps);
+
+        assertEquals("pooled-thing", testContext.coreThingName());
+        assertEquals("pooled-thing", testContext.coreThingName());
+        Mockito.verify(identitySteps, Mockito.times(1)).identity();
+    }
+
+    @Test
+    void GIVEN_thing_name_WHEN_building_test_context_THEN_the_supplier_is_not_used() {
+        TestContext.Builder builder = TestContext.builder()
+                .testId(TestId.builder().id("scenario").build())
+                .testDirectory(tempDir)
+                .testResultsPath(tempDir)
+                .cleanupContext(CleanupContext.builder().build())
+                .initializationContext(InitializationContext.builder().build())
+                .logLevel("INFO")
+                .installRoot(tempDir)
+                .currentUser("mock_user")
+                .coreVersion("2.5.0")
+                .tesRoleName("")
+                .hsmConfigured(false)
+                .coreThingName("named-thing");
+        TestContext named = builder.coreThingNameSupplier(() -> {
+            throw new AssertionError("The supplier is only used when no name is set");
+        }).build();
+
+        assertEquals("named-thing", named.coreThingName());
+        assertEquals(builder.coreThingNameSupplier(() -> "other").build(), named);
+        assertFalse(named.toString().contains("Supplier"));
+    }
+}
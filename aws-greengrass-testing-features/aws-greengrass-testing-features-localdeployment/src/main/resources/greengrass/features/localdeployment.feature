@@ -8,6 +8,7 @@ Feature: Testing local deployment using CLI in Greengrass
   Scenario: A component is deployed locally using CLI
     When I create a Greengrass deployment with components
       | aws.greengrass.Cli | GG_CLI_VERSION |
+      | aws.greengrass.testing.LocalDeploymentAgent | classpath:/greengrass/components/recipes/local_deployment_agent.yaml |
     And I deploy the Greengrass deployment configuration
     Then the Greengrass deployment is COMPLETED on the device after 180 seconds
     Then I verify greengrass-cli is available in greengrass root
@@ -20,6 +21,7 @@ Feature: Testing local deployment using CLI in Greengrass
   Scenario: A multi-platform component is deployed locally using CLI
     When I create a Greengrass deployment with components
       | aws.greengrass.Cli | GG_CLI_VERSION |
+      | aws.greengrass.testing.LocalDeploymentAgent | classpath:/greengrass/components/recipes/local_deployment_agent.yaml |
     And I deploy the Greengrass deployment configuration
     Then the Greengrass deployment is COMPLETED on the device after 180 seconds
     Then I verify greengrass-cli is available in greengrass root
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features.mqtt;
+
+import com.aws.greengrass.testing.api.ParameterValues;
+import com.aws.greengrass.testing.features.DeploymentEvents;
+import com.aws.greengrass.testing.modules.FeatureParameters;
+import com.aws.greengrass.testing.resources.AWSResources;
+import com.aws.greengrass.testing.resources.iot.IotLifecycle;
+import io.cucumber.guice.ScenarioScoped;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.crt.mqtt.MqttClientConnection;
+import software.amazon.awssdk.crt.mqtt.MqttMessage;
+import software.amazon.awssdk.crt.mqtt.QualityOfService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.inject.Inject;
+
+/**
+ * Tracks the IoT job of a deployment over the MQTT connection of the scenario. A message on the jobs topics of the
+ * core device only triggers a single lookup of the job execution, it is never trusted as the status itself. Only
+ * a scenario that already connected is tracked, a connection is never made for tracking alone since it creates
+ * its own thing, certificate and policy.
+ */
+@ScenarioScoped
+public class MqttDeploymentEvents implements DeploymentEvents {
+    private static final Logger LOGGER = LogManager.getLogger(MqttDeploymentEvents.class);
+    private static final long SUBSCRIBE_TIMEOUT_SECONDS = 30;
+    static final Set<String> TERMINAL_STATUSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "SUCCEEDED", "FAILED", "REJECTED", "CANCELED", "TIMED_OUT", "REMOVED")));
+    // Lookups block on IoT, they run off the MQTT callback thread and the common pool
+    private static final ExecutorService CHECKS = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "deployment-events-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final MQTTSteps mqttSteps;
+    private final AWSResources resources;
+    private final boolean enabled;
+
+    @Inject
+    MqttDeploymentEvents(
+            final MQTTSteps mqttSteps,
+            final AWSResources resources,
+            final ParameterValues parameterValues) {
+        this.mqttSteps = mqttSteps;
+        this.resources = resources;
+        this.enabled = parameterValues.getBoolean(FeatureParameters.DEPLOYMENT_EVENTS).orElse(false);
+    }
+
+    @Override
+    public Optional<CompletableFuture<String>> track(String thingName, String jobId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        final IotLifecycle iot = resources.lifecycle(IotLifecycle.class);
+        final CompletableFuture<String> terminal = new CompletableFuture<>();
+        final String notifyTopic = String.format("$aws/things/%s/jobs/notify", thingName);
+        final List<String> topics = Arrays.asList(notifyTopic,
+                String.format("$aws/things/%s/jobs/%s/update/accepted", thingName, jobId));
+        if (!mqttSteps.isConnected()) {
+            LOGGER.debug("Scenario has no MQTT connection, polling the deployment on {}", thingName);
+            return Optional.empty();
+        }
+        final MqttClientConnection connection = mqttSteps.getConnection();
+        try {
+            for (String topic : topics) {
+                connection.subscribe(topic, QualityOfService.AT_LEAST_ONCE, message -> {
+                    if (!terminal.isDone() && !stillPending(notifyTopic, message, jobId)) {
+                        CompletableFuture.runAsync(() -> check(iot, thingName, jobId, terminal), CHECKS);
+                    }
+                }).get(SUBSCRIBE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.warn("Could not subscribe to the jobs of {}, polling the deployment instead", thingName, e);
+            return Optional.empty();
+        }
+        terminal.whenComplete((status, error) -> topics.forEach(connection::unsubscribe));
+        LOGGER.debug("Tracking job {} on {} over MQTT", jobId, thingName);
+        // The job can be over before the subscriptions were in place
+        check(iot, thingName, jobId, terminal);
+        return Optional.of(terminal);
+    }
+
+    private static boolean stillPending(String notifyTopic, MqttMessage message, String jobId) {
+        // The notify topic lists every pending job of the thing, so the job is not over while it is listed
+        return message.getTopic().equals(notifyTopic)
+                && new String(message.getPayload(), StandardCharsets.UTF_8).contains("\"" + jobId + "\"");
+    }
+
+    private static void check(IotLifecycle iot, String thingName, String jobId, CompletableFuture<String> terminal) {
+        try {
+            final String status = iot.jobExecutionStatus(jobId, thingName);
+            LOGGER.debug("Job {} on {} is {}", jobId, thingName, status);
+            if (TERMINAL_STATUSES.contains(status)) {
+                terminal.complete(status);
+            }
+        } catch (SdkException e) {
+            LOGGER.debug("Could not describe job {} on {}", jobId, thingName, e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features.mqtt;
+
+import com.aws.greengrass.testing.features.DeploymentEvents;
+import com.google.auto.service.AutoService;
+import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+import com.google.inject.multibindings.Multibinder;
+
+@AutoService(Module.class)
+public class MqttModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        Multibinder.newSetBinder(binder(), DeploymentEvents.class).addBinding().to(MqttDeploymentEvents.class);
+    }
+}
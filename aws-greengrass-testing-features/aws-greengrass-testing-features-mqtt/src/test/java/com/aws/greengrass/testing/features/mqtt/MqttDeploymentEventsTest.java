@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.features.mqtt;
+
+import com.aws.greengrass.testing.api.ParameterValues;
+import com.aws.greengrass.testing.modules.FeatureParameters;
+import com.aws.greengrass.testing.resources.AWSResources;
+import com.aws.greengrass.testing.resources.iot.IotLifecycle;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.crt.mqtt.MqttClientConnection;
+import software.amazon.awssdk.crt.mqtt.MqttMessage;
+import software.amazon.awssdk.crt.mqtt.QualityOfService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class MqttDeploymentEventsTest {
+    private static final String NOTIFY = "$aws/things/core/jobs/notify";
+    private static final String UPDATE = "$aws/things/core/jobs/job-1/update/accepted";
+
+    MQTTSteps mqttSteps = Mockito.mock(MQTTSteps.class);
+    AWSResources resources = Mockito.mock(AWSResources.class);
+    IotLifecycle iot = Mockito.mock(IotLifecycle.class);
+    ParameterValues parameterValues = Mockito.mock(ParameterValues.class);
+    MqttClientConnection connection = Mockito.mock(MqttClientConnection.class);
+
+    @Test
+    void GIVEN_events_disabled_WHEN_tracking_THEN_nothing_is_subscribed() {
+        Mockito.doReturn(Optional.empty()).when(parameterValues).getBoolean(FeatureParameters.DEPLOYMENT_EVENTS);
+
+        MqttDeploymentEvents events = new MqttDeploymentEvents(mqttSteps, resources, parameterValues);
+
+        assertFalse(events.track("core", "job-1").isPresent());
+        Mockito.verifyNoInteractions(mqttSteps);
+    }
+
+    @Test
+    void GIVEN_scenario_not_connected_WHEN_tracking_THEN_no_connection_is_made_for_it() throws Exception {
+        Mockito.doReturn(Optional.of(true)).when(parameterValues).getBoolean(FeatureParameters.DEPLOYMENT_EVENTS);
+        Mockito.doReturn(false).when(mqttSteps).isConnected();
+
+        MqttDeploymentEvents events = new MqttDeploymentEvents(mqttSteps, resources, parameterValues);
+
+        assertFalse(events.track("core", "job-1").isPresent());
+        Mockito.verify(mqttSteps, Mockito.never()).getConnection();
+        Mockito.verify(mqttSteps, Mockito.never()).connect();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void GIVEN_job_notifications_WHEN_job_leaves_the_pending_jobs_THEN_its_terminal_status_completes_the_tracking()
+            throws Exception {
+        Mockito.doReturn(Optional.of(true)).when(parameterValues).getBoolean(FeatureParameters.DEPLOYMENT_EVENTS);
+        Mockito.doReturn(iot).when(resources).lifecycle(IotLifecycle.class);
+        Mockito.doReturn(true).when(mqttSteps).isConnected();
+        Mockito.doReturn(connection).when(mqttSteps).getConnection();
+        Mockito.doReturn(CompletableFuture.completedFuture(1)).when(connection)
+                .subscribe(Mockito.anyString(), Mockito.eq(QualityOfService.AT_LEAST_ONCE), Mockito.any());
+        Mockito.doReturn(CompletableFuture.completedFuture(1)).when(connection).unsubscribe(Mockito.anyString());
+        Mockito.doReturn("IN_PROGRESS", "SUCCEEDED").when(iot).jobExecutionStatus("job-1", "core");
+
+        CompletableFuture<String> tracked = new MqttDeploymentEvents(mqttSteps, resources, parameterValues)
+                .track("core", "job-1").get();
+        ArgumentCaptor<Consumer<MqttMessage>> handler = ArgumentCaptor.forClass(Consumer.class);
+        Mockito.verify(connection).subscribe(Mockito.eq(NOTIFY), Mockito.any(), handler.capture());
+        assertFalse(tracked.isDone());
+
+        // Still listed as in progress, so not worth a lookup
+        handler.getValue().accept(new MqttMessage(NOTIFY,
+                "{\"jobs\":{\"IN_PROGRESS\":[{\"jobId\":\"job-1\"}]}}".getBytes(StandardCharsets.UTF_8),
+                QualityOfService.AT_LEAST_ONCE));
+        handler.getValue().accept(new MqttMessage(NOTIFY, "{\"jobs\":{}}".getBytes(StandardCharsets.UTF_8),
+                QualityOfService.AT_LEAST_ONCE));
+
+        assertEquals("SUCCEEDED", tracked.get(5, TimeUnit.SECONDS));
+        Mockito.verify(iot, Mockito.times(2)).jobExecutionStatus("job-1", "core");
+        Mockito.verify(connection, Mockito.timeout(5000)).unsubscribe(NOTIFY);
+        Mockito.verify(connection, Mockito.timeout(5000)).unsubscribe(UPDATE);
+    }
+}
@@ -8,8 +8,9 @@ package com.aws.greengrass.testing.launcher;
 import com.aws.greengrass.testing.api.ParameterValues;
 import com.aws.greengrass.testing.api.Parameters;
 import com.aws.greengrass.testing.api.model.ParameterValue;
+import com.aws.greengrass.testing.launcher.reporting.ScenarioTimings;
 import com.aws.greengrass.testing.launcher.reporting.StepTrackingReporting;
-import com.aws.greengrass.testing.launcher.utils.CucumberReportUtils;
+import com.aws.greengrass.testing.launcher.utils.ScenarioBatches;
 import com.aws.greengrass.testing.modules.GreengrassInjectorSource;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Injector;
@@ -34,7 +35,10 @@ import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
@@ -102,34 +106,57 @@ public final class TestLauncher {
         List<String> uriPool = null;
         final ParameterValues values = TestLauncherModule.providesTestLauncherValues();
         final String parallelConfig = values.getString(TestLauncherParameters.PARALLEL_CONFIG).orElse("");
+        final Optional<Path> history = values.getString(TestLauncherParameters.PARALLEL_TIMINGS).map(Paths::get);
+        ParallelizationConfig parallelizationConfig = null;
 
         if (!parallelConfig.isEmpty()) {
             // load parallel config
-            ParallelizationConfig parallelizationConfig = launcher.mapper.readValue(parallelConfig,
-                    ParallelizationConfig.class);
+            parallelizationConfig = launcher.mapper.readValue(parallelConfig, ParallelizationConfig.class);
 
-            // dry-run
-            runTests(values, true, uriPool);
-
-            // parse cucumber report to get set of tests to run
-            final CucumberReportUtils cucumberReportUtils = injector.getInstance(CucumberReportUtils.class);
-            uriPool = cucumberReportUtils.parseDryRunCucumberReport(parallelizationConfig, values);
+            // split the selected scenarios by how long they took before, without a dry-run. Every batch has to
+            // read the same history to compute the same split, so the results path of a batch is never used.
+            if (!history.isPresent()) {
+                LOGGER.warn("No {} shared by the batches, splitting scenarios by count",
+                        TestLauncherParameters.PARALLEL_TIMINGS);
+            }
+            final ScenarioBatches batches = injector.getInstance(ScenarioBatches.class);
+            uriPool = batches.batch(parallelizationConfig,
+                    batches.enumerate(featureOptions(values, null).build()),
+                    history.map(ScenarioTimings::read).orElseGet(Collections::emptyMap));
+            if (uriPool.isEmpty()) {
+                LOGGER.warn("Batch[{}] has no scenarios to run", parallelizationConfig.getBatchIndex());
+                System.exit(0);
+            }
         }
 
         //actual run
-        runTests(values, false, uriPool);
+        final byte status = runTests(values, uriPool);
+        if (history.isPresent()) {
+            final int batchIndex = Objects.isNull(parallelizationConfig) ? 0 : parallelizationConfig.getBatchIndex();
+            final int batchCount = Objects.isNull(parallelizationConfig) ? 1 : parallelizationConfig.getNumBatches();
+            try {
+                ScenarioTimings.contribute(history.get(), batchIndex, batchCount,
+                        ScenarioTimings.read(timingsPath(values)));
+            } catch (IOException ie) {
+                LOGGER.warn("Failed to record scenario timings in {}", history.get(), ie);
+            }
+        }
+        System.exit(status);
     }
 
-    private static void runTests(ParameterValues values, boolean dryRun, List<String> uriPool) throws IOException {
-        final Path output = Paths.get(values.getString(TestLauncherParameters.TEST_RESULTS_PATH).orElse(""));
-        Files.createDirectories(output);
-        addFileAppender(values, output);
+    private static Path timingsPath(ParameterValues values) {
+        return resultsPath(values).toAbsolutePath().resolve(ScenarioTimings.FILE_NAME);
+    }
 
-        RuntimeOptionsBuilder optionsBuilder = new RuntimeOptionsBuilder()
-                .addGlue(GluePath.parse(DEFAULT_GLUE_PATH))
-                .setStrict(true)
-                .setDryRun(dryRun)
-                .addPluginName(StepTrackingReporting.class.getName(), true);
+    private static Path resultsPath(ParameterValues values) {
+        return Paths.get(values.getString(TestLauncherParameters.TEST_RESULTS_PATH).orElse(""));
+    }
+
+    /**
+     * Options selecting which scenarios run: the features, or the lines of a batch, and the tag filter.
+     */
+    private static RuntimeOptionsBuilder featureOptions(ParameterValues values, List<String> uriPool) {
+        RuntimeOptionsBuilder optionsBuilder = new RuntimeOptionsBuilder();
 
         if (uriPool == null || uriPool.isEmpty()) {
             optionsBuilder.addFeature(FeatureWithLines.parse(DEFAULT_FEATURES));
@@ -151,6 +178,35 @@ public final class TestLauncher {
             optionsBuilder.addTagFilter(tags);
         });
 
+        // Allow external feature files. This enables framework features to work with static features.
+        // A batch already names the lines it runs, external ones included.
+        if (uriPool == null || uriPool.isEmpty()) {
+            values.getString(TestLauncherParameters.FEATURE_PATH).ifPresent(featurePath -> {
+                try (DirectoryStream<Path> paths = Files.newDirectoryStream(Paths.get(featurePath), "*.feature")) {
+                    paths.forEach(path -> optionsBuilder.addFeature(FeatureWithLines.parse("file:" + path)));
+                } catch (NotDirectoryException nde) {
+                    optionsBuilder.addFeature(FeatureWithLines.parse("file:" + featurePath));
+                } catch (IOException ie) {
+                    LOGGER.warn("Failed to select features in {}:", featurePath, ie);
+                }
+            });
+        }
+        return optionsBuilder;
+    }
+
+    private static byte runTests(ParameterValues values, List<String> uriPool) throws IOException {
+        final Path output = resultsPath(values);
+        Files.createDirectories(output);
+        addFileAppender(values, output);
+
+        // Durations of this process only, the shared history is updated from it once the run is over
+        final Path timings = timingsPath(values);
+        RuntimeOptionsBuilder optionsBuilder = featureOptions(values, uriPool)
+                .addGlue(GluePath.parse(DEFAULT_GLUE_PATH))
+                .setStrict(true)
+                .addPluginName(StepTrackingReporting.class.getName() + ":" + timings, true)
+                .setThreads(threads(values));
+
         values.getString(TestLauncherParameters.ADDITIONAL_PLUGINS).ifPresent(plugins -> {
             for (String plugin : plugins.split("\\s*,\\s*")) {
                 optionsBuilder.addPluginName(plugin, true);
@@ -167,25 +223,22 @@ public final class TestLauncher {
             optionsBuilder.addPluginName("json:" + resultsJson, true);
         }
 
-        // Allow external feature files. This enables framework features to work with static features.
-        values.getString(TestLauncherParameters.FEATURE_PATH).ifPresent(featurePath -> {
-            try (DirectoryStream<Path> paths = Files.newDirectoryStream(Paths.get(featurePath), "*.feature")) {
-                paths.forEach(path -> optionsBuilder.addFeature(FeatureWithLines.parse("file:" + path)));
-            } catch (NotDirectoryException nde) {
-                optionsBuilder.addFeature(FeatureWithLines.parse("file:" + featurePath));
-            } catch (IOException ie) {
-                LOGGER.warn("Failed to select features in {}:", featurePath, ie);
-            }
-        });
-
         Runtime runtime = Runtime.builder()
                 .withRuntimeOptions(optionsBuilder.build())
                 .build();
         runtime.run();
+        return runtime.exitStatus();
+    }
 
-        if (!dryRun) {
-            System.exit(runtime.exitStatus());
+    private static int threads(ParameterValues values) {
+        final int threads = values.getString(TestLauncherParameters.PARALLEL_THREADS)
+                .map(Integer::parseInt)
+                .orElse(1);
+        if (threads < 1) {
+            throw new IllegalArgumentException("Parameter " + TestLauncherParameters.PARALLEL_THREADS
+                    + " must be at least 1, but was " + threads);
         }
+        return threads;
     }
 
     /**
@@ -22,6 +22,8 @@ public class TestLauncherParameters implements Parameters {
     static final String TEST_RESULTS_JSON = "test.results.json";
     static final String ADDITIONAL_PLUGINS = "additional.plugins";
     static final String PARALLEL_CONFIG = "parallel.config";
+    static final String PARALLEL_TIMINGS = "parallel.timings";
+    static final String PARALLEL_THREADS = "parallel.threads";
     public static final String TEST_RESULTS_PATH = "test.log.path";
 
     @Override
@@ -49,6 +51,11 @@ public class TestLauncherParameters implements Parameters {
                 Parameter.of(ADDITIONAL_PLUGINS, "Optional additional Cucumber plugins."),
                 Parameter.of(PARALLEL_CONFIG, "Set of batch index and number of batches as a JSON String. "
                         + "Default value of batch index is 0 and number of batches is 1."),
+                Parameter.of(PARALLEL_TIMINGS, "Scenario timings file shared by every batch of "
+                        + PARALLEL_CONFIG + ", used to balance the batches by duration. It is updated once "
+                        + "every batch of the run finished. Without it, batches are split by scenario count."),
+                Parameter.of(PARALLEL_THREADS, "Number of scenarios run at the same time by this process. "
+                        + "Defaults to 1."),
                 Parameter.of(TEST_RESULTS_PATH, "Directory that will contain the results of the "
                         + "entire test run. Defaults to \"testResults\".")
         );
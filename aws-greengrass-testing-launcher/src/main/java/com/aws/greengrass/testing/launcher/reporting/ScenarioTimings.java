@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.launcher.reporting;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * How long each scenario took in earlier runs, in milliseconds, keyed by feature URI and scenario name. The
+ * launcher uses it to balance parallel batches by duration instead of by scenario count.
+ */
+public final class ScenarioTimings {
+    private static final Logger LOGGER = LogManager.getLogger(ScenarioTimings.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Long>> TIMINGS = new TypeReference<Map<String, Long>>() { };
+    public static final String FILE_NAME = "scenario-timings.json";
+
+    private ScenarioTimings() {
+    }
+
+    /**
+     * Key of a scenario in a timings file. Names are used instead of lines so timings survive edits elsewhere
+     * in the feature, and the examples of an outline share a key.
+     *
+     * @param uri the feature {@link URI}
+     * @param name the scenario name
+     * @return the key
+     */
+    public static String key(URI uri, String name) {
+        return uri + "#" + name;
+    }
+
+    /**
+     * Read a timings file. A missing or unreadable file is the same as having no history.
+     *
+     * @param file {@link Path} to the timings file
+     * @return durations in milliseconds by scenario key
+     */
+    public static Map<String, Long> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        try {
+            return MAPPER.readValue(file.toFile(), TIMINGS);
+        } catch (IOException ie) {
+            LOGGER.warn("Ignoring scenario timings in {}", file, ie);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Merge durations into a timings file, keeping the durations of scenarios that did not run this time.
+     *
+     * @param file {@link Path} to the timings file
+     * @param durations durations in milliseconds by scenario key
+     * @throws IOException failure to write the file
+     */
+    public static void write(Path file, Map<String, Long> durations) throws IOException {
+        final Map<String, Long> merged = new TreeMap<>(read(file));
+        merged.putAll(durations);
+        replace(file, merged);
+    }
+
+    /**
+     * Contribute the durations of one batch to a timings file shared by every batch of a run. The shared file is
+     * only updated once every batch contributed, so batches starting at different times all read the same
+     * history and compute the same split. Batch processes serialize on a lock file next to the shared file.
+     *
+     * @param shared {@link Path} to the timings file shared by the batches
+     * @param batchIndex index of the contributing batch
+     * @param batches number of batches in the run
+     * @param durations durations in milliseconds by scenario key, recorded by the batch
+     * @return true if this contribution completed the run and the shared file was updated
+     * @throws IOException failure to lock, read or write the timings files
+     */
+    public static boolean contribute(Path shared, int batchIndex, int batches, Map<String, Long> durations)
+            throws IOException {
+        final Path file = shared.toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        try (FileChannel lock = FileChannel.open(file.resolveSibling(file.getFileName() + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = lock.lock()) {
+            // Replaces what an earlier run that never completed left for this batch
+            replace(contribution(file, batchIndex, batches), new TreeMap<>(durations));
+            final List<Path> contributions = new ArrayList<>(batches);
+            for (int index = 0; index < batches; index++) {
+                final Path contribution = contribution(file, index, batches);
+                if (!Files.isRegularFile(contribution)) {
+                    LOGGER.info("Scenario timings of batch {} recorded, waiting for the other batches", batchIndex);
+                    return false;
+                }
+                contributions.add(contribution);
+            }
+            final Map<String, Long> merged = new TreeMap<>(read(file));
+            for (Path contribution : contributions) {
+                merged.putAll(read(contribution));
+            }
+            replace(file, merged);
+            for (Path contribution : contributions) {
+                Files.deleteIfExists(contribution);
+            }
+            LOGGER.info("Updated scenario timings in {} with {} batches", file, batches);
+            return true;
+        }
+    }
+
+    private static Path contribution(Path shared, int batchIndex, int batches) {
+        return shared.resolveSibling(shared.getFileName() + ".batch-" + batchIndex + "-of-" + batches);
+    }
+
+    /**
+     * Write to a temporary file first, so a reader never sees a partially written file.
+     */
+    private static void replace(Path file, Map<String, Long> durations) throws IOException {
+        final Path target = file.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        final Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(temporary.toFile(), durations);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
@@ -9,7 +9,7 @@ import com.aws.greengrass.testing.api.ScenarioTestRuns;
 import com.aws.greengrass.testing.api.TestRuns;
 import com.aws.greengrass.testing.api.model.TestRun;
 import com.google.common.annotations.VisibleForTesting;
-import io.cucumber.plugin.EventListener;
+import io.cucumber.plugin.ConcurrentEventListener;
 import io.cucumber.plugin.event.EventPublisher;
 import io.cucumber.plugin.event.PickleStepTestStep;
 import io.cucumber.plugin.event.Status;
@@ -22,13 +22,21 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.ThreadContext;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
-public class StepTrackingReporting implements EventListener {
+/**
+ * Logs the progress of every step and tracks each scenario as a {@link TestRun}. This is a
+ * {@link ConcurrentEventListener} so that, when scenarios run on several threads, events are handled on the thread
+ * running the scenario and the scenario {@link ThreadContext} is the one read.
+ */
+public class StepTrackingReporting implements ConcurrentEventListener {
     private static final Logger LOGGER = LogManager.getLogger(StepTrackingReporting.class);
     private static final String CONTEXT_TEST_ID = "testId";
     private static final String CONTEXT_FEATURE = "feature";
@@ -42,6 +50,25 @@ public class StepTrackingReporting implements EventListener {
     @VisibleForTesting
     final TestRuns testRuns = ScenarioTestRuns.instance();
 
+    @VisibleForTesting
+    final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    private final Path timings;
+
+    public StepTrackingReporting() {
+        this.timings = null;
+    }
+
+    /**
+     * Tracks steps and records how long each scenario took into a {@link ScenarioTimings} file, which the
+     * launcher reads to balance parallel batches in later runs.
+     *
+     * @param timings the timings file, passed by Cucumber as the plugin argument
+     */
+    public StepTrackingReporting(File timings) {
+        this.timings = timings.toPath();
+    }
+
     @Override
     public void setEventPublisher(EventPublisher eventPublisher) {
         eventPublisher.registerHandlerFor(TestCaseStarted.class, this::handleScenarioStarted);
@@ -106,13 +133,19 @@ public class StepTrackingReporting implements EventListener {
                         .build();
             }
             testRuns.track(run);
+            if (!run.skipped()) {
+                // Examples of an outline share a key, the slowest one is the safer estimate
+                durations.merge(ScenarioTimings.key(scenarioFinished.getTestCase().getUri(),
+                        scenarioFinished.getTestCase().getName()), run.duration().toMillis(), Math::max);
+            }
         }
         if (Objects.nonNull(logger)) {
             logger.debug("Finished '{}'", scenarioFinished.getTestCase().getName());
         }
     }
 
-    private void handleTestSuiteFinished(final TestRunFinished suiteFinished) {
+    @VisibleForTesting
+    void handleTestSuiteFinished(final TestRunFinished suiteFinished) {
         if (testRuns.tracking().isEmpty()) {
             LOGGER.warn("Suite finished reporting 0 scenarios. This will result in a failure.");
         }
@@ -126,5 +159,12 @@ public class StepTrackingReporting implements EventListener {
             }
             ThreadContext.clearMap();
         }
+        if (Objects.nonNull(timings) && !durations.isEmpty()) {
+            try {
+                ScenarioTimings.write(timings, durations);
+            } catch (IOException ie) {
+                LOGGER.warn("Failed to record scenario timings in {}", timings, ie);
+            }
+        }
     }
 }
@@ -8,7 +8,6 @@ package com.aws.greengrass.testing.launcher.utils;
 import com.aws.greengrass.testing.api.ParameterValues;
 import com.aws.greengrass.testing.launcher.ParallelizationConfig;
 import com.aws.greengrass.testing.launcher.TestLauncherParameters;
-import io.cucumber.core.internal.gherkin.deps.com.google.gson.Gson;
 import io.cucumber.core.internal.gherkin.deps.com.google.gson.JsonArray;
 import io.cucumber.core.internal.gherkin.deps.com.google.gson.JsonElement;
 import io.cucumber.core.internal.gherkin.deps.com.google.gson.JsonObject;
@@ -26,6 +25,13 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.inject.Inject;
 
+/**
+ * Splits the scenarios of a dry-run report round-robin across batches.
+ *
+ * @deprecated the launcher no longer runs a dry-run, use {@link ScenarioBatches} which reads the features directly
+ *     and balances batches by duration.
+ */
+@Deprecated
 public class CucumberReportUtils {
     private static final Logger LOGGER = LogManager.getLogger(CucumberReportUtils.class);
     private static final String CUCUMBER_REPORT = "cucumber.json";
@@ -50,12 +56,10 @@ public class CucumberReportUtils {
             throw new FileNotFoundException(cucumberReport + " is not found");
         }
 
-        Gson gson = new Gson();
-        String objectStr;
+        JsonArray features;
         try (FileReader fileReader = new FileReader(cucumberReport.toString())) {
-            objectStr = new JsonParser().parse(fileReader).toString();
+            features = new JsonParser().parse(fileReader).getAsJsonArray();
         }
-        JsonArray features = gson.fromJson(objectStr, JsonArray.class);
         int offset = 0;
         for (int i = 0; i < features.size(); i++) {
             JsonObject feature = features.get(i).getAsJsonObject();
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.launcher.utils;
+
+import com.aws.greengrass.testing.launcher.ParallelizationConfig;
+import com.aws.greengrass.testing.launcher.reporting.ScenarioTimings;
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.filter.Filters;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.resource.ClassLoaders;
+import io.cucumber.core.runtime.FeaturePathFeatureSupplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Splits the scenarios of a run into parallel batches. Scenarios are read straight from the feature files, so
+ * no dry run is needed, and are packed longest first into the batch with the least total duration so far. Every
+ * batch computes the same split from the same features and timings, so batches never overlap.
+ */
+public class ScenarioBatches {
+    private static final Logger LOGGER = LogManager.getLogger(ScenarioBatches.class);
+    private static final long UNKNOWN_DURATION = 1;
+
+    /**
+     * List the scenarios selected by the features, tags and names of the runtime options.
+     *
+     * @param options the {@link RuntimeOptions} of the run
+     * @return every selected {@link Pickle}, in feature order
+     */
+    public List<Pickle> enumerate(RuntimeOptions options) {
+        final Filters filters = new Filters(options);
+        return new FeaturePathFeatureSupplier(ClassLoaders::getDefaultClassLoader, options,
+                new FeatureParser(UUID::randomUUID)).get().stream()
+                .flatMap(feature -> feature.getPickles().stream())
+                .filter(filters)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Select the scenarios of a single batch. Scenarios without a recorded duration are assumed to take the
+     * average of the recorded ones.
+     *
+     * @param config the {@link ParallelizationConfig} naming the batch
+     * @param pickles every scenario of the run
+     * @param timings durations in milliseconds from {@link ScenarioTimings}
+     * @return feature URIs with lines for the batch, ie: classpath:greengrass/features/cloudComponent.feature:6
+     */
+    public List<String> batch(ParallelizationConfig config, List<Pickle> pickles, Map<String, Long> timings) {
+        final long unknown = (long) timings.values().stream()
+                .mapToLong(Long::longValue)
+                .average()
+                .orElse(UNKNOWN_DURATION);
+        final List<Pickle> longestFirst = new ArrayList<>(pickles);
+        longestFirst.sort(Comparator.<Pickle>comparingLong(pickle -> duration(pickle, timings, unknown))
+                .reversed()
+                .thenComparing(pickle -> pickle.getUri().toString())
+                .thenComparingInt(pickle -> pickle.getLocation().getLine()));
+        final long[] totals = new long[config.getNumBatches()];
+        final List<String> batch = new ArrayList<>();
+        for (Pickle pickle : longestFirst) {
+            int lightest = 0;
+            for (int index = 1; index < totals.length; index++) {
+                if (totals[index] < totals[lightest]) {
+                    lightest = index;
+                }
+            }
+            totals[lightest] += duration(pickle, timings, unknown);
+            if (lightest == config.getBatchIndex()) {
+                batch.add(pickle.getUri() + ":" + pickle.getLocation().getLine());
+            }
+        }
+        LOGGER.info("Batch[{}] contains {} of {} scenarios, expected to take {} ms", config.getBatchIndex(),
+                batch.size(), pickles.size(), totals[config.getBatchIndex()]);
+        LOGGER.debug("Batch[{}] scenarios: \n * {}", config.getBatchIndex(), batch);
+        return batch;
+    }
+
+    private static long duration(Pickle pickle, Map<String, Long> timings, long unknown) {
+        return timings.getOrDefault(ScenarioTimings.key(pickle.getUri(), pickle.getName()), unknown);
+    }
+}
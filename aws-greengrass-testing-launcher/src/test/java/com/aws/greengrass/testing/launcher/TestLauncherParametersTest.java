@@ -13,7 +13,7 @@ public class TestLauncherParametersTest {
     @Test
     void GIVEN_testLauncherParameters_WHEN_invokingAvailableMethod_THEN_correctListOfParameter () {
         TestLauncherParameters testLauncherParameters = new TestLauncherParameters();
-        assertEquals(9,
+        assertEquals(11,
                 testLauncherParameters.available().size());
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.launcher.reporting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScenarioTimingsTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void GIVEN_shared_timings_WHEN_batches_contribute_THEN_history_changes_only_after_the_last_one()
+            throws IOException {
+        Path shared = tempDir.resolve(ScenarioTimings.FILE_NAME);
+        ScenarioTimings.write(shared, Collections.singletonMap("old#scenario", 5L));
+
+        assertFalse(ScenarioTimings.contribute(shared, 1, 2, Collections.singletonMap("b#scenario", 20L)));
+        // A batch starting now still splits with the history the first batch used
+        assertEquals(Collections.singletonMap("old#scenario", 5L), ScenarioTimings.read(shared));
+
+        assertTrue(ScenarioTimings.contribute(shared, 0, 2, Collections.singletonMap("a#scenario", 10L)));
+
+        Map<String, Long> expected = new HashMap<>();
+        expected.put("old#scenario", 5L);
+        expected.put("a#scenario", 10L);
+        expected.put("b#scenario", 20L);
+        assertEquals(expected, ScenarioTimings.read(shared));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            List<String> left = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.contains(".batch-") || name.endsWith(".tmp"))
+                    .collect(Collectors.toList());
+            assertEquals(Collections.emptyList(), left);
+        }
+    }
+
+    @Test
+    void GIVEN_contribution_left_by_earlier_run_WHEN_batch_contributes_again_THEN_it_is_replaced()
+            throws IOException {
+        Path shared = tempDir.resolve(ScenarioTimings.FILE_NAME);
+        ScenarioTimings.contribute(shared, 0, 2, Collections.singletonMap("a#scenario", 10L));
+        ScenarioTimings.contribute(shared, 0, 2, Collections.singletonMap("a#scenario", 30L));
+
+        ScenarioTimings.contribute(shared, 1, 2, Collections.emptyMap());
+
+        assertEquals(Collections.singletonMap("a#scenario", 30L), ScenarioTimings.read(shared));
+    }
+
+    @Test
+    void GIVEN_single_process_WHEN_contributing_THEN_history_is_updated_immediately() throws IOException {
+        Path shared = tempDir.resolve("history").resolve(ScenarioTimings.FILE_NAME);
+
+        assertTrue(ScenarioTimings.contribute(shared, 0, 1, Collections.singletonMap("a#scenario", 10L)));
+
+        assertEquals(Collections.singletonMap("a#scenario", 10L), ScenarioTimings.read(shared));
+    }
+}
@@ -15,14 +15,22 @@ import io.cucumber.plugin.event.StepArgument;
 import io.cucumber.plugin.event.TestCase;
 import io.cucumber.plugin.event.TestCaseFinished;
 import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
 import io.cucumber.plugin.event.TestStep;
 import io.cucumber.plugin.event.TestStepFinished;
 import io.cucumber.plugin.event.TestStepStarted;
+import org.apache.logging.log4j.ThreadContext;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -202,4 +210,60 @@ public class StepTrackingReportingTest {
         assertFalse(stepTrackingReporting.testRuns.tracking().get(0).failed());
         assertFalse(stepTrackingReporting.testRuns.tracking().get(0).skipped());
     }
+
+    @Test
+    void GIVEN_timings_file_WHEN_suite_finishes_THEN_scenario_durations_are_merged_into_it(@TempDir Path tempDir)
+            throws IOException {
+        Path timings = tempDir.resolve(ScenarioTimings.FILE_NAME);
+        ScenarioTimings.write(timings, Collections.singletonMap("other#scenario", 5L));
+        StepTrackingReporting stepTrackingReporting = new StepTrackingReporting(timings.toFile());
+        // Finished scenarios are tracked in a shared instance, so the duration is recorded directly
+        stepTrackingReporting.durations.put(ScenarioTimings.key(testCase.getUri(), testName),
+                Duration.ofMinutes(1).toMillis());
+        stepTrackingReporting.handleTestSuiteFinished(new TestRunFinished(instant));
+
+        Map<String, Long> recorded = ScenarioTimings.read(timings);
+        assertEquals(2, recorded.size());
+        assertEquals(5L, recorded.get("other#scenario"));
+        assertEquals(Duration.ofMinutes(1).toMillis(), recorded.get(ScenarioTimings.key(testCase.getUri(), testName)));
+    }
+
+    @Test
+    void GIVEN_scenarios_on_several_threads_WHEN_steps_finish_THEN_each_run_keeps_its_own_context()
+            throws InterruptedException {
+        StepTrackingReporting stepTrackingReporting = new StepTrackingReporting();
+        List<TestCase> testCases = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final String testId = "test-" + i;
+            final TestCase scenario = Mockito.mock(TestCase.class);
+            Mockito.when(scenario.getId()).thenReturn(UUID.randomUUID());
+            Mockito.when(scenario.getName()).thenReturn(testId);
+            Mockito.when(scenario.getUri()).thenReturn(testCase.getUri());
+            testCases.add(scenario);
+            Thread thread = new Thread(() -> {
+                // Each runner thread sets the keys of its own scenario
+                ThreadContext.put("testId", testId);
+                for (int step = 0; step < 50; step++) {
+                    stepTrackingReporting.handleScenarioStarted(new TestCaseStarted(instant, scenario));
+                    stepTrackingReporting.handleStepStarted(new TestStepStarted(instant, scenario,
+                            pickleStepTestStep));
+                    stepTrackingReporting.handleStepFinished(new TestStepFinished(instant, scenario,
+                            pickleStepTestStep, result));
+                }
+                ThreadContext.clearMap();
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(testCases.size(), stepTrackingReporting.inflightRuns.size());
+        for (TestCase scenario : testCases) {
+            assertEquals(scenario.getName(), stepTrackingReporting.inflightRuns.get(scenario.getId()).build()
+                    .testId());
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.launcher.utils;
+
+import com.aws.greengrass.testing.launcher.ParallelizationConfig;
+import com.aws.greengrass.testing.launcher.reporting.ScenarioTimings;
+import io.cucumber.core.feature.FeatureWithLines;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ScenarioBatchesTest {
+    private final Path feature = Paths.get("src", "test", "resources", "com.aws.greengrass.testing.launcher",
+            "utils", "features", "batches.feature").toAbsolutePath();
+    private final URI uri = feature.toUri();
+
+    ScenarioBatches batches = new ScenarioBatches();
+
+    private List<Pickle> pickles() {
+        return batches.enumerate(new RuntimeOptionsBuilder()
+                .addFeature(FeatureWithLines.parse("file:" + feature))
+                .addTagFilter("not @Skip")
+                .build());
+    }
+
+    private static ParallelizationConfig config(int batchIndex, int numBatches) {
+        ParallelizationConfig config = new ParallelizationConfig();
+        config.setBatchIndex(batchIndex);
+        config.setNumBatches(numBatches);
+        return config;
+    }
+
+    @Test
+    void GIVEN_feature_with_tag_filter_WHEN_enumerating_THEN_every_selected_scenario_is_listed() {
+        List<Pickle> pickles = pickles();
+
+        assertEquals(Arrays.asList("Slow", "Fast", "Outline", "Outline"),
+                pickles.stream().map(Pickle::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void GIVEN_timings_WHEN_batching_THEN_long_scenario_gets_a_batch_of_its_own() {
+        List<Pickle> pickles = pickles();
+        Map<String, Long> timings = new HashMap<>();
+        timings.put(ScenarioTimings.key(uri, "Slow"), 60000L);
+        timings.put(ScenarioTimings.key(uri, "Fast"), 1000L);
+        timings.put(ScenarioTimings.key(uri, "Outline"), 2000L);
+
+        List<String> first = batches.batch(config(0, 2), pickles, timings);
+        List<String> second = batches.batch(config(1, 2), pickles, timings);
+
+        assertEquals(Collections.singletonList(uri + ":7"), first);
+        assertEquals(3, second.size());
+    }
+
+    @Test
+    void GIVEN_no_timings_WHEN_batching_THEN_every_scenario_is_in_exactly_one_balanced_batch() {
+        List<Pickle> pickles = pickles();
+        List<String> all = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            List<String> batch = batches.batch(config(index, 3), pickles, Collections.emptyMap());
+            assertEquals(index == 0 ? 2 : 1, batch.size());
+            all.addAll(batch);
+        }
+
+        assertEquals(4, all.stream().distinct().count());
+    }
+}
@@ -0,0 +1,23 @@
+@Batches
+Feature: Batches
+
+  Background:
+    Given my device is registered as a Thing
+
+  Scenario: Slow
+    When I do something slow
+
+  @Skip
+  Scenario: Skipped
+    When I do nothing
+
+  Scenario: Fast
+    When I do something fast
+
+  Scenario Outline: Outline
+    When I do <thing>
+
+    Examples:
+      | thing |
+      | one   |
+      | two   |
@@ -13,6 +13,9 @@ import com.aws.greengrass.testing.api.model.TestId;
 import com.aws.greengrass.testing.modules.model.AWSResourcesContext;
 import com.aws.greengrass.testing.resources.AWSResourceLifecycle;
 import com.aws.greengrass.testing.resources.AWSResources;
+import com.aws.greengrass.testing.resources.MetadataCache;
+import com.aws.greengrass.testing.resources.ResourceAvailability;
+import com.aws.greengrass.testing.resources.ResourceAvailabilityOptions;
 import com.google.auto.service.AutoService;
 import com.google.inject.AbstractModule;
 import com.google.inject.Module;
@@ -35,14 +38,42 @@ import javax.inject.Singleton;
 
 @AutoService(Module.class)
 public class AWSResourcesModule extends AbstractModule {
-
     @Provides
     @ScenarioScoped
     static AWSResources providesAWSResources(
             Set<AWSResourceLifecycle> lifecycles,
             CleanupContext cleanupContext,
-            TestId testId) {
-        return new AWSResources(lifecycles, cleanupContext, testId);
+            TestId testId,
+            ResourceAvailability availability) {
+        return new AWSResources(lifecycles, cleanupContext, testId, availability);
+    }
+
+    @Provides
+    @Singleton
+    static ResourceAvailability providesResourceAvailability(
+            final RunScope runScope,
+            final ParameterValues parameterValues) {
+        return runScope.get(ResourceAvailability.class, () -> {
+            final ResourceAvailabilityOptions.Builder builder = ResourceAvailabilityOptions.builder();
+            parameterValues.getString(ModuleParameters.RESOURCE_AVAILABILITY_TIMEOUT).map(Duration::parse)
+                    .ifPresent(builder::timeout);
+            parameterValues.getString(ModuleParameters.RESOURCE_AVAILABILITY_INTERVAL).map(Duration::parse)
+                    .ifPresent(builder::interval);
+            parameterValues.getString(ModuleParameters.RESOURCE_AVAILABILITY_MAX_INTERVAL).map(Duration::parse)
+                    .ifPresent(builder::maxInterval);
+            return new ResourceAvailability(builder.build());
+        });
+    }
+
+    @Provides
+    @Singleton
+    static MetadataCache providesMetadataCache(final RunScope runScope, final ParameterValues parameterValues) {
+        return runScope.get(MetadataCache.class, () -> {
+            final boolean enabled = parameterValues.getString(ModuleParameters.METADATA_CACHE)
+                    .map(Boolean::parseBoolean)
+                    .orElse(true);
+            return enabled ? new MetadataCache() : MetadataCache.disabled();
+        });
     }
 
     @Provides
@@ -13,6 +13,7 @@ import io.cucumber.guice.InjectorSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -20,6 +21,21 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class GreengrassInjectorSource implements InjectorSource {
+    private static RunScope runScope;
+
+    /**
+     * The {@link RunScope} shared by the injectors of this run, closed when the JVM shuts down.
+     *
+     * @return the scope of the current run
+     */
+    protected static synchronized RunScope runScope() {
+        if (Objects.isNull(runScope)) {
+            final RunScope scope = new RunScope();
+            Runtime.getRuntime().addShutdownHook(new Thread(scope::close));
+            runScope = scope;
+        }
+        return runScope;
+    }
 
     protected Spliterator<Module> providedModules() {
         return Spliterators.spliteratorUnknownSize(ServiceLoader.load(Module.class).iterator(), Spliterator.NONNULL);
@@ -31,7 +47,9 @@ public class GreengrassInjectorSource implements InjectorSource {
     }
 
     protected List<Module> defaultModules() {
-        return Arrays.asList(CucumberModules.createScenarioModule());
+        final RunScope scope = runScope();
+        return Arrays.asList(CucumberModules.createScenarioModule(),
+                binder -> binder.bind(RunScope.class).toInstance(scope));
     }
 
     @Override
@@ -24,6 +24,12 @@ public class ModuleParameters implements Parameters {
     static final String AWS_REGION = "aws.region";
     static final String CREDENTIALS_PATH = "credentials.path";
     static final String CREDENTIALS_PATH_ROTATION = "credentials.path.rotation";
+    public static final String S3_UPLOAD_PART_SIZE = "s3.upload.part.size";
+    public static final String S3_UPLOAD_CONCURRENCY = "s3.upload.concurrency";
+    static final String RESOURCE_AVAILABILITY_TIMEOUT = "resource.availability.timeout";
+    static final String RESOURCE_AVAILABILITY_INTERVAL = "resource.availability.interval";
+    static final String RESOURCE_AVAILABILITY_MAX_INTERVAL = "resource.availability.max.interval";
+    static final String METADATA_CACHE = "aws.metadata.cache";
 
     @Override
     public List<Parameter> available() {
@@ -53,7 +59,19 @@ public class ModuleParameters implements Parameters {
                         + "the test interacts with testing resources. These values supersede the "
                         + PERSIST_TESTING_RESOURCES + " parameter. Default is empty, which assumes all testing "
                         + "resources are manged by test case, including the installed Greengrass runtime. "
-                        + "Accepted values are: " + Arrays.toString(PersistMode.values()))
+                        + "Accepted values are: " + Arrays.toString(PersistMode.values())),
+                Parameter.of(S3_UPLOAD_PART_SIZE, "Size in bytes of each part of an S3 artifact upload. "
+                        + "Must be at least 5MB. Defaults to 16MB."),
+                Parameter.of(S3_UPLOAD_CONCURRENCY, "Number of parts of a single S3 artifact upload sent "
+                        + "at the same time. Defaults to 4."),
+                Parameter.of(RESOURCE_AVAILABILITY_TIMEOUT, "How long to wait for a created AWS resource to be "
+                        + "available in the cloud before moving on. Defaults to 5 seconds or 'PT5S'."),
+                Parameter.of(RESOURCE_AVAILABILITY_INTERVAL, "Delay before checking again if a created AWS "
+                        + "resource is available, doubled after every check. Defaults to 'PT0.25S'."),
+                Parameter.of(RESOURCE_AVAILABILITY_MAX_INTERVAL, "Longest delay between checks that a created "
+                        + "AWS resource is available. Defaults to 2 seconds or 'PT2S'."),
+                Parameter.of(METADATA_CACHE, "Cache read-only AWS lookups, ie: IoT endpoints, things and "
+                        + "component versions, for the duration of the run. Defaults to true.")
         );
     }
 }
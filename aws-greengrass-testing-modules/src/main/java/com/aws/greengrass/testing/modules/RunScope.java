@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.modules;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the objects shared by every scenario of a run. Cucumber creates an injector for each runner thread, so
+ * a {@code Singleton} of one injector is not a singleton of the run. Providers of such objects create them
+ * through the {@link RunScope} bound by the {@link GreengrassInjectorSource}, which closes them when the run
+ * ends.
+ */
+public class RunScope implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(RunScope.class);
+    private final Map<Object, Object> instances = new LinkedHashMap<>();
+    private boolean closed;
+
+    /**
+     * Creates a value of the run.
+     *
+     * @param <T> type of the value
+     * @param <E> failure of the factory
+     */
+    @FunctionalInterface
+    public interface Factory<T, E extends Exception> {
+        T create() throws E;
+    }
+
+    /**
+     * Obtain the value of the run for a type, creating it on first use.
+     *
+     * @param type type of the value, also the key it is kept under
+     * @param factory creates the value when the run does not have one yet
+     * @param <T> type of the value
+     * @param <E> failure of the factory
+     * @return the value shared by the run
+     * @throws E when the factory fails, nothing is kept and the next call tries again
+     */
+    public <T, E extends Exception> T get(Class<T> type, Factory<T, E> factory) throws E {
+        return get(type, type, factory);
+    }
+
+    /**
+     * Obtain the value of the run for a key, creating it on first use.
+     *
+     * @param key identifies the value within the run
+     * @param type type of the value
+     * @param factory creates the value when the run does not have one yet
+     * @param <T> type of the value
+     * @param <E> failure of the factory
+     * @return the value shared by the run
+     * @throws E when the factory fails, nothing is kept and the next call tries again
+     * @throws IllegalStateException when the run scope is already closed
+     */
+    public synchronized <T, E extends Exception> T get(Object key, Class<T> type, Factory<T, E> factory) throws E {
+        if (closed) {
+            throw new IllegalStateException("Run scope is closed, cannot provide " + type.getSimpleName());
+        }
+        Object instance = instances.get(key);
+        if (Objects.isNull(instance)) {
+            instance = Objects.requireNonNull(factory.create(), type.getSimpleName());
+            instances.put(key, instance);
+        }
+        return type.cast(instance);
+    }
+
+    /**
+     * Close the values of the run, most recently created first, and forget them.
+     */
+    @Override
+    public void close() {
+        final List<Object> values;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            values = new ArrayList<>(instances.values());
+            instances.clear();
+        }
+        Collections.reverse(values);
+        for (Object value : values) {
+            if (value instanceof Closeable) {
+                try {
+                    ((Closeable) value).close();
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.error("Failed to close {}", value.getClass().getSimpleName(), e);
+                }
+            }
+        }
+    }
+}
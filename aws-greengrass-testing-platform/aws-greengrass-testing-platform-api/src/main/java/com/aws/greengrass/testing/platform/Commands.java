@@ -6,11 +6,14 @@
 package com.aws.greengrass.testing.platform;
 
 import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
+import com.aws.greengrass.testing.api.device.metrics.MetricsRing;
 import com.aws.greengrass.testing.api.device.model.CommandInput;
+import com.aws.greengrass.testing.api.device.model.ProcessFootprint;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public interface Commands {
     byte[] execute(CommandInput input) throws CommandExecutionException;
@@ -21,6 +24,29 @@ public interface Commands {
 
     List<Integer> findDescendants(int pid) throws CommandExecutionException;
 
+    /**
+     * Wait until at most a number of descendants of a process are left, ie: for a process tree to shut down.
+     *
+     * @param pid process ID of the root of the tree
+     * @param remaining number of descendants to wait for, not counting the process itself
+     * @param timeout how long to wait for
+     * @param unit {@link TimeUnit} of the timeout
+     * @return true when the descendants are left, false if the timeout passed first
+     * @throws CommandExecutionException failure to list the descendants
+     * @throws InterruptedException thread interrupted while waiting
+     */
+    default boolean waitForDescendants(int pid, int remaining, long timeout, TimeUnit unit)
+            throws CommandExecutionException, InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (findDescendants(pid).size() - 1 > remaining) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        return true;
+    }
+
     void kill(List<Integer> processIds) throws CommandExecutionException;
 
     default void killAll(int pid) throws CommandExecutionException {
@@ -33,6 +59,57 @@ public interface Commands {
         sigterm(findDescendants(pid));
     }
 
+    /**
+     * The log of the sampler writing a metrics ring, next to the ring so it never shares the console log of the
+     * nucleus.
+     *
+     * @param ringFile location of the ring on the device
+     * @return location of the log on the device
+     */
+    static Path metricsLog(Path ringFile) {
+        return ringFile.resolveSibling(ringFile.getFileName() + ".log");
+    }
+
+    /**
+     * Start sampling the resource usage of the device in the background, into a metrics ring file. The console
+     * output of the sampler goes to {@link #metricsLog(Path)}.
+     *
+     * @param ringFile location of the ring on the device
+     * @param intervalMillis milliseconds between samples
+     * @param capacity number of samples kept
+     * @return the process ID of the sampler
+     * @throws CommandExecutionException failure to start the sampler
+     * @throws UnsupportedOperationException if the platform cannot be sampled
+     */
+    default int startMetricsStream(Path ringFile, int intervalMillis, int capacity) throws CommandExecutionException {
+        throw new UnsupportedOperationException("Resource usage is only sampled on Linux devices");
+    }
+
+    /**
+     * Read the samples of a metrics ring file from a sequence on.
+     *
+     * @param ringFile location of the ring on the device
+     * @param fromSequence first sequence to read
+     * @return the encoded records, decoded with {@link MetricsRing#decode(byte[])}
+     * @throws CommandExecutionException failure to read the ring
+     * @throws UnsupportedOperationException if the platform cannot be sampled
+     */
+    default byte[] readMetrics(Path ringFile, long fromSequence) throws CommandExecutionException {
+        throw new UnsupportedOperationException("Resource usage is only sampled on Linux devices");
+    }
+
+    /**
+     * Read the memory, CPU, thread and file descriptor usage of a process and each of its descendants.
+     *
+     * @param pid process ID of the root of the tree
+     * @return a {@link ProcessFootprint} for the root and every descendant still running
+     * @throws CommandExecutionException failure to read the processes
+     * @throws UnsupportedOperationException if the platform cannot be sampled
+     */
+    default List<ProcessFootprint> processFootprints(int pid) throws CommandExecutionException {
+        throw new UnsupportedOperationException("Process footprints are only read on Linux devices");
+    }
+
     void installNucleus(NucleusInstallationParameters installationParameters) throws CommandExecutionException;
 
     int startNucleus(Path rootDirectory) throws CommandExecutionException;
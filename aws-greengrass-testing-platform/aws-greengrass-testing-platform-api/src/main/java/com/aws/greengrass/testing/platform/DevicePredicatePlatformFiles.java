@@ -8,10 +8,12 @@ package com.aws.greengrass.testing.platform;
 import com.aws.greengrass.testing.api.device.Device;
 import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
 import com.aws.greengrass.testing.api.device.exception.CopyException;
+import com.aws.greengrass.testing.api.util.FileManifest;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -68,6 +70,40 @@ class DevicePredicatePlatformFiles implements PlatformFiles {
         });
     }
 
+    @Override
+    public void move(Path source, Path destination) throws CommandExecutionException {
+        delegate(files -> {
+            files.move(source, destination);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Path> copyFrom(Path source, Path destination, long maxBytes) throws CopyException {
+        return delegate(files -> files.copyFrom(source, destination, maxBytes));
+    }
+
+    @Override
+    public FileManifest manifest(Path filePath) throws CommandExecutionException {
+        return delegate(files -> files.manifest(filePath));
+    }
+
+    @Override
+    public FileManifest manifest(Path filePath, Collection<String> paths) throws CommandExecutionException {
+        return delegate(files -> files.manifest(filePath, paths));
+    }
+
+    @Override
+    public List<Path> sync(Path source, Path destination) throws CopyException {
+        return delegate(files -> files.sync(source, destination));
+    }
+
+    @Override
+    public boolean cloneTree(Path source, Path destination, List<Path> linked, List<Path> skipped)
+            throws CopyException {
+        return delegate(files -> files.cloneTree(source, destination, linked, skipped));
+    }
+
     @Override
     public void makeDirectories(Path filePath) throws CommandExecutionException {
         delegate(files -> {
@@ -94,6 +130,11 @@ class DevicePredicatePlatformFiles implements PlatformFiles {
         return delegate(files -> files.readBytes(filePath));
     }
 
+    @Override
+    public byte[] readBytes(Path filePath, long offset) throws CommandExecutionException {
+        return delegate(files -> files.readBytes(filePath, offset));
+    }
+
     @Override
     public List<Path> listContents(Path filePath) throws CommandExecutionException {
         return delegate(files -> files.listContents(filePath));
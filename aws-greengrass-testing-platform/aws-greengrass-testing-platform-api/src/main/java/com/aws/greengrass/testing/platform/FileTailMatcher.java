@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.platform;
+
+import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Counts the occurrences of a string in a growing file, only fetching the bytes appended since the last poll.
+ * Rotation and truncation are detected by re-reading a short guard of bytes before the last offset: if they
+ * no longer match what was previously read, the file is scanned again from the start.
+ */
+public class FileTailMatcher {
+    private static final int GUARD = 64;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Path file;
+    private final String needle;
+    private final CharsetDecoder decoder;
+    private long offset;
+    private long matches;
+    private byte[] guard = EMPTY;
+    private byte[] undecoded = EMPTY;
+    private String carry = "";
+
+    /**
+     * Create a matcher for a single file and string.
+     *
+     * @param file the {@link Path} of the file to tail
+     * @param needle the string to count within the file
+     */
+    public FileTailMatcher(final Path file, final String needle) {
+        this.file = file;
+        this.needle = needle;
+        this.decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Read anything appended to the file since the last poll and update the match count.
+     *
+     * @param files the {@link PlatformFiles} used to read the file
+     * @return the number of occurrences in the current file, overlapping occurrences included
+     * @throws CommandExecutionException failure to read the file
+     */
+    public synchronized long poll(PlatformFiles files) throws CommandExecutionException {
+        byte[] chunk = files.readBytes(file, offset - guard.length);
+        if (startsWithGuard(chunk)) {
+            chunk = Arrays.copyOfRange(chunk, guard.length, chunk.length);
+        } else {
+            reset();
+            chunk = files.readBytes(file, 0);
+        }
+        consume(chunk);
+        return matches;
+    }
+
+    private boolean startsWithGuard(byte[] chunk) {
+        if (chunk.length < guard.length) {
+            return false;
+        }
+        for (int i = 0; i < guard.length; i++) {
+            if (chunk[i] != guard[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void reset() {
+        offset = 0;
+        matches = 0;
+        guard = EMPTY;
+        undecoded = EMPTY;
+        carry = "";
+        decoder.reset();
+    }
+
+    private void consume(byte[] chunk) {
+        if (chunk.length == 0) {
+            return;
+        }
+        offset += chunk.length;
+        guard = tail(guard, chunk, GUARD);
+
+        final ByteBuffer in = ByteBuffer.allocate(undecoded.length + chunk.length);
+        in.put(undecoded).put(chunk).flip();
+        final CharBuffer out = CharBuffer.allocate(in.remaining());
+        decoder.decode(in, out, false);
+        undecoded = Arrays.copyOfRange(in.array(), in.position(), in.limit());
+        out.flip();
+
+        final String text = carry + out;
+        if (needle.isEmpty()) {
+            matches = Long.MAX_VALUE;
+            return;
+        }
+        int found = text.indexOf(needle);
+        while (found >= 0) {
+            matches++;
+            found = text.indexOf(needle, found + 1);
+        }
+        // A match can not fit entirely within the carry, so nothing is counted twice
+        carry = text.substring(Math.max(0, text.length() - needle.length() + 1));
+    }
+
+    private static byte[] tail(byte[] previous, byte[] next, int length) {
+        if (next.length >= length) {
+            return Arrays.copyOfRange(next, next.length - length, next.length);
+        }
+        final int fromPrevious = Math.min(previous.length, length - next.length);
+        final byte[] result = new byte[fromPrevious + next.length];
+        System.arraycopy(previous, previous.length - fromPrevious, result, 0, fromPrevious);
+        System.arraycopy(next, 0, result, fromPrevious, next.length);
+        return result;
+    }
+}
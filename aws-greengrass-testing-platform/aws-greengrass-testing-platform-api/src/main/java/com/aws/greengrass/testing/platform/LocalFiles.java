@@ -9,12 +9,20 @@ import com.aws.greengrass.testing.api.device.Device;
 import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
 import com.aws.greengrass.testing.api.device.exception.CopyException;
 import com.aws.greengrass.testing.api.device.model.CommandInput;
+import com.aws.greengrass.testing.api.util.FileManifest;
 import com.aws.greengrass.testing.api.util.FileUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -36,6 +44,22 @@ public class LocalFiles implements PlatformFiles {
         }
     }
 
+    @Override
+    public byte[] readBytes(Path filePath, long offset) throws CommandExecutionException {
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath)) {
+            final long remaining = Math.max(0, channel.size() - offset);
+            final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(remaining));
+            channel.position(offset);
+            int read = 0;
+            while (buffer.hasRemaining() && read >= 0) {
+                read = channel.read(buffer);
+            }
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        } catch (IOException e) {
+            throw new CommandExecutionException(e, CommandInput.of("read: " + filePath + " from " + offset));
+        }
+    }
+
     @Override
     public void delete(Path filePath) throws CommandExecutionException {
         try {
@@ -64,6 +88,88 @@ public class LocalFiles implements PlatformFiles {
         localDevice.copyTo(source.toString(), destination.toString());
     }
 
+    @Override
+    public void move(Path source, Path destination) throws CommandExecutionException {
+        try {
+            Files.move(source, destination, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new CommandExecutionException(e, CommandInput.builder()
+                    .line("move").addArgs(source.toString(), destination.toString())
+                    .build());
+        }
+    }
+
+    @Override
+    public FileManifest manifest(Path directory) throws CommandExecutionException {
+        try {
+            return FileManifest.of(directory);
+        } catch (IOException e) {
+            throw new CommandExecutionException(e, CommandInput.builder()
+                    .line("manifest").addArgs(directory.toString())
+                    .build());
+        }
+    }
+
+    @Override
+    public FileManifest manifest(Path directory, Collection<String> files) throws CommandExecutionException {
+        try {
+            return FileManifest.of(directory, files);
+        } catch (IOException e) {
+            throw new CommandExecutionException(e, CommandInput.builder()
+                    .line("manifest").addArgs(directory.toString())
+                    .build());
+        }
+    }
+
+    @Override
+    public List<Path> copyFrom(Path source, Path destination, long maxBytes) throws CopyException {
+        final List<Path> files;
+        try (Stream<Path> walk = Files.walk(source)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new CopyException(e, source, destination);
+        }
+        final List<Path> copied = new ArrayList<>();
+        long remaining = maxBytes;
+        for (Path file : files) {
+            if (remaining <= 0) {
+                break;
+            }
+            final Path target = destination.resolve(source.relativize(file).toString());
+            try {
+                Files.createDirectories(target.getParent());
+                try (FileChannel input = FileChannel.open(file, StandardOpenOption.READ);
+                     FileChannel output = FileChannel.open(target, StandardOpenOption.CREATE,
+                             StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    final long length = Math.min(input.size(), remaining);
+                    final long start = input.size() - length;
+                    long written = 0;
+                    long transferred = 1;
+                    while (written < length && transferred > 0) {
+                        transferred = input.transferTo(start + written, length - written, output);
+                        written += transferred;
+                    }
+                    remaining -= written;
+                }
+            } catch (IOException e) {
+                throw new CopyException(e, file, target);
+            }
+            copied.add(target);
+        }
+        return copied;
+    }
+
+    @Override
+    public boolean cloneTree(Path source, Path destination, List<Path> linked, List<Path> skipped)
+            throws CopyException {
+        try {
+            FileUtils.cloneTree(source, destination, linked, skipped);
+        } catch (IOException e) {
+            throw new CopyException(e, source, destination);
+        }
+        return true;
+    }
+
     @Override
     public String format(Path filePath) {
         return filePath.toString();
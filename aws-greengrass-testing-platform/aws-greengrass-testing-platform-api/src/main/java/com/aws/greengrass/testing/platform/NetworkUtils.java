@@ -34,4 +34,21 @@ public abstract class NetworkUtils {
     public abstract void disconnectNetwork() throws InterruptedException, IOException;
 
     public abstract void recoverNetwork() throws InterruptedException, IOException;
+
+    /**
+     * Undo the firewall changes still applied at the end of a scenario.
+     *
+     * @param mqtt MQTT connections are blocked
+     * @param network network connections are blocked
+     * @throws InterruptedException then thread has been interrupted
+     * @throws IOException on errors
+     */
+    public void restoreFirewall(boolean mqtt, boolean network) throws InterruptedException, IOException {
+        if (mqtt) {
+            recoverMqtt();
+        }
+        if (network) {
+            recoverNetwork();
+        }
+    }
 }
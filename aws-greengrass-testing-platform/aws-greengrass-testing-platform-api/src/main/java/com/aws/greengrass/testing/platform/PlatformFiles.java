@@ -7,16 +7,39 @@ package com.aws.greengrass.testing.platform;
 
 import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
 import com.aws.greengrass.testing.api.device.exception.CopyException;
+import com.aws.greengrass.testing.api.util.FileManifest;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface PlatformFiles {
     byte[] readBytes(Path filePath) throws CommandExecutionException;
 
+    /**
+     * Read the contents of a file starting at a byte offset. An offset at or beyond the end of the file
+     * returns an empty array. Implementations should avoid transferring the bytes before the offset.
+     *
+     * @param filePath the {@link Path} of the file
+     * @param offset the number of leading bytes to skip
+     * @return the bytes from offset to the end of the file
+     * @throws CommandExecutionException failure to read the file
+     */
+    default byte[] readBytes(Path filePath, long offset) throws CommandExecutionException {
+        byte[] bytes = readBytes(filePath);
+        return Arrays.copyOfRange(bytes, (int) Math.min(offset, bytes.length), bytes.length);
+    }
+
     default String readString(Path filePath) throws CommandExecutionException {
         return new String(readBytes(filePath), StandardCharsets.UTF_8);
     }
@@ -29,6 +52,156 @@ public interface PlatformFiles {
 
     void copyTo(Path source, Path destination) throws CopyException;
 
+    /**
+     * Rename a file on the device, replacing the destination. Implementations that can rename on the device
+     * should, so the rename is atomic and readers see either no file or the whole file. By default the file is
+     * copied to its new name and deleted.
+     *
+     * @param source the file on the device
+     * @param destination the new name of the file, usually in the same directory
+     * @throws CommandExecutionException failure to rename the file
+     */
+    default void move(Path source, Path destination) throws CommandExecutionException {
+        copyTo(source, destination);
+        delete(source);
+    }
+
+    /**
+     * The {@link FileManifest} of a directory on the device. Implementations should compute it on the device, so
+     * the files are not transferred to the host, and may leave the hashes out so no file is read.
+     *
+     * @param directory the directory on the device
+     * @return the {@link FileManifest}, empty when nothing is known about the directory
+     * @throws CommandExecutionException failure to read the directory
+     */
+    default FileManifest manifest(Path directory) throws CommandExecutionException {
+        return FileManifest.empty();
+    }
+
+    /**
+     * The {@link FileManifest} of some files of a directory on the device, with their hashes.
+     *
+     * @param directory the directory on the device
+     * @param files relative paths of the files to hash
+     * @return the {@link FileManifest} of the files, empty when nothing is known about them
+     * @throws CommandExecutionException failure to read the files
+     */
+    default FileManifest manifest(Path directory, Collection<String> files) throws CommandExecutionException {
+        return FileManifest.empty();
+    }
+
+    /**
+     * Copy a directory on the host to the device, only transferring the files that are missing or differ on the
+     * device according to its {@link #manifest(Path)}. Files of the same size and modification time are not hashed,
+     * and only the device files that need it are hashed in a second pass. Files on the device that are not on the
+     * host are kept. A destination that doesn't exist yet is copied in one go.
+     *
+     * @param source the file or directory on the host
+     * @param destination the file or directory on the device
+     * @return the device {@link Path} of every transferred file
+     * @throws CopyException failure to read the host files or copy them to the device
+     */
+    default List<Path> sync(Path source, Path destination) throws CopyException {
+        if (!Files.isDirectory(source)) {
+            copyTo(source, destination);
+            return Arrays.asList(destination);
+        }
+        if (!exists(destination)) {
+            copyTo(source, destination);
+            try (Stream<Path> files = Files.walk(source)) {
+                return files.filter(Files::isRegularFile)
+                        .map(file -> destination.resolve(source.relativize(file).toString()))
+                        .collect(Collectors.toList());
+            } catch (IOException ie) {
+                throw new CopyException(ie, source, destination);
+            }
+        }
+        final FileManifest local;
+        try {
+            local = FileManifest.of(source);
+        } catch (IOException ie) {
+            throw new CopyException(ie, source, destination);
+        }
+        FileManifest remote = manifest(destination);
+        final List<String> unhashed = local.unhashedIn(remote);
+        if (!unhashed.isEmpty()) {
+            remote = remote.merge(manifest(destination, unhashed));
+        }
+        final List<String> changed;
+        try {
+            changed = local.changedFrom(remote);
+        } catch (UncheckedIOException ie) {
+            throw new CopyException(ie.getCause(), source, destination);
+        }
+        final Set<String> parents = new LinkedHashSet<>();
+        for (String file : changed) {
+            final int slash = file.lastIndexOf('/');
+            if (slash > 0 && remote.entries().keySet().stream()
+                    .noneMatch(existing -> existing.startsWith(file.substring(0, slash + 1)))) {
+                parents.add(file.substring(0, slash));
+            }
+        }
+        parents.forEach(parent -> makeDirectories(destination.resolve(parent)));
+        final List<Path> transferred = new ArrayList<>();
+        for (String file : changed) {
+            final Path target = destination.resolve(file);
+            copyTo(source.resolve(file), target);
+            transferred.add(target);
+        }
+        return transferred;
+    }
+
+    /**
+     * Copy every file under a directory on the device into a directory on the host, keeping their relative
+     * paths. At most maxBytes of file content are copied: the file crossing the limit keeps its end, and the
+     * files after it are skipped. Implementations should avoid buffering whole files in memory.
+     *
+     * @param source the directory on the device
+     * @param destination the directory on the host
+     * @param maxBytes the most bytes of file content to copy
+     * @return the host {@link Path} of every copied file
+     * @throws CopyException failure to read from the device or write to the host
+     */
+    default List<Path> copyFrom(Path source, Path destination, long maxBytes) throws CopyException {
+        final List<Path> copied = new ArrayList<>();
+        long remaining = maxBytes;
+        for (Path file : listContents(source)) {
+            if (remaining <= 0) {
+                break;
+            }
+            final byte[] bytes = readBytes(file);
+            final int length = (int) Math.min(bytes.length, remaining);
+            final Path target = destination.resolve(source.relativize(file).toString());
+            try {
+                Files.createDirectories(target.getParent());
+                Files.write(target, Arrays.copyOfRange(bytes, bytes.length - length, bytes.length));
+            } catch (IOException ie) {
+                throw new CopyException(ie, file, target);
+            }
+            copied.add(target);
+            remaining -= length;
+        }
+        return copied;
+    }
+
+    /**
+     * Clone a directory on the device into another directory on the device, keeping the files that already
+     * exist in the destination. Files under the linked paths are hard linked where the file system allows it, so
+     * they must never be modified in place. Symbolic links pointing inside the source are pointed at the same
+     * place in the destination.
+     *
+     * @param source the directory to clone
+     * @param destination the directory receiving the clone
+     * @param linked paths, relative to the source, that are hard linked
+     * @param skipped paths, relative to the source, that are left out
+     * @return false if the platform can't clone directories, leaving the destination untouched
+     * @throws CopyException failure to clone the directory
+     */
+    default boolean cloneTree(Path source, Path destination, List<Path> linked, List<Path> skipped)
+            throws CopyException {
+        return false;
+    }
+
     boolean exists(Path filePath) throws CommandExecutionException;
 
     String format(Path filePath);
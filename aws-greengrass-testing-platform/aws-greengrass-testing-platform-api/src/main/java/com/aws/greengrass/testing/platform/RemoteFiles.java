@@ -10,25 +10,59 @@ import com.aws.greengrass.testing.api.device.exception.CommandExecutionException
 import com.aws.greengrass.testing.api.device.exception.CopyException;
 import com.aws.greengrass.testing.api.device.model.CommandInput;
 import com.aws.greengrass.testing.api.device.model.PlatformOS;
+import com.aws.greengrass.testing.api.device.session.PillboxSession;
 import com.aws.greengrass.testing.api.model.PillboxContext;
+import com.aws.greengrass.testing.api.util.FileManifest;
 import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 public class RemoteFiles implements PlatformFiles, UnixPathsMixin {
+    private static final Logger LOGGER = LogManager.getLogger(RemoteFiles.class);
+    private static final int BUFFER = 64 * 1024;
+    // Escaped paths passed per pillbox invocation, keeping the command line short
+    private static final int MANIFEST_BATCH = 256;
+    private static final ExecutorService EXTRACTORS = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "remote-files-extract");
+        thread.setDaemon(true);
+        return thread;
+    });
     private final PlatformOS host;
     private final Device device;
     private final PillboxContext pillboxContext;
 
     /**
-     * Interacts with a remote file system using the pillbox binary.
+     * Interacts with a remote file system using the pillbox binary. Operations share a single
+     * {@link PillboxSession} per device when the device supports one.
      *
      * @param device the {@link Device} representing a remote device
      * @param pillboxContext the {@link PillboxContext} containing where the binary is located
@@ -41,11 +75,11 @@ public class RemoteFiles implements PlatformFiles, UnixPathsMixin {
 
     @VisibleForTesting
     byte[] files(String command, String...args) {
-        return device.execute(CommandInput.builder()
-                .line("java")
-                .addArgs("-jar", pillboxContext.onDevice().toString(), "files", command)
-                .addArgs(args)
-                .build());
+        final String[] fileArgs = new String[args.length + 2];
+        fileArgs[0] = "files";
+        fileArgs[1] = command;
+        System.arraycopy(args, 0, fileArgs, 2, args.length);
+        return PillboxSession.of(device, pillboxContext.onDevice().toString()).execute(fileArgs);
     }
 
     @Override
@@ -53,6 +87,11 @@ public class RemoteFiles implements PlatformFiles, UnixPathsMixin {
         return files("cat", format(filePath));
     }
 
+    @Override
+    public byte[] readBytes(Path filePath, long offset) throws CommandExecutionException {
+        return files("cat", "--offset", Long.toString(offset), format(filePath));
+    }
+
     @Override
     public void delete(Path filePath) throws CommandExecutionException {
         files("rm", "-r", format(filePath));
@@ -80,6 +119,148 @@ public class RemoteFiles implements PlatformFiles, UnixPathsMixin {
         device.copyTo(source.toAbsolutePath().toString(), format(destination));
     }
 
+    @Override
+    public void move(Path source, Path destination) throws CommandExecutionException {
+        files("mv", format(source), format(destination));
+    }
+
+    /**
+     * Lists the files on the device with a single pillbox invocation, without reading them.
+     */
+    @Override
+    public FileManifest manifest(Path directory) throws CommandExecutionException {
+        return FileManifest.parse(new String(files("manifest", "--no-hash", format(directory)),
+                StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hashes the files on the device with one pillbox invocation per batch of files, only the manifest is
+     * transferred.
+     */
+    @Override
+    public FileManifest manifest(Path directory, Collection<String> files) throws CommandExecutionException {
+        final List<String> paths = new ArrayList<>(files);
+        FileManifest manifest = FileManifest.empty();
+        for (int start = 0; start < paths.size(); start += MANIFEST_BATCH) {
+            final List<String> args = new ArrayList<>();
+            for (String path : paths.subList(start, Math.min(paths.size(), start + MANIFEST_BATCH))) {
+                args.add("--file");
+                args.add(FileManifest.escape(path));
+            }
+            args.add(format(directory));
+            manifest = manifest.merge(FileManifest.parse(new String(files("manifest",
+                    args.toArray(new String[0])), StandardCharsets.UTF_8)));
+        }
+        return manifest;
+    }
+
+    /**
+     * Streams a zip of the remote directory from a single pillbox invocation, unpacking it into the destination
+     * while it is still being read, so no file is ever held in memory whole.
+     */
+    @Override
+    public List<Path> copyFrom(Path source, Path destination, long maxBytes) throws CopyException {
+        final String[] args = {"files", "archive", "--max-bytes", Long.toString(maxBytes), format(source)};
+        final List<Path> copied;
+        try (PipedInputStream archive = new PipedInputStream(BUFFER);
+             OutputStream sink = new PipedOutputStream(archive)) {
+            final Future<List<Path>> extracted = EXTRACTORS.submit(() -> extract(archive, destination, maxBytes));
+            try {
+                PillboxSession.of(device, pillboxContext.onDevice().toString()).executeStreaming(chunk -> {
+                    try {
+                        sink.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+                    } catch (IOException ie) {
+                        throw new UncheckedIOException(ie);
+                    }
+                }, args);
+            } catch (UncheckedIOException ie) {
+                // The extraction stopped reading, its own failure is the one worth reporting
+                LOGGER.debug("Stopped streaming {} from {}", source, device.id(), ie);
+            } finally {
+                sink.close();
+            }
+            copied = extracted.get();
+        } catch (IOException e) {
+            throw new CopyException(e, source, destination);
+        } catch (ExecutionException e) {
+            throw new CopyException(e.getCause(), source, destination);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CopyException(e, source, destination);
+        }
+        return copied;
+    }
+
+    private static List<Path> extract(InputStream archive, Path destination, long maxBytes) throws IOException {
+        final Path root = destination.toAbsolutePath().normalize();
+        final List<Path> extracted = new ArrayList<>();
+        final byte[] buffer = new byte[BUFFER];
+        long remaining = maxBytes;
+        try (ZipInputStream zip = new ZipInputStream(archive)) {
+            ZipEntry entry = zip.getNextEntry();
+            while (Objects.nonNull(entry)) {
+                final Path target = root.resolve(entry.getName()).normalize();
+                if (!target.startsWith(root)) {
+                    LOGGER.warn("Skipping archive entry {} outside of {}", entry.getName(), root);
+                } else if (remaining <= 0) {
+                    LOGGER.debug("Skipping archive entry {}, over {} bytes", entry.getName(), maxBytes);
+                } else if (!entry.isDirectory()) {
+                    Files.createDirectories(target.getParent());
+                    long written = 0;
+                    try (OutputStream output = Files.newOutputStream(target)) {
+                        int read = zip.read(buffer);
+                        while (read >= 0) {
+                            output.write(buffer, 0, read);
+                            written += read;
+                            read = zip.read(buffer);
+                        }
+                    }
+                    if (written > remaining) {
+                        // Like the device side cap, the file crossing the limit keeps its end
+                        keepTail(target, written - remaining);
+                    }
+                    remaining -= Math.min(written, remaining);
+                    extracted.add(target);
+                }
+                entry = zip.getNextEntry();
+            }
+            // Drain whatever is left so the remote side can finish writing
+            while (archive.read(buffer) >= 0) {
+                continue;
+            }
+        }
+        return extracted;
+    }
+
+    private static void keepTail(Path file, long skipped) throws IOException {
+        final Path tail = file.resolveSibling(file.getFileName() + ".tail");
+        try (FileChannel input = FileChannel.open(file, StandardOpenOption.READ);
+             FileChannel output = FileChannel.open(tail, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = skipped;
+            final long size = input.size();
+            while (position < size) {
+                position += input.transferTo(position, size - position, output);
+            }
+        }
+        Files.move(tail, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Clones the directory with a single pillbox invocation on the device, nothing is transferred to the host.
+     */
+    @Override
+    public boolean cloneTree(Path source, Path destination, List<Path> linked, List<Path> skipped)
+            throws CopyException {
+        final List<String> args = new ArrayList<>();
+        linked.forEach(path -> args.addAll(Arrays.asList("--link", format(path))));
+        skipped.forEach(path -> args.addAll(Arrays.asList("--skip", format(path))));
+        args.add(format(source));
+        args.add(format(destination));
+        files("clone", args.toArray(new String[0]));
+        return true;
+    }
+
     @Override
     public boolean exists(Path filePath) throws CommandExecutionException {
         boolean existFlag = false;
@@ -10,7 +10,9 @@ import com.aws.greengrass.testing.api.device.exception.CommandExecutionException
 import com.aws.greengrass.testing.api.device.local.LocalDevice;
 import com.aws.greengrass.testing.api.device.model.CommandInput;
 import com.aws.greengrass.testing.api.device.model.PlatformOS;
+import com.aws.greengrass.testing.api.device.session.PillboxSession;
 import com.aws.greengrass.testing.api.model.PillboxContext;
+import com.aws.greengrass.testing.api.util.ProcessHandles;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -25,6 +27,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public abstract class UnixCommands implements Commands, UnixPathsMixin {
@@ -34,6 +37,7 @@ public abstract class UnixCommands implements Commands, UnixPathsMixin {
     private static final String JAVA = "java";
     private static final String JAR = "-jar";
     private static final String GG_JAR_PATH_RELATIVE_TO_ROOT = "greengrass/lib/Greengrass.jar";
+    private static final int WATCH_TIMED_OUT = 1;
 
     protected final Device device;
     protected final PillboxContext pillboxContext;
@@ -65,8 +69,12 @@ public abstract class UnixCommands implements Commands, UnixPathsMixin {
                 .build());
     }
 
-    private int executeInBackground(CommandInput input) throws CommandExecutionException {
-        String output = "output.log";
+    protected int executeInBackground(CommandInput input) throws CommandExecutionException {
+        return executeInBackground(input, "output.log");
+    }
+
+    protected int executeInBackground(CommandInput input, String logName) throws CommandExecutionException {
+        String output = logName;
         if (Objects.nonNull(input.workingDirectory())) {
             output = input.workingDirectory().resolve(output).toString();
         }
@@ -81,22 +89,62 @@ public abstract class UnixCommands implements Commands, UnixPathsMixin {
         execute(CommandInput.of("chmod +x " + file));
     }
 
-    @Override
-    public List<Integer> findDescendants(int pid) throws CommandExecutionException {
-        String pillboxPath = pillboxContext.onDevice().toString();
+    protected String pillboxPath() {
         // We'll use the pillbox even on the local device
         if (device.type().equals(LocalDevice.TYPE)) {
-            pillboxPath = pillboxContext.onHost().toString();
+            return pillboxContext.onHost().toString();
+        }
+        return pillboxContext.onDevice().toString();
+    }
+
+    private boolean inProcess() {
+        return device.type().equals(LocalDevice.TYPE) && ProcessHandles.supported();
+    }
+
+    @Override
+    public List<Integer> findDescendants(int pid) throws CommandExecutionException {
+        if (inProcess()) {
+            try {
+                return ProcessHandles.descendants(pid);
+            } catch (ReflectiveOperationException e) {
+                LOGGER.debug("Failed to list descendants of {} in process, using the pillbox", pid, e);
+            }
         }
-        final CommandInput in = CommandInput.builder()
-                .line("java")
-                .addArgs("-jar", pillboxPath)
-                .addArgs("process", "descendants", Integer.toString(pid))
-                .build();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(execute(in))))) {
+        final String pillboxPath = pillboxPath();
+        final byte[] output = PillboxSession.of(device, pillboxPath)
+                .execute("process", "descendants", Integer.toString(pid));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(output)))) {
             return reader.lines().map(Integer::parseInt).collect(Collectors.toList());
         } catch (IOException ie) {
-            throw new CommandExecutionException(ie, in);
+            throw new CommandExecutionException(ie, CommandInput.builder()
+                    .line("java")
+                    .addArgs("-jar", pillboxPath)
+                    .addArgs("process", "descendants", Integer.toString(pid))
+                    .build());
+        }
+    }
+
+    @Override
+    public boolean waitForDescendants(int pid, int remaining, long timeout, TimeUnit unit)
+            throws CommandExecutionException, InterruptedException {
+        if (inProcess()) {
+            return Commands.super.waitForDescendants(pid, remaining, timeout, unit);
+        }
+        // A single pillbox process scans the tree until it is done, instead of one command per scan
+        try {
+            PillboxSession.of(device, pillboxPath()).executeStreaming(
+                    changes -> LOGGER.debug("Descendants of {} changed: {}", pid,
+                            StandardCharsets.UTF_8.decode(changes).toString().trim().replace('\n', ' ')),
+                    "process", "watch",
+                    "--until", Integer.toString(remaining),
+                    "--timeout", Long.toString(Math.max(1, unit.toSeconds(timeout))),
+                    Integer.toString(pid));
+            return true;
+        } catch (CommandExecutionException e) {
+            if (e.exitCode() == WATCH_TIMED_OUT) {
+                return false;
+            }
+            throw e;
         }
     }
 
@@ -6,11 +6,64 @@
 package com.aws.greengrass.testing.platform.linux;
 
 import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
+import com.aws.greengrass.testing.api.device.model.CommandInput;
+import com.aws.greengrass.testing.api.device.model.ProcessFootprint;
+import com.aws.greengrass.testing.api.device.session.PillboxSession;
 import com.aws.greengrass.testing.api.model.PillboxContext;
+import com.aws.greengrass.testing.platform.Commands;
 import com.aws.greengrass.testing.platform.UnixCommands;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class LinuxCommands extends UnixCommands {
     public LinuxCommands(final Device device, final PillboxContext pillboxContext) {
         super(device, pillboxContext);
     }
+
+    @Override
+    public int startMetricsStream(Path ringFile, int intervalMillis, int capacity) throws CommandExecutionException {
+        return executeInBackground(CommandInput.builder()
+                .workingDirectory(ringFile.getParent())
+                .line("java")
+                .addArgs("-jar", pillboxPath(), "metrics", "stream",
+                        "--interval", Integer.toString(intervalMillis),
+                        "--capacity", Integer.toString(capacity),
+                        ringFile.toString())
+                .build(), Commands.metricsLog(ringFile).getFileName().toString());
+    }
+
+    @Override
+    public byte[] readMetrics(Path ringFile, long fromSequence) throws CommandExecutionException {
+        return PillboxSession.of(device, pillboxPath())
+                .execute("metrics", "read", "--from", Long.toString(fromSequence), ringFile.toString());
+    }
+
+    @Override
+    public List<ProcessFootprint> processFootprints(int pid) throws CommandExecutionException {
+        final byte[] output = PillboxSession.of(device, pillboxPath())
+                .execute("process", "footprint", Integer.toString(pid));
+        return parseFootprints(new String(output, StandardCharsets.UTF_8));
+    }
+
+    static List<ProcessFootprint> parseFootprints(String output) {
+        return Arrays.stream(output.split("\n")).filter(line -> !line.trim().isEmpty()).map(line -> {
+            final String[] fields = line.split("\t", 9);
+            return ProcessFootprint.builder()
+                    .pid(Integer.parseInt(fields[0]))
+                    .parentPid(Integer.parseInt(fields[1]))
+                    .residentBytes(Long.parseLong(fields[2]))
+                    .proportionalBytes(Long.parseLong(fields[3]))
+                    .cpuMillis(Long.parseLong(fields[4]))
+                    .threads(Integer.parseInt(fields[5]))
+                    .fileDescriptors(Integer.parseInt(fields[6]))
+                    .workingDirectory(fields[7].equals("-") ? null : fields[7])
+                    .commandLine(fields[8])
+                    .build();
+        }).collect(Collectors.toList());
+    }
 }
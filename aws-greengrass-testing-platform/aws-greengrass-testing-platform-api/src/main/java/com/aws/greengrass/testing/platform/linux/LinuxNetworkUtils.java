@@ -12,22 +12,35 @@ import com.aws.greengrass.testing.platform.NetworkUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.StringJoiner;
 
+/**
+ * Firewall changes are applied as one iptables-restore transaction each, on chains owned by the tests. Either every
+ * rule of a change is applied or none is, and undoing a change only touches those chains.
+ */
 public class LinuxNetworkUtils extends NetworkUtils {
     private static final Logger LOGGER = LogManager.getLogger(LinuxNetworkUtils.class);
     private static final long TIMEOUT_IN_SECONDS = 2L;
-    private static final String DISABLE_OPTION = "--delete";
-    private static final String APPEND_OPTION = "-A";
-    private static final String IPTABLES = "iptables";
+    private static final long RESTORE_TIMEOUT_IN_SECONDS = 10L;
+    private static final String IPTABLES_RESTORE = "iptables-restore";
+    private static final String DROP_JUMP_TEMPLATE = "while iptables -D %s -j %s 2>/dev/null; do :; done";
+    // Keep the rules of the tables and chains not in the transaction
+    private static final String NO_FLUSH_OPTION = "--noflush";
     private static final String IP = "ip";
-    private static final String[] TEMPLATES = {
-        "INPUT -p tcp -s localhost --dport %s -j ACCEPT",
-        "INPUT -p tcp --dport %s -j DROP",
-        "OUTPUT -p tcp -d localhost --dport %s -j ACCEPT",
-        "OUTPUT -p tcp --dport %s -j DROP"
+    static final String MQTT_CHAIN = "GGTEST-MQTT";
+    static final String NETWORK_CHAIN = "GGTEST-NETWORK";
+    private static final String INPUT = "INPUT";
+    private static final String OUTPUT = "OUTPUT";
+    private static final String[] INPUT_TEMPLATES = {
+        "-p tcp -s localhost --dport %s -j ACCEPT",
+        "-p tcp --dport %s -j DROP"
+    };
+    private static final String[] OUTPUT_TEMPLATES = {
+        "-p tcp -d localhost --dport %s -j ACCEPT",
+        "-p tcp --dport %s -j DROP"
     };
     private static final String ADD_LOOPBACK_ADDRESS_TEMPLATE = "addr add %s/32 dev lo";
     private static final String DELETE_LOOPBACK_ADDRESS_TEMPLATE = "addr delete %s/32 dev lo";
@@ -43,12 +56,13 @@ public class LinuxNetworkUtils extends NetworkUtils {
      */
     @Override
     public void disconnectMqtt() {
-        modifyConnection(APPEND_OPTION, MQTT_PORTS);
+        dropJumps(MQTT_CHAIN);
+        restore(block(MQTT_CHAIN, MQTT_PORTS));
     }
 
     @Override
     public void recoverMqtt() {
-        modifyConnection(DISABLE_OPTION, MQTT_PORTS);
+        restore(unblock(MQTT_CHAIN));
     }
 
     @Override
@@ -76,33 +90,95 @@ public class LinuxNetworkUtils extends NetworkUtils {
         commands.execute(commandInput);
     }
 
-    private void modifyConnection(String action, String[] ports) {
-        for (String template : TEMPLATES) {
+    /**
+     * Removes every jump to the chains of a change, tolerating none. A jump left by an earlier run, or a block
+     * applied twice, would otherwise be followed by one more jump on each block and outlive the unblock.
+     */
+    static String dropJumpsCommand(String chain) {
+        return String.format(DROP_JUMP_TEMPLATE, INPUT, chain + "-IN") + "; "
+                + String.format(DROP_JUMP_TEMPLATE, OUTPUT, chain + "-OUT");
+    }
+
+    private void dropJumps(String chain) {
+        commands.execute(CommandInput.builder()
+                .line(dropJumpsCommand(chain))
+                .timeout(RESTORE_TIMEOUT_IN_SECONDS)
+                .build());
+    }
+
+    /**
+     * Creates, or empties, the input and output chains of a change, fills them and jumps to them from the built-in
+     * chains. Rules are appended, like separate iptables calls did, after {@link #dropJumps(String)} removed any
+     * jump already there.
+     */
+    static String block(String chain, String[] ports) {
+        final StringJoiner rules = new StringJoiner("\n", "*filter\n", "\nCOMMIT\n")
+                .add(":" + chain + "-IN - [0:0]")
+                .add(":" + chain + "-OUT - [0:0]");
+        appendRules(rules, chain + "-IN", INPUT_TEMPLATES, ports);
+        appendRules(rules, chain + "-OUT", OUTPUT_TEMPLATES, ports);
+        return rules
+                .add("-A " + INPUT + " -j " + chain + "-IN")
+                .add("-A " + OUTPUT + " -j " + chain + "-OUT")
+                .toString();
+    }
+
+    private static void appendRules(StringJoiner rules, String chain, String[] templates, String[] ports) {
+        for (String template : templates) {
             for (String port : ports) {
-                List<String> arguments = new ArrayList<>();
-                arguments.add(action);
-                String cmd = String.format(template, port);
-                LOGGER.debug("Running {} command: {}", IPTABLES, cmd);
-                arguments.addAll(Arrays.asList(cmd.split(" ")));
-
-                CommandInput commandInput = CommandInput.builder()
-                                .line(IPTABLES)
-                                .addArgs(arguments.toArray(new String[0]))
-                                .timeout(TIMEOUT_IN_SECONDS)
-                                .build();
-
-                commands.execute(commandInput);
+                rules.add("-A " + chain + " " + String.format(template, port));
             }
         }
     }
 
+    /**
+     * Removes the jumps to the chains of one or more changes, then flushes and deletes the chains.
+     */
+    static String unblock(String... chains) {
+        final StringJoiner rules = new StringJoiner("\n", "*filter\n", "\nCOMMIT\n");
+        for (String chain : chains) {
+            rules.add("-D " + INPUT + " -j " + chain + "-IN")
+                    .add("-D " + OUTPUT + " -j " + chain + "-OUT")
+                    .add("-F " + chain + "-IN")
+                    .add("-F " + chain + "-OUT")
+                    .add("-X " + chain + "-IN")
+                    .add("-X " + chain + "-OUT");
+        }
+        return rules.toString();
+    }
+
+    private void restore(String transaction) {
+        LOGGER.debug("Running {} transaction:\n{}", IPTABLES_RESTORE, transaction);
+        commands.execute(CommandInput.builder()
+                .line(IPTABLES_RESTORE)
+                .addArgs(NO_FLUSH_OPTION)
+                .input(transaction.getBytes(StandardCharsets.UTF_8))
+                .timeout(RESTORE_TIMEOUT_IN_SECONDS)
+                .build());
+    }
+
     @Override
     public void disconnectNetwork() {
-        modifyConnection(APPEND_OPTION, NETWORK_PORTS);
+        dropJumps(NETWORK_CHAIN);
+        restore(block(NETWORK_CHAIN, NETWORK_PORTS));
     }
 
     @Override
     public void recoverNetwork() {
-        modifyConnection(DISABLE_OPTION, NETWORK_PORTS);
+        restore(unblock(NETWORK_CHAIN));
+    }
+
+    @Override
+    public void restoreFirewall(boolean mqtt, boolean network) {
+        final List<String> chains = new ArrayList<>();
+        if (mqtt) {
+            chains.add(MQTT_CHAIN);
+        }
+        if (network) {
+            chains.add(NETWORK_CHAIN);
+        }
+        if (!chains.isEmpty()) {
+            restore(unblock(chains.toArray(new String[0])));
+        }
     }
 }
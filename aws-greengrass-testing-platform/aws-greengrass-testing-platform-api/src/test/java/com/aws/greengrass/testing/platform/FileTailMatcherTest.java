@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.platform;
+
+import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.util.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+public class FileTailMatcherTest {
+    private static final Path directory = Paths.get("./tailDirectory");
+    private static final Path logFile = directory.resolve("greengrass.log");
+
+    @Mock
+    Device device;
+
+    PlatformFiles files;
+
+    @BeforeEach
+    void setup() throws IOException {
+        Files.createDirectories(directory);
+        files = spy(new LocalFiles(device));
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        FileUtils.recursivelyDelete(directory);
+    }
+
+    private static void append(String text) throws IOException {
+        Files.write(logFile, text.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Test
+    void GIVEN_growing_file_WHEN_polling_THEN_only_new_bytes_are_read_and_matches_accumulate() throws IOException {
+        FileTailMatcher matcher = new FileTailMatcher(logFile, "started");
+        append("[INFO] a preamble that is longer than the guard the matcher keeps around\ncomponent started\nother li");
+        assertEquals(1, matcher.poll(files));
+        append("ne\ncomponent sta");
+        assertEquals(1, matcher.poll(files));
+        append("rted\né started");
+        assertEquals(3, matcher.poll(files));
+        assertEquals(3, matcher.poll(files));
+
+        verify(files, never()).readBytes(any(Path.class));
+        verify(files, times(1)).readBytes(logFile, 0L);
+    }
+
+    @Test
+    void GIVEN_rotated_file_WHEN_polling_THEN_matches_restart_from_the_new_file() throws IOException {
+        FileTailMatcher matcher = new FileTailMatcher(logFile, "started");
+        append("component started\ncomponent started\n");
+        assertEquals(2, matcher.poll(files));
+
+        Files.delete(logFile);
+        append("rotated, component started again\n");
+        assertEquals(1, matcher.poll(files));
+    }
+
+    @Test
+    void GIVEN_overlapping_needle_WHEN_polling_THEN_overlapping_matches_count() throws IOException {
+        FileTailMatcher matcher = new FileTailMatcher(logFile, "aa");
+        append("aa");
+        assertEquals(1, matcher.poll(files));
+        append("a");
+        assertEquals(2, matcher.poll(files));
+    }
+}
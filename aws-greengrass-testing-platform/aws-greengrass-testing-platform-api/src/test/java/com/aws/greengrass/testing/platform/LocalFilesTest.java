@@ -7,6 +7,7 @@ package com.aws.greengrass.testing.platform;
 
 import com.aws.greengrass.testing.api.device.Device;
 import com.aws.greengrass.testing.api.device.exception.CommandExecutionException;
+import com.aws.greengrass.testing.api.device.local.LocalDevice;
 import com.aws.greengrass.testing.api.util.FileUtils;
 
 import java.io.IOException;
@@ -16,6 +17,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -93,6 +96,32 @@ public class LocalFilesTest {
         assertFalse(Files.exists(filePath));
     }
 
+    @Test
+    void GIVEN_some_file_WHEN_moving_THEN_it_is_renamed() throws IOException {
+        localFiles.makeDirectories(filePath);
+        Files.write(dummyFile, dummyText.getBytes(StandardCharsets.UTF_8));
+        Path renamed = filePath.resolve("renamed.txt");
+
+        localFiles.move(dummyFile, renamed);
+
+        assertFalse(Files.exists(dummyFile));
+        assertEquals(dummyText, new String(Files.readAllBytes(renamed), StandardCharsets.UTF_8));
+        Mockito.verify(localFiles, Mockito.never()).copyTo(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void GIVEN_files_without_a_rename_WHEN_moving_THEN_the_file_is_copied_and_deleted() {
+        PlatformFiles files = Mockito.mock(PlatformFiles.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doNothing().when(files).copyTo(Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(files).delete(Mockito.any());
+        Path renamed = filePath.resolve("renamed.txt");
+
+        files.move(dummyFile, renamed);
+
+        Mockito.verify(files).copyTo(dummyFile, renamed);
+        Mockito.verify(files).delete(dummyFile);
+    }
+
     @Test
     void GIVEN_some_filePath_WHEN_it_does_not_exist_THEN_listDirectories_throws_exception() {
         assertThrows(CommandExecutionException.class,() -> localFiles.listContents(filePath));
@@ -107,4 +136,46 @@ public class LocalFilesTest {
     void GIVEN_some_filePath_WHEN_calling_format_THEN_return_filePathString() {
         assertEquals(filePath.toString(), localFiles.format(filePath));
     }
+
+    @Test
+    void GIVEN_directory_WHEN_copying_from_with_limit_THEN_files_are_copied_until_limit() throws IOException {
+        Path destination = filePath.resolve("destination");
+        Path source = filePath.resolve("source");
+        localFiles.makeDirectories(source.resolve("nested"));
+        Files.write(source.resolve("a.log"), "first".getBytes(StandardCharsets.UTF_8));
+        Files.write(source.resolve("nested").resolve("b.log"), "second".getBytes(StandardCharsets.UTF_8));
+        Files.write(source.resolve("z.log"), "skipped".getBytes(StandardCharsets.UTF_8));
+
+        List<Path> copied = localFiles.copyFrom(source, destination, 8);
+
+        assertEquals(Arrays.asList(destination.resolve("a.log"), destination.resolve("nested").resolve("b.log")),
+                copied);
+        assertEquals("first", new String(Files.readAllBytes(copied.get(0)), StandardCharsets.UTF_8));
+        assertEquals("ond", new String(Files.readAllBytes(copied.get(1)), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(destination.resolve("z.log")));
+    }
+
+    @Test
+    void GIVEN_earlier_copy_WHEN_syncing_THEN_only_changed_files_are_transferred() throws IOException {
+        LocalFiles files = new LocalFiles(new LocalDevice());
+        Path source = filePath.resolve("source");
+        Path destination = filePath.resolve("destination");
+        files.makeDirectories(source.resolve("nested"));
+        Files.write(source.resolve("a.txt"), "same".getBytes(StandardCharsets.UTF_8));
+        Files.write(source.resolve("nested").resolve("b.txt"), "before".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(2, files.sync(source, destination).size());
+        assertEquals(Collections.emptyList(), files.sync(source, destination));
+
+        Files.write(source.resolve("nested").resolve("b.txt"), "after".getBytes(StandardCharsets.UTF_8));
+        files.makeDirectories(source.resolve("added"));
+        Files.write(source.resolve("added").resolve("c.txt"), "new".getBytes(StandardCharsets.UTF_8));
+        Files.write(destination.resolve("extra.txt"), "kept".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(Arrays.asList(destination.resolve("added/c.txt"), destination.resolve("nested/b.txt")),
+                files.sync(source, destination));
+        assertEquals("after", new String(Files.readAllBytes(destination.resolve("nested").resolve("b.txt")),
+                StandardCharsets.UTF_8));
+        assertTrue(Files.exists(destination.resolve("extra.txt")));
+    }
 }
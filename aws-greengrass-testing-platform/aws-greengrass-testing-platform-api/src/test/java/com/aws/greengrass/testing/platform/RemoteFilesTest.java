@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.platform;
+
+import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.device.model.CommandInput;
+import com.aws.greengrass.testing.api.model.PillboxContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class RemoteFilesTest {
+    @Mock
+    Device device;
+
+    @TempDir
+    Path tempDir;
+
+    RemoteFiles files;
+
+    @BeforeEach
+    void setup() {
+        // Pillbox sessions are shared by device id, so each test needs its own
+        lenient().when(device.id()).thenReturn(UUID.randomUUID().toString());
+        files = new RemoteFiles(device, PillboxContext.builder().onHost(Paths.get("pillbox.jar")).build());
+    }
+
+    private static byte[] zip(String... namesAndContents) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(namesAndContents[i]));
+                zip.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streams(byte[] archive) {
+        doAnswer(invocation -> {
+            final Consumer<ByteBuffer> output = invocation.getArgument(1);
+            // Small chunks, so the archive is unpacked while it is still arriving
+            for (int offset = 0; offset < archive.length; offset += 7) {
+                output.accept(ByteBuffer.wrap(archive, offset, Math.min(7, archive.length - offset)));
+            }
+            return null;
+        }).when(device).executeStreaming(any(CommandInput.class), any(Consumer.class));
+    }
+
+    @Test
+    void GIVEN_remote_directory_WHEN_copying_from_THEN_archive_is_streamed_into_destination() throws IOException {
+        streams(zip("greengrass.log", "started", "nested/component.log", "hello"));
+
+        List<Path> copied = files.copyFrom(Paths.get("/greengrass/logs"), tempDir, Long.MAX_VALUE);
+
+        assertEquals(Arrays.asList(tempDir.resolve("greengrass.log"), tempDir.resolve("nested/component.log")),
+                copied);
+        assertEquals("hello", new String(Files.readAllBytes(tempDir.resolve("nested/component.log")),
+                StandardCharsets.UTF_8));
+        ArgumentCaptor<CommandInput> input = ArgumentCaptor.forClass(CommandInput.class);
+        verify(device).executeStreaming(input.capture(), any());
+        assertEquals(Arrays.asList("-jar", "pillbox.jar", "files", "archive", "--max-bytes",
+                Long.toString(Long.MAX_VALUE), "/greengrass/logs"), input.getValue().args());
+    }
+
+    @Test
+    void GIVEN_archive_over_limit_or_escaping_WHEN_copying_from_THEN_it_is_cut_short() throws IOException {
+        streams(zip("../escape.log", "nope", "a.log", "0123456789", "b.log", "skipped"));
+
+        List<Path> copied = files.copyFrom(Paths.get("/greengrass/logs"), tempDir, 4);
+
+        assertEquals(Arrays.asList(tempDir.resolve("a.log")), copied);
+        assertEquals("6789", new String(Files.readAllBytes(tempDir.resolve("a.log")), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(tempDir.resolve("b.log")));
+        assertFalse(Files.exists(tempDir.getParent().resolve("escape.log")));
+    }
+}
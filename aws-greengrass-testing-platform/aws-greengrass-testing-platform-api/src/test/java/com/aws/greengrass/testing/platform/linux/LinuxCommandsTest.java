@@ -6,16 +6,27 @@
 package com.aws.greengrass.testing.platform.linux;
 
 import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.device.model.CommandInput;
+import com.aws.greengrass.testing.api.device.model.ProcessFootprint;
 import com.aws.greengrass.testing.api.model.PillboxContext;
 import com.aws.greengrass.testing.platform.UnixCommands;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,4 +50,39 @@ public class LinuxCommandsTest {
         assertTrue(linuxCommands instanceof UnixCommands);
     }
 
+    @Test
+    void GIVEN_footprint_output_WHEN_parsed_THEN_one_footprint_per_process() {
+        List<ProcessFootprint> footprints = LinuxCommands.parseFootprints(
+                "10\t1\t2048\t1024\t2000\t30\t12\t/greengrass/v2\tjava -jar Greengrass.jar\n"
+                + "11\t10\t4096\t4096\t10\t1\t-1\t-\tsh -c python3\thello.py\n");
+
+        assertEquals(2, footprints.size());
+        assertEquals(ProcessFootprint.builder()
+                .pid(10)
+                .parentPid(1)
+                .residentBytes(2048)
+                .proportionalBytes(1024)
+                .cpuMillis(2000)
+                .threads(30)
+                .fileDescriptors(12)
+                .workingDirectory("/greengrass/v2")
+                .commandLine("java -jar Greengrass.jar")
+                .build(), footprints.get(0));
+        assertNull(footprints.get(1).workingDirectory());
+        assertEquals("sh -c python3\thello.py", footprints.get(1).commandLine());
+    }
+
+    @Test
+    void GIVEN_ring_file_WHEN_starting_the_sampler_THEN_its_output_goes_to_its_own_log() {
+        ArgumentCaptor<CommandInput> input = ArgumentCaptor.forClass(CommandInput.class);
+        Mockito.doReturn(Paths.get("pillbox.jar")).when(pillboxContext).onDevice();
+        Mockito.doReturn("SSH").when(device).type();
+        Mockito.doReturn("42".getBytes(StandardCharsets.UTF_8)).when(device).execute(input.capture());
+
+        assertEquals(42, linuxCommands.startMetricsStream(Paths.get("/greengrass/v2/metrics.ring"), 1000, 60));
+
+        String line = input.getValue().args().get(1);
+        assertTrue(line.endsWith("1> /greengrass/v2/metrics.ring.log 2>&1 & echo $!"), line);
+        assertFalse(line.contains("output.log"));
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.platform.linux;
+
+import com.aws.greengrass.testing.api.device.Device;
+import com.aws.greengrass.testing.api.device.model.CommandInput;
+import com.aws.greengrass.testing.api.model.PillboxContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+public class LinuxNetworkUtilsTest {
+    @Mock
+    Device device;
+
+    @Mock
+    PillboxContext pillboxContext;
+
+    @Test
+    void GIVEN_mqtt_ports_WHEN_disconnecting_THEN_every_rule_is_applied_in_one_transaction() {
+        LinuxNetworkUtils networkUtils = new LinuxNetworkUtils(device, pillboxContext);
+        ArgumentCaptor<CommandInput> input = ArgumentCaptor.forClass(CommandInput.class);
+        Mockito.doReturn(new byte[0]).when(device).execute(input.capture());
+
+        networkUtils.disconnectMqtt();
+
+        Mockito.verify(device, Mockito.times(2)).execute(Mockito.any());
+        assertEquals(Arrays.asList("-c", "while iptables -D INPUT -j GGTEST-MQTT-IN 2>/dev/null; do :; done; "
+                + "while iptables -D OUTPUT -j GGTEST-MQTT-OUT 2>/dev/null; do :; done"),
+                input.getAllValues().get(0).args());
+        assertEquals(Arrays.asList("-c", "iptables-restore --noflush"), input.getValue().args());
+        assertEquals("*filter\n"
+                + ":GGTEST-MQTT-IN - [0:0]\n"
+                + ":GGTEST-MQTT-OUT - [0:0]\n"
+                + "-A GGTEST-MQTT-IN -p tcp -s localhost --dport 8883 -j ACCEPT\n"
+                + "-A GGTEST-MQTT-IN -p tcp --dport 8883 -j DROP\n"
+                + "-A GGTEST-MQTT-OUT -p tcp -d localhost --dport 8883 -j ACCEPT\n"
+                + "-A GGTEST-MQTT-OUT -p tcp --dport 8883 -j DROP\n"
+                + "-A INPUT -j GGTEST-MQTT-IN\n"
+                + "-A OUTPUT -j GGTEST-MQTT-OUT\n"
+                + "COMMIT\n", new String(input.getValue().input(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void GIVEN_mqtt_and_network_blocked_WHEN_restoring_THEN_both_chains_are_removed_in_one_transaction() {
+        LinuxNetworkUtils networkUtils = new LinuxNetworkUtils(device, pillboxContext);
+        ArgumentCaptor<CommandInput> input = ArgumentCaptor.forClass(CommandInput.class);
+        Mockito.doReturn(new byte[0]).when(device).execute(input.capture());
+
+        networkUtils.restoreFirewall(true, true);
+
+        Mockito.verify(device).execute(Mockito.any());
+        String transaction = new String(input.getValue().input(), StandardCharsets.UTF_8);
+        assertEquals(LinuxNetworkUtils.unblock("GGTEST-MQTT", "GGTEST-NETWORK"), transaction);
+        assertEquals(14, transaction.split("\n").length);
+        assertEquals("-D INPUT -j GGTEST-NETWORK-IN", transaction.split("\n")[7]);
+    }
+}
@@ -7,14 +7,16 @@ package com.aws.greengrass.testing.pillbox;
 
 
 import com.aws.greengrass.testing.pillbox.commands.Files;
+import com.aws.greengrass.testing.pillbox.commands.Metrics;
 import com.aws.greengrass.testing.pillbox.commands.Process;
+import com.aws.greengrass.testing.pillbox.commands.Serve;
 import picocli.CommandLine;
 
 @CommandLine.Command(
         name = "com/aws/greengrass/testing/pillbox",
         version = "1.0.0",
         description = "A platform independent utility for interacting with the OS.",
-        subcommands = { Files.class, Process.class })
+        subcommands = { Files.class, Metrics.class, Process.class, Serve.class })
 public class Pillbox {
     @CommandLine.Option(
             names = {"-h", "--help"},
@@ -5,16 +5,21 @@
 
 package com.aws.greengrass.testing.pillbox.commands;
 
+import com.aws.greengrass.testing.pillbox.commands.files.Archive;
 import com.aws.greengrass.testing.pillbox.commands.files.Cat;
+import com.aws.greengrass.testing.pillbox.commands.files.Clone;
 import com.aws.greengrass.testing.pillbox.commands.files.Exists;
 import com.aws.greengrass.testing.pillbox.commands.files.Find;
+import com.aws.greengrass.testing.pillbox.commands.files.Manifest;
 import com.aws.greengrass.testing.pillbox.commands.files.Mkdir;
+import com.aws.greengrass.testing.pillbox.commands.files.Move;
 import com.aws.greengrass.testing.pillbox.commands.files.Remove;
 import picocli.CommandLine;
 
 @CommandLine.Command(
         name = "files",
         description = "Platform independent file system interaction.",
-        subcommands = { Cat.class, Find.class, Exists.class, Remove.class, Mkdir.class })
+        subcommands = { Cat.class, Find.class, Exists.class, Remove.class, Mkdir.class, Archive.class,
+        Clone.class, Manifest.class, Move.class })
 public class Files {
 }
@@ -0,0 +1,17 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands;
+
+import com.aws.greengrass.testing.pillbox.commands.metrics.Read;
+import com.aws.greengrass.testing.pillbox.commands.metrics.Stream;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "metrics",
+        description = "Device resource usage sampling utility",
+        subcommands = {Stream.class, Read.class})
+public class Metrics {
+}
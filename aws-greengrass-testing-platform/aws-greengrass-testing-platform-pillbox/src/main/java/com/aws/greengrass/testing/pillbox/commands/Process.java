@@ -6,11 +6,13 @@
 package com.aws.greengrass.testing.pillbox.commands;
 
 import com.aws.greengrass.testing.pillbox.commands.process.Descendants;
+import com.aws.greengrass.testing.pillbox.commands.process.Footprint;
+import com.aws.greengrass.testing.pillbox.commands.process.Watch;
 import picocli.CommandLine;
 
 @CommandLine.Command(
         name = "process",
         description = "Platform independent process management utility",
-        subcommands = Descendants.class)
+        subcommands = { Descendants.class, Footprint.class, Watch.class })
 public class Process {
 }
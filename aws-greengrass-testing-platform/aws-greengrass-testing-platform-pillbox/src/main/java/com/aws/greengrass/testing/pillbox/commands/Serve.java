@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands;
+
+import com.aws.greengrass.testing.api.device.session.PillboxProtocol;
+import com.aws.greengrass.testing.api.device.session.PillboxResponse;
+import com.aws.greengrass.testing.pillbox.Pillbox;
+import picocli.CommandLine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(
+        name = PillboxProtocol.SERVE_COMMAND,
+        description = "Serves pillbox commands over stdin and stdout until stdin is closed.")
+public class Serve implements Callable<Integer> {
+    private static final int BUFFER = 8192;
+
+    private PillboxResponse dispatch(String[] args) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(BUFFER);
+        final ByteArrayOutputStream error = new ByteArrayOutputStream();
+        final PrintStream originalOut = System.out;
+        final PrintStream originalErr = System.err;
+        int exitCode;
+        try {
+            System.setOut(new PrintStream(output, true));
+            System.setErr(new PrintStream(error, true));
+            if (args.length > 0 && args[0].equals(PillboxProtocol.SERVE_COMMAND)) {
+                System.err.println("Cannot nest " + PillboxProtocol.SERVE_COMMAND + " within a session.");
+                exitCode = 2;
+            } else {
+                exitCode = new CommandLine(new Pillbox()).execute(args);
+            }
+        } finally {
+            System.out.flush();
+            System.err.flush();
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+        return PillboxResponse.builder()
+                .exitCode(exitCode)
+                .output(output.toByteArray())
+                .error(error.toByteArray())
+                .build();
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        // stdout carries the frames, so nothing else may write to it once the handshake is sent
+        final OutputStream output = new BufferedOutputStream(System.out, BUFFER);
+        final InputStream input = new BufferedInputStream(System.in, BUFFER);
+        PillboxProtocol.writeHandshake(output);
+        while (true) {
+            final String[] args;
+            try {
+                args = PillboxProtocol.readRequest(input);
+            } catch (EOFException eof) {
+                return 0;
+            }
+            PillboxProtocol.writeResponse(output, dispatch(args));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.files;
+
+import picocli.CommandLine;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@CommandLine.Command(
+        name = "archive",
+        description = "Writes a zip of every file under a directory to stdout.")
+public class Archive implements Callable<Integer> {
+    static final String TRUNCATED = "truncated";
+    private static final int BUFFER = 64 * 1024;
+
+    @CommandLine.Option(names = "--max-bytes",
+            description = "Most bytes of file content to archive. A file crossing the limit keeps its end, and "
+                    + "files after it are skipped.")
+    private long maxBytes = Long.MAX_VALUE;
+
+    @CommandLine.Parameters(index = "0")
+    private String directory;
+
+    @Override
+    public Integer call() throws Exception {
+        final Path root = Paths.get(directory);
+        if (!Files.isDirectory(root)) {
+            System.err.println("Directory '" + root + "' is not a directory.");
+            return 1;
+        }
+        final List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        // The stream is finished rather than closed, so a serving pillbox keeps its stdout
+        final ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(System.out, BUFFER));
+        final byte[] buffer = new byte[BUFFER];
+        long remaining = maxBytes;
+        for (Path file : files) {
+            if (remaining <= 0) {
+                System.err.println("Skipped " + file + ", archive is over " + maxBytes + " bytes");
+                continue;
+            }
+            try {
+                remaining -= add(zip, root, file, remaining, buffer);
+            } catch (IOException ie) {
+                // Logs can rotate away while being archived
+                System.err.println("Skipped " + file + ": " + ie.getMessage());
+            }
+        }
+        zip.finish();
+        zip.flush();
+        return 0;
+    }
+
+    private static long add(ZipOutputStream zip, Path root, Path file, long remaining, byte[] buffer)
+            throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        final long length = Math.min(attributes.size(), remaining);
+        try (SeekableByteChannel channel = Files.newByteChannel(file);
+             InputStream input = Channels.newInputStream(channel.position(attributes.size() - length))) {
+            final ZipEntry entry = new ZipEntry(root.relativize(file).toString().replace('\\', '/'));
+            entry.setTime(attributes.lastModifiedTime().toMillis());
+            if (length < attributes.size()) {
+                entry.setComment(TRUNCATED);
+            }
+            zip.putNextEntry(entry);
+            long written = 0;
+            while (written < length) {
+                final int read = input.read(buffer, 0, (int) Math.min(buffer.length, length - written));
+                if (read < 0) {
+                    break;
+                }
+                zip.write(buffer, 0, read);
+                written += read;
+            }
+            zip.closeEntry();
+            return written;
+        }
+    }
+}
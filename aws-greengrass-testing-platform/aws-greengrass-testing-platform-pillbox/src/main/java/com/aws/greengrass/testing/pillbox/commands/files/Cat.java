@@ -9,6 +9,8 @@ import picocli.CommandLine;
 
 import java.io.BufferedInputStream;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -20,6 +22,9 @@ import java.util.concurrent.Callable;
 public class Cat implements Callable<Integer> {
     private static final int BUFFER = 8192;
 
+    @CommandLine.Option(names = "--offset", description = "Byte offset to start reading from")
+    private long offset;
+
     @CommandLine.Parameters(index = "0")
     private String file;
 
@@ -35,7 +40,8 @@ public class Cat implements Callable<Integer> {
             return 1;
         }
         final byte[] buffer = new byte[BUFFER];
-        try (InputStream input = new BufferedInputStream(Files.newInputStream(filePath))) {
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath);
+             InputStream input = new BufferedInputStream(Channels.newInputStream(channel.position(offset)))) {
             int read = input.read(buffer);
             while (read > 0) {
                 System.out.write(buffer, 0, read);
@@ -0,0 +1,47 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.files;
+
+import com.aws.greengrass.testing.api.util.FileUtils;
+import picocli.CommandLine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+@CommandLine.Command(
+        name = "clone",
+        description = "Clone a directory, hard linking files that are never modified in place.")
+public class Clone implements Callable<Integer> {
+    @CommandLine.Option(names = "--link", description = "Path, relative to the source, that is hard linked")
+    private List<String> linked = new ArrayList<>();
+
+    @CommandLine.Option(names = "--skip", description = "Path, relative to the source, that is left out")
+    private List<String> skipped = new ArrayList<>();
+
+    @CommandLine.Parameters(index = "0")
+    private String source;
+
+    @CommandLine.Parameters(index = "1")
+    private String destination;
+
+    @Override
+    public Integer call() throws Exception {
+        final Path sourcePath = Paths.get(source);
+        if (!Files.isDirectory(sourcePath)) {
+            System.err.println("cannot clone '" + sourcePath + "': Not a directory");
+            return 1;
+        }
+        FileUtils.cloneTree(sourcePath, Paths.get(destination),
+                linked.stream().map(Paths::get).collect(Collectors.toList()),
+                skipped.stream().map(Paths::get).collect(Collectors.toList()));
+        return 0;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.files;
+
+import com.aws.greengrass.testing.api.util.FileManifest;
+import picocli.CommandLine;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+@CommandLine.Command(
+        name = "manifest",
+        description = "Print the SHA-256, size, modification time and relative path of every file in a directory.")
+public class Manifest implements Callable<Integer> {
+    @CommandLine.Option(names = "--no-hash", description = "Print - in place of every hash, reading no file")
+    private boolean noHash;
+
+    @CommandLine.Option(names = "--file", description = "Escaped path, relative to the directory, to print only")
+    private List<String> files = new ArrayList<>();
+
+    @CommandLine.Parameters(index = "0")
+    private String directory;
+
+    @Override
+    public Integer call() throws Exception {
+        // A missing directory has nothing in it yet, every file needs to be transferred
+        final FileManifest manifest = FileManifest.of(Paths.get(directory), files.isEmpty() ? null
+                : files.stream().map(FileManifest::unescape).collect(Collectors.toList()));
+        System.out.print(manifest.toString(!noHash));
+        System.out.flush();
+        return 0;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.files;
+
+import picocli.CommandLine;
+
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(
+        name = "mv",
+        description = "Rename a file, atomically when the file system supports it"
+)
+public class Move implements Callable<Integer> {
+    @CommandLine.Parameters(index = "0")
+    private String source;
+
+    @CommandLine.Parameters(index = "1")
+    private String destination;
+
+    @Override
+    public Integer call() throws Exception {
+        final Path sourcePath = Paths.get(source);
+        final Path destinationPath = Paths.get(destination);
+        try {
+            Files.move(sourcePath, destinationPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(sourcePath, destinationPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.metrics;
+
+import com.aws.greengrass.testing.api.device.metrics.MetricSample;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Reads the resource usage of a Linux device from the proc filesystem. The CPU usage is over the time since the
+ * previous sample.
+ */
+class ProcSampler {
+    private static final long SECTOR_BYTES = 512;
+
+    private final Path proc;
+    private final Path sysBlock;
+    private long previousBusy;
+    private long previousTotal;
+
+    ProcSampler(Path proc) {
+        this.proc = proc;
+        this.sysBlock = proc.resolveSibling("sys").resolve("block");
+    }
+
+    MetricSample sample() throws IOException {
+        final MetricSample.Builder sample = MetricSample.builder()
+                .timestampMillis(System.currentTimeMillis())
+                .cpuPercent(cpuPercent())
+                .load(Double.parseDouble(fields(read("loadavg").get(0))[0]))
+                .memoryUsedBytes(memoryUsed());
+        disk(sample);
+        network(sample);
+        return sample.build();
+    }
+
+    private double cpuPercent() throws IOException {
+        // cpu user nice system idle iowait irq softirq steal
+        final String[] cpu = fields(read("stat").get(0));
+        long total = 0;
+        for (int i = 1; i < Math.min(cpu.length, 9); i++) {
+            total += Long.parseLong(cpu[i]);
+        }
+        final long idle = Long.parseLong(cpu[4]) + (cpu.length > 5 ? Long.parseLong(cpu[5]) : 0);
+        final long busy = total - idle;
+        final long elapsed = total - previousTotal;
+        final double percent = elapsed <= 0 ? 0 : 100.0 * (busy - previousBusy) / elapsed;
+        previousBusy = busy;
+        previousTotal = total;
+        return percent;
+    }
+
+    private long memoryUsed() throws IOException {
+        long total = 0;
+        long available = -1;
+        long free = 0;
+        for (String line : read("meminfo")) {
+            final String[] fields = fields(line);
+            if (fields[0].equals("MemTotal:")) {
+                total = Long.parseLong(fields[1]);
+            } else if (fields[0].equals("MemAvailable:")) {
+                available = Long.parseLong(fields[1]);
+            } else if (fields[0].equals("MemFree:")) {
+                free = Long.parseLong(fields[1]);
+            }
+        }
+        // Kernels before 3.14 do not report MemAvailable
+        return (total - (available >= 0 ? available : free)) * 1024;
+    }
+
+    private void disk(MetricSample.Builder sample) throws IOException {
+        long read = 0;
+        long written = 0;
+        for (String line : read("diskstats")) {
+            // major minor name reads merged sectors-read ms writes merged sectors-written ...
+            final String[] fields = fields(line);
+            if (fields.length < 10 || !isDisk(fields[2])) {
+                continue;
+            }
+            read += Long.parseLong(fields[5]) * SECTOR_BYTES;
+            written += Long.parseLong(fields[9]) * SECTOR_BYTES;
+        }
+        sample.diskReadBytes(read).diskWrittenBytes(written);
+    }
+
+    private boolean isDisk(String name) {
+        // Partitions are counted in their disk already, whole disks are the ones under /sys/block
+        return !Files.isDirectory(sysBlock) || Files.isDirectory(sysBlock.resolve(name));
+    }
+
+    private void network(MetricSample.Builder sample) throws IOException {
+        long received = 0;
+        long sent = 0;
+        for (String line : read("net/dev")) {
+            final int colon = line.indexOf(':');
+            if (colon < 0 || line.substring(0, colon).trim().equals("lo")) {
+                continue;
+            }
+            // rx: bytes packets errs drop fifo frame compressed multicast, then tx: bytes ...
+            final String[] fields = fields(line.substring(colon + 1));
+            received += Long.parseLong(fields[0]);
+            sent += Long.parseLong(fields[8]);
+        }
+        sample.networkReceivedBytes(received).networkSentBytes(sent);
+    }
+
+    private List<String> read(String name) throws IOException {
+        return Files.readAllLines(proc.resolve(name), StandardCharsets.UTF_8);
+    }
+
+    private static String[] fields(String line) {
+        return line.trim().split("\\s+");
+    }
+}
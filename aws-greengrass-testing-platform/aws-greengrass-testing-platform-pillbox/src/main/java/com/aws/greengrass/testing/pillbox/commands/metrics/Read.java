@@ -0,0 +1,37 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.metrics;
+
+import com.aws.greengrass.testing.api.device.metrics.MetricsRing;
+import picocli.CommandLine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(
+        name = "read",
+        description = "Writes the binary records of a metrics ring file from a sequence on.")
+public class Read implements Callable<Integer> {
+    @CommandLine.Option(names = "--from", description = "First sequence to read")
+    private long from;
+
+    @CommandLine.Parameters(index = "0")
+    private String file;
+
+    @Override
+    public Integer call() throws Exception {
+        final Path filePath = Paths.get(file);
+        if (Files.notExists(filePath)) {
+            // Sampling has not started yet
+            return 0;
+        }
+        System.out.write(MetricsRing.readSince(filePath, from));
+        System.out.flush();
+        return 0;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.metrics;
+
+import com.aws.greengrass.testing.api.device.metrics.MetricsRing;
+import picocli.CommandLine;
+
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+@CommandLine.Command(
+        name = "stream",
+        description = "Samples the resource usage of the device from /proc into a metrics ring file until stopped.")
+public class Stream implements Callable<Integer> {
+    @CommandLine.Option(names = "--interval", description = "Milliseconds between samples", defaultValue = "1000")
+    private int interval;
+
+    @CommandLine.Option(names = "--capacity", description = "Number of samples kept", defaultValue = "3600")
+    private int capacity;
+
+    @CommandLine.Option(names = "--duration", description = "Seconds to sample for, until killed by default")
+    private long duration;
+
+    @CommandLine.Option(names = "--proc", description = "Root of the proc filesystem", defaultValue = "/proc")
+    private String proc;
+
+    @CommandLine.Parameters(index = "0")
+    private String file;
+
+    @Override
+    public Integer call() throws Exception {
+        final ProcSampler sampler = new ProcSampler(Paths.get(proc));
+        final long period = TimeUnit.MILLISECONDS.toNanos(interval);
+        final boolean bounded = duration > 0;
+        final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(0, duration));
+        try (MetricsRing ring = MetricsRing.create(Paths.get(file), capacity, interval)) {
+            // The first reading is only the baseline of the CPU counters
+            sampler.sample();
+            long next = System.nanoTime() + period;
+            while (!bounded || next - end < 0) {
+                final long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                ring.append(sampler.sample());
+                // Fixed rate, a slow sample does not shift the following ones
+                next += period;
+            }
+        }
+        return 0;
+    }
+}
@@ -8,73 +8,147 @@ package com.aws.greengrass.testing.pillbox.commands.process;
 import picocli.CommandLine;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Queue;
+import java.util.Arrays;
 import java.util.concurrent.Callable;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @CommandLine.Command(
         name = "descendants",
         description = "List all of the descendant processes for a single process")
 public class Descendants implements Callable<Integer> {
-    private static final Pattern PROCESS_ID_PATTERN = Pattern.compile("^PPid:\\s*(\\d+)");
+    private static final int INITIAL_PROCESSES = 512;
+
+    @CommandLine.Option(names = "--proc", description = "Root of the proc filesystem", defaultValue = "/proc")
+    private String proc;
 
     @CommandLine.Parameters(index = "0")
     private int pid;
 
-    private Map<Integer, List<Integer>> findDirectDescendants() throws IOException {
-        final Map<Integer, List<Integer>> pidToDirect = new HashMap<>();
-        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get("/proc"))) {
+    /**
+     * Every process of the proc filesystem packed as parent << 32 | pid, sorted, so the children of a process are
+     * one contiguous range.
+     */
+    static long[] scan(Path proc) throws IOException {
+        long[] processes = new long[INITIAL_PROCESSES];
+        int size = 0;
+        final byte[] buffer = new byte[128];
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(proc)) {
             for (Path child : files) {
-                int childPid;
-                try {
-                    childPid = Integer.parseInt(child.getFileName().toString());
-                } catch (NumberFormatException nfe) {
+                final int childPid = parsePid(child.getFileName().toString());
+                if (childPid <= 0) {
+                    continue;
+                }
+                final int parentPid = parentPid(child.resolve("stat"), buffer);
+                if (parentPid < 0) {
                     continue;
                 }
-                pidToDirect.computeIfAbsent(childPid, ArrayList::new);
-                Path status = child.resolve("status");
-                if (Files.exists(status)) {
-                    Files.readAllLines(status, StandardCharsets.UTF_8).forEach(line -> {
-                        Matcher matcher = PROCESS_ID_PATTERN.matcher(line);
-                        if (matcher.matches()) {
-                            int parentId = Integer.parseInt(matcher.group(1));
-                            pidToDirect.compute(parentId, (ppid, pids) -> {
-                                List<Integer> cids = Optional.ofNullable(pids).orElseGet(ArrayList::new);
-                                cids.add(childPid);
-                                return cids;
-                            });
-                        }
-                    });
+                if (size == processes.length) {
+                    processes = Arrays.copyOf(processes, size * 2);
+                }
+                processes[size++] = ((long) parentPid << 32) | childPid;
+            }
+        }
+        processes = Arrays.copyOf(processes, size);
+        Arrays.sort(processes);
+        return processes;
+    }
+
+    private static int parsePid(String name) {
+        int value = 0;
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return name.isEmpty() ? -1 : value;
+    }
+
+    /**
+     * Only the start of /proc/[pid]/stat is read: "pid (comm) state ppid ...". The command name can contain
+     * spaces and parentheses, so the parent is found after the last closing one. The name is at most 15 bytes
+     * and every field after it is numeric, so the start of the file always holds it.
+     */
+    private static int parentPid(Path stat, byte[] buffer) {
+        int read = 0;
+        try (InputStream input = Files.newInputStream(stat)) {
+            int count = input.read(buffer, 0, buffer.length);
+            while (count > 0) {
+                read += count;
+                count = read < buffer.length ? input.read(buffer, read, buffer.length - read) : -1;
+            }
+        } catch (IOException ie) {
+            // The process exited while the directory was listed
+            return -1;
+        }
+        int end = read - 1;
+        while (end >= 0 && buffer[end] != ')') {
+            end--;
+        }
+        // Skip ") S "
+        int index = end + 4;
+        if (end < 0 || index >= read) {
+            return -1;
+        }
+        int value = 0;
+        while (index < read && buffer[index] >= '0' && buffer[index] <= '9') {
+            value = value * 10 + (buffer[index++] - '0');
+        }
+        return value;
+    }
+
+    static int[] descendants(Path proc, int pid) throws IOException {
+        return descendants(scan(proc), pid);
+    }
+
+    /**
+     * The process and all of its descendants, breadth first so parents come before their children. The process
+     * itself is always first, even when it is gone.
+     */
+    static int[] descendants(long[] processes, int pid) {
+        int[] tree = new int[16];
+        tree[0] = pid;
+        int size = 1;
+        for (int next = 0; next < size; next++) {
+            final long parent = tree[next];
+            int index = firstChild(processes, parent);
+            while (index < processes.length && (processes[index] >>> 32) == parent) {
+                if (size == tree.length) {
+                    tree = Arrays.copyOf(tree, size * 2);
                 }
+                tree[size++] = (int) processes[index++];
+            }
+        }
+        return Arrays.copyOf(tree, size);
+    }
+
+    private static int firstChild(long[] processes, long parent) {
+        int low = 0;
+        int high = processes.length;
+        final long key = parent << 32;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (processes[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
-            return pidToDirect;
         }
+        return low;
     }
 
     @Override
     public Integer call() throws Exception {
-        Map<Integer, List<Integer>> processMap = findDirectDescendants();
-        Queue<Integer> remaining = new LinkedList<>();
-        remaining.offer(pid);
-        while (!remaining.isEmpty()) {
-            int parentId = remaining.poll();
-            System.out.println(parentId);
-            if (processMap.containsKey(parentId)) {
-                processMap.get(parentId).forEach(remaining::offer);
-            }
+        final StringBuilder output = new StringBuilder();
+        for (int process : descendants(Paths.get(proc), pid)) {
+            output.append(process).append('\n');
         }
+        System.out.print(output);
         return 0;
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.process;
+
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(
+        name = "footprint",
+        description = "Print the memory, CPU, thread and file descriptor usage of a process and its descendants")
+public class Footprint implements Callable<Integer> {
+    // USER_HZ, the unit of the CPU times in /proc/<pid>/stat, is 100 on every Linux architecture
+    private static final long MILLIS_PER_TICK = 10;
+    private static final int PPID_FIELD = 1;
+    private static final int UTIME_FIELD = 11;
+    private static final int STIME_FIELD = 12;
+
+    @CommandLine.Option(names = "--proc", description = "Root of the proc filesystem", defaultValue = "/proc")
+    private String proc;
+
+    @CommandLine.Parameters(index = "0")
+    private int pid;
+
+    @Override
+    public Integer call() throws Exception {
+        final Path root = Paths.get(proc);
+        for (int process : Descendants.descendants(root, pid)) {
+            try {
+                System.out.println(footprint(root.resolve(Integer.toString(process)), process));
+            } catch (IOException ie) {
+                // The process exited while it was read
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * One tab separated line: pid, ppid, RSS and PSS bytes, CPU milliseconds, threads, file descriptors,
+     * working directory and command line.
+     */
+    private static String footprint(Path process, int pid) throws IOException {
+        final String stat = new String(Files.readAllBytes(process.resolve("stat")), StandardCharsets.UTF_8);
+        // The command name is in parentheses and can contain spaces, the fields are after the last one
+        final String[] fields = stat.substring(stat.lastIndexOf(')') + 2).trim().split("\\s+");
+        final long residentBytes = kilobytes(process.resolve("status"), "VmRSS:");
+        long proportionalBytes = kilobytes(process.resolve("smaps_rollup"), "Pss:");
+        if (proportionalBytes < 0) {
+            // smaps_rollup is only on 4.14 kernels or newer, or not readable
+            proportionalBytes = residentBytes;
+        }
+        return new StringJoiner("\t")
+                .add(Integer.toString(pid))
+                .add(fields[PPID_FIELD])
+                .add(Long.toString(Math.max(0, residentBytes)))
+                .add(Long.toString(Math.max(0, proportionalBytes)))
+                .add(Long.toString((Long.parseLong(fields[UTIME_FIELD]) + Long.parseLong(fields[STIME_FIELD]))
+                        * MILLIS_PER_TICK))
+                .add(Integer.toString(count(process.resolve("task"))))
+                .add(Integer.toString(count(process.resolve("fd"))))
+                .add(workingDirectory(process))
+                .add(commandLine(process))
+                .toString();
+    }
+
+    private static long kilobytes(Path file, String field) {
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.startsWith(field)) {
+                    return Long.parseLong(line.substring(field.length()).trim().split("\\s+")[0]) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Kernel threads have no memory fields, and the file is unreadable for other users
+        }
+        return -1;
+    }
+
+    private static int count(Path directory) {
+        int count = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path ignored : entries) {
+                count++;
+            }
+        } catch (IOException ie) {
+            // fd is only readable by the owner of the process
+            return -1;
+        }
+        return count;
+    }
+
+    private static String workingDirectory(Path process) {
+        try {
+            return Files.readSymbolicLink(process.resolve("cwd")).toString();
+        } catch (IOException | UnsupportedOperationException e) {
+            return "-";
+        }
+    }
+
+    private static String commandLine(Path process) throws IOException {
+        final byte[] bytes = Files.readAllBytes(process.resolve("cmdline"));
+        final String line = new String(bytes, StandardCharsets.UTF_8)
+                .replace('\0', ' ')
+                .replace('\t', ' ')
+                .replace('\n', ' ')
+                .trim();
+        return line.isEmpty() ? "-" : line;
+    }
+}
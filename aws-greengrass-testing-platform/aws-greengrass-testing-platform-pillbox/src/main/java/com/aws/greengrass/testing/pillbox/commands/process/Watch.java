@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.process;
+
+import picocli.CommandLine;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+@CommandLine.Command(
+        name = "watch",
+        description = "Stream the processes joining (+pid) and leaving (-pid) the descendants of a process, until at "
+                + "most a number of descendants are left. Exits with 1 when the timeout passes first.")
+public class Watch implements Callable<Integer> {
+    static final int TIMED_OUT = 1;
+
+    @CommandLine.Option(names = "--interval", description = "Milliseconds between scans", defaultValue = "100")
+    private long interval;
+
+    @CommandLine.Option(names = "--timeout", description = "Seconds to watch for, until done by default")
+    private long timeout;
+
+    @CommandLine.Option(names = "--until", description = "Number of descendants left to stop at", defaultValue = "0")
+    private int until;
+
+    @CommandLine.Option(names = "--proc", description = "Root of the proc filesystem", defaultValue = "/proc")
+    private String proc;
+
+    @CommandLine.Parameters(index = "0")
+    private int pid;
+
+    @Override
+    public Integer call() throws Exception {
+        final Path root = Paths.get(proc);
+        final long end = timeout > 0 ? System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout) : Long.MAX_VALUE;
+        int[] previous = new int[0];
+        while (true) {
+            final int[] current = Descendants.descendants(root, pid);
+            // The process itself is always listed first, the rest are its descendants
+            Arrays.sort(current, 1, current.length);
+            final int[] descendants = Arrays.copyOfRange(current, 1, current.length);
+            System.out.print(changes(previous, descendants));
+            System.out.flush();
+            if (descendants.length <= until) {
+                return 0;
+            }
+            if (System.nanoTime() - end >= 0) {
+                return TIMED_OUT;
+            }
+            previous = descendants;
+            TimeUnit.MILLISECONDS.sleep(interval);
+        }
+    }
+
+    /**
+     * Merge of two sorted sets of pids into "+pid" and "-pid" lines.
+     */
+    static String changes(int[] previous, int[] current) {
+        final StringBuilder output = new StringBuilder();
+        int i = 0;
+        int j = 0;
+        while (i < previous.length || j < current.length) {
+            if (j == current.length || (i < previous.length && previous[i] < current[j])) {
+                output.append('-').append(previous[i++]).append('\n');
+            } else if (i == previous.length || current[j] < previous[i]) {
+                output.append('+').append(current[j++]).append('\n');
+            } else {
+                i++;
+                j++;
+            }
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands;
+
+import com.aws.greengrass.testing.api.device.session.PillboxProtocol;
+import com.aws.greengrass.testing.api.device.session.PillboxResponse;
+import com.aws.greengrass.testing.api.util.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import picocli.CommandLine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ServeTest {
+    private static final Path directory = Paths.get(".").resolve("serveDirectory");
+    private static final Path dummyFile = directory.resolve("dummyFile.txt");
+    private static final String dummyText = "dummyText";
+
+    final PrintStream originalOut = System.out;
+    final InputStream originalIn = System.in;
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setup() throws IOException {
+        System.setOut(new PrintStream(out));
+        Files.createDirectories(directory);
+        Files.write(dummyFile, dummyText.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        System.setOut(originalOut);
+        System.setIn(originalIn);
+        FileUtils.recursivelyDelete(directory);
+    }
+
+    @Test
+    void GIVEN_framed_requests_WHEN_serving_THEN_each_request_gets_a_framed_response() throws IOException {
+        ByteArrayOutputStream requests = new ByteArrayOutputStream();
+        PillboxProtocol.writeRequest(requests, "files", "cat", dummyFile.toString());
+        PillboxProtocol.writeRequest(requests, "files", "exists", directory.resolve("missing").toString());
+        PillboxProtocol.writeRequest(requests, "files", "cat", directory.toString());
+        PillboxProtocol.writeRequest(requests, "serve");
+        System.setIn(new ByteArrayInputStream(requests.toByteArray()));
+
+        assertEquals(0, new CommandLine(new Serve()).execute());
+
+        ByteArrayInputStream responses = new ByteArrayInputStream(out.toByteArray());
+        PillboxProtocol.readHandshake(responses);
+        PillboxResponse cat = PillboxProtocol.readResponse(responses);
+        assertEquals(0, cat.exitCode());
+        assertEquals(dummyText, new String(cat.output(), StandardCharsets.UTF_8));
+        PillboxResponse exists = PillboxProtocol.readResponse(responses);
+        assertEquals(0, exists.exitCode());
+        assertEquals("false", new String(exists.output(), StandardCharsets.UTF_8).trim());
+        PillboxResponse notAFile = PillboxProtocol.readResponse(responses);
+        assertEquals(1, notAFile.exitCode());
+        assertEquals("File '" + directory + "' is not a file.",
+                new String(notAFile.error(), StandardCharsets.UTF_8).trim());
+        assertEquals(2, PillboxProtocol.readResponse(responses).exitCode());
+        assertEquals(-1, responses.read());
+    }
+}
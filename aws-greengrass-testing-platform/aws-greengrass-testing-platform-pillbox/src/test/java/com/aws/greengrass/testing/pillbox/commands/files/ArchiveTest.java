@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.files;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArchiveTest {
+    final PrintStream originalOut = System.out;
+    final PrintStream originalErr = System.err;
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @TempDir
+    Path tempDir;
+
+    CommandLine commandLine;
+
+    @BeforeEach
+    void setup() throws IOException {
+        System.setOut(new PrintStream(out));
+        System.setErr(new PrintStream(err));
+        commandLine = new CommandLine(new Archive());
+        Files.write(tempDir.resolve("a.log"), "first log".getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(tempDir.resolve("nested"));
+        Files.write(tempDir.resolve("nested").resolve("b.log"), "second log".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void cleanup() {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    private Map<String, String> entries() throws IOException {
+        final Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry = zip.getNextEntry();
+            while (entry != null) {
+                final ByteArrayOutputStream content = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[1024];
+                int read = zip.read(buffer);
+                while (read >= 0) {
+                    content.write(buffer, 0, read);
+                    read = zip.read(buffer);
+                }
+                entries.put(entry.getName(), new String(content.toByteArray(), StandardCharsets.UTF_8));
+                entry = zip.getNextEntry();
+            }
+        }
+        return entries;
+    }
+
+    @Test
+    void GIVEN_directory_WHEN_archiving_THEN_every_file_is_zipped_with_relative_names() throws IOException {
+        assertEquals(0, commandLine.execute(tempDir.toString()));
+
+        Map<String, String> entries = entries();
+        assertEquals(2, entries.size());
+        assertEquals("first log", entries.get("a.log"));
+        assertEquals("second log", entries.get("nested/b.log"));
+    }
+
+    @Test
+    void GIVEN_max_bytes_WHEN_archiving_THEN_crossing_file_keeps_its_end_and_rest_are_skipped() throws IOException {
+        assertEquals(0, commandLine.execute("--max-bytes", "3", tempDir.toString()));
+
+        Map<String, String> entries = entries();
+        assertEquals(1, entries.size());
+        assertEquals("log", entries.get("a.log"));
+        assertTrue(err.toString().contains("b.log"));
+    }
+
+    @Test
+    void GIVEN_regular_file_WHEN_archiving_THEN_return_1() {
+        assertEquals(1, commandLine.execute(tempDir.resolve("a.log").toString()));
+        assertEquals(0, out.size());
+    }
+}
@@ -84,6 +84,16 @@ public class CatTest {
         assertEquals(dummyText, output);
     }
 
+    @Test
+    void GIVEN_regular_file_and_offset_WHEN_making_call_THEN_return_0_and_remaining_text() {
+        assertEquals(0, commandLine.execute("--offset", "5", dummyFile));
+        assertEquals(dummyText.substring(5), out.toString());
+
+        out.reset();
+        assertEquals(0, commandLine.execute("--offset", "100", dummyFile));
+        assertEquals("", out.toString());
+    }
+
     @Test
     void GIVEN_non_regular_file_WHEN_making_call_THEN_return_1_and_output_error() {
         Integer returnValue = commandLine.execute(filePath);
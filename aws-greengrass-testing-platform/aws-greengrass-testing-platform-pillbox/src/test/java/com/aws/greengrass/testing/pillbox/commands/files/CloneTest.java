@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.WINDOWS)
+public class CloneTest {
+    @TempDir
+    Path tempDir;
+
+    Path template;
+    Path clone;
+    CommandLine commandLine;
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    @BeforeEach
+    void setup() throws IOException {
+        template = tempDir.resolve("template");
+        clone = tempDir.resolve("clone");
+        commandLine = new CommandLine(new Clone());
+        write(template.resolve("packages/artifacts/Greengrass.jar"), "jar");
+        write(template.resolve("logs/greengrass.log"), "installed");
+        write(template.resolve("config/config.tlog"), "template config");
+        Files.createDirectories(template.resolve("alts/init"));
+        Files.createSymbolicLink(template.resolve("alts/current"), template.resolve("alts/init").toAbsolutePath());
+    }
+
+    @Test
+    void GIVEN_template_WHEN_cloning_THEN_linked_paths_share_files_and_the_rest_is_copied() throws IOException {
+        assertEquals(0, commandLine.execute("--link", "packages", "--skip", "config",
+                template.toString(), clone.toString()));
+
+        assertTrue(Files.isSameFile(template.resolve("packages/artifacts/Greengrass.jar"),
+                clone.resolve("packages/artifacts/Greengrass.jar")));
+        assertFalse(Files.isSameFile(template.resolve("logs/greengrass.log"), clone.resolve("logs/greengrass.log")));
+        assertEquals("installed", read(clone.resolve("logs/greengrass.log")));
+        assertFalse(Files.exists(clone.resolve("config")));
+        assertEquals(clone.resolve("alts/init").toAbsolutePath(),
+                Files.readSymbolicLink(clone.resolve("alts/current")));
+    }
+
+    @Test
+    void GIVEN_existing_files_in_destination_WHEN_cloning_THEN_they_are_kept() throws IOException {
+        write(clone.resolve("config/config.yaml"), "scenario config");
+        write(clone.resolve("logs/greengrass.log"), "scenario");
+
+        assertEquals(0, commandLine.execute("--skip", "config", template.toString(), clone.toString()));
+
+        assertEquals("scenario config", read(clone.resolve("config/config.yaml")));
+        assertEquals("scenario", read(clone.resolve("logs/greengrass.log")));
+        assertFalse(Files.exists(clone.resolve("config/config.tlog")));
+    }
+
+    @Test
+    void GIVEN_missing_template_WHEN_cloning_THEN_it_fails() {
+        assertEquals(1, commandLine.execute(tempDir.resolve("missing").toString(), clone.toString()));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.files;
+
+import com.aws.greengrass.testing.api.util.FileManifest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManifestTest {
+    @TempDir
+    Path tempDir;
+
+    ByteArrayOutputStream output;
+    PrintStream original;
+    CommandLine commandLine;
+
+    @BeforeEach
+    void setup() {
+        original = System.out;
+        output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        commandLine = new CommandLine(new Manifest());
+    }
+
+    @AfterEach
+    void cleanup() {
+        System.setOut(original);
+    }
+
+    @Test
+    void GIVEN_directory_WHEN_printing_manifest_THEN_it_parses_back_with_relative_paths() throws IOException {
+        Files.createDirectories(tempDir.resolve("lib"));
+        Files.write(tempDir.resolve("lib").resolve("Greengrass.jar"), "jar".getBytes(StandardCharsets.UTF_8));
+        Files.write(tempDir.resolve("config.yaml"), "jar".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0, commandLine.execute(tempDir.toString()));
+
+        FileManifest manifest = FileManifest.parse(new String(output.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(2, manifest.entries().size());
+        assertTrue(manifest.entries().get("config.yaml")
+                .sameContent(manifest.entries().get("lib/Greengrass.jar")));
+        assertEquals(3, manifest.entries().get("config.yaml").size());
+        assertEquals(manifest.toString(), FileManifest.of(tempDir).toString());
+    }
+
+    @Test
+    void GIVEN_missing_directory_WHEN_printing_manifest_THEN_it_is_empty() {
+        assertEquals(0, commandLine.execute(tempDir.resolve("missing").toString()));
+
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void GIVEN_no_hash_WHEN_printing_manifest_THEN_files_are_listed_without_hashes() throws IOException {
+        Files.write(tempDir.resolve("config.yaml"), "jar".getBytes(StandardCharsets.UTF_8));
+        Files.write(tempDir.resolve("line\nbreak"), "jar".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0, commandLine.execute("--no-hash", tempDir.toString()));
+
+        FileManifest manifest = FileManifest.parse(new String(output.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(2, manifest.entries().size());
+        assertNull(manifest.entries().get("line\nbreak").sha256());
+    }
+
+    @Test
+    void GIVEN_files_WHEN_printing_manifest_THEN_only_those_files_are_hashed() throws IOException {
+        Files.write(tempDir.resolve("config.yaml"), "jar".getBytes(StandardCharsets.UTF_8));
+        Files.write(tempDir.resolve("line\nbreak"), "jar".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0, commandLine.execute("--file", FileManifest.escape("line\nbreak"), tempDir.toString()));
+
+        FileManifest manifest = FileManifest.parse(new String(output.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(1, manifest.entries().size());
+        assertEquals(64, manifest.entries().get("line\nbreak").sha256().length());
+    }
+}
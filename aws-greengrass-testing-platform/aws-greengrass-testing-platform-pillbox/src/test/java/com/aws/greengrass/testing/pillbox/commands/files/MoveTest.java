@@ -0,0 +1,50 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class MoveTest {
+    @TempDir
+    Path tempDir;
+
+    CommandLine commandLine;
+
+    @BeforeEach
+    void setup() {
+        commandLine = new CommandLine(new Move());
+    }
+
+    @Test
+    void GIVEN_existing_destination_WHEN_calling_mv_THEN_destination_is_replaced() throws IOException {
+        final Path source = Files.write(tempDir.resolve("request.properties.part"),
+                "merge.a=1.0.0".getBytes(StandardCharsets.UTF_8));
+        final Path destination = Files.write(tempDir.resolve("request.properties"),
+                "old".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0, commandLine.execute(source.toString(), destination.toString()));
+        assertFalse(Files.exists(source));
+        assertEquals("merge.a=1.0.0", new String(Files.readAllBytes(destination), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void GIVEN_missing_source_WHEN_calling_mv_THEN_it_fails() {
+        assertNotEquals(0, commandLine.execute(tempDir.resolve("missing").toString(),
+                tempDir.resolve("request.properties").toString()));
+    }
+}
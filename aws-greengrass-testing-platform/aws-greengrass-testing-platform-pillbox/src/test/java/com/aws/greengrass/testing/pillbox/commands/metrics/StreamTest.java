@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.metrics;
+
+import com.aws.greengrass.testing.api.device.metrics.MetricSample;
+import com.aws.greengrass.testing.api.device.metrics.MetricsRing;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamTest {
+    final PrintStream originalOut = System.out;
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @TempDir
+    Path root;
+
+    Path proc;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        System.setOut(new PrintStream(out));
+        proc = Files.createDirectories(root.resolve("proc"));
+        Files.createDirectories(root.resolve("sys").resolve("block").resolve("sda"));
+        Files.createDirectories(proc.resolve("net"));
+        write("stat", "cpu  100 0 100 700 100 0 0 0 0 0\ncpu0 100 0 100 700 100 0 0 0 0 0\n");
+        write("meminfo", "MemTotal:        2048000 kB\nMemFree:          512000 kB\nMemAvailable:    1024000 kB\n");
+        write("loadavg", "0.50 0.40 0.30 1/100 1234\n");
+        write("diskstats", "   8       0 sda 10 0 4 0 20 0 8 0 0 0 0\n   8       1 sda1 10 0 4 0 20 0 8 0 0 0 0\n");
+        write("net/dev", "Inter-|   Receive |  Transmit\n face |bytes packets|bytes packets\n"
+                + "    lo: 500 5 0 0 0 0 0 0 500 5 0 0 0 0 0 0\n"
+                + "  eth0: 1000 10 0 0 0 0 0 0 2000 20 0 0 0 0 0 0\n");
+    }
+
+    @AfterEach
+    public void cleanup() {
+        System.setOut(originalOut);
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.write(proc.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void GIVEN_proc_counters_WHEN_sampling_twice_THEN_cpu_usage_is_over_the_interval_and_partitions_are_not_counted()
+            throws IOException {
+        ProcSampler sampler = new ProcSampler(proc);
+        sampler.sample();
+        write("stat", "cpu  200 0 200 800 100 0 0 0 0 0\n");
+
+        MetricSample sample = sampler.sample();
+
+        assertEquals(200.0 * 100 / 300, sample.cpuPercent(), 0.001);
+        assertEquals(0.5, sample.load(), 0.001);
+        assertEquals(1024000L * 1024, sample.memoryUsedBytes());
+        assertEquals(4 * 512, sample.diskReadBytes());
+        assertEquals(8 * 512, sample.diskWrittenBytes());
+        assertEquals(1000, sample.networkReceivedBytes());
+        assertEquals(2000, sample.networkSentBytes());
+    }
+
+    @Test
+    void GIVEN_stream_ran_WHEN_reading_from_a_sequence_THEN_the_later_records_are_written() {
+        String ring = root.resolve("metrics.ring").toString();
+
+        assertEquals(0, new CommandLine(new Stream()).execute("--interval", "20", "--duration", "1",
+                "--proc", proc.toString(), ring));
+        assertEquals(0, new CommandLine(new Read()).execute("--from", "2", ring));
+
+        List<MetricSample> samples = MetricsRing.decode(out.toByteArray());
+        assertTrue(samples.size() > 10, "Only sampled " + samples.size() + " times");
+        assertEquals(2, samples.get(0).sequence());
+        assertEquals(1000, samples.get(samples.size() - 1).networkReceivedBytes());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.process;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DescendantsTest {
+    final PrintStream originalOut = System.out;
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @TempDir
+    Path proc;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        System.setOut(new PrintStream(out));
+        Files.createDirectories(proc.resolve("self"));
+        Files.createDirectories(proc.resolve("net"));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        System.setOut(originalOut);
+    }
+
+    static void process(Path proc, int pid, int ppid, String name) throws IOException {
+        Path process = Files.createDirectories(proc.resolve(Integer.toString(pid)));
+        Files.write(process.resolve("stat"), (pid + " (" + name + ") S " + ppid + " 1 1 0 -1 4194560 0 0 0 0 0 0 0 0 "
+                + "20 0 1 0").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void GIVEN_process_tree_WHEN_scanning_THEN_descendants_are_listed_breadth_first() throws IOException {
+        process(proc, 1, 0, "systemd");
+        process(proc, 10, 1, "loader");
+        process(proc, 20, 10, "java");
+        process(proc, 35, 20, "sh) S 99 (evil");
+        process(proc, 31, 20, "python3");
+        process(proc, 40, 31, "sleep");
+        process(proc, 50, 1, "sshd");
+        // Exited while the directory was listed
+        Files.createDirectories(proc.resolve("60"));
+
+        assertArrayEquals(new int[] {10, 20, 31, 35, 40}, Descendants.descendants(proc, 10));
+        assertArrayEquals(new int[] {99}, Descendants.descendants(proc, 99));
+
+        int exitCode = new CommandLine(new Descendants()).execute("--proc", proc.toString(), "20");
+        assertEquals(0, exitCode);
+        assertEquals("20\n31\n35\n40\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.process;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FootprintTest {
+    final PrintStream originalOut = System.out;
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @TempDir
+    Path proc;
+
+    @BeforeEach
+    public void setup() {
+        System.setOut(new PrintStream(out));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        System.setOut(originalOut);
+    }
+
+    private void process(int pid, int ppid, String cmdline, boolean rollup) throws IOException {
+        Path process = Files.createDirectories(proc.resolve(Integer.toString(pid)));
+        write(process.resolve("stat"), pid + " (java (main)) S " + ppid + " 1 1 0 -1 0 0 0 0 0 150 50 0 0 20 0 3 0");
+        write(process.resolve("status"), "Name:\tjava\nPPid:\t" + ppid + "\nVmRSS:\t    2048 kB\nThreads:\t3\n");
+        if (rollup) {
+            write(process.resolve("smaps_rollup"), "Rss:                2048 kB\nPss:                1024 kB\n");
+        }
+        write(process.resolve("cmdline"), cmdline.replace(' ', '\0') + "\0");
+        for (int task = 0; task < 3; task++) {
+            Files.createDirectories(process.resolve("task").resolve(Integer.toString(pid + task)));
+        }
+        Files.createDirectories(process.resolve("fd"));
+        Files.createFile(process.resolve("fd").resolve("0"));
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void GIVEN_process_tree_WHEN_footprint_THEN_every_process_of_the_tree_is_printed() throws IOException {
+        process(10, 1, "java -jar Greengrass.jar", true);
+        process(11, 10, "sh -c python3 hello.py", false);
+        process(12, 1, "sshd", true);
+
+        int exitCode = new CommandLine(new Footprint()).execute("--proc", proc.toString(), "10");
+
+        assertEquals(0, exitCode);
+        String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertArrayEquals(new String[] {"10", "1", "2097152", "1048576", "2000", "3", "1", "-",
+            "java -jar Greengrass.jar"}, lines[0].split("\t"));
+        // Without smaps_rollup the PSS is the RSS
+        assertArrayEquals(new String[] {"11", "10", "2097152", "2097152", "2000", "3", "1", "-",
+            "sh -c python3 hello.py"}, lines[1].split("\t"));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.pillbox.commands.process;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static com.aws.greengrass.testing.pillbox.commands.process.DescendantsTest.process;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WatchTest {
+    final PrintStream originalOut = System.out;
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @TempDir
+    Path proc;
+
+    @BeforeEach
+    public void setup() {
+        System.setOut(new PrintStream(out));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void GIVEN_sorted_pids_WHEN_compared_THEN_only_the_changes_are_streamed() {
+        assertEquals("+3\n-4\n+9\n", Watch.changes(new int[] {1, 4, 7}, new int[] {1, 3, 7, 9}));
+        assertEquals("", Watch.changes(new int[] {1, 2}, new int[] {1, 2}));
+        assertEquals("-1\n-2\n", Watch.changes(new int[] {1, 2}, new int[0]));
+    }
+
+    @Test
+    void GIVEN_descendants_left_WHEN_watching_THEN_it_times_out_or_returns_once_enough_are_gone() throws IOException {
+        process(proc, 10, 1, "loader");
+        process(proc, 20, 10, "java");
+        process(proc, 30, 20, "python3");
+
+        CommandLine command = new CommandLine(new Watch());
+        assertEquals(Watch.TIMED_OUT, command.execute("--proc", proc.toString(), "--interval", "10",
+                "--timeout", "1", "10"));
+        assertEquals("+20\n+30\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        out.reset();
+        assertEquals(0, new CommandLine(new Watch()).execute("--proc", proc.toString(), "--until", "2", "10"));
+        assertEquals("+20\n+30\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -7,6 +7,7 @@ package com.aws.greengrass.testing.resources;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -19,5 +20,15 @@ public interface AWSResourceLifecycle<C> extends Closeable {
 
     void persist();
 
+    /**
+     * The work needed to remove every tracked resource, so resources from every lifecycle can be torn down
+     * together. Lifecycles that return nothing are only cleaned up through {@link #close()}.
+     *
+     * @return a {@link ResourceRemoval} for each tracked resource
+     */
+    default List<ResourceRemoval> removals() {
+        return Collections.emptyList();
+    }
+
     void close() throws IOException;
 }
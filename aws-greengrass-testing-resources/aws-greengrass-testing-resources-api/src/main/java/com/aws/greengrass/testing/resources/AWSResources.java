@@ -12,18 +12,20 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.LongSummaryStatistics;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
-import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,22 +35,41 @@ public class AWSResources implements Closeable {
     private final CleanupContext cleanupContext;
     private final TestId testId;
     private final Set<AWSResourceLifecycle> usedcycles;
+    private final ResourceAvailability availability;
 
     /**
-     * Create a {@link AWSResources} instance with a custom {@link CleanupContext} and {@link TestId}.
+     * Create a {@link AWSResources} instance with a custom {@link CleanupContext}, {@link TestId} and
+     * {@link ResourceAvailability}.
      *
      * @param lifecycles Distinct collection of {@link AWSResourceLifecycle}
      * @param cleanupContext Custom {@link CleanupContext}
      * @param testId Custom {@link TestId}
+     * @param availability {@link ResourceAvailability} used to wait on created resources
      */
     public AWSResources(
             Set<AWSResourceLifecycle> lifecycles,
             CleanupContext cleanupContext,
-            TestId testId) {
+            TestId testId,
+            ResourceAvailability availability) {
         this.lifecycles = lifecycles;
         this.cleanupContext = cleanupContext;
         this.testId = testId;
-        this.usedcycles = new LinkedHashSet<>();
+        this.availability = availability;
+        this.usedcycles = Collections.synchronizedSet(new LinkedHashSet<>());
+    }
+
+    /**
+     * Create a {@link AWSResources} instance with a custom {@link CleanupContext} and {@link TestId}.
+     *
+     * @param lifecycles Distinct collection of {@link AWSResourceLifecycle}
+     * @param cleanupContext Custom {@link CleanupContext}
+     * @param testId Custom {@link TestId}
+     */
+    public AWSResources(
+            Set<AWSResourceLifecycle> lifecycles,
+            CleanupContext cleanupContext,
+            TestId testId) {
+        this(lifecycles, cleanupContext, testId, new ResourceAvailability());
     }
 
     /**
@@ -94,6 +115,10 @@ public class AWSResources implements Closeable {
         });
     }
 
+    public ResourceAvailability availability() {
+        return availability;
+    }
+
     /**
      * All {@link ResourceSpec} create calls are handled through create entry point.
      *
@@ -155,18 +180,35 @@ public class AWSResources implements Closeable {
     @Override
     public void close() {
         Set<AWSResourceLifecycle> remaining = new HashSet<>(lifecycles);
-        List<AWSResourceLifecycle> insertionOrder = new ArrayList<>(usedcycles);
+        List<AWSResourceLifecycle> insertionOrder;
+        synchronized (usedcycles) {
+            insertionOrder = new ArrayList<>(usedcycles);
+        }
         Collections.reverse(insertionOrder);
-        Consumer<AWSResourceLifecycle> closeLifecycle = this::closeSingle;
-        insertionOrder.forEach(closeLifecycle.andThen(remaining::remove));
-        remaining.forEach(closeLifecycle);
+        remaining.removeAll(insertionOrder);
+        insertionOrder.addAll(remaining);
+        // Resources of every lifecycle are removed together, so independent resources don't wait on each other
+        List<ResourceRemoval> removals = new ArrayList<>();
+        for (AWSResourceLifecycle lifecycle : insertionOrder) {
+            if (cleanupContext.persistAWSResources()) {
+                lifecycle.persist();
+            }
+            removals.addAll(lifecycle.removals());
+        }
+        logTimings(new ResourceTeardown().remove(removals));
+        insertionOrder.forEach(this::closeSingle);
+    }
+
+    private static void logTimings(Map<ResourceRemoval, Duration> timings) {
+        final Map<String, LongSummaryStatistics> services = new TreeMap<>();
+        timings.forEach((removal, took) -> services.computeIfAbsent(removal.service(),
+                service -> new LongSummaryStatistics()).accept(took.toMillis()));
+        services.forEach((service, stats) -> LOGGER.info("Removed {} resources in {}, total {} ms, max {} ms",
+                stats.getCount(), service, stats.getSum(), stats.getMax()));
     }
 
     private void closeSingle(AWSResourceLifecycle lifecycle) {
         try {
-            if (cleanupContext.persistAWSResources()) {
-                lifecycle.persist();
-            }
             lifecycle.close();
         } catch (IOException ie) {
             LOGGER.error("Failed to clean resources from {}", lifecycle, ie);
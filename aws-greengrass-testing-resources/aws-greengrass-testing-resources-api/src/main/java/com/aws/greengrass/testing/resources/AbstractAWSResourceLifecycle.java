@@ -8,24 +8,18 @@ package com.aws.greengrass.testing.resources;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.time.Duration;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public abstract class AbstractAWSResourceLifecycle<C> implements AWSResourceLifecycle<C> {
     private static final Logger LOGGER = LogManager.getLogger(AbstractAWSResourceLifecycle.class);
-    private static final long MAX_WAIT_TIME_FOR_CLOUD_OPERATION = 5;
+    private static final ResourceAvailability DEFAULT_AVAILABILITY = new ResourceAvailability();
     protected C client;
     protected List<Class<? extends ResourceSpec<C, ? extends AWSResource<C>>>> specClasses;
     protected List<ResourceSpec<C, ? extends AWSResource<C>>> specs;
@@ -42,7 +36,7 @@ public abstract class AbstractAWSResourceLifecycle<C> implements AWSResourceLife
                                         Class<? extends ResourceSpec<C, ? extends AWSResource<C>>>...specClass) {
         this.client = client;
         this.specClasses = Arrays.asList(specClass);
-        this.specs = new ArrayList<>();
+        this.specs = new CopyOnWriteArrayList<>();
         this.uuid = UUID.randomUUID();
     }
 
@@ -53,36 +47,27 @@ public abstract class AbstractAWSResourceLifecycle<C> implements AWSResourceLife
             return spec;
         }
         ResourceSpec<C,R> update = spec.create(client, resources);
-        // check if the resource is available in cloud
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        Future future = executor.submit(() -> {
-            while (!update.availableInCloud(client)) {
-                try {
-                    Thread.sleep(Duration.ofSeconds(1).toMillis());
-                } catch (InterruptedException e) {
-                    LOGGER.warn("Interrupted while waiting for resource to get created in cloud");
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-        });
-
-        try {
-            future.get(MAX_WAIT_TIME_FOR_CLOUD_OPERATION, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            LOGGER.warn("Interrupted while checking if the resource is created in cloud. Resource type: {}",
-                    spec.getClass().getSimpleName());
-        } catch (ExecutionException | TimeoutException e) {
-            LOGGER.warn("Check for resources created in cloud failed. Resource type: {}. Moving on",
-                    spec.getClass().getSimpleName());
-        }
+        // check if the resource is available in cloud, without holding a thread past the timeout
+        final ResourceAvailability availability = Optional.ofNullable(resources)
+                .map(AWSResources::availability)
+                .orElse(DEFAULT_AVAILABILITY);
+        availability.await(update, () -> update.availableInCloud(client));
 
         // Prepend so as to reverse the deletion
         specs.add(0, update);
+        changed(update);
         LOGGER.info("Created {} in {}", update.resource().getClass().getSimpleName(), displayName());
         return (U) update;
     }
 
+    /**
+     * Called once a tracked resource is created or removed, so cached metadata about it can be invalidated.
+     *
+     * @param spec the created or removed {@link ResourceSpec}
+     */
+    protected void changed(ResourceSpec<C, ? extends AWSResource<C>> spec) {
+    }
+
     @Override
     public List<Class<? extends ResourceSpec<C, ? extends AWSResource<C>>>> getSupportedSpecs() {
         return specClasses;
@@ -100,20 +85,23 @@ public abstract class AbstractAWSResourceLifecycle<C> implements AWSResourceLife
         LOGGER.info("Persisting resources tracked in {}", displayName());
     }
 
+    @Override
+    public List<ResourceRemoval> removals() {
+        return specs.stream()
+                .map(spec -> new ResourceRemoval(spec, displayName(), () -> {
+                    try {
+                        spec.resource().remove(client);
+                    } finally {
+                        specs.remove(spec);
+                        changed(spec);
+                    }
+                }))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void close() {
-        final ListIterator<ResourceSpec<C, ? extends AWSResource<C>>> iterator = specs.listIterator();
-        while (iterator.hasNext()) {
-            final ResourceSpec<C, ? extends AWSResource<C>> spec = iterator.next();
-            try {
-                spec.resource().remove(client);
-                LOGGER.info("Removed {} in {}", spec.resource().getClass().getSimpleName(), displayName());
-            } catch (Throwable ex) {
-                // Don't prevent SDK failures from removing other resources being tracked.
-                LOGGER.error("Failed to remove {} in {}", spec.resource(), displayName(), ex);
-            }
-            iterator.remove();
-        }
+        new ResourceTeardown().remove(removals());
     }
 
     @Override
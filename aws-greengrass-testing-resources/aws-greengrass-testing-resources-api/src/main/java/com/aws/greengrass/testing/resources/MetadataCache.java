@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of AWS metadata that does not change while a run is going, ie: IoT endpoints, things or
+ * component listings. Every entry expires after its own TTL, and lifecycles invalidate the entries of resources they
+ * create or remove. Concurrent lookups of a missing key share a single call.
+ */
+public class MetadataCache {
+    private static final Logger LOGGER = LogManager.getLogger(MetadataCache.class);
+
+    private final boolean enabled;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private static final class Entry {
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
+        private final long expiresAt;
+
+        private Entry(Duration ttl) {
+            this.expiresAt = System.nanoTime() + ttl.toNanos();
+        }
+
+        private boolean expired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
+
+    public MetadataCache() {
+        this(true);
+    }
+
+    private MetadataCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * A cache that never keeps anything, every lookup calls through.
+     *
+     * @return a disabled {@link MetadataCache}
+     */
+    public static MetadataCache disabled() {
+        return new MetadataCache(false);
+    }
+
+    /**
+     * Get the value of a key, loading it when missing or expired.
+     *
+     * @param key namespaced key, ie: iot:thing:name
+     * @param ttl how long a loaded value is kept
+     * @param loader loads the value, failures are not cached
+     * @param <T> type of the value
+     * @return the cached or loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Duration ttl, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        while (true) {
+            final Entry existing = entries.get(key);
+            if (existing != null && !existing.expired()) {
+                hits.incrementAndGet();
+                return (T) join(key, existing);
+            }
+            final Entry entry = new Entry(ttl);
+            final boolean owner = existing == null
+                    ? entries.putIfAbsent(key, entry) == null
+                    : entries.replace(key, existing, entry);
+            if (!owner) {
+                // Another thread is loading the key already
+                continue;
+            }
+            misses.incrementAndGet();
+            try {
+                final T value = loader.get();
+                entry.value.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                entries.remove(key, entry);
+                entry.value.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private Object join(String key, Entry entry) {
+        try {
+            return entry.value.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting on " + key, ie);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Drop every entry with a key starting with the prefix, ie: every listing of a service.
+     *
+     * @param prefix namespace of the keys
+     */
+    public void invalidatePrefix(String prefix) {
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Drop every entry, logging how many calls the cache saved.
+     */
+    public void clear() {
+        entries.clear();
+        LOGGER.info("AWS metadata cache served {} lookups with {} calls", hits.get() + misses.get(), misses.get());
+    }
+}
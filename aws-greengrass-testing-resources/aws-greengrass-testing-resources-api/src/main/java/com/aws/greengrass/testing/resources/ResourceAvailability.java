@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits for newly created resources to become visible in the cloud. One shared scheduler times the probes,
+ * backing off between checks, while the checks themselves run on an uncapped pool so a slow AWS call neither
+ * delays other waits nor outlives the timeout of its caller. Probing stops as soon as the timeout passes so
+ * nothing keeps calling AWS after the caller moved on. The time each resource took to become available is
+ * recorded per spec class.
+ */
+public class ResourceAvailability implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(ResourceAvailability.class);
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            ResourceAvailability::daemon);
+    private static final ExecutorService PROBES = Executors.newCachedThreadPool(ResourceAvailability::daemon);
+
+    private final ResourceAvailabilityOptions options;
+    private final Map<String, LongSummaryStatistics> available = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> timeouts = new ConcurrentHashMap<>();
+    private final AtomicBoolean reported = new AtomicBoolean();
+
+    public ResourceAvailability(ResourceAvailabilityOptions options) {
+        this.options = options;
+    }
+
+    public ResourceAvailability() {
+        this(ResourceAvailabilityOptions.builder().build());
+    }
+
+    public ResourceAvailabilityOptions options() {
+        return options;
+    }
+
+    /**
+     * Block until the check passes or the timeout passes, whichever comes first. A check that throws ends the
+     * wait early.
+     *
+     * @param spec the {@link ResourceSpec} being checked, used to group the recorded timings
+     * @param check returns true once the resource is available
+     * @return true if the resource became available before the timeout
+     */
+    public boolean await(ResourceSpec<?, ?> spec, BooleanSupplier check) {
+        final String name = spec.getClass().getSimpleName();
+        final long start = System.nanoTime();
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        final AtomicReference<ScheduledFuture<?>> pending = new AtomicReference<>();
+        // Even the first check runs on the pool, so a hanging call is bounded by the timeout
+        PROBES.execute(() -> probe(check, result, pending, options.interval()));
+        try {
+            result.get(options.timeout().toMillis(), TimeUnit.MILLISECONDS);
+            final long took = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            final LongSummaryStatistics stats = available.computeIfAbsent(name, key -> new LongSummaryStatistics());
+            synchronized (stats) {
+                stats.accept(took);
+            }
+            LOGGER.debug("{} available in cloud after {} ms", name, took);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while checking if the resource is created in cloud. Resource type: {}", name);
+        } catch (ExecutionException e) {
+            LOGGER.warn("Check for resources created in cloud failed. Resource type: {}. Moving on", name,
+                    e.getCause());
+        } catch (TimeoutException e) {
+            timeouts.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+            LOGGER.warn("Resource type {} was not available in cloud after {}. Moving on", name, options.timeout());
+        } finally {
+            result.cancel(false);
+            final ScheduledFuture<?> next = pending.get();
+            if (next != null) {
+                next.cancel(false);
+            }
+        }
+        return false;
+    }
+
+    private static Thread daemon(Runnable runnable) {
+        final Thread thread = new Thread(runnable, "resource-availability-" + THREADS.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void probe(BooleanSupplier check, CompletableFuture<Boolean> result,
+                       AtomicReference<ScheduledFuture<?>> pending, Duration delay) {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            if (check.getAsBoolean()) {
+                result.complete(true);
+                return;
+            }
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        final Duration next = Duration.ofMillis(Math.min(options.maxInterval().toMillis(),
+                (long) (delay.toMillis() * options.multiplier())));
+        pending.set(SCHEDULER.schedule(() -> PROBES.execute(() -> probe(check, result, pending, next)),
+                delay.toMillis(), TimeUnit.MILLISECONDS));
+        if (result.isDone()) {
+            // The caller gave up while this probe was being scheduled
+            pending.get().cancel(false);
+        }
+    }
+
+    /**
+     * Time taken by resources to become available in the cloud, in milliseconds, by spec class.
+     *
+     * @return a snapshot of the recorded timings
+     */
+    public Map<String, LongSummaryStatistics> timings() {
+        final Map<String, LongSummaryStatistics> snapshot = new TreeMap<>();
+        available.forEach((name, stats) -> {
+            synchronized (stats) {
+                final LongSummaryStatistics copy = new LongSummaryStatistics();
+                copy.combine(stats);
+                snapshot.put(name, copy);
+            }
+        });
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Number of resources that were still not available when their timeout passed, by spec class.
+     *
+     * @return a snapshot of the timeout counts
+     */
+    public Map<String, Integer> timeouts() {
+        final Map<String, Integer> snapshot = new TreeMap<>();
+        timeouts.forEach((name, count) -> snapshot.put(name, count.get()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Log the recorded timings. A run shares one instance between the injectors of its runner threads, and each
+     * of them closes it, so they are only logged the first time.
+     */
+    @Override
+    public void close() {
+        if (!reported.compareAndSet(false, true)) {
+            return;
+        }
+        final Map<String, LongSummaryStatistics> timings = timings();
+        final Map<String, Integer> timeouts = timeouts();
+        final Set<String> names = new TreeSet<>(timings.keySet());
+        names.addAll(timeouts.keySet());
+        for (String name : names) {
+            final LongSummaryStatistics stats = timings.getOrDefault(name, new LongSummaryStatistics());
+            LOGGER.info("{} available in cloud {} times, avg {} ms, max {} ms, {} timed out", name,
+                    stats.getCount(), Math.round(stats.getAverage()), stats.getCount() == 0 ? 0 : stats.getMax(),
+                    timeouts.getOrDefault(name, 0));
+        }
+    }
+}
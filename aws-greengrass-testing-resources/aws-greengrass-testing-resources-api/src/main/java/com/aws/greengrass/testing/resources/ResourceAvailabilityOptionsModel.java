@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources;
+
+import com.aws.greengrass.testing.api.model.TestingModel;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+@TestingModel
+@Value.Immutable
+interface ResourceAvailabilityOptionsModel {
+    Duration DEFAULT_INTERVAL = Duration.ofMillis(250);
+    Duration DEFAULT_MAX_INTERVAL = Duration.ofSeconds(2);
+    Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    @Value.Default
+    default Duration interval() {
+        return DEFAULT_INTERVAL;
+    }
+
+    @Value.Default
+    default Duration maxInterval() {
+        return DEFAULT_MAX_INTERVAL;
+    }
+
+    @Value.Default
+    default double multiplier() {
+        return 2;
+    }
+
+    @Value.Default
+    default Duration timeout() {
+        return DEFAULT_TIMEOUT;
+    }
+
+    @Value.Check
+    default void check() {
+        if (interval().isNegative() || interval().isZero()) {
+            throw new IllegalArgumentException("Resource availability interval must be positive");
+        }
+        if (maxInterval().compareTo(interval()) < 0) {
+            throw new IllegalArgumentException("Resource availability max interval must be at least the interval");
+        }
+        if (multiplier() < 1) {
+            throw new IllegalArgumentException("Resource availability multiplier must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources;
+
+/**
+ * A single tracked resource waiting to be removed by a {@link ResourceTeardown}.
+ */
+public class ResourceRemoval {
+    private final ResourceSpec<?, ?> spec;
+    private final String service;
+    private final Runnable remove;
+
+    /**
+     * Create a pending removal.
+     *
+     * @param spec the tracked {@link ResourceSpec}, used to order removals
+     * @param service name of the service owning the resource, used to limit concurrent calls to it
+     * @param remove removes the resource, throwing on failure
+     */
+    public ResourceRemoval(ResourceSpec<?, ?> spec, String service, Runnable remove) {
+        this.spec = spec;
+        this.service = service;
+        this.remove = remove;
+    }
+
+    public ResourceSpec<?, ?> spec() {
+        return spec;
+    }
+
+    public String service() {
+        return service;
+    }
+
+    public Runnable remove() {
+        return remove;
+    }
+
+    @Override
+    public String toString() {
+        return spec.resource().getClass().getSimpleName() + " in " + service;
+    }
+}
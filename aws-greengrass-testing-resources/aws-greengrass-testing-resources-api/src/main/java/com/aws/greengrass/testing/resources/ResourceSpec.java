@@ -19,6 +19,17 @@ public interface ResourceSpec<C, T extends AWSResource<C>> {
     @Nullable
     T resource();
 
+    /**
+     * Whether the resource of this spec has to be removed before the resource of another tracked spec, ie: a
+     * thing before the thing groups it belongs to. Resources without such a relationship are removed concurrently.
+     *
+     * @param other another tracked {@link ResourceSpec}
+     * @return true if this resource must be removed first
+     */
+    default boolean removeBefore(ResourceSpec<?, ?> other) {
+        return false;
+    }
+
     @Value.Default
     default boolean created() {
         return false;
@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Removes tracked resources concurrently while respecting the order required by
+ * {@link ResourceSpec#removeBefore(ResourceSpec)}. Removals run on a bounded pool, and the number of removals
+ * in flight against a single service is capped so a large teardown does not get throttled.
+ */
+public class ResourceTeardown {
+    private static final Logger LOGGER = LogManager.getLogger(ResourceTeardown.class);
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    public static final int DEFAULT_CONCURRENCY = 8;
+    public static final int DEFAULT_SERVICE_CONCURRENCY = 4;
+
+    private final int concurrency;
+    private final int serviceConcurrency;
+
+    public ResourceTeardown() {
+        this(DEFAULT_CONCURRENCY, DEFAULT_SERVICE_CONCURRENCY);
+    }
+
+    public ResourceTeardown(int concurrency, int serviceConcurrency) {
+        this.concurrency = concurrency;
+        this.serviceConcurrency = serviceConcurrency;
+    }
+
+    /**
+     * Remove every resource, only starting a removal once the removals it depends on have finished. A failed
+     * removal is logged and does not hold back the removals that depend on it.
+     *
+     * @param removals the resources to remove
+     * @return how long each removal took, in the order they finished
+     */
+    public Map<ResourceRemoval, Duration> remove(List<ResourceRemoval> removals) {
+        if (removals.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final long start = System.nanoTime();
+        final List<Set<Integer>> predecessors = predecessors(removals);
+        final Map<ResourceRemoval, Duration> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+        final Map<String, Semaphore> services = new ConcurrentHashMap<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, removals.size()),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "resource-teardown-" + THREADS.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            final CompletableFuture<?>[] done = new CompletableFuture<?>[removals.size()];
+            for (int node : order(predecessors)) {
+                final ResourceRemoval removal = removals.get(node);
+                final Semaphore permits = services.computeIfAbsent(removal.service(),
+                        service -> new Semaphore(serviceConcurrency));
+                done[node] = CompletableFuture.allOf(predecessors.get(node).stream()
+                        .map(predecessor -> done[predecessor])
+                        .toArray(CompletableFuture<?>[]::new))
+                        .handle((ignored, error) -> null)
+                        .thenRunAsync(() -> run(removal, permits, timings), executor);
+            }
+            CompletableFuture.allOf(done).join();
+        } finally {
+            executor.shutdown();
+        }
+        LOGGER.info("Removed {} resources in {} ms", removals.size(),
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return timings;
+    }
+
+    private static void run(ResourceRemoval removal, Semaphore permits, Map<ResourceRemoval, Duration> timings) {
+        final long start = System.nanoTime();
+        try {
+            permits.acquire();
+            try {
+                removal.remove().run();
+                final Duration took = Duration.ofNanos(System.nanoTime() - start);
+                timings.put(removal, took);
+                LOGGER.info("Removed {} ({} ms)", removal, took.toMillis());
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Interrupted before removing {}", removal.spec().resource());
+        } catch (Throwable ex) {
+            // Don't prevent SDK failures from removing other resources being tracked.
+            timings.put(removal, Duration.ofNanos(System.nanoTime() - start));
+            LOGGER.error("Failed to remove {} in {}", removal.spec().resource(), removal.service(), ex);
+        }
+    }
+
+    private static List<Set<Integer>> predecessors(List<ResourceRemoval> removals) {
+        final List<Set<Integer>> predecessors = new ArrayList<>(removals.size());
+        for (int node = 0; node < removals.size(); node++) {
+            final Set<Integer> before = new HashSet<>();
+            for (int other = 0; other < removals.size(); other++) {
+                if (other != node && removals.get(other).spec().removeBefore(removals.get(node).spec())) {
+                    before.add(other);
+                }
+            }
+            predecessors.add(before);
+        }
+        return predecessors;
+    }
+
+    /**
+     * Topological order of the removals. A cycle is broken by dropping the remaining dependencies of its
+     * earliest tracked node, so a bad relationship can delay teardown but never stall it.
+     */
+    private static List<Integer> order(List<Set<Integer>> predecessors) {
+        final List<Integer> ordered = new ArrayList<>(predecessors.size());
+        final Set<Integer> visited = new HashSet<>();
+        while (ordered.size() < predecessors.size()) {
+            Integer next = null;
+            for (int node = 0; node < predecessors.size() && Objects.isNull(next); node++) {
+                if (!visited.contains(node) && visited.containsAll(predecessors.get(node))) {
+                    next = node;
+                }
+            }
+            if (Objects.isNull(next)) {
+                for (int node = 0; node < predecessors.size() && Objects.isNull(next); node++) {
+                    if (!visited.contains(node)) {
+                        next = node;
+                    }
+                }
+                LOGGER.warn("Resource removal order has a cycle, ignoring it for node {}", next);
+                predecessors.get(next).retainAll(visited);
+            }
+            visited.add(next);
+            ordered.add(next);
+        }
+        return ordered;
+    }
+}
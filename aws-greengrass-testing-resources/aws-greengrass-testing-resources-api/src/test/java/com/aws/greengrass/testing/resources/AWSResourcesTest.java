@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources;
+
+import com.aws.greengrass.testing.api.model.CleanupContext;
+import com.aws.greengrass.testing.api.model.TestId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AWSResourcesTest {
+    private static final class FakeResource implements AWSResource<Object> {
+        @Override
+        public void remove(Object client) {
+        }
+    }
+
+    private static final class FakeSpec implements ResourceSpec<Object, FakeResource> {
+        @Override
+        public ResourceSpec<Object, FakeResource> create(Object client, AWSResources resources) {
+            return this;
+        }
+
+        @Override
+        public FakeResource resource() {
+            return new FakeResource();
+        }
+    }
+
+    // Each lifecycle supports its own spec class, so lookups from different threads touch different lifecycles
+    private static final class FakeLifecycle implements AWSResourceLifecycle<Object> {
+        final Class<? extends ResourceSpec<Object, ? extends AWSResource<Object>>> specClass;
+        final AtomicInteger removals = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+
+        FakeLifecycle(Class<? extends ResourceSpec<Object, ? extends AWSResource<Object>>> specClass) {
+            this.specClass = specClass;
+        }
+
+        @Override
+        public List<Class<? extends ResourceSpec<Object, ? extends AWSResource<Object>>>> getSupportedSpecs() {
+            return Collections.singletonList(specClass);
+        }
+
+        @Override
+        public <U extends ResourceSpec<Object, R>, R extends AWSResource<Object>> U create(
+                U spec, AWSResources resources) {
+            return spec;
+        }
+
+        @Override
+        public <U extends ResourceSpec<Object, R>, R extends AWSResource<Object>> Stream<U> trackingSpecs(
+                Class<U> specClass) {
+            return Stream.empty();
+        }
+
+        @Override
+        public void persist() {
+        }
+
+        @Override
+        public List<ResourceRemoval> removals() {
+            return Collections.singletonList(new ResourceRemoval(new FakeSpec(), "fake", removals::incrementAndGet));
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+    }
+
+    private static final class FirstSpec implements ResourceSpec<Object, FakeResource> {
+        @Override
+        public ResourceSpec<Object, FakeResource> create(Object client, AWSResources resources) {
+            return this;
+        }
+
+        @Override
+        public FakeResource resource() {
+            return new FakeResource();
+        }
+    }
+
+    private static final class SecondSpec implements ResourceSpec<Object, FakeResource> {
+        @Override
+        public ResourceSpec<Object, FakeResource> create(Object client, AWSResources resources) {
+            return this;
+        }
+
+        @Override
+        public FakeResource resource() {
+            return new FakeResource();
+        }
+    }
+
+    @Test
+    void GIVEN_lifecycles_used_from_many_threads_WHEN_closing_THEN_each_is_torn_down_once()
+            throws InterruptedException {
+        FakeLifecycle first = new FakeLifecycle(FirstSpec.class);
+        FakeLifecycle second = new FakeLifecycle(SecondSpec.class);
+        Set<AWSResourceLifecycle> lifecycles = new HashSet<>();
+        lifecycles.add(first);
+        lifecycles.add(second);
+        AWSResources resources = new AWSResources(lifecycles, CleanupContext.builder().build(),
+                TestId.builder().id("test").build());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            final boolean even = i % 2 == 0;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int call = 0; call < 100; call++) {
+                    if (even) {
+                        resources.create(new FirstSpec());
+                    } else {
+                        resources.trackingSpecs(SecondSpec.class).count();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        resources.close();
+
+        assertEquals(1, first.removals.get());
+        assertEquals(1, second.removals.get());
+        assertEquals(1, first.closed.get());
+        assertEquals(1, second.closed.get());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResourceAvailabilityTest {
+    private static final class FakeSpec implements ResourceSpec<Object, AWSResource<Object>> {
+        @Override
+        public ResourceSpec<Object, AWSResource<Object>> create(Object client, AWSResources resources) {
+            return this;
+        }
+
+        @Override
+        public AWSResource<Object> resource() {
+            return null;
+        }
+    }
+
+    private final ResourceAvailability availability = new ResourceAvailability(ResourceAvailabilityOptions.builder()
+            .interval(Duration.ofMillis(10))
+            .maxInterval(Duration.ofMillis(40))
+            .timeout(Duration.ofSeconds(1))
+            .build());
+
+    @Test
+    void GIVEN_resource_visible_after_a_few_checks_WHEN_awaiting_THEN_it_is_available() {
+        AtomicInteger checks = new AtomicInteger();
+
+        assertTrue(availability.await(new FakeSpec(), () -> checks.incrementAndGet() >= 3));
+
+        assertEquals(3, checks.get());
+        assertEquals(1, availability.timings().get("FakeSpec").getCount());
+    }
+
+    @Test
+    void GIVEN_hanging_first_check_WHEN_awaiting_THEN_timeout_still_applies() {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            boolean available = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> availability.await(new FakeSpec(), () -> {
+                        try {
+                            return release.await(1, TimeUnit.MINUTES);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return false;
+                        }
+                    }));
+            assertFalse(available);
+            assertEquals(1, availability.timeouts().get("FakeSpec"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void GIVEN_failing_check_WHEN_awaiting_THEN_wait_ends_early() {
+        AtomicInteger checks = new AtomicInteger();
+
+        assertFalse(availability.await(new FakeSpec(), () -> {
+            checks.incrementAndGet();
+            throw new IllegalStateException("denied");
+        }));
+
+        assertEquals(1, checks.get());
+        assertTrue(availability.timeouts().isEmpty());
+    }
+
+    @Test
+    void GIVEN_timed_out_wait_WHEN_caller_moved_on_THEN_checks_stop() throws InterruptedException {
+        AtomicInteger checks = new AtomicInteger();
+
+        assertFalse(availability.await(new FakeSpec(), () -> {
+            checks.incrementAndGet();
+            return false;
+        }));
+        final int afterTimeout = checks.get();
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        assertEquals(afterTimeout, checks.get());
+    }
+
+    @Test
+    void GIVEN_concurrent_waits_WHEN_checks_block_THEN_they_do_not_starve_each_other() throws InterruptedException {
+        final int waiters = 16;
+        CountDownLatch allChecking = new CountDownLatch(waiters);
+        AtomicInteger available = new AtomicInteger();
+        Thread[] threads = new Thread[waiters];
+        for (int i = 0; i < waiters; i++) {
+            threads[i] = new Thread(() -> {
+                if (availability.await(new FakeSpec(), () -> {
+                    allChecking.countDown();
+                    try {
+                        // Only passes once every waiter is inside a check at the same time
+                        return allChecking.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                })) {
+                    available.incrementAndGet();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(waiters, available.get());
+    }
+}
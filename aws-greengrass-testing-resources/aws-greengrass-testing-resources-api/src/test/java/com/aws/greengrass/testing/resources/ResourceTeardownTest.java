@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResourceTeardownTest {
+    private static final class FakeResource implements AWSResource<Object> {
+        @Override
+        public void remove(Object client) {
+        }
+    }
+
+    private static final class FakeSpec implements ResourceSpec<Object, FakeResource> {
+        final Set<FakeSpec> before = new HashSet<>();
+
+        @Override
+        public ResourceSpec<Object, FakeResource> create(Object client, AWSResources resources) {
+            return this;
+        }
+
+        @Override
+        public FakeResource resource() {
+            return new FakeResource();
+        }
+
+        @Override
+        public boolean removeBefore(ResourceSpec<?, ?> other) {
+            return before.contains(other);
+        }
+    }
+
+    @Test
+    void GIVEN_dependent_resources_WHEN_removing_THEN_order_is_respected() {
+        FakeSpec thing = new FakeSpec();
+        FakeSpec group = new FakeSpec();
+        FakeSpec policy = new FakeSpec();
+        thing.before.add(group);
+        group.before.add(policy);
+        List<String> removed = Collections.synchronizedList(new ArrayList<>());
+        // Tracked in the reverse of the order they have to be removed in
+        List<ResourceRemoval> removals = Arrays.asList(
+                new ResourceRemoval(policy, "iot", () -> removed.add("policy")),
+                new ResourceRemoval(group, "iot", () -> removed.add("group")),
+                new ResourceRemoval(thing, "iot", () -> removed.add("thing")));
+
+        Map<ResourceRemoval, Duration> timings = new ResourceTeardown().remove(removals);
+
+        assertEquals(Arrays.asList("thing", "group", "policy"), removed);
+        assertEquals(3, timings.size());
+    }
+
+    @Test
+    void GIVEN_failing_removal_WHEN_removing_THEN_dependents_are_still_removed() {
+        FakeSpec thing = new FakeSpec();
+        FakeSpec group = new FakeSpec();
+        thing.before.add(group);
+        AtomicInteger groupRemoved = new AtomicInteger();
+        List<ResourceRemoval> removals = Arrays.asList(
+                new ResourceRemoval(thing, "iot", () -> {
+                    throw new IllegalStateException("throttled");
+                }),
+                new ResourceRemoval(group, "iot", groupRemoved::incrementAndGet));
+
+        Map<ResourceRemoval, Duration> timings = new ResourceTeardown().remove(removals);
+
+        assertEquals(1, groupRemoved.get());
+        assertEquals(2, timings.size());
+    }
+
+    @Test
+    void GIVEN_many_removals_WHEN_removing_THEN_calls_per_service_are_capped() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<ResourceRemoval> removals = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            removals.add(new ResourceRemoval(new FakeSpec(), "iot", () -> {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+            }));
+        }
+
+        new ResourceTeardown(8, 2).remove(removals);
+
+        assertTrue(peak.get() <= 2, "peak was " + peak.get());
+    }
+
+    @Test
+    void GIVEN_independent_services_WHEN_removing_THEN_they_run_concurrently() {
+        CountDownLatch both = new CountDownLatch(2);
+        Runnable meet = () -> {
+            both.countDown();
+            try {
+                if (!both.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Removals ran one after the other");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        List<ResourceRemoval> removals = Arrays.asList(
+                new ResourceRemoval(new FakeSpec(), "iot", meet),
+                new ResourceRemoval(new FakeSpec(), "s3", meet));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> new ResourceTeardown().remove(removals));
+
+        assertEquals(0, both.getCount());
+    }
+
+    @Test
+    void GIVEN_cyclic_dependencies_WHEN_removing_THEN_every_resource_is_removed() {
+        FakeSpec first = new FakeSpec();
+        FakeSpec second = new FakeSpec();
+        first.before.add(second);
+        second.before.add(first);
+        AtomicInteger removed = new AtomicInteger();
+        List<ResourceRemoval> removals = Arrays.asList(
+                new ResourceRemoval(first, "iot", removed::incrementAndGet),
+                new ResourceRemoval(second, "iot", removed::incrementAndGet));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> new ResourceTeardown().remove(removals));
+
+        assertEquals(2, removed.get());
+    }
+}
@@ -9,6 +9,7 @@ import com.aws.greengrass.testing.api.model.TestingModel;
 import com.aws.greengrass.testing.resources.AWSResources;
 import com.aws.greengrass.testing.resources.ResourceSpec;
 import com.aws.greengrass.testing.resources.iot.IotLifecycle;
+import com.aws.greengrass.testing.resources.iot.IotThingGroup;
 import com.aws.greengrass.testing.resources.iot.IotThingGroupSpec;
 import com.aws.greengrass.testing.resources.iot.IotThingSpec;
 import org.immutables.value.Value;
@@ -91,4 +92,17 @@ interface GreengrassDeploymentSpecModel extends ResourceSpec<GreengrassV2Client,
                         .build())
                 .build();
     }
+
+    @Override
+    default boolean removeBefore(ResourceSpec<?, ?> other) {
+        if (other instanceof GreengrassComponentSpec && components() != null) {
+            final GreengrassComponent component = ((GreengrassComponentSpec) other).resource();
+            return component != null && components().containsKey(component.componentName());
+        }
+        if (other instanceof IotThingGroupSpec) {
+            final IotThingGroup group = ((IotThingGroupSpec) other).resource();
+            return group != null && group.groupArn().equals(thingGroupArn());
+        }
+        return false;
+    }
 }
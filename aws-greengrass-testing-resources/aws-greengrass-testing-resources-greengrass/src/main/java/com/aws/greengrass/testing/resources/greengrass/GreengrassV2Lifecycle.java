@@ -5,10 +5,14 @@
 
 package com.aws.greengrass.testing.resources.greengrass;
 
+import com.aws.greengrass.testing.resources.AWSResource;
 import com.aws.greengrass.testing.resources.AWSResourceLifecycle;
 import com.aws.greengrass.testing.resources.AbstractAWSResourceLifecycle;
+import com.aws.greengrass.testing.resources.MetadataCache;
+import com.aws.greengrass.testing.resources.ResourceSpec;
 import com.google.auto.service.AutoService;
 import software.amazon.awssdk.services.greengrassv2.GreengrassV2Client;
+import software.amazon.awssdk.services.greengrassv2.model.Component;
 import software.amazon.awssdk.services.greengrassv2.model.ComponentVersionListItem;
 import software.amazon.awssdk.services.greengrassv2.model.ComponentVisibilityScope;
 import software.amazon.awssdk.services.greengrassv2.model.GetCoreDeviceRequest;
@@ -23,14 +27,32 @@ import software.amazon.awssdk.services.greengrassv2.paginators.ListComponentVers
 import software.amazon.awssdk.services.greengrassv2.paginators.ListComponentsIterable;
 import software.amazon.awssdk.services.greengrassv2.paginators.ListEffectiveDeploymentsIterable;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 
 @AutoService(AWSResourceLifecycle.class)
 public class GreengrassV2Lifecycle extends AbstractAWSResourceLifecycle<GreengrassV2Client> {
+    private static final String COMPONENTS = "greengrass:components:";
+    private static final Duration COMPONENTS_TTL = Duration.ofMinutes(5);
+    private final MetadataCache metadata;
+
+    /**
+     * Create a {@link GreengrassV2Lifecycle} with component listings cached in the run wide {@link MetadataCache}.
+     *
+     * @param client {@link GreengrassV2Client}
+     * @param metadata the {@link MetadataCache} shared by the lifecycles of the run
+     */
     @Inject
-    public GreengrassV2Lifecycle(GreengrassV2Client client) {
+    public GreengrassV2Lifecycle(GreengrassV2Client client, MetadataCache metadata) {
         super(client, GreengrassComponentSpec.class, GreengrassDeploymentSpec.class, GreengrassCoreDeviceSpec.class);
+        this.metadata = metadata;
+    }
+
+    public GreengrassV2Lifecycle(GreengrassV2Client client) {
+        this(client, new MetadataCache());
     }
 
     public GreengrassV2Lifecycle() {
@@ -89,6 +111,18 @@ public class GreengrassV2Lifecycle extends AbstractAWSResourceLifecycle<Greengra
                 .build());
     }
 
+    /**
+     * Every version of a component by fully qualified component ARN, cached until a component is created or
+     * removed by the run.
+     *
+     * @param arn Fully qualified AWS ARN
+     * @return the component versions, latest first
+     */
+    public List<ComponentVersionListItem> componentVersions(String arn) {
+        return metadata.get(COMPONENTS + "versions:" + arn, COMPONENTS_TTL, () ->
+                listComponentVersions(arn).componentVersions().stream().collect(Collectors.toList()));
+    }
+
     /**
      * Grabs the latest version of the Component by ARN.
      *
@@ -96,13 +130,14 @@ public class GreengrassV2Lifecycle extends AbstractAWSResourceLifecycle<Greengra
      * @return
      */
     public Optional<ComponentVersionListItem> latestVersionFor(String arn) {
-        return client.listComponentVersions(ListComponentVersionsRequest.builder()
-                .arn(arn)
-                .maxResults(1)
-                .build())
-                .componentVersions()
-                .stream()
-                .findFirst();
+        return metadata.get(COMPONENTS + "latest:" + arn, COMPONENTS_TTL, () ->
+                client.listComponentVersions(ListComponentVersionsRequest.builder()
+                        .arn(arn)
+                        .maxResults(1)
+                        .build())
+                        .componentVersions()
+                        .stream()
+                        .findFirst());
     }
 
     /**
@@ -116,4 +151,23 @@ public class GreengrassV2Lifecycle extends AbstractAWSResourceLifecycle<Greengra
                 .scope(scope)
                 .build());
     }
+
+    /**
+     * Every component of a {@link ComponentVisibilityScope}, cached until a component is created or removed by the
+     * run.
+     *
+     * @param scope the {@link ComponentVisibilityScope} of the components
+     * @return the components
+     */
+    public List<Component> components(ComponentVisibilityScope scope) {
+        return metadata.get(COMPONENTS + scope, COMPONENTS_TTL, () ->
+                listComponents(scope).components().stream().collect(Collectors.toList()));
+    }
+
+    @Override
+    protected void changed(ResourceSpec<GreengrassV2Client, ? extends AWSResource<GreengrassV2Client>> spec) {
+        if (spec instanceof GreengrassComponentSpec) {
+            metadata.invalidatePrefix(COMPONENTS);
+        }
+    }
 }
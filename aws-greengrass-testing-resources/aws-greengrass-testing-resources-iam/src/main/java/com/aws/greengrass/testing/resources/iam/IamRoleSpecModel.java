@@ -76,4 +76,10 @@ interface IamRoleSpecModel extends ResourceSpec<IamClient, IamRole>, IamTaggingM
         }
         return true;
     }
+
+    @Override
+    default boolean removeBefore(ResourceSpec<?, ?> other) {
+        // Both sides detach the role policy, so removing them together races on the detach
+        return other instanceof IamPolicySpec;
+    }
 }
@@ -109,4 +109,10 @@ interface IotCertificateSpecModel extends ResourceSpec<IotClient, IotCertificate
 
     @Nullable
     IotCertificate resource();
+
+    @Override
+    default boolean removeBefore(ResourceSpec<?, ?> other) {
+        // Both sides detach the policy attachment, so removing them together races on the detach
+        return other instanceof IotPolicySpec;
+    }
 }
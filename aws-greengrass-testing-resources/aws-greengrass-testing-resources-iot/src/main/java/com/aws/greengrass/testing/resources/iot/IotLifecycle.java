@@ -6,11 +6,16 @@
 package com.aws.greengrass.testing.resources.iot;
 
 
+import com.aws.greengrass.testing.resources.AWSResource;
 import com.aws.greengrass.testing.resources.AWSResourceLifecycle;
 import com.aws.greengrass.testing.resources.AbstractAWSResourceLifecycle;
+import com.aws.greengrass.testing.resources.MetadataCache;
+import com.aws.greengrass.testing.resources.ResourceSpec;
 import com.google.auto.service.AutoService;
 import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.AddThingToThingGroupRequest;
 import software.amazon.awssdk.services.iot.model.DescribeEndpointRequest;
+import software.amazon.awssdk.services.iot.model.DescribeJobExecutionRequest;
 import software.amazon.awssdk.services.iot.model.DescribeThingRequest;
 import software.amazon.awssdk.services.iot.model.DescribeThingResponse;
 import software.amazon.awssdk.services.iot.model.ListThingGroupsForThingRequest;
@@ -18,26 +23,42 @@ import software.amazon.awssdk.services.iot.model.ListThingsInThingGroupRequest;
 import software.amazon.awssdk.services.iot.paginators.ListThingGroupsForThingIterable;
 import software.amazon.awssdk.services.iot.paginators.ListThingsInThingGroupIterable;
 
+import java.time.Duration;
 import javax.inject.Inject;
 
 @AutoService(AWSResourceLifecycle.class)
 public class IotLifecycle extends AbstractAWSResourceLifecycle<IotClient> {
     private static final String CREDENTIALS_ENDPOINT = "iot:CredentialProvider";
     private static final String DATA_ENDPOINT = "iot:Data-ATS";
+    private static final Duration ENDPOINT_TTL = Duration.ofHours(1);
+    private static final Duration THING_TTL = Duration.ofMinutes(10);
+    private final MetadataCache metadata;
 
     /**
-     * Create a {@link IotLifecycle} with a customized {@link IotClient}.
+     * Create a {@link IotLifecycle} with a customized {@link IotClient}, and lookups cached in the run wide
+     * {@link MetadataCache}.
      *
      * @param client Customized {@link IotClient}
+     * @param metadata the {@link MetadataCache} shared by the lifecycles of the run
      */
     @Inject
-    public IotLifecycle(final IotClient client) {
+    public IotLifecycle(final IotClient client, final MetadataCache metadata) {
         super(client,
                 IotThingSpec.class,
                 IotCertificateSpec.class,
                 IotThingGroupSpec.class,
                 IotRoleAliasSpec.class,
                 IotPolicySpec.class);
+        this.metadata = metadata;
+    }
+
+    /**
+     * Create a {@link IotLifecycle} with a customized {@link IotClient}.
+     *
+     * @param client Customized {@link IotClient}
+     */
+    public IotLifecycle(final IotClient client) {
+        this(client, new MetadataCache());
     }
 
     public IotLifecycle() {
@@ -62,14 +83,16 @@ public class IotLifecycle extends AbstractAWSResourceLifecycle<IotClient> {
      */
     public IotThing thingByThingName(String thingName) {
         // TODO: This whole method is removed in favor of a "resource spec loading" mechanism
-        DescribeThingResponse response = client.describeThing(DescribeThingRequest.builder()
-                .thingName(thingName)
-                .build());
-        return IotThing.builder()
-                .thingArn(response.thingArn())
-                .thingId(response.thingId())
-                .thingName(response.thingName())
-                .build();
+        return metadata.get(thingKey(thingName), THING_TTL, () -> {
+            DescribeThingResponse response = client.describeThing(DescribeThingRequest.builder()
+                    .thingName(thingName)
+                    .build());
+            return IotThing.builder()
+                    .thingArn(response.thingArn())
+                    .thingId(response.thingId())
+                    .thingName(response.thingName())
+                    .build();
+        });
     }
 
     /**
@@ -96,10 +119,49 @@ public class IotLifecycle extends AbstractAWSResourceLifecycle<IotClient> {
                 .build());
     }
 
+    /**
+     * Add an existing thing to an existing thing group.
+     *
+     * @param thingName name of the thing
+     * @param thingGroupName name of the thing group
+     */
+    public void addThingToThingGroup(String thingName, String thingGroupName) {
+        client.addThingToThingGroup(AddThingToThingGroupRequest.builder()
+                .thingName(thingName)
+                .thingGroupName(thingGroupName)
+                .build());
+    }
+
+    /**
+     * Status of the execution of a job on a thing. Never cached, it changes while a deployment goes on.
+     *
+     * @param jobId ID of the IoT job
+     * @param thingName name of the thing running the job
+     * @return the job execution status, ie: IN_PROGRESS or SUCCEEDED
+     */
+    public String jobExecutionStatus(String jobId, String thingName) {
+        return client.describeJobExecution(DescribeJobExecutionRequest.builder()
+                .jobId(jobId)
+                .thingName(thingName)
+                .build()).execution().statusAsString();
+    }
+
+    @Override
+    protected void changed(ResourceSpec<IotClient, ? extends AWSResource<IotClient>> spec) {
+        if (spec instanceof IotThingSpec) {
+            metadata.invalidate(thingKey(((IotThingSpec) spec).thingName()));
+        }
+    }
+
+    private static String thingKey(String thingName) {
+        return "iot:thing:" + thingName;
+    }
+
     private String endpointType(String endpoint) {
-        return client.describeEndpoint(DescribeEndpointRequest.builder()
-                .endpointType(endpoint)
-                .build())
-                .endpointAddress();
+        return metadata.get("iot:endpoint:" + endpoint, ENDPOINT_TTL, () ->
+                client.describeEndpoint(DescribeEndpointRequest.builder()
+                        .endpointType(endpoint)
+                        .build())
+                        .endpointAddress());
     }
 }
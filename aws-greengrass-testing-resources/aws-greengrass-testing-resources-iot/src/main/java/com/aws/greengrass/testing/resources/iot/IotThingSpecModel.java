@@ -126,4 +126,16 @@ interface IotThingSpecModel extends ResourceSpec<IotClient, IotThing>, IotTaggin
 
     @Nullable
     IotThing resource();
+
+    @Override
+    default boolean removeBefore(ResourceSpec<?, ?> other) {
+        if (other instanceof IotCertificateSpec) {
+            return ((IotCertificateSpec) other).thingName().equals(thingName());
+        }
+        if (other instanceof IotThingGroupSpec && resource() != null) {
+            return resource().thingGroups().stream()
+                    .anyMatch(group -> group.groupName().equals(((IotThingGroupSpec) other).groupName()));
+        }
+        return false;
+    }
 }
@@ -18,15 +18,26 @@ import javax.inject.Inject;
 
 @AutoService(AWSResourceLifecycle.class)
 public class S3Lifecycle extends AbstractAWSResourceLifecycle<S3Client> {
+    private final S3UploadOptions uploadOptions;
+
     @Inject
-    public S3Lifecycle(S3Client client) {
+    public S3Lifecycle(S3Client client, S3UploadOptions uploadOptions) {
         super(client, S3ObjectSpec.class, S3BucketSpec.class);
+        this.uploadOptions = uploadOptions;
+    }
+
+    public S3Lifecycle(S3Client client) {
+        this(client, S3UploadOptions.builder().build());
     }
 
     public S3Lifecycle() {
         this(S3Client.create());
     }
 
+    public S3UploadOptions uploadOptions() {
+        return uploadOptions;
+    }
+
     /**
      * Checks if the bucket exists by name.
      *
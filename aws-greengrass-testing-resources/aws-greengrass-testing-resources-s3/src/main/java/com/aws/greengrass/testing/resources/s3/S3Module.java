@@ -5,7 +5,9 @@
 
 package com.aws.greengrass.testing.resources.s3;
 
+import com.aws.greengrass.testing.api.ParameterValues;
 import com.aws.greengrass.testing.modules.AbstractAWSResourceModule;
+import com.aws.greengrass.testing.modules.ModuleParameters;
 import com.aws.greengrass.testing.modules.model.AWSResourcesContext;
 import com.google.auto.service.AutoService;
 import com.google.inject.Module;
@@ -31,4 +33,15 @@ public class S3Module extends AbstractAWSResourceModule<S3Client, S3Lifecycle> {
                 .httpClientBuilder(httpClientBuilder)
                 .build();
     }
+
+    @Provides
+    @Singleton
+    static S3UploadOptions providesUploadOptions(ParameterValues parameterValues) {
+        final S3UploadOptions.Builder builder = S3UploadOptions.builder();
+        parameterValues.getString(ModuleParameters.S3_UPLOAD_PART_SIZE).map(Long::parseLong)
+                .ifPresent(builder::partSize);
+        parameterValues.getString(ModuleParameters.S3_UPLOAD_CONCURRENCY).map(Integer::parseInt)
+                .ifPresent(builder::concurrency);
+        return builder.build();
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources.s3;
+
+import com.google.common.io.ByteStreams;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Uploads a file as a multipart S3 object, sending parts concurrently from a bounded pool. Each part is
+ * streamed straight from its slice of the file, so memory use does not grow with the part size or the
+ * concurrency. A failed part is retried on its own, and the upload is aborted if any part gives up.
+ */
+class S3MultipartUploader {
+    private static final Logger LOGGER = LogManager.getLogger(S3MultipartUploader.class);
+    private static final int MAX_PARTS = 10_000;
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long RETRY_DELAY_MILLIS = 200L;
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private final S3Client client;
+    private final S3UploadOptions options;
+
+    S3MultipartUploader(final S3Client client, final S3UploadOptions options) {
+        this.client = client;
+        this.options = options;
+    }
+
+    CompleteMultipartUploadResponse upload(CreateMultipartUploadRequest request, Path content) throws IOException {
+        final long size = Files.size(content);
+        // Grow the part size for very large files rather than exceed the S3 part limit
+        final long partSize = Math.max(options.partSize(), (size + MAX_PARTS - 1) / MAX_PARTS);
+        final int partCount = (int) Math.max(1, (size + partSize - 1) / partSize);
+        final String uploadId = client.createMultipartUpload(request).uploadId();
+        final ExecutorService workers = Executors.newFixedThreadPool(Math.min(options.concurrency(), partCount),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "s3-upload-" + THREADS.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            final List<Future<CompletedPart>> pending = new ArrayList<>(partCount);
+            for (int part = 1; part <= partCount; part++) {
+                final int partNumber = part;
+                final long offset = (part - 1) * partSize;
+                final long length = Math.min(partSize, size - offset);
+                pending.add(workers.submit(() -> uploadPart(request, uploadId, content, partNumber, offset, length)));
+            }
+            final List<CompletedPart> parts = new ArrayList<>(partCount);
+            for (Future<CompletedPart> part : pending) {
+                parts.add(part.get());
+            }
+            return client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(request.bucket())
+                    .key(request.key())
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder()
+                            .parts(parts)
+                            .build())
+                    .build());
+        } catch (InterruptedException | ExecutionException | RuntimeException e) {
+            workers.shutdownNow();
+            abort(request, uploadId);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            final Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    private CompletedPart uploadPart(CreateMultipartUploadRequest request, String uploadId, Path content,
+                                     int partNumber, long offset, long length) throws InterruptedException {
+        final UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(length)
+                .build();
+        final RequestBody body = RequestBody.fromContentProvider(() -> slice(content, offset, length),
+                length, "application/octet-stream");
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(client.uploadPart(uploadPartRequest, body).eTag())
+                        .build();
+            } catch (SdkException e) {
+                if (attempt >= MAX_ATTEMPTS || !(e instanceof SdkClientException || e.retryable())) {
+                    throw e;
+                }
+                LOGGER.debug("Part {} of {} failed, retried {} times...", partNumber, request.key(), attempt, e);
+                TimeUnit.MILLISECONDS.sleep(RETRY_DELAY_MILLIS << attempt);
+            }
+        }
+    }
+
+    private static InputStream slice(Path content, long offset, long length) {
+        try {
+            final FileChannel channel = FileChannel.open(content, StandardOpenOption.READ).position(offset);
+            return ByteStreams.limit(Channels.newInputStream(channel), length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void abort(CreateMultipartUploadRequest request, String uploadId) {
+        try {
+            client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(request.bucket())
+                    .key(request.key())
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            LOGGER.warn("Failed to abort the multipart upload of {} in {}", request.key(), request.bucket(), e);
+        }
+    }
+}
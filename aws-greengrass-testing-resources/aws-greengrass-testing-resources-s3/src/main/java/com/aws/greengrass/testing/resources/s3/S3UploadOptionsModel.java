@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources.s3;
+
+import com.aws.greengrass.testing.api.model.TestingModel;
+import org.immutables.value.Value;
+
+@TestingModel
+@Value.Immutable
+interface S3UploadOptionsModel {
+    // S3 rejects any part but the last one when it is smaller than 5MB
+    long MIN_PART_SIZE = 1024 * 1024 * 5;
+    long DEFAULT_PART_SIZE = 1024 * 1024 * 16;
+    int DEFAULT_CONCURRENCY = 4;
+
+    @Value.Default
+    default long partSize() {
+        return DEFAULT_PART_SIZE;
+    }
+
+    @Value.Default
+    default int concurrency() {
+        return DEFAULT_CONCURRENCY;
+    }
+
+    @Value.Check
+    default void check() {
+        if (partSize() < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("S3 upload part size must be at least " + MIN_PART_SIZE + " bytes");
+        }
+        if (concurrency() < 1) {
+            throw new IllegalArgumentException("S3 upload concurrency must be at least 1");
+        }
+    }
+}
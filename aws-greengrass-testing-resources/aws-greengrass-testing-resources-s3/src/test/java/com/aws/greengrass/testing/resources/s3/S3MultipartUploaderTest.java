@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.testing.resources.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+public class S3MultipartUploaderTest {
+    private static final long PART_SIZE = S3UploadOptionsModel.MIN_PART_SIZE;
+    private static final CreateMultipartUploadRequest REQUEST = CreateMultipartUploadRequest.builder()
+            .bucket("bucket")
+            .key("artifact.zip")
+            .build();
+
+    @Mock
+    S3Client client;
+
+    @TempDir
+    Path tempDir;
+
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    void setup() {
+        uploader = new S3MultipartUploader(client, S3UploadOptions.builder()
+                .partSize(PART_SIZE)
+                .concurrency(2)
+                .build());
+        Mockito.doReturn(CreateMultipartUploadResponse.builder().uploadId("upload").build())
+                .when(client).createMultipartUpload(REQUEST);
+    }
+
+    private Path file(long size) throws IOException {
+        final Path content = tempDir.resolve("artifact.zip");
+        try (RandomAccessFile file = new RandomAccessFile(content.toFile(), "rw")) {
+            file.setLength(size);
+        }
+        return content;
+    }
+
+    private static UploadPartResponse etag(UploadPartRequest request) {
+        return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+    }
+
+    @Test
+    void GIVEN_size_not_a_multiple_of_part_size_WHEN_uploading_THEN_last_part_is_short() throws IOException {
+        final Path content = file(PART_SIZE * 2 + 1024);
+        final ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        Mockito.doAnswer(invocation -> etag(invocation.getArgument(0)))
+                .when(client).uploadPart(parts.capture(), Mockito.any(RequestBody.class));
+        final ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        Mockito.doReturn(CompleteMultipartUploadResponse.builder().build())
+                .when(client).completeMultipartUpload(complete.capture());
+
+        uploader.upload(REQUEST, content);
+
+        final List<UploadPartRequest> sent = parts.getAllValues().stream()
+                .sorted(Comparator.comparing(UploadPartRequest::partNumber))
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(1, 2, 3), sent.stream()
+                .map(UploadPartRequest::partNumber).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(PART_SIZE, PART_SIZE, 1024L), sent.stream()
+                .map(UploadPartRequest::contentLength).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("etag-1", "etag-2", "etag-3"), complete.getValue().multipartUpload().parts()
+                .stream().map(CompletedPart::eTag).collect(Collectors.toList()));
+    }
+
+    @Test
+    void GIVEN_part_failing_once_WHEN_uploading_THEN_only_that_part_is_retried() throws IOException {
+        final Path content = file(PART_SIZE + 1024);
+        Mockito.doAnswer(invocation -> etag(invocation.getArgument(0))).when(client).uploadPart(Mockito.argThat((UploadPartRequest r) -> r.partNumber() == 1),
+                Mockito.any(RequestBody.class));
+        Mockito.doThrow(SdkClientException.create("connection reset"))
+                .doAnswer(invocation -> etag(invocation.getArgument(0)))
+                .when(client).uploadPart(Mockito.argThat((UploadPartRequest r) -> r.partNumber() == 2),
+                        Mockito.any(RequestBody.class));
+        Mockito.doReturn(CompleteMultipartUploadResponse.builder().build())
+                .when(client).completeMultipartUpload(Mockito.any(CompleteMultipartUploadRequest.class));
+
+        uploader.upload(REQUEST, content);
+
+        Mockito.verify(client).uploadPart(Mockito.argThat((UploadPartRequest r) -> r.partNumber() == 1),
+                Mockito.any(RequestBody.class));
+        Mockito.verify(client, Mockito.times(2)).uploadPart(
+                Mockito.argThat((UploadPartRequest r) -> r.partNumber() == 2), Mockito.any(RequestBody.class));
+        Mockito.verify(client, Mockito.never()).abortMultipartUpload(Mockito.any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void GIVEN_part_failing_permanently_WHEN_uploading_THEN_upload_is_aborted() throws IOException {
+        final Path content = file(PART_SIZE);
+        final S3Exception denied = (S3Exception) S3Exception.builder()
+                .statusCode(403)
+                .message("Access Denied")
+                .build();
+        Mockito.doThrow(denied).when(client).uploadPart(Mockito.any(UploadPartRequest.class),
+                Mockito.any(RequestBody.class));
+
+        assertEquals(denied, assertThrows(S3Exception.class, () -> uploader.upload(REQUEST, content)));
+
+        Mockito.verify(client).uploadPart(Mockito.any(UploadPartRequest.class), Mockito.any(RequestBody.class));
+        Mockito.verify(client).abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket("bucket")
+                .key("artifact.zip")
+                .uploadId("upload")
+                .build());
+        Mockito.verify(client, Mockito.never())
+                .completeMultipartUpload(Mockito.any(CompleteMultipartUploadRequest.class));
+    }
+}